@@ -0,0 +1,82 @@
+package com.returdev.gym_exercises_api.benchmark;
+
+import com.returdev.gym_exercises_api.manager.message.MessageManager;
+import com.returdev.gym_exercises_api.manager.message.MessageManagerImpl;
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data shared by the benchmarks, shaped like the data served by the API.
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * The default page size of the API.
+     */
+    static final int PAGE_SIZE = 25;
+
+    private static final long TOTAL_EXERCISES = 1_000;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates a message manager backed by the application message bundle.
+     *
+     * @return the message manager
+     */
+    static MessageManager messageManager() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+
+        return new MessageManagerImpl(messageSource);
+    }
+
+    /**
+     * Creates a persisted-like exercise with its equipment and three muscle engagements.
+     *
+     * @param id the ID of the exercise
+     * @return the exercise
+     */
+    static ExerciseEntity exercise(long id) {
+        ExerciseEntity exercise = new ExerciseEntity(
+                id,
+                "Exercise " + id,
+                "Keep the back straight and control the movement through the full range of motion.",
+                new EquipmentEntity(id % 20 + 1, "Equipment " + (id % 20 + 1)),
+                new ArrayList<>(List.of(
+                        new MuscleEngagementEntity(1L, Muscle.BICEPS, MuscleActivationLevel.HIGH),
+                        new MuscleEngagementEntity(2L, Muscle.FOREARMS, MuscleActivationLevel.MEDIUM),
+                        new MuscleEngagementEntity(3L, Muscle.DORSALS, MuscleActivationLevel.LOW)
+                ))
+        );
+        exercise.setVersion(3);
+
+        return exercise;
+    }
+
+    /**
+     * Creates the first page of exercises, with the default page size.
+     *
+     * @return the page of exercises
+     */
+    static Page<ExerciseEntity> exercisePage() {
+        List<ExerciseEntity> exercises = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            exercises.add(exercise(id));
+        }
+
+        return new PageImpl<>(exercises, PageRequest.of(0, PAGE_SIZE), TOTAL_EXERCISES);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.returdev.gym_exercises_api.benchmark;
+
+import com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.wrapper.ContentResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.wrapper.PaginationResponseDTO;
+import com.returdev.gym_exercises_api.mappers.EntityDtoMapper;
+import com.returdev.gym_exercises_api.mappers.EntityDtoMapperImpl;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mapping of exercises to the response DTOs returned by the exercise endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityDtoMapperBenchmark {
+
+    private EntityDtoMapper entityDtoMapper;
+    private ExerciseEntity exercise;
+    private Page<ExerciseEntity> exercisePage;
+
+    @Setup
+    public void setUp() {
+        entityDtoMapper = new EntityDtoMapperImpl(BenchmarkFixtures.messageManager());
+        exercise = BenchmarkFixtures.exercise(1L);
+        exercisePage = BenchmarkFixtures.exercisePage();
+    }
+
+    @Benchmark
+    public ContentResponseDTO<ExerciseResponseDTO> mapExercise() {
+        return entityDtoMapper.exerciseEntityToContentResponse(exercise);
+    }
+
+    @Benchmark
+    public PaginationResponseDTO<ExerciseResponseDTO> mapExercisePage() {
+        return entityDtoMapper.exerciseEntityToContentResponse(exercisePage);
+    }
+
+}
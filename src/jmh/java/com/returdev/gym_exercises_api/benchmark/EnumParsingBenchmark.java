@@ -0,0 +1,55 @@
+package com.returdev.gym_exercises_api.benchmark;
+
+import com.returdev.gym_exercises_api.exceptions.InvalidEnumValueException;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of the muscle and activation level values of the requests, including the
+ * rejection of an invalid value.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnumParsingBenchmark {
+
+    // Not constants, so the parsing cannot be folded away
+    private String muscle = "biceps";
+    private String muscleActivationLevel = "high";
+    private String invalidMuscle = "unknown";
+
+    @Benchmark
+    public Muscle parseMuscle() {
+        return Muscle.fromString(muscle);
+    }
+
+    @Benchmark
+    public MuscleActivationLevel parseMuscleActivationLevel() {
+        return MuscleActivationLevel.fromString(muscleActivationLevel);
+    }
+
+    @Benchmark
+    public InvalidEnumValueException parseInvalidMuscle() {
+        try {
+            Muscle.fromString(invalidMuscle);
+            return null;
+        } catch (InvalidEnumValueException ex) {
+            return ex;
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.returdev.gym_exercises_api.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.returdev.gym_exercises_api.manager.security.JwtManagerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of the token of a request, both the full signature verification and
+ * the lookup of a token validated before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtManagerBenchmark {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private JwtManagerImpl jwtManager;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        jwtManager = new JwtManagerImpl(BenchmarkFixtures.messageManager());
+        ReflectionTestUtils.setField(jwtManager, "privateKey", "15f78ed854b2a9978ba3c0a7e40623c0b346a1b2e44761828d767524f1d85fb4");
+        ReflectionTestUtils.setField(jwtManager, "issuer", "benchmark");
+        ReflectionTestUtils.setField(jwtManager, "tokenExpirationDurationMillis", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.invokeMethod(jwtManager, "init");
+
+        authorization = BEARER_PREFIX + jwtManager.generateUserToken().token();
+    }
+
+    @Benchmark
+    public DecodedJWT validateToken() {
+        return jwtManager.validateToken(authorization);
+    }
+
+    @Benchmark
+    public String getValidatedTokenRole() {
+        return jwtManager.getValidatedTokenRole(authorization);
+    }
+
+}
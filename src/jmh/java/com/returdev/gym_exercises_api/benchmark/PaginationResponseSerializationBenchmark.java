@@ -0,0 +1,81 @@
+package com.returdev.gym_exercises_api.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.returdev.gym_exercises_api.config.converter.MessageConverterConfig;
+import com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.wrapper.PaginationResponseDTO;
+import com.returdev.gym_exercises_api.mappers.EntityDtoMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures the serialization of a page of exercises in each of the representations served by the
+ * controllers, with the object mapper defaults of the application. The size of the page in the
+ * measured representation, as is and compressed with gzip, is printed before the measurements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaginationResponseSerializationBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    private String format;
+
+    private ObjectWriter objectWriter;
+    private PaginationResponseDTO<ExerciseResponseDTO> exercisePage;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectWriter = switch (format) {
+            case "CBOR" -> writer(new CBORFactory());
+            case "SMILE" -> writer(new SmileFactory());
+            case "PROTOBUF" -> writer(new ProtobufFactory()).with(
+                    MessageConverterConfig.loadProtobufSchema().forType("ExercisePagination")
+            );
+            default -> Jackson2ObjectMapperBuilder.json().build().writer();
+        };
+        exercisePage = new EntityDtoMapperImpl(BenchmarkFixtures.messageManager())
+                .exerciseEntityToContentResponse(BenchmarkFixtures.exercisePage());
+
+        byte[] body = serializeExercisePage();
+        ByteArrayOutputStream gzipBody = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(gzipBody)) {
+            output.write(body);
+        }
+        System.out.printf("%s page of %d exercises: %d bytes, %d bytes with gzip%n",
+                format, BenchmarkFixtures.PAGE_SIZE, body.length, gzipBody.size());
+    }
+
+    @Benchmark
+    public byte[] serializeExercisePage() throws JsonProcessingException {
+        return objectWriter.writeValueAsBytes(exercisePage);
+    }
+
+    private static ObjectWriter writer(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json().factory(factory).build().writer();
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.returdev.gym_exercises_api.benchmark;
+
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.service.data.validators.ServiceValidator;
+import com.returdev.gym_exercises_api.service.data.validators.ServiceValidatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Measures the validation of a new exercise, with lookups that answer without a database so only
+ * the validation itself is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceValidatorBenchmark {
+
+    private ServiceValidator serviceValidator;
+    private ExerciseEntity exercise;
+    private EquipmentEntity equipment;
+    private List<MuscleEngagementEntity> muscleEngagements;
+
+    private final BiPredicate<String, Long> existsByNameAndEquipmentId = (name, equipmentId) -> false;
+    private final Function<Long, EquipmentEntity> getEquipmentById = id -> equipment;
+    private final Function<List<MuscleEngagementEntity>, List<MuscleEngagementEntity>> getMuscleEngagementsWithId = engagements -> muscleEngagements;
+
+    @Setup
+    public void setUp() {
+        serviceValidator = new ServiceValidatorImpl(BenchmarkFixtures.messageManager());
+
+        ExerciseEntity persisted = BenchmarkFixtures.exercise(1L);
+        equipment = persisted.getEquipment();
+        muscleEngagements = persisted.getMusclesEngagement();
+
+        exercise = BenchmarkFixtures.exercise(1L);
+        exercise.setId(null);
+    }
+
+    @Benchmark
+    public ExerciseEntity validateSaveExercise() {
+        return serviceValidator.validateSaveExercise(
+                exercise,
+                existsByNameAndEquipmentId,
+                getEquipmentById,
+                getMuscleEngagementsWithId
+        );
+    }
+
+}
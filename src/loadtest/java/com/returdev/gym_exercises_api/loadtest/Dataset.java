@@ -0,0 +1,69 @@
+package com.returdev.gym_exercises_api.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Description of the generated data that the load driver builds its requests from.
+ *
+ * <p>
+ * The equipment and the exercises have consecutive IDs starting at 1.
+ * </p>
+ *
+ * @param equipmentCount the number of generated equipment
+ * @param exerciseCount the number of generated exercises
+ * @param vocabulary the words of the exercise descriptions, from the most to the least frequent
+ * @param cumulativeWordFrequencies the cumulative frequency of each word of the vocabulary
+ */
+record Dataset(
+        int equipmentCount,
+        int exerciseCount,
+        List<String> vocabulary,
+        double[] cumulativeWordFrequencies
+) {
+
+    private static final List<String> MOVEMENTS = List.of(
+            "Bench Press", "Squat", "Deadlift", "Row", "Curl", "Lunge", "Fly", "Pulldown",
+            "Shrug", "Raise", "Crunch", "Extension", "Press", "Pullover", "Dip", "Hip Thrust"
+    );
+
+    private static final List<String> EQUIPMENT = List.of(
+            "Barbell", "Dumbbell", "Cable", "Machine", "Kettlebell",
+            "Band", "Smith Machine", "Bodyweight", "EZ Bar", "Trap Bar"
+    );
+
+    /**
+     * Picks a word of the vocabulary with the frequency it has in the descriptions.
+     *
+     * @param random the source of randomness
+     * @return the word
+     */
+    String randomWord(RandomGenerator random) {
+        double value = random.nextDouble() * cumulativeWordFrequencies[cumulativeWordFrequencies.length - 1];
+        int index = Arrays.binarySearch(cumulativeWordFrequencies, value);
+
+        return vocabulary.get(index >= 0 ? index : -index - 1);
+    }
+
+    /**
+     * Returns the name of a generated exercise.
+     *
+     * @param exerciseId the ID of the exercise
+     * @return the name of the exercise
+     */
+    static String exerciseName(long exerciseId) {
+        return MOVEMENTS.get((int) (exerciseId % MOVEMENTS.size())) + " " + exerciseId;
+    }
+
+    /**
+     * Returns the name of a generated equipment.
+     *
+     * @param equipmentId the ID of the equipment
+     * @return the name of the equipment
+     */
+    static String equipmentName(long equipmentId) {
+        return EQUIPMENT.get((int) (equipmentId % EQUIPMENT.size())) + " " + equipmentId;
+    }
+
+}
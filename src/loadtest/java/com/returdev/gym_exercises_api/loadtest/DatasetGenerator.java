@@ -0,0 +1,271 @@
+package com.returdev.gym_exercises_api.loadtest;
+
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.search.MuscleSignature;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static com.returdev.gym_exercises_api.model.enums.Muscle.*;
+
+/**
+ * Generates a synthetic catalog directly in the database with batched inserts.
+ *
+ * <p>
+ * The data follows the shape of a real catalog: a few equipment are used by most exercises, the
+ * description words follow a Zipf distribution and each exercise engages one main muscle with a
+ * high activation, up to two muscles of the same body region with a medium activation and up to
+ * two muscles of other regions with a low activation. The same seed always generates the same data.
+ * </p>
+ */
+final class DatasetGenerator {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final Muscle[][] REGIONS = {
+            {UPPER_CHEST, LOWER_CHEST, INNER_CHEST},
+            {DORSALS, WIDE_BACK, RHOMBOIDS, TRAPEZES, LUMBAR},
+            {ANTERIOR_DELTOID, LATERAL_DELTOID, POSTERIOR_DELTOID},
+            {QUADRICEPS, HAMSTRINGS, CALVES, BUTTOCKS},
+            {BICEPS, TRICEPS, FOREARMS},
+            {ABS, OBLIQUES}
+    };
+    private static final double[] REGION_WEIGHTS = cumulative(0.20, 0.20, 0.15, 0.25, 0.15, 0.05);
+
+    // Probability of each number of medium and low engagements
+    private static final double[] MEDIUM_ENGAGEMENT_WEIGHTS = cumulative(0.30, 0.50, 0.20);
+    private static final double[] LOW_ENGAGEMENT_WEIGHTS = cumulative(0.40, 0.40, 0.20);
+
+    private static final int MIN_DESCRIPTION_WORDS = 10;
+    private static final int MAX_DESCRIPTION_WORDS = 40;
+
+    private static final List<String> VOCABULARY = List.of(
+            "the", "and", "with", "your", "keep", "back", "weight", "slowly", "control", "position",
+            "arms", "straight", "core", "shoulders", "lower", "hold", "feet", "chest", "starting", "hips",
+            "movement", "knees", "grip", "range", "motion", "tight", "bar", "elbows", "full", "pause",
+            "engage", "breathe", "exhale", "inhale", "neutral", "spine", "bend", "extend", "squeeze", "top",
+            "bottom", "stretch", "shoulder", "width", "apart", "flat", "bench", "incline", "decline", "seated",
+            "standing", "cable", "pulley", "dumbbells", "barbell", "kettlebell", "band", "tempo", "explosive", "isometric",
+            "unilateral", "alternating", "overhand", "underhand", "hammer", "wide", "narrow", "deficit", "pronated", "stability"
+    );
+
+    private final Random random;
+
+    /**
+     * Creates a generator whose data is determined by the given seed.
+     *
+     * @param seed the seed of the generated data
+     */
+    DatasetGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Inserts the equipment, the muscle engagements and the exercises into an empty, migrated schema.
+     * The ID sequences are restarted after the generated IDs, so the application can insert more rows.
+     *
+     * @param connection the connection to the database
+     * @param equipmentCount the number of equipment to insert
+     * @param exerciseCount the number of exercises to insert
+     * @return the description of the generated data
+     * @throws SQLException if an insert fails
+     */
+    Dataset generate(Connection connection, int equipmentCount, int exerciseCount) throws SQLException {
+        connection.setAutoCommit(false);
+
+        double[] cumulativeWordFrequencies = zipfCumulativeFrequencies(VOCABULARY.size());
+        Dataset dataset = new Dataset(
+                equipmentCount,
+                exerciseCount,
+                VOCABULARY,
+                cumulativeWordFrequencies
+        );
+
+        insertEquipment(connection, equipmentCount);
+        Map<Muscle, Map<MuscleActivationLevel, Long>> engagementIds = insertMuscleEngagements(connection);
+        insertExercises(connection, dataset, engagementIds);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE equipment_sequence RESTART WITH " + (equipmentCount + 1));
+            statement.execute("ALTER SEQUENCE exercises_sequence RESTART WITH " + (exerciseCount + 1));
+        }
+
+        connection.commit();
+
+        return dataset;
+    }
+
+    private void insertEquipment(Connection connection, int equipmentCount) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO equipments (equipment_id, version, name) VALUES (?, 0, ?)"
+        )) {
+            for (long id = 1; id <= equipmentCount; id++) {
+                statement.setLong(1, id);
+                statement.setString(2, Dataset.equipmentName(id));
+                addToBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private Map<Muscle, Map<MuscleActivationLevel, Long>> insertMuscleEngagements(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO muscle_engagements (muscle, activation_level) VALUES (?, ?)"
+        )) {
+            for (Muscle muscle : Muscle.values()) {
+                for (MuscleActivationLevel level : MuscleActivationLevel.values()) {
+                    statement.setString(1, muscle.name());
+                    statement.setString(2, level.name());
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+
+        Map<Muscle, Map<MuscleActivationLevel, Long>> engagementIds = new EnumMap<>(Muscle.class);
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT muscle_engagement_id, muscle, activation_level FROM muscle_engagements"
+             )) {
+            while (resultSet.next()) {
+                engagementIds.computeIfAbsent(Muscle.valueOf(resultSet.getString(2)), muscle -> new EnumMap<>(MuscleActivationLevel.class))
+                        .put(MuscleActivationLevel.valueOf(resultSet.getString(3)), resultSet.getLong(1));
+            }
+        }
+
+        return engagementIds;
+    }
+
+    private void insertExercises(
+            Connection connection,
+            Dataset dataset,
+            Map<Muscle, Map<MuscleActivationLevel, Long>> engagementIds
+    ) throws SQLException {
+        double[] cumulativeEquipmentFrequencies = zipfCumulativeFrequencies(dataset.equipmentCount());
+
+        try (PreparedStatement exerciseStatement = connection.prepareStatement(
+                "INSERT INTO exercises (exercise_id, equipment_id, version, name, description, muscle_signature) VALUES (?, ?, 0, ?, ?, ?)"
+        );
+             PreparedStatement engagementStatement = connection.prepareStatement(
+                     "INSERT INTO exercises_muscles_engagement (exercise_id, muscle_engagement_id) VALUES (?, ?)"
+             )) {
+            for (long id = 1; id <= dataset.exerciseCount(); id++) {
+                exerciseStatement.setLong(1, id);
+                exerciseStatement.setLong(2, pick(cumulativeEquipmentFrequencies) + 1);
+                exerciseStatement.setString(3, Dataset.exerciseName(id));
+                exerciseStatement.setString(4, description(dataset));
+
+                long muscleSignature = 0;
+                for (Map.Entry<Muscle, MuscleActivationLevel> engagement : muscleEngagements().entrySet()) {
+                    engagementStatement.setLong(1, id);
+                    engagementStatement.setLong(2, engagementIds.get(engagement.getKey()).get(engagement.getValue()));
+                    engagementStatement.addBatch();
+                    muscleSignature |= MuscleSignature.of(engagement.getKey(), engagement.getValue());
+                }
+
+                exerciseStatement.setLong(5, muscleSignature);
+                exerciseStatement.addBatch();
+                if (id % BATCH_SIZE == 0) {
+                    // The exercises must be inserted before their engagements
+                    exerciseStatement.executeBatch();
+                    engagementStatement.executeBatch();
+                }
+            }
+            exerciseStatement.executeBatch();
+            engagementStatement.executeBatch();
+        }
+    }
+
+    /**
+     * Picks the muscle engagements of an exercise.
+     *
+     * @return the activation level of each engaged muscle
+     */
+    private Map<Muscle, MuscleActivationLevel> muscleEngagements() {
+        int region = pick(REGION_WEIGHTS);
+        List<Muscle> regionMuscles = new ArrayList<>(Arrays.asList(REGIONS[region]));
+
+        Map<Muscle, MuscleActivationLevel> engagements = new EnumMap<>(Muscle.class);
+        engagements.put(regionMuscles.remove(random.nextInt(regionMuscles.size())), MuscleActivationLevel.HIGH);
+
+        int mediumEngagements = Math.min(pick(MEDIUM_ENGAGEMENT_WEIGHTS), regionMuscles.size());
+        for (int i = 0; i < mediumEngagements; i++) {
+            engagements.put(regionMuscles.remove(random.nextInt(regionMuscles.size())), MuscleActivationLevel.MEDIUM);
+        }
+
+        Set<Muscle> otherMuscles = new LinkedHashSet<>(Arrays.asList(Muscle.values()));
+        otherMuscles.removeAll(Arrays.asList(REGIONS[region]));
+        List<Muscle> candidates = new ArrayList<>(otherMuscles);
+        int lowEngagements = pick(LOW_ENGAGEMENT_WEIGHTS);
+        for (int i = 0; i < lowEngagements; i++) {
+            engagements.put(candidates.remove(random.nextInt(candidates.size())), MuscleActivationLevel.LOW);
+        }
+
+        return engagements;
+    }
+
+    /**
+     * Generates a description with words of the vocabulary.
+     *
+     * @param dataset the dataset with the vocabulary
+     * @return the description
+     */
+    private String description(Dataset dataset) {
+        int words = MIN_DESCRIPTION_WORDS + random.nextInt(MAX_DESCRIPTION_WORDS - MIN_DESCRIPTION_WORDS + 1);
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                description.append(' ');
+            }
+            description.append(dataset.randomWord(random));
+        }
+
+        return description.append('.').toString();
+    }
+
+    private void addToBatch(PreparedStatement statement, long id) throws SQLException {
+        statement.addBatch();
+        if (id % BATCH_SIZE == 0) {
+            statement.executeBatch();
+        }
+    }
+
+    private int pick(double[] cumulativeWeights) {
+        int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1]);
+
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static double[] cumulative(double... weights) {
+        double[] cumulativeWeights = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulativeWeights[i] = total;
+        }
+
+        return cumulativeWeights;
+    }
+
+    private static double[] zipfCumulativeFrequencies(int size) {
+        double[] frequencies = new double[size];
+        for (int rank = 0; rank < size; rank++) {
+            frequencies[rank] = 1.0 / (rank + 1);
+        }
+
+        return cumulative(frequencies);
+    }
+
+}
@@ -0,0 +1,250 @@
+package com.returdev.gym_exercises_api.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.returdev.gym_exercises_api.dto.request.ExerciseRequestDTO;
+import com.returdev.gym_exercises_api.dto.request.MuscleEngagementRequestDTO;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * State shared by the clients of a load test, used by the routes to build their requests.
+ *
+ * <p>
+ * The reads target the generated data. The deletes and the updates of equipment only target
+ * rows created during the run, so the generated data keeps its size.
+ * </p>
+ */
+final class LoadContext {
+
+    private static final int PAGE_SIZE = 25;
+    private static final int MAX_MUSCLE_ENGAGEMENTS = 3;
+    private static final int DESCRIPTION_WORDS = 20;
+
+    private final URI baseUri;
+    private final Dataset dataset;
+    private final ObjectMapper objectMapper;
+    private final String userToken;
+    private final String developerToken;
+
+    private final AtomicLong nameSequence = new AtomicLong();
+    private final Queue<Long> createdExerciseIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> createdEquipmentIds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates the context of a load test.
+     *
+     * @param baseUri the URI of the API, including the context path
+     * @param dataset the generated data
+     * @param objectMapper the mapper of the request and response bodies
+     * @param userToken the token of the routes that require a user
+     * @param developerToken the token of the routes that require a developer
+     */
+    LoadContext(URI baseUri, Dataset dataset, ObjectMapper objectMapper, String userToken, String developerToken) {
+        this.baseUri = baseUri;
+        this.dataset = dataset;
+        this.objectMapper = objectMapper;
+        this.userToken = userToken;
+        this.developerToken = developerToken;
+    }
+
+    Dataset dataset() {
+        return dataset;
+    }
+
+    Queue<Long> createdExerciseIds() {
+        return createdExerciseIds;
+    }
+
+    Queue<Long> createdEquipmentIds() {
+        return createdEquipmentIds;
+    }
+
+    /**
+     * Returns the authorization header value for a route.
+     *
+     * @param route the route
+     * @return the bearer token the route requires
+     */
+    String authorization(Route route) {
+        return "Bearer " + (route.isDeveloperOnly() ? developerToken : userToken);
+    }
+
+    /**
+     * Creates a GET request.
+     *
+     * @param path the path of the route, relative to the API
+     * @return the request builder
+     */
+    HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    /**
+     * Creates a DELETE request.
+     *
+     * @param path the path of the route, relative to the API
+     * @return the request builder
+     */
+    HttpRequest.Builder delete(String path) {
+        return HttpRequest.newBuilder(uri(path)).DELETE();
+    }
+
+    /**
+     * Creates a request with a JSON body.
+     *
+     * @param method the HTTP method
+     * @param path the path of the route, relative to the API
+     * @param body the object to send as JSON
+     * @return the request builder
+     */
+    HttpRequest.Builder json(String method, String path, Object body) {
+        try {
+            return body(method, path, MediaType.APPLICATION_JSON_VALUE, objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Creates a request with a body.
+     *
+     * @param method the HTTP method
+     * @param path the path of the route, relative to the API
+     * @param contentType the content type of the body
+     * @param body the body
+     * @return the request builder
+     */
+    HttpRequest.Builder body(String method, String path, String contentType, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header(HttpHeaders.CONTENT_TYPE, contentType)
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    /**
+     * Reads the ID of the entity returned in a response body.
+     *
+     * @param body the response body
+     * @return the ID of the entity
+     */
+    long responseId(byte[] body) {
+        try {
+            return objectMapper.readTree(body).path("data").path("id").asLong();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Serializes an object as a JSON line.
+     *
+     * @param value the object
+     * @return the JSON of the object
+     */
+    String jsonLine(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    long randomExerciseId(RandomGenerator random) {
+        return random.nextLong(dataset.exerciseCount()) + 1;
+    }
+
+    long randomEquipmentId(RandomGenerator random) {
+        return random.nextLong(dataset.equipmentCount()) + 1;
+    }
+
+    int randomExercisePage(RandomGenerator random) {
+        return randomPage(dataset.exerciseCount(), random);
+    }
+
+    int randomEquipmentPage(RandomGenerator random) {
+        return randomPage(dataset.equipmentCount(), random);
+    }
+
+    /**
+     * Returns a name that is not used by any other request of the run.
+     *
+     * @param prefix the prefix of the name
+     * @return the unique name
+     */
+    String uniqueName(String prefix) {
+        return prefix + " " + nameSequence.incrementAndGet();
+    }
+
+    /**
+     * Creates the request body of an exercise with random muscle engagements and description.
+     *
+     * @param id the ID of the exercise, or {@code null} for a new exercise
+     * @param name the name of the exercise
+     * @param equipmentId the ID of the equipment of the exercise
+     * @param random the source of randomness
+     * @return the request body
+     */
+    ExerciseRequestDTO exerciseRequest(Long id, String name, long equipmentId, RandomGenerator random) {
+        Set<MuscleEngagementRequestDTO> muscleEngagements = new HashSet<>();
+        int engagements = random.nextInt(MAX_MUSCLE_ENGAGEMENTS) + 1;
+        while (muscleEngagements.size() < engagements) {
+            muscleEngagements.add(new MuscleEngagementRequestDTO(
+                    randomValue(Muscle.values(), random),
+                    randomValue(MuscleActivationLevel.values(), random)
+            ));
+        }
+
+        return new ExerciseRequestDTO(id, name, randomText(DESCRIPTION_WORDS, random), equipmentId, muscleEngagements);
+    }
+
+    /**
+     * Creates a text with words of the generated descriptions.
+     *
+     * @param words the number of words
+     * @param random the source of randomness
+     * @return the text
+     */
+    String randomText(int words, RandomGenerator random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(dataset.randomWord(random));
+        }
+
+        return text.toString();
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    static <T> T randomValue(T[] values, RandomGenerator random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static int randomPage(int count, RandomGenerator random) {
+        return random.nextInt(Math.max(1, (count + PAGE_SIZE - 1) / PAGE_SIZE)) + 1;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUri + path);
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.returdev.gym_exercises_api.loadtest;
+
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP load driver that sends a weighted mix of requests from concurrent clients.
+ *
+ * <p>
+ * Without a target rate, each client sends its next request as soon as the previous one completes.
+ * With a target rate, each client sends its requests at fixed intervals and the latency of a
+ * request is measured from the time it should have been sent, so a stall of the server is
+ * reflected in the latencies of all the requests it delayed and not only in the one it stalled.
+ * </p>
+ */
+final class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final LoadContext context;
+    private final LoadTestSettings settings;
+    private final List<Route> routes = new ArrayList<>();
+    private final double[] cumulativeWeights;
+    private final Map<Route, RouteStatistics> statistics = new EnumMap<>(Route.class);
+
+    /**
+     * Creates a driver for the routes with a positive weight in the mix of the settings.
+     *
+     * @param httpClient the client used to send the requests
+     * @param context the state of the load test
+     * @param settings the settings of the run
+     */
+    LoadDriver(HttpClient httpClient, LoadContext context, LoadTestSettings settings) {
+        this.httpClient = httpClient;
+        this.context = context;
+        this.settings = settings;
+
+        settings.mix().forEach((route, weight) -> {
+            if (weight > 0) {
+                routes.add(route);
+                statistics.put(route, new RouteStatistics());
+            }
+        });
+        cumulativeWeights = new double[routes.size()];
+        double total = 0;
+        for (int i = 0; i < routes.size(); i++) {
+            total += settings.mix().get(routes.get(i));
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Runs the clients for the warmup and the duration of the settings.
+     *
+     * @return the statistics of each route, recorded after the warmup
+     * @throws InterruptedException if the thread is interrupted while waiting for the clients
+     */
+    Map<Route, RouteStatistics> run() throws InterruptedException {
+        long start = System.nanoTime();
+        long recordingStart = start + settings.warmup().toNanos();
+        long end = recordingStart + settings.duration().toNanos();
+        long intervalNanos = settings.rate() > 0
+                ? TimeUnit.SECONDS.toNanos(1) * settings.concurrency() / settings.rate()
+                : 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency());
+        for (int client = 0; client < settings.concurrency(); client++) {
+            Random random = new Random(settings.seed() + client);
+            executor.execute(() -> runClient(random, start, recordingStart, end, intervalNanos));
+        }
+        executor.shutdown();
+        executor.awaitTermination(end - start + REQUEST_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+
+        return statistics;
+    }
+
+    private void runClient(Random random, long start, long recordingStart, long end, long intervalNanos) {
+        long nextStart = start;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            long intendedStart;
+            if (intervalNanos > 0) {
+                intendedStart = nextStart;
+                nextStart += intervalNanos;
+                LockSupport.parkNanos(intendedStart - System.nanoTime());
+            } else {
+                intendedStart = System.nanoTime();
+            }
+            if (intendedStart >= end) {
+                return;
+            }
+
+            Route route = pickRoute(random);
+            HttpRequest.Builder request = route.request(context, random);
+            if (request == null) {
+                continue;
+            }
+
+            boolean failed;
+            try {
+                HttpResponse<byte[]> response = httpClient.send(
+                        request.header(HttpHeaders.AUTHORIZATION, context.authorization(route))
+                                .timeout(REQUEST_TIMEOUT)
+                                .build(),
+                        HttpResponse.BodyHandlers.ofByteArray()
+                );
+                failed = response.statusCode() >= 400;
+                route.onResponse(context, response);
+            } catch (IOException ex) {
+                failed = true;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (intendedStart >= recordingStart) {
+                statistics.get(route).record(System.nanoTime() - intendedStart, failed);
+            }
+        }
+    }
+
+    private Route pickRoute(Random random) {
+        double value = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return routes.get(i);
+            }
+        }
+
+        return routes.get(routes.size() - 1);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.returdev.gym_exercises_api.loadtest;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.returdev.gym_exercises_api.GymExercisesApiApplication;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * End-to-end load test of the API.
+ *
+ * <p>
+ * It generates a catalog in an in-memory H2 database in MySQL mode, starts the application with
+ * the {@code test} profile on that database and drives the exercise and equipment routes over
+ * HTTP. The latency percentiles, throughput and errors of each route are printed and written as
+ * CSV. Run it with {@code mvn -Ploadtest verify}, setting any {@link LoadTestSettings} as
+ * {@code -Dloadtest.<setting>} properties.
+ * </p>
+ */
+public final class LoadTest {
+
+    private static final String DATABASE_URL = "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private static final String DATABASE_USERNAME = "sa";
+    private static final String DATABASE_PASSWORD = "";
+    private static final Duration TOKEN_EXPIRATION = Duration.ofHours(1);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        Flyway.configure()
+                .dataSource(DATABASE_URL, DATABASE_USERNAME, DATABASE_PASSWORD)
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+
+        long generationStart = System.nanoTime();
+        Dataset dataset;
+        try (Connection connection = DriverManager.getConnection(DATABASE_URL, DATABASE_USERNAME, DATABASE_PASSWORD)) {
+            dataset = new DatasetGenerator(settings.seed())
+                    .generate(connection, settings.equipmentCount(), settings.exerciseCount());
+        }
+        System.out.printf("Generated %d equipment and %d exercises in %d ms%n",
+                dataset.equipmentCount(), dataset.exerciseCount(), Duration.ofNanos(System.nanoTime() - generationStart).toMillis());
+
+        try (ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(GymExercisesApiApplication.class)
+                .profiles("test")
+                // Passed as arguments to take precedence over the test profile
+                .run(
+                        "--spring.datasource.url=" + DATABASE_URL,
+                        "--spring.datasource.username=" + DATABASE_USERNAME,
+                        "--spring.datasource.password=" + DATABASE_PASSWORD,
+                        "--spring.jpa.show-sql=false",
+                        "--server.port=0",
+                        "--logging.level.root=WARN"
+                )) {
+
+            Environment environment = applicationContext.getEnvironment();
+            int port = ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+            LoadContext context = new LoadContext(
+                    URI.create("http://localhost:" + port + environment.getProperty("server.servlet.context-path", "")),
+                    dataset,
+                    applicationContext.getBean(ObjectMapper.class),
+                    token(environment, "USER"),
+                    token(environment, "DEVELOPER")
+            );
+
+            System.out.printf("Running %d clients for %d s after a %d s warmup%n",
+                    settings.concurrency(), settings.duration().toSeconds(), settings.warmup().toSeconds());
+            Map<Route, RouteStatistics> statistics = new LoadDriver(
+                    HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+                    context,
+                    settings
+            ).run();
+
+            LoadTestReport report = new LoadTestReport(statistics, settings.duration());
+            report.print(System.out);
+            report.writeCsv(settings.result());
+        }
+    }
+
+    /**
+     * Signs a token with the key and issuer of the application, as the tokens of each role are issued.
+     *
+     * @param environment the environment of the application
+     * @param role the role of the token
+     * @return the signed token
+     */
+    private static String token(Environment environment, String role) {
+        Instant now = Instant.now();
+
+        return JWT.create()
+                .withIssuer(environment.getRequiredProperty("spring.jwt.user-generator"))
+                .withIssuedAt(now)
+                .withExpiresAt(now.plus(TOKEN_EXPIRATION))
+                .withClaim("role", role)
+                .sign(Algorithm.HMAC256(environment.getRequiredProperty("spring.jwt.private-key")));
+    }
+
+}
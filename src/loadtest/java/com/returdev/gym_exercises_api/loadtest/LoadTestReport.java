@@ -0,0 +1,97 @@
+package com.returdev.gym_exercises_api.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Report of the latency percentiles, throughput and errors of each route of a load test.
+ */
+final class LoadTestReport {
+
+    private static final String TOTAL = "TOTAL";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String CSV_HEADER = "route,requests,errors,throughput,p50_ms,p99_ms,p999_ms,max_ms";
+
+    private final List<Row> rows = new ArrayList<>();
+
+    /**
+     * Builds the report of the statistics recorded during the given duration.
+     *
+     * @param statistics the statistics of each route
+     * @param duration the time the statistics were recorded
+     */
+    LoadTestReport(Map<Route, RouteStatistics> statistics, Duration duration) {
+        double seconds = duration.toNanos() / 1_000_000_000.0;
+        Histogram total = new Histogram(RouteStatistics.HIGHEST_TRACKABLE_NANOS, RouteStatistics.SIGNIFICANT_DIGITS);
+        long totalErrors = 0;
+
+        for (Map.Entry<Route, RouteStatistics> entry : statistics.entrySet()) {
+            Histogram latencies = entry.getValue().latencies();
+            rows.add(new Row(entry.getKey().name(), latencies, entry.getValue().errors(), seconds));
+            total.add(latencies);
+            totalErrors += entry.getValue().errors();
+        }
+        rows.add(new Row(TOTAL, total, totalErrors, seconds));
+    }
+
+    /**
+     * Prints the report as a table.
+     *
+     * @param out the stream to print to
+     */
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%-22s %10s %8s %12s %10s %10s %10s %10s%n",
+                "Route", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "Max ms");
+        for (Row row : rows) {
+            out.printf(Locale.ROOT, "%-22s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    row.route(), row.requests(), row.errors(), row.throughput(), row.p50(), row.p99(), row.p999(), row.max());
+        }
+    }
+
+    /**
+     * Writes the report as CSV, so the results of different runs can be compared.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    void writeCsv(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        for (Row row : rows) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f",
+                    row.route(), row.requests(), row.errors(), row.throughput(), row.p50(), row.p99(), row.p999(), row.max()));
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines);
+    }
+
+    private record Row(String route, long requests, long errors, double throughput, double p50, double p99, double p999, double max) {
+
+        Row(String route, Histogram latencies, long errors, double seconds) {
+            this(
+                    route,
+                    latencies.getTotalCount(),
+                    errors,
+                    latencies.getTotalCount() / seconds,
+                    latencies.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                    latencies.getMaxValue() / NANOS_PER_MILLI
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.returdev.gym_exercises_api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, read from the {@code loadtest.*} system properties.
+ *
+ * @param equipmentCount the number of equipment to generate
+ * @param exerciseCount the number of exercises to generate
+ * @param concurrency the number of concurrent clients
+ * @param warmup the time the clients run before the latencies are recorded
+ * @param duration the time the latencies are recorded
+ * @param rate the total requests per second of the clients, or {@code 0} to send each request as
+ *             soon as the previous one completes
+ * @param mix the relative weight of each route
+ * @param seed the seed of the generated data and the request choices
+ * @param result the CSV file the results are written to
+ */
+record LoadTestSettings(
+        int equipmentCount,
+        int exerciseCount,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int rate,
+        Map<Route, Integer> mix,
+        long seed,
+        Path result
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    /**
+     * Reads the settings from the system properties, using the defaults for the missing ones.
+     * <p>
+     * The mix is a comma-separated list of {@code ROUTE=weight} entries, such as
+     * {@code EXERCISE_LIST=50,EXERCISE_EXPORT=0}, that override the default weights of the routes.
+     *
+     * @return the settings of the run
+     */
+    static LoadTestSettings fromSystemProperties() {
+        Map<Route, Integer> mix = new EnumMap<>(Route.class);
+        for (Route route : Route.values()) {
+            mix.put(route, route.getDefaultWeight());
+        }
+        for (String entry : property("mix", "").split(",")) {
+            if (!entry.isBlank()) {
+                String[] routeAndWeight = entry.split("=");
+                mix.put(Route.valueOf(routeAndWeight[0].trim()), Integer.parseInt(routeAndWeight[1].trim()));
+            }
+        }
+
+        return new LoadTestSettings(
+                Integer.parseInt(property("equipment", "200")),
+                Integer.parseInt(property("exercises", "20000")),
+                Integer.parseInt(property("concurrency", "16")),
+                Duration.ofSeconds(Long.parseLong(property("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(property("duration", "60"))),
+                Integer.parseInt(property("rate", "0")),
+                mix,
+                Long.parseLong(property("seed", "42")),
+                Path.of(property("result", "target/loadtest-result.csv"))
+        );
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+}
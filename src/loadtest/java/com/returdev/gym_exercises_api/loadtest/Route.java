@@ -0,0 +1,241 @@
+package com.returdev.gym_exercises_api.loadtest;
+
+import com.returdev.gym_exercises_api.dto.request.EquipmentRequestDTO;
+import com.returdev.gym_exercises_api.dto.request.ExerciseRequestDTO;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.StringJoiner;
+import java.util.random.RandomGenerator;
+
+/**
+ * The routes of the exercise and equipment controllers exercised by the load driver, with their
+ * default weight in the request mix.
+ */
+@Getter
+@RequiredArgsConstructor
+enum Route {
+
+    EXERCISE_LIST(20, false) {
+        private static final String[] ORDER_BY = {"ID", "ID", "EXERCISE_NAME"};
+
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            return context.get(EXERCISE_PATH
+                    + "?page=" + context.randomExercisePage(random)
+                    + "&orderBy=" + LoadContext.randomValue(ORDER_BY, random));
+        }
+    },
+
+    EXERCISE_SEARCH(8, false) {
+        private static final int MAX_PAGE = 5;
+
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            String path = EXERCISE_PATH + "/search"
+                    + "?muscle=" + LoadContext.randomValue(Muscle.values(), random)
+                    + "&muscle=" + LoadContext.randomValue(Muscle.values(), random)
+                    + "&level=" + LoadContext.randomValue(MuscleActivationLevel.values(), random)
+                    + "&match=" + LoadContext.randomValue(MuscleMatch.values(), random)
+                    + "&page=" + (random.nextInt(MAX_PAGE) + 1);
+            if (random.nextBoolean()) {
+                path += "&equipment=" + context.randomEquipmentId(random);
+            }
+
+            return context.get(path);
+        }
+    },
+
+    EXERCISE_TEXT_SEARCH(8, false) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            return context.get(EXERCISE_PATH + "/search/text?q="
+                    + LoadContext.encode(context.randomText(random.nextInt(2) + 1, random)));
+        }
+    },
+
+    EXERCISE_GET(25, false) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            return context.get(EXERCISE_PATH + "/" + context.randomExerciseId(random));
+        }
+    },
+
+    EXERCISE_CREATE(3, true) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            return context.json("POST", EXERCISE_PATH, newExercise(context, random));
+        }
+
+        @Override
+        void onResponse(LoadContext context, HttpResponse<byte[]> response) {
+            if (response.statusCode() == CREATED) {
+                context.createdExerciseIds().add(context.responseId(response.body()));
+            }
+        }
+    },
+
+    EXERCISE_UPDATE(2, true) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            return updateCreatedExercise(context, random, "PUT");
+        }
+    },
+
+    EXERCISE_PATCH(2, true) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            return updateCreatedExercise(context, random, "PATCH");
+        }
+    },
+
+    EXERCISE_DELETE(2, true) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            Long id = context.createdExerciseIds().poll();
+
+            return id == null ? null : context.delete(EXERCISE_PATH + "/" + id);
+        }
+    },
+
+    EXERCISE_IMPORT(1, true) {
+        private static final int LINES = 10;
+
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            StringJoiner lines = new StringJoiner("\n", "", "\n");
+            for (int i = 0; i < LINES; i++) {
+                lines.add(context.jsonLine(newExercise(context, random)));
+            }
+
+            return context.body("POST", EXERCISE_PATH + "/import", "application/x-ndjson", lines.toString());
+        }
+    },
+
+    EXERCISE_EXPORT(1, true) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            return context.get(EXERCISE_PATH + "/export");
+        }
+    },
+
+    EQUIPMENT_LIST(10, false) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            return context.get(EQUIPMENT_PATH + "?page=" + context.randomEquipmentPage(random));
+        }
+    },
+
+    EQUIPMENT_GET(10, false) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            return context.get(EQUIPMENT_PATH + "/" + context.randomEquipmentId(random));
+        }
+    },
+
+    EQUIPMENT_CREATE(1, true) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            return context.json("POST", EQUIPMENT_PATH, new EquipmentRequestDTO(null, context.uniqueName(EQUIPMENT_NAME_PREFIX)));
+        }
+
+        @Override
+        void onResponse(LoadContext context, HttpResponse<byte[]> response) {
+            if (response.statusCode() == CREATED) {
+                context.createdEquipmentIds().add(context.responseId(response.body()));
+            }
+        }
+    },
+
+    EQUIPMENT_UPDATE(1, true) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            Long id = context.createdEquipmentIds().poll();
+            if (id == null) {
+                return null;
+            }
+            // Return the equipment to the queue, as it is not deleted
+            context.createdEquipmentIds().add(id);
+
+            return context.json("PUT", EQUIPMENT_PATH, new EquipmentRequestDTO(id, context.uniqueName(EQUIPMENT_NAME_PREFIX)));
+        }
+    },
+
+    EQUIPMENT_DELETE(1, true) {
+        @Override
+        HttpRequest.Builder request(LoadContext context, RandomGenerator random) {
+            Long id = context.createdEquipmentIds().poll();
+
+            return id == null ? null : context.delete(EQUIPMENT_PATH + "/" + id);
+        }
+    };
+
+    private static final String EXERCISE_PATH = "/v1/exercise";
+    private static final String EQUIPMENT_PATH = "/v1/equipment";
+    private static final String EXERCISE_NAME_PREFIX = "Load Exercise";
+    private static final String EQUIPMENT_NAME_PREFIX = "Load Equipment";
+    private static final int CREATED = 201;
+
+    private final int defaultWeight;
+    private final boolean developerOnly;
+
+    /**
+     * Builds the next request of the route.
+     *
+     * @param context the state of the load test
+     * @param random the source of randomness of the client
+     * @return the request, without authorization, or {@code null} if the route has nothing to
+     *         request yet, such as a delete before anything was created
+     */
+    abstract HttpRequest.Builder request(LoadContext context, RandomGenerator random);
+
+    /**
+     * Handles the response of a request of the route.
+     *
+     * @param context the state of the load test
+     * @param response the response
+     */
+    void onResponse(LoadContext context, HttpResponse<byte[]> response) {
+    }
+
+    /**
+     * Renames an exercise created during the run, with new muscle engagements and description.
+     * <p>
+     * The update always changes the name, as keeping it is rejected as a duplicate exercise.
+     *
+     * @param context the state of the load test
+     * @param random the source of randomness of the client
+     * @param method the HTTP method of the update
+     * @return the request, or {@code null} if no exercise was created yet
+     */
+    private static HttpRequest.Builder updateCreatedExercise(LoadContext context, RandomGenerator random, String method) {
+        Long id = context.createdExerciseIds().poll();
+        if (id == null) {
+            return null;
+        }
+        // Return the exercise to the queue, as it is not deleted
+        context.createdExerciseIds().add(id);
+
+        return context.json(method, EXERCISE_PATH, context.exerciseRequest(
+                id,
+                context.uniqueName(EXERCISE_NAME_PREFIX),
+                context.randomEquipmentId(random),
+                random
+        ));
+    }
+
+    private static ExerciseRequestDTO newExercise(LoadContext context, RandomGenerator random) {
+        return context.exerciseRequest(
+                null,
+                context.uniqueName(EXERCISE_NAME_PREFIX),
+                context.randomEquipmentId(random),
+                random
+        );
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.returdev.gym_exercises_api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and errors recorded for a route, shared by all the clients.
+ */
+final class RouteStatistics {
+
+    static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Records a request of the route.
+     *
+     * @param latencyNanos the latency of the request, in nanoseconds
+     * @param failed whether the request failed or returned an error status
+     */
+    void record(long latencyNanos, boolean failed) {
+        latencies.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    Histogram latencies() {
+        return latencies;
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.returdev.gym_exercises_api.advice;
 
+import com.returdev.gym_exercises_api.manager.message.MessageManager;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -21,8 +24,11 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
  */
 @RestControllerAdvice
 @Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
 public class ResourceExceptionHandler {
 
+    private final MessageManager messageManager;
+
     /**
      * Handles the EntityNotFoundException.
      * <p>
@@ -55,6 +61,25 @@ public class ResourceExceptionHandler {
         return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    /**
+     * Handles the OptimisticLockingFailureException.
+     * <p>
+     * This method returns a ProblemDetail response with a 412 (Precondition Failed) status.
+     * It is triggered when an update is based on a version of the resource that is no longer
+     * current, such as the one given in an If-Match header.
+     *
+     * @param ex the OptimisticLockingFailureException that was thrown
+     * @return a ProblemDetail object containing the status and error message
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ProblemDetail handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return ProblemDetail.forStatusAndDetail(
+                HttpStatus.PRECONDITION_FAILED,
+                messageManager.getMessage("exception.precondition.version_mismatch")
+        );
+    }
+
     /**
      * Handles the NoResourceFoundException.
      * <p>
@@ -25,7 +25,13 @@ import java.lang.annotation.Target;
  *   <li><b>sortDirection:</b> Determines the direction of sorting, either ascending ("asc") or descending ("desc").<br>
  *       This field controls the order of the results returned.</li>
  *   <li><b>orderBy:</b> Specifies the field by which the results should be sorted.<br>
- *       Allowed values include "id", "exercise_name", and "equipment_name".</li>
+ *       Allowed values include "id" and "name".</li>
+ *   <li><b>paginationMode:</b> Selects offset pagination ("offset", default), count-free offset pagination ("slice")
+ *       or keyset pagination ("cursor").<br>
+ *       In slice mode the page information omits the totals. In cursor mode the page number is ignored
+ *       and no total count is computed.</li>
+ *   <li><b>cursor:</b> The opaque "next" or "prev" cursor returned by a previous cursor-mode response.<br>
+ *       Providing a cursor implies cursor mode.</li>
  * </ul>
  * <p>
  * This annotation is processed at runtime and enhances API documentation for methods that handle paginated equipment queries.
@@ -76,8 +82,23 @@ import java.lang.annotation.Target;
                         name = "orderBy",
                         description = "Field to sort by.",
                         schema = @Schema(
-                                type = "integer",
-                                allowableValues = {"id", "exercise_name", "equipment_name"}
+                                type = "string",
+                                allowableValues = {"id", "name"}
+                        )
+                ),
+                @Parameter(
+                        name = "paginationMode",
+                        description = "Pagination mode.",
+                        schema = @Schema(
+                                type = "string",
+                                allowableValues = {"offset", "slice", "cursor"}
+                        )
+                ),
+                @Parameter(
+                        name = "cursor",
+                        description = "Cursor returned by a previous cursor-mode response.",
+                        schema = @Schema(
+                                type = "string"
                         )
                 )
         }
@@ -0,0 +1,96 @@
+package com.returdev.gym_exercises_api.annotation.swagger.request;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Custom annotation to define the search parameters for exercise search API requests in OpenAPI documentation.
+ * <p>
+ * The annotation includes the following parameters:
+ * <ul>
+ *   <li><b>muscle:</b> The muscles the exercises must engage.<br>
+ *       It is required and can be repeated to search by several muscles.</li>
+ *   <li><b>level:</b> The activation level the matching muscles must have.<br>
+ *       Any level matches if not specified.</li>
+ *   <li><b>match:</b> Whether the exercises must engage any or all of the muscles.<br>
+ *       Any muscle matches if not specified.</li>
+ *   <li><b>equipment:</b> The ID of the equipment the exercises must use.<br>
+ *       Any equipment matches if not specified.</li>
+ * </ul>
+ * <p>
+ * <b>Example usage:</b>
+ * <pre>{@code
+ * @ExerciseSearchRequestParameters
+ * public PaginationResponseDTO<ExerciseResponseDTO> searchExercises(
+ *     @RequestParam("muscle") List<String> muscle,
+ *     @RequestParam("level") String level,
+ *     @RequestParam("match") String match,
+ *     @RequestParam("equipment") Long equipment
+ * ) {
+ *     // Method implementation here
+ * }
+ * }</pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Parameters(
+        value = {
+                @Parameter(
+                        name = "muscle",
+                        in = ParameterIn.QUERY,
+                        required = true,
+                        description = "Muscles the exercises must engage.",
+                        array = @ArraySchema(
+                                schema = @Schema(
+                                        type = "String",
+                                        allowableValues = {
+                                                "upper_chest", "lower_chest", "inner_chest",
+                                                "dorsals", "wide_back", "rhomboids", "trapezes", "lumbar",
+                                                "anterior_deltoid", "lateral_deltoid", "posterior_deltoid",
+                                                "quadriceps", "hamstrings", "calves", "buttocks",
+                                                "biceps", "triceps", "forearms",
+                                                "abs", "obliques"
+                                        }
+                                )
+                        )
+                ),
+                @Parameter(
+                        name = "level",
+                        in = ParameterIn.QUERY,
+                        description = "Activation level of the matching muscles.",
+                        schema = @Schema(
+                                type = "String",
+                                allowableValues = {"high", "medium", "low"}
+                        )
+                ),
+                @Parameter(
+                        name = "match",
+                        in = ParameterIn.QUERY,
+                        description = "Whether the exercises must engage any or all of the muscles.",
+                        schema = @Schema(
+                                type = "String",
+                                allowableValues = {"any", "all"},
+                                defaultValue = "any"
+                        )
+                ),
+                @Parameter(
+                        name = "equipment",
+                        in = ParameterIn.QUERY,
+                        description = "ID of the equipment of the exercises.",
+                        schema = @Schema(
+                                type = "Integer",
+                                minimum = "1"
+                        )
+                )
+        }
+)
+public @interface ExerciseSearchRequestParameters {}
@@ -0,0 +1,49 @@
+package com.returdev.gym_exercises_api.annotation.swagger.request;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Custom annotation to define the search parameters for full-text exercise search API requests in OpenAPI documentation.
+ * <p>
+ * The annotation includes the following parameters:
+ * <ul>
+ *   <li><b>q:</b> The text to search in the name and description of the exercises.<br>
+ *       It is required; case and accents are ignored.</li>
+ * </ul>
+ * <p>
+ * <b>Example usage:</b>
+ * <pre>{@code
+ * @ExerciseTextSearchRequestParameters
+ * public PaginationResponseDTO<ExerciseResponseDTO> searchExercisesByText(
+ *     @RequestParam("q") String q
+ * ) {
+ *     // Method implementation here
+ * }
+ * }</pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Parameters(
+        value = {
+                @Parameter(
+                        name = "q",
+                        in = ParameterIn.QUERY,
+                        required = true,
+                        description = "Text to search in the name and description of the exercises.",
+                        schema = @Schema(
+                                type = "String",
+                                maxLength = 200
+                        )
+                )
+        }
+)
+public @interface ExerciseTextSearchRequestParameters {}
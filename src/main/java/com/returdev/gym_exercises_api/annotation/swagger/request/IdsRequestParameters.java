@@ -0,0 +1,52 @@
+package com.returdev.gym_exercises_api.annotation.swagger.request;
+
+import com.returdev.gym_exercises_api.dto.request.IdsRequestDTO;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Custom annotation to define the parameters of batch lookup by ID API requests in OpenAPI documentation.
+ * <p>
+ * The annotation includes the following parameters:
+ * <ul>
+ *   <li><b>ids:</b> The IDs of the resources to retrieve.<br>
+ *       It is required and accepts up to {@value IdsRequestDTO#MAX_IDS} IDs.</li>
+ * </ul>
+ * <p>
+ * <b>Example usage:</b>
+ * <pre>{@code
+ * @IdsRequestParameters
+ * public BatchResponseDTO<ExerciseResponseDTO> getExercisesByIds(
+ *     @RequestParam("ids") List<Long> ids
+ * ) {
+ *     // Method implementation here
+ * }
+ * }</pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Parameters(
+        value = {
+                @Parameter(
+                        name = "ids",
+                        in = ParameterIn.QUERY,
+                        required = true,
+                        description = "IDs of the resources to retrieve, separated by commas.",
+                        array = @ArraySchema(
+                                schema = @Schema(type = "integer", format = "int64"),
+                                minItems = 1,
+                                maxItems = IdsRequestDTO.MAX_IDS
+                        )
+                )
+        }
+)
+public @interface IdsRequestParameters {}
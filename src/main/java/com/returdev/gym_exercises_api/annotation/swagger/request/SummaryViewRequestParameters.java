@@ -0,0 +1,47 @@
+package com.returdev.gym_exercises_api.annotation.swagger.request;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Custom annotation to define the view parameter of summary list API requests in OpenAPI documentation.
+ * <p>
+ * The annotation includes the following parameters:
+ * <ul>
+ *   <li><b>view:</b> The representation of the listed resources.<br>
+ *       It is required and must be {@code summary}, which omits the description of the resources.</li>
+ * </ul>
+ * <p>
+ * <b>Example usage:</b>
+ * <pre>{@code
+ * @SummaryViewRequestParameters
+ * @GetMapping(params = "view=summary")
+ * public PaginationResponseDTO<ExerciseSummaryResponseDTO> getExerciseSummaries(
+ *     ExercisePaginationRequestDTO pagination
+ * ) {
+ *     // Method implementation here
+ * }
+ * }</pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Parameters(
+        value = {
+                @Parameter(
+                        name = "view",
+                        in = ParameterIn.QUERY,
+                        required = true,
+                        description = "Representation of the listed resources. The `summary` view omits the description.",
+                        schema = @Schema(type = "string", allowableValues = {"summary"})
+                )
+        }
+)
+public @interface SummaryViewRequestParameters {}
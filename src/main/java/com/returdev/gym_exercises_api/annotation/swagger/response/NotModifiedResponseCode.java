@@ -0,0 +1,44 @@
+package com.returdev.gym_exercises_api.annotation.swagger.response;
+
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Custom annotation to document a method that returns a 304 Not Modified response
+ * in an OpenAPI specification using Swagger.
+ * <p>
+ * This annotation indicates that the API endpoint does not return the resource again when
+ * the entity tag given in the {@code If-None-Match} header is still current.
+ * </p>
+ * <p>
+ * The annotation includes the following properties:
+ * <ul>
+ *   <li><strong>responseCode:</strong> The HTTP status code "304", indicating that the resource has not been modified.</li>
+ *   <li><strong>description:</strong> A brief description stating "Not Modified".</li>
+ * </ul>
+ * </p>
+ * <p>
+ * This annotation is processed at runtime and is primarily used for generating API documentation
+ * with OpenAPI via Swagger.
+ * </p>
+ * <p>
+ * <strong>Example usage:</strong>
+ * <pre>{@code
+ * @NotModifiedResponseCode
+ * public ResponseEntity<Item> getItem(Long id, WebRequest request) {
+ *     return itemService.getItem(id, request);
+ * }
+ * }</pre>
+ * </p>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ApiResponse(
+        responseCode = "304",
+        description = "Not Modified: The resource has not changed since the given entity tag was issued."
+)
+public @interface NotModifiedResponseCode {}
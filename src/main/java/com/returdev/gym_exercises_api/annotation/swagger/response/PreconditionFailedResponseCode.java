@@ -0,0 +1,54 @@
+package com.returdev.gym_exercises_api.annotation.swagger.response;
+
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Custom annotation to document a method that returns a 412 Precondition Failed response
+ * in an OpenAPI specification using Swagger.
+ * <p>
+ * This annotation indicates that the API endpoint may result in a 412 status code,
+ * which signifies that the resource was modified after the entity tag given in the
+ * {@code If-Match} header was issued.
+ * </p>
+ * <p>
+ * The annotation includes the following properties:
+ * <ul>
+ *   <li><strong>responseCode:</strong> The HTTP status code "412", indicating a failed precondition.</li>
+ *   <li><strong>description:</strong> A description of the failed precondition, which defaults to "Precondition Failed".</li>
+ *   <li><strong>content:</strong> Specifies that the response content will adhere to the schema.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * This annotation is processed at runtime and is primarily used for generating API documentation
+ * with OpenAPI via Swagger.
+ * </p>
+ * <p>
+ * <strong>Example usage:</strong>
+ * <pre>{@code
+ * @PreconditionFailedResponseCode
+ * public ResponseEntity<Item> updateItem(Item item, String ifMatch) {
+ *     return itemService.updateItem(item, ifMatch);
+ * }
+ * }</pre>
+ * </p>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ApiResponse(
+        responseCode = "412",
+        description = "Precondition Failed: The resource has been modified since the given entity tag was issued.",
+        content = @Content(
+                schema = @Schema(
+                        ref = "#/components/schemas/ErrorResponse",
+                        description = "Error response object containing details about the failed precondition."
+                )
+        )
+)
+public @interface PreconditionFailedResponseCode {}
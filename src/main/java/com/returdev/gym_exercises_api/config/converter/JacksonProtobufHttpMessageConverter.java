@@ -0,0 +1,152 @@
+package com.returdev.gym_exercises_api.config.converter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Message converter that writes the responses as Protobuf messages with Jackson.
+ *
+ * <p>
+ * The messages are declared in a {@code .proto} schema that mirrors the response DTOs, so no
+ * classes are generated from it. The root message of a response is named after the {@link Schema}
+ * names of its wrapper and content, e.g. {@code ExercisePagination} for a
+ * {@code PaginationResponseDTO<ExerciseResponseDTO>}, and the responses without a message in the
+ * schema can't be written as Protobuf. The string fields declared as enums in the schema, such as
+ * the muscles of the engagements, are written as the index of their constant. Request bodies are
+ * not read as Protobuf.
+ * </p>
+ */
+public class JacksonProtobufHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private final NativeProtobufSchema schema;
+    private final ConcurrentMap<JavaType, Optional<ProtobufSchema>> rootSchemas = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a converter with the given object mapper, which must be backed by a
+     * {@code ProtobufFactory}, and the messages of the given schema.
+     *
+     * @param objectMapper the object mapper that writes the messages
+     * @param schema the messages that can be written
+     */
+    public JacksonProtobufHttpMessageConverter(ObjectMapper objectMapper, NativeProtobufSchema schema) {
+        super(objectMapper, APPLICATION_PROTOBUF);
+        this.schema = schema;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return canWrite(clazz, clazz, mediaType);
+    }
+
+    /**
+     * Checks whether the schema has a message for the given type, including its type arguments.
+     *
+     * @param type the declared type of the response body, if known
+     * @param clazz the class of the response body
+     * @param mediaType the media type to write
+     * @return {@code true} if the body can be written as a message of the schema
+     */
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return super.canWrite(clazz, mediaType)
+                && findRootSchema(getJavaType(type != null ? type : clazz, null)).isPresent();
+    }
+
+    /**
+     * Writes the body with the message of its type.
+     *
+     * @param writer the writer of the body
+     * @param javaType the type of the body
+     * @param contentType the media type of the body
+     * @return the writer with the message of the body as schema
+     */
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        return writer.with(
+                findRootSchema(javaType).orElseThrow(
+                        () -> new IllegalArgumentException("No Protobuf message for " + javaType)
+                )
+        );
+    }
+
+    /**
+     * Finds the message of the given type, resolving it once per type.
+     *
+     * @param javaType the type of the body
+     * @return the message of the type, or an empty optional if the schema has none
+     */
+    private Optional<ProtobufSchema> findRootSchema(JavaType javaType) {
+        if (javaType == null) {
+            return Optional.empty();
+        }
+
+        return rootSchemas.computeIfAbsent(javaType, type -> {
+            String messageName = messageName(type);
+            return schema.hasMessageType(messageName)
+                    ? Optional.of(schema.forType(messageName))
+                    : Optional.empty();
+        });
+    }
+
+    /**
+     * Returns the name of the message of the given type: the schema names of its type arguments
+     * followed by the schema name of the type.
+     *
+     * @param javaType the type of the body
+     * @return the name of the message
+     */
+    private static String messageName(JavaType javaType) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < javaType.containedTypeCount(); i++) {
+            name.append(schemaName(javaType.containedType(i).getRawClass()));
+        }
+
+        return name.append(schemaName(javaType.getRawClass())).toString();
+    }
+
+    /**
+     * Returns the name of the given class in the API documentation.
+     *
+     * @param clazz the class
+     * @return the {@link Schema} name of the class, or its simple name if it has none
+     */
+    private static String schemaName(Class<?> clazz) {
+        Schema schemaAnnotation = clazz.getAnnotation(Schema.class);
+        return (schemaAnnotation != null && !schemaAnnotation.name().isEmpty())
+                ? schemaAnnotation.name()
+                : clazz.getSimpleName();
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.returdev.gym_exercises_api.config.converter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Configuration of the binary representations of the requests and responses.
+ *
+ * <p>
+ * Besides JSON, the controllers write CBOR ({@code application/cbor}), Smile
+ * ({@code application/x-jackson-smile}) and, for the exercise and equipment responses, Protobuf
+ * ({@code application/x-protobuf}) when the {@code Accept} header asks for them. CBOR and Smile
+ * bodies are also read. The binary converters are built from the same object mapper builder as
+ * the JSON one and are added after it, so JSON stays the representation of the requests that
+ * accept any type.
+ * </p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    /**
+     * The media types of the binary representations, in addition to JSON.
+     */
+    public static final List<MediaType> BINARY_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_CBOR,
+            APPLICATION_SMILE,
+            JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF
+    );
+
+    static final String PROTOBUF_SCHEMA_LOCATION = "proto/gym_exercises.proto";
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    /**
+     * Replaces the default CBOR and Smile converters, which don't apply the customizations of the
+     * application's object mapper, and adds the Protobuf converter at the end of the list.
+     *
+     * @param converters the configured converters
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()
+        ));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()
+        ));
+        converters.add(new JacksonProtobufHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new ProtobufFactory()).build(),
+                loadProtobufSchema()
+        ));
+    }
+
+    /**
+     * Loads the messages of the Protobuf representation.
+     *
+     * @return the messages of the schema
+     */
+    public static NativeProtobufSchema loadProtobufSchema() {
+        try (InputStream schema = new ClassPathResource(PROTOBUF_SCHEMA_LOCATION).getInputStream()) {
+            return ProtobufSchemaLoader.std.loadNative(schema, false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
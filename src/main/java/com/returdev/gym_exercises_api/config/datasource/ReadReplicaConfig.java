@@ -0,0 +1,95 @@
+package com.returdev.gym_exercises_api.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Configuration applied when the read-only transactions are served by a read replica.
+ *
+ * <p>
+ * It replaces the data source of Spring Boot with two connection pools, one for the primary
+ * database configured by {@code spring.datasource} and one for the replica configured by
+ * {@code spring.read-replica.datasource}, and a {@link ReadWriteRoutingDataSource} in front of
+ * them used by JPA. The migrations run on the primary database only. The
+ * {@link ReadYourWritesFilter} keeps a caller on the primary database for
+ * {@code spring.read-replica.sticky-window} after it writes.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.read-replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * Provides the connection pool of the primary database, which the migrations also use.
+     *
+     * @param dataSourceProperties the properties of {@code spring.datasource}
+     * @return the data source of the primary database
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * Provides the connection pool of the read replica, configured like a Hikari pool.
+     *
+     * @return the data source of the read replica
+     */
+    @Bean
+    @ConfigurationProperties("spring.read-replica.datasource")
+    public HikariDataSource replicaDataSource() {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * Provides the data source used by JPA, which acquires the connections lazily so they are
+     * routed once the read-only flag of the transaction is known.
+     *
+     * @param primaryDataSource the data source of the primary database
+     * @param replicaDataSource the data source of the read replica
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+
+    /**
+     * Registers the read-your-writes filter.
+     *
+     * @param stickyWindow how long a caller reads from the primary database after it writes
+     * @return the registration of the filter
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${spring.read-replica.sticky-window:5s}") Duration stickyWindow
+    ) {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter(stickyWindow, Clock.systemUTC()));
+    }
+
+}
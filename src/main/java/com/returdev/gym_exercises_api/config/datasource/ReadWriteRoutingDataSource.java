@@ -0,0 +1,61 @@
+package com.returdev.gym_exercises_api.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Data source that routes the read-only transactions to the replica and the rest of the work to
+ * the primary database.
+ * <p>
+ * The target is chosen when a physical connection is acquired, so this data source must be
+ * wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * transaction manager binds the connection before the read-only flag of the transaction is
+ * exposed. Read-only transactions of a request pinned by the {@link ReadYourWritesContext} stay
+ * on the primary database.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * The lookup keys of the target data sources.
+     */
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    /**
+     * Creates a data source that routes between the given primary and replica data sources.
+     *
+     * @param primary the data source of the primary database
+     * @param replica the data source of the read replica
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Returns the replica for the read-only transactions of requests that are not pinned, and the
+     * primary database otherwise. A read-write transaction pins the current request.
+     *
+     * @return the lookup key of the target data source
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWritesContext.writeStarted();
+            return Target.PRIMARY;
+        }
+
+        return ReadYourWritesContext.isPinnedToPrimary() ? Target.PRIMARY : Target.REPLICA;
+    }
+
+}
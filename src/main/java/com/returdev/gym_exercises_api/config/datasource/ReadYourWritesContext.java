@@ -0,0 +1,100 @@
+package com.returdev.gym_exercises_api.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes state of the request being handled by the current thread.
+ * <p>
+ * The context is bound to the thread by {@link ReadYourWritesFilter} for the duration of a request
+ * and pinned to the primary database once the request writes, or from the start when its caller
+ * wrote within the sticky window. While pinned, the read-only transactions are not routed to the
+ * replica, which may not have replicated the writes yet. Outside of a request, no context is bound
+ * and every read-only transaction goes to the replica, except the reads that load a cache.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<ReadYourWritesContext> CURRENT = new ThreadLocal<>();
+
+    private final Runnable onFirstWrite;
+    private boolean pinned;
+    private boolean written;
+
+    private ReadYourWritesContext(boolean pinned, Runnable onFirstWrite) {
+        this.pinned = pinned;
+        this.onFirstWrite = onFirstWrite;
+    }
+
+    /**
+     * Binds a new context to the current thread.
+     *
+     * @param pinned whether the caller wrote within the sticky window
+     * @param onFirstWrite the action run the first time the request writes
+     */
+    static void bind(boolean pinned, Runnable onFirstWrite) {
+        CURRENT.set(new ReadYourWritesContext(pinned, onFirstWrite));
+    }
+
+    /**
+     * Unbinds the context of the current thread.
+     */
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Checks whether the reads of the current request must be served by the primary database.
+     *
+     * @return {@code true} if the current request or its caller wrote recently
+     */
+    static boolean isPinnedToPrimary() {
+        ReadYourWritesContext context = CURRENT.get();
+        return context != null && context.pinned;
+    }
+
+    /**
+     * Runs reads that load a cache on the primary database, so a lagging replica can't fill the
+     * cache with data older than the write that invalidated it. Only the connections acquired
+     * while the reads run are routed to the primary database.
+     *
+     * @param reads the reads to run
+     * @param <T> the type of the result of the reads
+     * @return the result of the reads
+     */
+    public static <T> T callOnPrimary(Supplier<T> reads) {
+        ReadYourWritesContext context = CURRENT.get();
+        if (context == null) {
+            CURRENT.set(new ReadYourWritesContext(true, () -> {}));
+            try {
+                return reads.get();
+            } finally {
+                CURRENT.remove();
+            }
+        }
+
+        boolean pinned = context.pinned;
+        context.pinned = true;
+        try {
+            return reads.get();
+        } finally {
+            context.pinned = pinned || context.written;
+        }
+    }
+
+    /**
+     * Records that the current request opened a read-write transaction, pinning it to the primary
+     * database.
+     */
+    static void writeStarted() {
+        ReadYourWritesContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+
+        context.pinned = true;
+        if (!context.written) {
+            context.written = true;
+            context.onFirstWrite.run();
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.returdev.gym_exercises_api.config.datasource;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Filter that keeps the reads of a caller on the primary database for a while after it writes.
+ * <p>
+ * The first write of a request sets a cookie that expires with the sticky window and holds the
+ * instant until which the caller is pinned. While the cookie is sent back and that instant has not
+ * passed, the {@link ReadYourWritesContext} of the request is pinned to the primary database, so
+ * the caller reads its own writes regardless of the replication lag. The cookie is set when the
+ * write starts, before the response is committed.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "primary-until";
+
+    private final Duration stickyWindow;
+    private final Clock clock;
+
+    /**
+     * Handles the request with a read-your-writes context bound to the thread.
+     *
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @param filterChain the filter chain to continue processing the request
+     * @throws ServletException if there is a problem with the filtering process
+     * @throws IOException if an input or output exception occurs
+     */
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        ReadYourWritesContext.bind(isPinned(request), () -> response.addCookie(pinnedCookie(request)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.unbind();
+        }
+
+    }
+
+    /**
+     * Checks whether the request carries a pin to the primary database that has not expired.
+     *
+     * @param request the HTTP request
+     * @return {@code true} if the caller wrote within the sticky window
+     */
+    private boolean isPinned(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (cookie.getName().equals(COOKIE_NAME)) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > clock.millis();
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates the cookie that pins the caller to the primary database for the sticky window.
+     *
+     * @param request the HTTP request
+     * @return the cookie holding the end of the sticky window, in epoch milliseconds
+     */
+    private Cookie pinnedCookie(HttpServletRequest request) {
+        Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(clock.millis() + stickyWindow.toMillis()));
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setMaxAge((int) Math.max(1, stickyWindow.toSeconds()));
+        cookie.setHttpOnly(true);
+
+        return cookie;
+    }
+
+}
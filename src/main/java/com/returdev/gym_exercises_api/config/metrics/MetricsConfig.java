@@ -0,0 +1,52 @@
+package com.returdev.gym_exercises_api.config.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the application metrics exposed at {@code /actuator/prometheus}.
+ *
+ * <p>
+ * The request timers of the controllers, the connection pool metrics and the Hibernate statistics
+ * are registered by Spring Boot. This configuration adds the timers of the services annotated with
+ * {@link io.micrometer.core.annotation.Timed} and the per-request Hibernate activity recorded by
+ * the {@link RequestStatisticsFilter}.
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Provides the aspect that times the methods of the classes annotated with
+     * {@link io.micrometer.core.annotation.Timed}.
+     *
+     * @param meterRegistry the registry of the timers
+     * @return the timed aspect
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Registers the request statistics filter before the other application filters, so the
+     * statistics cover the whole request.
+     *
+     * @param meterRegistry the registry of the request statistics
+     * @return the registration of the filter
+     */
+    @Bean
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestStatisticsFilter> registration = new FilterRegistrationBean<>(
+                new RequestStatisticsFilter(meterRegistry)
+        );
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+
+        return registration;
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.returdev.gym_exercises_api.config.metrics;
+
+/**
+ * Hibernate activity of the request being handled by the current thread.
+ * <p>
+ * The statistics are bound to the thread by {@link RequestStatisticsFilter} for the duration of
+ * a request and updated by {@link RequestStatisticsSessionListener} from every Hibernate session
+ * the request opens. Outside of a request, no statistics are bound and the events are ignored.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long statementNanos;
+    private long cacheHits;
+    private long cacheMisses;
+
+    private RequestStatistics() {}
+
+    /**
+     * Binds new statistics to the current thread.
+     *
+     * @return the bound statistics
+     */
+    static RequestStatistics bind() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Unbinds the statistics of the current thread.
+     */
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the statistics bound to the current thread.
+     *
+     * @return the statistics of the current request, or {@code null} outside of a request
+     */
+    static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(long nanos) {
+        statements++;
+        statementNanos += nanos;
+    }
+
+    void recordCacheGet(boolean hit) {
+        if (hit) {
+            cacheHits++;
+        } else {
+            cacheMisses++;
+        }
+    }
+
+    /**
+     * Returns the number of JDBC statements and batches executed.
+     *
+     * @return the number of statements
+     */
+    public long getStatements() {
+        return statements;
+    }
+
+    /**
+     * Returns the time spent executing JDBC statements and batches.
+     *
+     * @return the statement time in nanoseconds
+     */
+    public long getStatementNanos() {
+        return statementNanos;
+    }
+
+    /**
+     * Returns the number of second-level cache lookups that found the entry.
+     *
+     * @return the number of cache hits
+     */
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * Returns the number of second-level cache lookups that did not find the entry.
+     *
+     * @return the number of cache misses
+     */
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+}
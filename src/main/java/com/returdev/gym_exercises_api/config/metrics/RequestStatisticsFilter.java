@@ -0,0 +1,114 @@
+package com.returdev.gym_exercises_api.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter that records the Hibernate activity of each request.
+ * <p>
+ * It binds a {@link RequestStatistics} to the thread while the request is handled and then
+ * records the number of statements, the statement time and the second-level cache hits and
+ * misses of the request. The meters are tagged with the method and the URI pattern of the
+ * request, like {@code http.server.requests}, so each endpoint has its own distribution.
+ */
+@RequiredArgsConstructor
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_METRIC = "hibernate.request.statements";
+    static final String STATEMENT_TIME_METRIC = "hibernate.request.statement.time";
+    static final String CACHE_HITS_METRIC = "hibernate.request.cache.hits";
+    static final String CACHE_MISSES_METRIC = "hibernate.request.cache.misses";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    // Bounds of the histogram buckets, so that each endpoint only publishes the relevant ones
+    private static final double MAX_EXPECTED_COUNT = 1_000;
+    private static final Duration MAX_EXPECTED_STATEMENT_TIME = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Handles the request with statistics bound to the thread and records them once it completes.
+     *
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @param filterChain the filter chain to continue processing the request
+     * @throws ServletException if there is a problem with the filtering process
+     * @throws IOException if an input or output exception occurs
+     */
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RequestStatistics statistics = RequestStatistics.bind();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatistics.unbind();
+            record(request, statistics);
+        }
+
+    }
+
+    /**
+     * Records the statistics of a completed request.
+     *
+     * @param request the HTTP request
+     * @param statistics the statistics of the request
+     */
+    private void record(HttpServletRequest request, RequestStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of(
+                "method", request.getMethod(),
+                "uri", pattern != null ? pattern.toString() : UNKNOWN_URI
+        );
+
+        summary(STATEMENTS_METRIC, "JDBC statements executed per request", tags).record(statistics.getStatements());
+        summary(CACHE_HITS_METRIC, "Second-level cache hits per request", tags).record(statistics.getCacheHits());
+        summary(CACHE_MISSES_METRIC, "Second-level cache misses per request", tags).record(statistics.getCacheMisses());
+
+        Timer.builder(STATEMENT_TIME_METRIC)
+                .description("Time spent executing JDBC statements per request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED_STATEMENT_TIME)
+                .register(meterRegistry)
+                .record(statistics.getStatementNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the distribution summary with the given name and tags, registering it on first use.
+     *
+     * @param name the name of the summary
+     * @param description the description of the summary
+     * @param tags the tags of the request
+     * @return the distribution summary
+     */
+    private DistributionSummary summary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(MAX_EXPECTED_COUNT)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.returdev.gym_exercises_api.config.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that adds the statements and second-level cache lookups of the
+ * session to the {@link RequestStatistics} of the current request.
+ * <p>
+ * Hibernate creates one instance per session, as configured by the
+ * {@code hibernate.session.events.auto} property.
+ */
+public class RequestStatisticsSessionListener implements SessionEventListener {
+
+    private long statementStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordStatement();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordStatement();
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.recordCacheGet(hit);
+        }
+    }
+
+    /**
+     * Adds the statement that has just completed to the statistics of the current request, if any.
+     */
+    private void recordStatement() {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.recordStatement(System.nanoTime() - statementStart);
+        }
+    }
+
+}
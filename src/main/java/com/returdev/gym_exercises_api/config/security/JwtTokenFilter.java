@@ -1,14 +1,17 @@
 package com.returdev.gym_exercises_api.config.security;
 
+import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
-import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.returdev.gym_exercises_api.manager.security.JwtManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -20,6 +23,7 @@ import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -29,12 +33,33 @@ import java.util.List;
  * and validates it using {@link JwtManager}. If the token is valid, it extracts the user's role
  * and sets an authentication object in the security context. If the token is invalid or expired,
  * the filter handles the exception and returns an appropriate response.
+ * <p>
+ * Each validation is recorded by the {@code jwt.verification} timer, tagged with its outcome and,
+ * for failures, the reason the token was rejected, so the timer also counts the failures.
  */
-@RequiredArgsConstructor
 public class JwtTokenFilter extends OncePerRequestFilter {
 
+    private static final String VERIFICATION_METRIC = "jwt.verification";
+    private static final String VERIFICATION_METRIC_DESCRIPTION = "Time spent validating the JWT of a request";
+
     private final JwtManager jwtManager;
     private final HandlerExceptionResolver handlerExceptionResolver;
+    private final MeterRegistry meterRegistry;
+    private final Timer successTimer;
+
+    /**
+     * Creates a filter that validates the tokens with the given manager.
+     *
+     * @param jwtManager the manager used to validate the tokens
+     * @param handlerExceptionResolver the resolver used to write the verification failure responses
+     * @param meterRegistry the registry of the verification timers
+     */
+    public JwtTokenFilter(JwtManager jwtManager, HandlerExceptionResolver handlerExceptionResolver, MeterRegistry meterRegistry) {
+        this.jwtManager = jwtManager;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.meterRegistry = meterRegistry;
+        this.successTimer = verificationTimer("success", "none");
+    }
 
     /**
      * Intercepts and filters HTTP requests to validate the JWT token.
@@ -62,9 +87,8 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             String jwtToken = request.getHeader(HttpHeaders.AUTHORIZATION);
 
             if (jwtToken != null) {
-                // Validate the JWT token
-                DecodedJWT decodedJWT = jwtManager.validateToken(jwtToken);
-                String role = jwtManager.getTokenRole(decodedJWT);
+                // Validate the JWT token, reusing the result of a previous validation
+                String role = validateToken(jwtToken);
                 GrantedAuthority grantedAuthority = new SimpleGrantedAuthority("ROLE_".concat(role));
 
                 // Set authentication in the security context
@@ -81,6 +105,63 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         }
 
     }
-    
-}
 
+    /**
+     * Validates a token and records the time spent and the outcome.
+     *
+     * @param jwtToken the token to validate
+     * @return the role of the token
+     * @throws JWTVerificationException if the token is not valid
+     */
+    private String validateToken(String jwtToken) {
+        long start = System.nanoTime();
+        try {
+            String role = jwtManager.getValidatedTokenRole(jwtToken);
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return role;
+        } catch (JWTVerificationException ex) {
+            verificationTimer("failure", failureReason(ex))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the reason a token was rejected, from the exception of the verifier that caused the
+     * verification exception thrown by {@link JwtManager}.
+     *
+     * @param ex the verification exception
+     * @return {@code expired}, {@code invalid_signature}, {@code malformed} or {@code other}
+     */
+    private static String failureReason(JWTVerificationException ex) {
+        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+
+        if (cause instanceof TokenExpiredException) {
+            return "expired";
+        }
+        if (cause instanceof SignatureVerificationException) {
+            return "invalid_signature";
+        }
+        if (cause instanceof JWTDecodeException) {
+            return "malformed";
+        }
+        return "other";
+    }
+
+    /**
+     * Returns the verification timer of the given outcome, registering it on first use.
+     *
+     * @param outcome the outcome of the verification
+     * @param reason the reason the token was rejected, or {@code none}
+     * @return the verification timer
+     */
+    private Timer verificationTimer(String outcome, String reason) {
+        return Timer.builder(VERIFICATION_METRIC)
+                .description(VERIFICATION_METRIC_DESCRIPTION)
+                .tag("outcome", outcome)
+                .tag("reason", reason)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+}
@@ -1,7 +1,10 @@
 package com.returdev.gym_exercises_api.config.security;
 
 import com.returdev.gym_exercises_api.manager.security.JwtManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -31,6 +34,7 @@ public class SecurityConfig {
 
     private final JwtManager jwtManager;
     private final HandlerExceptionResolver handlerExceptionResolver;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Configures the security filter chain for the application.
@@ -38,7 +42,8 @@ public class SecurityConfig {
      * This method sets up the security configurations such as disabling CSRF protection,
      * basic HTTP authentication, and session management. It adds a custom JWT filter
      * to the filter chain and configures exception handling for authentication
-     * and access-denied scenarios.
+     * and access-denied scenarios. The actuator endpoints, except the health endpoint,
+     * are restricted to developers; the API endpoints are secured by method security.
      *
      * @param httpSecurity the HttpSecurity object to configure security settings
      * @return the configured SecurityFilterChain
@@ -49,8 +54,12 @@ public class SecurityConfig {
         return httpSecurity.csrf(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.toAnyEndpoint().excluding(HealthEndpoint.class)).hasRole("DEVELOPER")
+                        .anyRequest().permitAll()
+                )
                 .addFilterBefore(
-                        new JwtTokenFilter(jwtManager, handlerExceptionResolver),
+                        new JwtTokenFilter(jwtManager, handlerExceptionResolver, meterRegistry),
                         BasicAuthenticationFilter.class
                 )
 //                .exceptionHandling(exceptionHandling ->
@@ -0,0 +1,61 @@
+package com.returdev.gym_exercises_api.controller;
+
+import com.returdev.gym_exercises_api.annotation.swagger.response.InternalServerErrorResponseCode;
+import com.returdev.gym_exercises_api.annotation.swagger.response.OkResponseCode;
+import com.returdev.gym_exercises_api.annotation.swagger.response.UnauthorizedResponseCode;
+import com.returdev.gym_exercises_api.dto.response.CacheRegionResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.wrapper.ContentResponseDTO;
+import com.returdev.gym_exercises_api.mappers.EntityDtoMapper;
+import com.returdev.gym_exercises_api.service.data.cache.CacheStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for inspecting the second-level cache.
+ *
+ * <p>
+ * This controller provides the statistics used to size the cache regions. It is only
+ * accessible to developers.
+ * </p>
+ */
+@RestController
+@RequestMapping("v1/cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('DEVELOPER')")
+@Tag(name = "Cache", description = "Endpoint to inspect the second-level cache")
+@InternalServerErrorResponseCode
+@UnauthorizedResponseCode
+public class CacheController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+    private final EntityDtoMapper mapper;
+
+    /**
+     * Retrieves the hit, miss and put counts of each second-level cache region.
+     *
+     * @return A response entity containing the usage of each cache region.
+     */
+    @Operation(
+            summary = "Retrieve the cache region statistics",
+            description = "Fetches the hit, miss and put counts of each entity, collection and query cache region since the application started. This endpoint requires a **private key** for access."
+    )
+    @OkResponseCode
+    @GetMapping("/statistics")
+    public ResponseEntity<ContentResponseDTO<List<CacheRegionResponseDTO>>> getCacheStatistics() {
+        // Read the statistics of every region and map them to the response DTO
+        return ResponseEntity.ok(
+                mapper.cacheRegionUsagesToContentResponse(
+                        cacheStatisticsService.getCacheRegionUsages()
+                )
+        );
+    }
+
+}
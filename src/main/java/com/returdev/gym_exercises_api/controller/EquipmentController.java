@@ -1,28 +1,43 @@
 package com.returdev.gym_exercises_api.controller;
 
 import com.returdev.gym_exercises_api.annotation.swagger.request.EquipmentPaginationRequestParameters;
+import com.returdev.gym_exercises_api.annotation.swagger.request.IdsRequestParameters;
 import com.returdev.gym_exercises_api.annotation.swagger.response.*;
 import com.returdev.gym_exercises_api.dto.request.EquipmentRequestDTO;
+import com.returdev.gym_exercises_api.dto.request.IdsRequestDTO;
 import com.returdev.gym_exercises_api.dto.request.pagination.EquipmentPaginationRequestDTO;
 import com.returdev.gym_exercises_api.dto.response.EquipmentResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.wrapper.BatchResponseDTO;
 import com.returdev.gym_exercises_api.dto.response.wrapper.ContentResponseDTO;
 import com.returdev.gym_exercises_api.dto.response.wrapper.PaginationResponseDTO;
 import com.returdev.gym_exercises_api.mappers.EntityDtoMapper;
+import com.returdev.gym_exercises_api.model.cache.CachedResponseBody;
+import com.returdev.gym_exercises_api.model.cache.ResponseBodySource;
 import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.service.data.cache.ResponseBodyCache;
 import com.returdev.gym_exercises_api.service.data.equipment.EquipmentService;
+import com.returdev.gym_exercises_api.util.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.net.URI;
+import java.util.Set;
 
 /**
  * REST controller for managing equipment.
@@ -46,57 +61,196 @@ public class EquipmentController {
 
     private final EquipmentService equipmentService;
     private final EntityDtoMapper mapper;
+    private final ResponseBodyCache responseBodyCache;
 
     /**
      * Retrieves a paginated list of equipment.
      *
+     * <p>
+     * By default, the requested page number is resolved with offset pagination. In slice mode, the
+     * page information omits the totals, so no count query is run. In cursor mode,
+     * the equipment is retrieved by seeking from the given cursor and the response contains the
+     * cursors of the next and previous windows instead of the page information.
+     * </p>
+     *
+     * <p>
+     * When the response body cache is enabled, the offset and slice pages are written from the
+     * cache, compressed with gzip if the client accepts it. The cache only holds JSON, so it is
+     * skipped when the client accepts a binary representation.
+     * </p>
+     *
      * @param paginationRequestDTO The pagination parameters.
-     * @return A response entity containing a paginated list of equipment.
+     * @param accept The media types accepted by the client, if any.
+     * @param acceptEncoding The encodings accepted by the client, if any.
+     * @param response The response to write a cached body to.
+     * @return A response entity containing a paginated list of equipment, or {@code null} if the
+     *         body has been written from the response body cache.
+     * @throws IOException If a cached body cannot be written.
      */
     @Operation(
             summary = "Retrieve paginated list of equipment",
-            description = "Fetches a paginated list of equipment entities from the system. This endpoint requires a **public key** for access."
+            description = "Fetches a paginated list of equipment entities from the system. Set `paginationMode=slice` to skip the totals, or `paginationMode=cursor` and follow the returned `next`/`prev` cursors for keyset pagination. This endpoint requires a **public key** for access."
     )
     @OkResponseCode
     @EquipmentPaginationRequestParameters
     @GetMapping
     public ResponseEntity<PaginationResponseDTO<EquipmentResponseDTO>> getEquipments(
             @Parameter(hidden = true)
-            @Valid EquipmentPaginationRequestDTO paginationRequestDTO
-    ) {
-        // Fetch paginated equipment entities from the service
-        Page<EquipmentEntity> page = equipmentService.getAllEquipments(
-                mapper.paginationRequestDtoToPageable(paginationRequestDTO)
+            @Valid EquipmentPaginationRequestDTO paginationRequestDTO,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException {
+        if (paginationRequestDTO.isCursorMode()) {
+            // Fetch the window of equipment entities following the cursor
+            Window<EquipmentEntity> window = equipmentService.getAllEquipments(
+                    mapper.paginationRequestDtoToScrollPosition(paginationRequestDTO),
+                    mapper.paginationRequestDtoToSort(paginationRequestDTO),
+                    paginationRequestDTO.getPageSize()
+            );
+
+            return ResponseEntity.ok(
+                    mapper.equipmentEntityToContentResponse(window, paginationRequestDTO)
+            );
+        }
+
+        Pageable pageable = mapper.paginationRequestDtoToPageable(paginationRequestDTO);
+
+        if (responseBodyCache.isEnabled() && HttpResponseUtil.acceptsCachedJson(accept)) {
+            // Write the serialized page, loading it only if it is not cached
+            HttpResponseUtil.writeCachedBody(
+                    responseBodyCache.getPage(
+                            ResponseBodyCache.EQUIPMENT_LIST_TAG,
+                            pageable,
+                            paginationRequestDTO.isSliceMode(),
+                            () -> new ResponseBodySource(
+                                    mapper.responseSliceToContentResponse(getEquipmentPage(pageable, paginationRequestDTO.isSliceMode())),
+                                    null,
+                                    Set.of(ResponseBodyCache.EQUIPMENT_LIST_TAG)
+                            )
+                    ),
+                    acceptEncoding,
+                    response
+            );
+            return null;
+        }
+
+        // Return the equipment, selected directly into response DTOs
+        return ResponseEntity.ok(
+                mapper.responseSliceToContentResponse(getEquipmentPage(pageable, paginationRequestDTO.isSliceMode()))
         );
+    }
 
-        // Map the equipment entities to response DTOs and return them
+    /**
+     * Retrieves the equipment with the given IDs.
+     *
+     * <p>
+     * The equipment is loaded together, in a single query, and the IDs that don't match any
+     * equipment are reported in the response instead of failing the request.
+     * </p>
+     *
+     * @param idsRequest The IDs of the equipment to retrieve.
+     * @return A response entity containing the found equipment and the missing IDs.
+     */
+    @Operation(
+            summary = "Retrieve equipment by IDs",
+            description = "Fetches the equipment with the given `ids`, up to 50, in the order of the IDs. The IDs that don't match any equipment are returned in `missingIds` instead of failing the request. This endpoint requires a **public key** for access."
+    )
+    @OkResponseCode
+    @IdsRequestParameters
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResponseDTO<EquipmentResponseDTO>> getEquipmentsByIds(
+            @Parameter(hidden = true)
+            @Valid IdsRequestDTO idsRequest
+    ) {
+        // Fetch the existing equipment entities and report the missing IDs
         return ResponseEntity.ok(
-                mapper.equipmentEntityToContentResponse(page)
+                mapper.equipmentEntitiesToBatchResponse(
+                        idsRequest.ids(),
+                        equipmentService.getEquipmentsByIds(idsRequest.ids())
+                )
         );
     }
 
     /**
      * Retrieves equipment by its ID.
      *
+     * <p>
+     * If the If-None-Match header contains the current entity tag, only the version of the
+     * equipment is read, and a 304 response without body is returned.
+     * </p>
+     *
+     * <p>
+     * When the response body cache is enabled, the equipment is written from the cache, compressed
+     * with gzip if the client accepts it, and the If-None-Match header is evaluated against the
+     * entity tag of the cached body. The cache is skipped when the client accepts a binary
+     * representation.
+     * </p>
+     *
      * @param id The ID of the equipment to retrieve.
-     * @return A response entity containing the equipment details.
+     * @param ifNoneMatch The entity tags of the representations the client already has.
+     * @param accept The media types accepted by the client, if any.
+     * @param acceptEncoding The encodings accepted by the client, if any.
+     * @param webRequest The current request, used to evaluate the If-None-Match header.
+     * @param response The response to write a cached body to.
+     * @return A response entity containing the equipment details and its entity tag, or
+     *         {@code null} if the body has been written from the response body cache.
+     * @throws IOException If a cached body cannot be written.
      */
     @Operation(
             summary = "Retrieve an equipment by ID",
-            description = "Fetches the equipment entity with the specified ID from the system. This endpoint requires a **public key** for access."
+            description = "Fetches the equipment entity with the specified ID from the system. Send the returned `ETag` in the `If-None-Match` header to get a `304` response while the equipment is unchanged. This endpoint requires a **public key** for access."
     )
     @OkResponseCode
+    @NotModifiedResponseCode
     @NotFoundResponseCode
     @GetMapping("/{id}")
     public ResponseEntity<ContentResponseDTO<EquipmentResponseDTO>> getEquipmentById(
-            @PathVariable("id") Long id
-    ) {
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) WebRequest webRequest,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException {
+        if (responseBodyCache.isEnabled() && HttpResponseUtil.acceptsCachedJson(accept)) {
+            CachedResponseBody body = responseBodyCache.get(
+                    ResponseBodyCache.equipmentTag(id),
+                    () -> {
+                        EquipmentEntity equipment = equipmentService.getEquipmentById(id);
+                        return new ResponseBodySource(
+                                mapper.equipmentEntityToContentResponse(equipment),
+                                mapper.equipmentVersionToETag(equipment.getVersion()),
+                                Set.of(ResponseBodyCache.equipmentTag(id))
+                        );
+                    }
+            );
+
+            if (webRequest.checkNotModified(body.eTag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(body.eTag()).build();
+            }
+
+            HttpResponseUtil.writeCachedBody(body, acceptEncoding, response);
+            return null;
+        }
+
+        if (ifNoneMatch != null) {
+            // Compare the current entity tag with the client's one before loading the equipment
+            String eTag = mapper.equipmentVersionToETag(equipmentService.getEquipmentVersionById(id));
+
+            if (webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
         // Fetch the equipment entity by ID and map it to response DTO
-        return ResponseEntity.ok(
-                mapper.equipmentEntityToContentResponse(
-                        equipmentService.getEquipmentById(id)
-                )
-        );
+        EquipmentEntity equipment = equipmentService.getEquipmentById(id);
+
+        return ResponseEntity.ok()
+                .eTag(mapper.equipmentVersionToETag(equipment.getVersion()))
+                .body(
+                        mapper.equipmentEntityToContentResponse(equipment)
+                );
     }
 
     /**
@@ -134,6 +288,7 @@ public class EquipmentController {
         );
 
         return ResponseEntity.created(equipmentSavedUri)
+                .eTag(mapper.equipmentVersionToETag(equipmentSaved.getVersion()))
                 .body(
                         mapper.equipmentEntityToContentResponse(equipmentSaved)
                 );
@@ -143,15 +298,17 @@ public class EquipmentController {
      * Updates an existing equipment.
      *
      * @param equipmentRequestDTO The updated equipment data.
+     * @param ifMatch The entity tag the equipment must still have, if any.
      * @return A response entity containing the updated equipment details.
      */
     @Operation(
             summary = "Update an equipment",
-            description = "Updates an existing equipment entity in the system. This endpoint requires a **private key** for access."
+            description = "Updates an existing equipment entity in the system. Send the `ETag` of the equipment in the `If-Match` header to only update it if it has not been modified since. This endpoint requires a **private key** for access."
     )
     @OkResponseCode
     @NotFoundResponseCode
     @ConflictResponseCode
+    @PreconditionFailedResponseCode
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
             content = @Content(
                     schema = @Schema(
@@ -162,11 +319,13 @@ public class EquipmentController {
     @PutMapping()
     @PreAuthorize("hasRole('DEVELOPER')")
     public ResponseEntity<ContentResponseDTO<EquipmentResponseDTO>> updateEquipment(
-            @RequestBody @Valid EquipmentRequestDTO equipmentRequestDTO
+            @RequestBody @Valid EquipmentRequestDTO equipmentRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         // Update the equipment entity and map it to response DTO
         EquipmentEntity equipmentUpdated = equipmentService.updateEquipment(
-                mapper.equipmentRequestDtoToEntity(equipmentRequestDTO)
+                mapper.equipmentRequestDtoToEntity(equipmentRequestDTO),
+                mapper.ifMatchToEquipmentVersion(ifMatch)
         );
 
         URI equipmentUpdatedUri = URI.create(
@@ -175,6 +334,7 @@ public class EquipmentController {
 
         return ResponseEntity.ok()
                 .location(equipmentUpdatedUri)
+                .eTag(mapper.equipmentVersionToETag(equipmentUpdated.getVersion()))
                 .body(
                         mapper.equipmentEntityToContentResponse(equipmentUpdated)
                 );
@@ -203,5 +363,17 @@ public class EquipmentController {
         return ResponseEntity.noContent().build();
     }
 
-}
+    /**
+     * Fetches a page of equipment as response DTOs, skipping the count in slice mode.
+     *
+     * @param pageable The page to fetch.
+     * @param slice Whether the totals must be omitted.
+     * @return The page of equipment response DTOs.
+     */
+    private Slice<EquipmentResponseDTO> getEquipmentPage(Pageable pageable, boolean slice) {
+        return slice
+                ? equipmentService.getAllEquipmentResponsesSlice(pageable)
+                : equipmentService.getAllEquipmentResponses(pageable);
+    }
 
+}
@@ -1,28 +1,65 @@
 package com.returdev.gym_exercises_api.controller;
 
-import com.returdev.gym_exercises_api.annotation.swagger.request.EquipmentPaginationRequestParameters;
+import com.returdev.gym_exercises_api.annotation.swagger.request.ExercisePaginationRequestParameters;
+import com.returdev.gym_exercises_api.annotation.swagger.request.ExerciseSearchRequestParameters;
+import com.returdev.gym_exercises_api.annotation.swagger.request.ExerciseTextSearchRequestParameters;
+import com.returdev.gym_exercises_api.annotation.swagger.request.IdsRequestParameters;
+import com.returdev.gym_exercises_api.annotation.swagger.request.SummaryViewRequestParameters;
 import com.returdev.gym_exercises_api.annotation.swagger.response.*;
 import com.returdev.gym_exercises_api.dto.request.ExerciseRequestDTO;
+import com.returdev.gym_exercises_api.dto.request.ExerciseSearchRequestDTO;
+import com.returdev.gym_exercises_api.dto.request.ExerciseTextSearchRequestDTO;
+import com.returdev.gym_exercises_api.dto.request.IdsRequestDTO;
 import com.returdev.gym_exercises_api.dto.request.pagination.ExercisePaginationRequestDTO;
+import com.returdev.gym_exercises_api.dto.response.ExerciseImportResponseDTO;
 import com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.ExerciseSummaryResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.wrapper.BatchResponseDTO;
 import com.returdev.gym_exercises_api.dto.response.wrapper.ContentResponseDTO;
 import com.returdev.gym_exercises_api.dto.response.wrapper.PaginationResponseDTO;
+import com.returdev.gym_exercises_api.manager.message.MessageManager;
 import com.returdev.gym_exercises_api.mappers.EntityDtoMapper;
+import com.returdev.gym_exercises_api.mappers.ExerciseImportMapper;
+import com.returdev.gym_exercises_api.model.cache.CachedResponseBody;
+import com.returdev.gym_exercises_api.model.cache.ResponseBodySource;
 import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportFormat;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportLine;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportReport;
+import com.returdev.gym_exercises_api.model.search.ExerciseSearchCriteria;
+import com.returdev.gym_exercises_api.service.data.cache.ResponseBodyCache;
+import com.returdev.gym_exercises_api.service.data.exercise.ExerciseExportService;
+import com.returdev.gym_exercises_api.service.data.exercise.ExerciseImportService;
 import com.returdev.gym_exercises_api.service.data.exercise.ExerciseService;
+import com.returdev.gym_exercises_api.util.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller for managing exercises.
@@ -43,29 +80,275 @@ import java.net.URI;
 public class ExerciseController {
 
     private static final String EXERCISE_RESOURCE_PATH = "v1/exercise";
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final String CSV_MEDIA_TYPE = "text/csv";
+    private static final int GZIP_BUFFER_SIZE = 8_192;
 
     private final ExerciseService exerciseService;
+    private final ExerciseImportService exerciseImportService;
+    private final ExerciseExportService exerciseExportService;
+    private final ExerciseImportMapper exerciseImportMapper;
     private final EntityDtoMapper mapper;
+    private final MessageManager messageManager;
+    private final ResponseBodyCache responseBodyCache;
 
     /**
      * Retrieves a paginated list of exercises.
      *
+     * <p>
+     * By default, the requested page number is resolved with offset pagination. In slice mode, the
+     * page information omits the totals, so no count query is run. In cursor mode,
+     * the exercises are retrieved by seeking from the given cursor and the response contains the
+     * cursors of the next and previous windows instead of the page information.
+     * </p>
+     *
+     * <p>
+     * When the response body cache is enabled, the offset and slice pages are written from the
+     * cache, compressed with gzip if the client accepts it. The cache only holds JSON, so it is
+     * skipped when the client accepts a binary representation.
+     * </p>
+     *
      * @param pagination The pagination parameters.
-     * @return A response entity containing a paginated list of exercises.
+     * @param accept The media types accepted by the client, if any.
+     * @param acceptEncoding The encodings accepted by the client, if any.
+     * @param response The response to write a cached body to.
+     * @return A response entity containing a paginated list of exercises, or {@code null} if the
+     *         body has been written from the response body cache.
+     * @throws IOException If a cached body cannot be written.
      */
     @Operation(
             summary = "Retrieve paginated list of exercises",
-            description = "Fetches a paginated list of exercises entities from the system. This endpoint requires a **public key** for access."
+            description = "Fetches a paginated list of exercises entities from the system. Set `paginationMode=slice` to skip the totals, or `paginationMode=cursor` and follow the returned `next`/`prev` cursors for keyset pagination. This endpoint requires a **public key** for access."
     )
     @OkResponseCode
-    @EquipmentPaginationRequestParameters
+    @ExercisePaginationRequestParameters
     @GetMapping()
     public ResponseEntity<PaginationResponseDTO<ExerciseResponseDTO>> getExercises(
+            @Parameter(hidden = true)
+            @Valid ExercisePaginationRequestDTO pagination,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException {
+        if (pagination.isCursorMode()) {
+            // Fetch the window of exercise entities following the cursor
+            Window<ExerciseEntity> window = exerciseService.getAllExercises(
+                    mapper.paginationRequestDtoToScrollPosition(pagination),
+                    mapper.paginationRequestDtoToSort(pagination),
+                    pagination.getPageSize()
+            );
+
+            return ResponseEntity.ok(
+                    mapper.exerciseEntityToContentResponse(window, pagination)
+            );
+        }
+
+        Pageable pageable = mapper.paginationRequestDtoToPageable(pagination);
+
+        if (responseBodyCache.isEnabled() && HttpResponseUtil.acceptsCachedJson(accept)) {
+            // Write the serialized page, loading it only if it is not cached
+            HttpResponseUtil.writeCachedBody(
+                    responseBodyCache.getPage(
+                            ResponseBodyCache.EXERCISE_LIST_TAG,
+                            pageable,
+                            pagination.isSliceMode(),
+                            () -> exercisePageToBodySource(getExercisePage(pageable, pagination.isSliceMode()))
+                    ),
+                    acceptEncoding,
+                    response
+            );
+            return null;
+        }
+
+        // Return the exercises, selected directly into response DTOs
+        return ResponseEntity.ok(
+                mapper.responseSliceToContentResponse(getExercisePage(pageable, pagination.isSliceMode()))
+        );
+    }
+
+    /**
+     * Retrieves a paginated list of exercise summaries.
+     *
+     * <p>
+     * The summaries hold the same information as the exercises of {@link #getExercises} except
+     * the description, which is never read from the database, so list screens that don't show it
+     * don't pay for it. The pagination modes and the response body cache behave as in
+     * {@link #getExercises}, with the summary pages cached apart from the full ones.
+     * </p>
+     *
+     * @param pagination The pagination parameters.
+     * @param accept The media types accepted by the client, if any.
+     * @param acceptEncoding The encodings accepted by the client, if any.
+     * @param response The response to write a cached body to.
+     * @return A response entity containing a paginated list of exercise summaries, or {@code null}
+     *         if the body has been written from the response body cache.
+     * @throws IOException If a cached body cannot be written.
+     */
+    @Operation(
+            summary = "Retrieve paginated list of exercise summaries",
+            description = "Fetches a paginated list of exercises without their description. Accepts the same pagination parameters as the exercise list, including `paginationMode=slice` and `paginationMode=cursor`. This endpoint requires a **public key** for access."
+    )
+    @OkResponseCode
+    @ExercisePaginationRequestParameters
+    @SummaryViewRequestParameters
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<PaginationResponseDTO<ExerciseSummaryResponseDTO>> getExerciseSummaries(
+            @Parameter(hidden = true)
+            @Valid ExercisePaginationRequestDTO pagination,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException {
+        if (pagination.isCursorMode()) {
+            // Fetch the window of exercise summaries following the cursor
+            Window<ExerciseSummaryResponseDTO> window = exerciseService.getAllExerciseSummaries(
+                    mapper.paginationRequestDtoToScrollPosition(pagination),
+                    mapper.paginationRequestDtoToSort(pagination),
+                    pagination.getPageSize()
+            );
+
+            return ResponseEntity.ok(
+                    mapper.responseWindowToContentResponse(window, pagination)
+            );
+        }
+
+        Pageable pageable = mapper.paginationRequestDtoToPageable(pagination);
+
+        if (responseBodyCache.isEnabled() && HttpResponseUtil.acceptsCachedJson(accept)) {
+            // Write the serialized page, loading it only if it is not cached
+            HttpResponseUtil.writeCachedBody(
+                    responseBodyCache.getPage(
+                            ResponseBodyCache.EXERCISE_SUMMARY_LIST_TAG,
+                            pageable,
+                            pagination.isSliceMode(),
+                            () -> exerciseSummaryPageToBodySource(getExerciseSummaryPage(pageable, pagination.isSliceMode()))
+                    ),
+                    acceptEncoding,
+                    response
+            );
+            return null;
+        }
+
+        // Return the exercise summaries, selected without the description
+        return ResponseEntity.ok(
+                mapper.responseSliceToContentResponse(getExerciseSummaryPage(pageable, pagination.isSliceMode()))
+        );
+    }
+
+    /**
+     * Retrieves the exercises with the given IDs.
+     *
+     * <p>
+     * The exercises are loaded together, in a single query, and the IDs that don't match any
+     * exercise are reported in the response instead of failing the request.
+     * </p>
+     *
+     * @param idsRequest The IDs of the exercises to retrieve.
+     * @return A response entity containing the found exercises and the missing IDs.
+     */
+    @Operation(
+            summary = "Retrieve exercises by IDs",
+            description = "Fetches the exercises with the given `ids`, up to 50, in the order of the IDs. The IDs that don't match any exercise are returned in `missingIds` instead of failing the request. This endpoint requires a **public key** for access."
+    )
+    @OkResponseCode
+    @IdsRequestParameters
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResponseDTO<ExerciseResponseDTO>> getExercisesByIds(
+            @Parameter(hidden = true)
+            @Valid IdsRequestDTO idsRequest
+    ) {
+        // Fetch the existing exercise entities and report the missing IDs
+        return ResponseEntity.ok(
+                mapper.exerciseEntitiesToBatchResponse(
+                        idsRequest.ids(),
+                        exerciseService.getExercisesByIds(idsRequest.ids())
+                )
+        );
+    }
+
+    /**
+     * Searches the exercises that engage any or all of the given muscles.
+     *
+     * <p>
+     * The results can be narrowed down to a muscle activation level and an equipment. Each exercise
+     * is returned once, however many of its muscle engagements match. Offset and slice pagination
+     * are supported; cursor pagination is not.
+     * </p>
+     *
+     * @param search The search parameters.
+     * @param pagination The pagination parameters.
+     * @return A response entity containing a paginated list of the matching exercises.
+     */
+    @Operation(
+            summary = "Search exercises by muscle",
+            description = "Fetches a paginated list of the exercises that engage any of the given muscles, or all of them with `match=all`, optionally with the given activation level and equipment. Set `paginationMode=slice` to skip the totals. This endpoint requires a **public key** for access."
+    )
+    @OkResponseCode
+    @ExerciseSearchRequestParameters
+    @ExercisePaginationRequestParameters
+    @GetMapping("/search")
+    public ResponseEntity<PaginationResponseDTO<ExerciseResponseDTO>> searchExercises(
+            @Parameter(hidden = true)
+            @Valid ExerciseSearchRequestDTO search,
+            @Parameter(hidden = true)
+            @Valid ExercisePaginationRequestDTO pagination
+    ) {
+        if (pagination.isCursorMode()) {
+            throw new IllegalArgumentException(
+                    messageManager.getMessage("exception.pagination.cursor.not_supported")
+            );
+        }
+
+        ExerciseSearchCriteria criteria = mapper.exerciseSearchRequestDtoToCriteria(search);
+        Pageable pageable = mapper.paginationRequestDtoToPageable(pagination);
+
+        // Search the exercise entities, skipping the count in slice mode
+        Slice<ExerciseEntity> page = pagination.isSliceMode()
+                ? exerciseService.searchExercisesSlice(criteria, pageable)
+                : exerciseService.searchExercises(criteria, pageable);
+
+        // Map the exercise entities to response DTOs and return them
+        return ResponseEntity.ok(
+                mapper.exerciseEntityToContentResponse(page)
+        );
+    }
+
+    /**
+     * Searches the exercises whose name or description contain all the terms of the given text.
+     *
+     * <p>
+     * The exercises are ranked by relevance, so the ordering parameters are ignored. The search is
+     * resolved by an in-memory index, so the totals are always included, also in slice mode; cursor
+     * pagination is not supported.
+     * </p>
+     *
+     * @param search The text search parameters.
+     * @param pagination The pagination parameters.
+     * @return A response entity containing a paginated list of the matching exercises.
+     */
+    @Operation(
+            summary = "Search exercises by text",
+            description = "Fetches a paginated list of the exercises whose name or description contain all the words of `q`, from the most to the least relevant. Matches in the name rank higher than matches in the description, and case and accents are ignored. This endpoint requires a **public key** for access."
+    )
+    @OkResponseCode
+    @ExerciseTextSearchRequestParameters
+    @ExercisePaginationRequestParameters
+    @GetMapping("/search/text")
+    public ResponseEntity<PaginationResponseDTO<ExerciseResponseDTO>> searchExercisesByText(
+            @Parameter(hidden = true)
+            @Valid ExerciseTextSearchRequestDTO search,
             @Parameter(hidden = true)
             @Valid ExercisePaginationRequestDTO pagination
     ) {
-        // Fetch paginated exercise entities from the service
-        Page<ExerciseEntity> page = exerciseService.getAllExercises(
+        if (pagination.isCursorMode()) {
+            throw new IllegalArgumentException(
+                    messageManager.getMessage("exception.pagination.cursor.not_supported")
+            );
+        }
+
+        // Search the exercise entities in the text index, ranked by relevance
+        Page<ExerciseEntity> page = exerciseService.searchExercisesByText(
+                search.q(),
                 mapper.paginationRequestDtoToPageable(pagination)
         );
 
@@ -78,25 +361,75 @@ public class ExerciseController {
     /**
      * Retrieves an exercise by its ID.
      *
+     * <p>
+     * If the If-None-Match header contains the current entity tag, only the versions of the
+     * exercise and its equipment are read, and a 304 response without body is returned.
+     * </p>
+     *
+     * <p>
+     * When the response body cache is enabled, the exercise is written from the cache, compressed
+     * with gzip if the client accepts it, and the If-None-Match header is evaluated against the
+     * entity tag of the cached body. The cache is skipped when the client accepts a binary
+     * representation.
+     * </p>
+     *
      * @param id The ID of the exercise to retrieve.
-     * @return A response entity containing the exercise details.
+     * @param ifNoneMatch The entity tags of the representations the client already has.
+     * @param accept The media types accepted by the client, if any.
+     * @param acceptEncoding The encodings accepted by the client, if any.
+     * @param webRequest The current request, used to evaluate the If-None-Match header.
+     * @param response The response to write a cached body to.
+     * @return A response entity containing the exercise details and its entity tag, or
+     *         {@code null} if the body has been written from the response body cache.
+     * @throws IOException If a cached body cannot be written.
      */
     @Operation(
             summary = "Retrieve an exercises by ID",
-            description = "Fetches the exercises entity with the specified ID. This endpoint requires a **public key** for access."
+            description = "Fetches the exercises entity with the specified ID. Send the returned `ETag` in the `If-None-Match` header to get a `304` response while the exercise is unchanged. This endpoint requires a **public key** for access."
     )
     @OkResponseCode
+    @NotModifiedResponseCode
     @NotFoundResponseCode
     @GetMapping("/{id}")
     public ResponseEntity<ContentResponseDTO<ExerciseResponseDTO>> getExerciseById(
-            @PathVariable("id") Long id
-    ) {
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) WebRequest webRequest,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException {
+        if (responseBodyCache.isEnabled() && HttpResponseUtil.acceptsCachedJson(accept)) {
+            CachedResponseBody body = responseBodyCache.get(
+                    ResponseBodyCache.exerciseTag(id),
+                    () -> exerciseToBodySource(exerciseService.getExerciseById(id))
+            );
+
+            if (webRequest.checkNotModified(body.eTag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(body.eTag()).build();
+            }
+
+            HttpResponseUtil.writeCachedBody(body, acceptEncoding, response);
+            return null;
+        }
+
+        if (ifNoneMatch != null) {
+            // Compare the current entity tag with the client's one before loading the exercise
+            String eTag = mapper.exerciseVersionToETag(exerciseService.getExerciseVersionById(id));
+
+            if (webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
         // Fetch the exercise entity by ID and map it to response DTO
-        return ResponseEntity.ok(
-                mapper.exerciseEntityToContentResponse(
-                        exerciseService.getExerciseById(id)
-                )
-        );
+        ExerciseEntity exercise = exerciseService.getExerciseById(id);
+
+        return ResponseEntity.ok()
+                .eTag(mapper.exerciseEntityToETag(exercise))
+                .body(
+                        mapper.exerciseEntityToContentResponse(exercise)
+                );
     }
 
     /**
@@ -144,21 +477,109 @@ public class ExerciseController {
 
         return ResponseEntity.created(
                 createLocationURI(exerciseSaved.getId())
+        ).eTag(
+                mapper.exerciseEntityToETag(exerciseSaved)
         ).body(
                 mapper.exerciseEntityToContentResponse(exerciseSaved)
         );
     }
 
+    /**
+     * Imports exercises in bulk.
+     *
+     * <p>
+     * The request body is read as a stream, one exercise per line, so its size is not limited by
+     * memory. Every line is validated like a single exercise creation; the valid exercises are saved
+     * and the rejected lines are reported with their reason.
+     * </p>
+     *
+     * @param contentType The content type of the request body.
+     * @param body The request body with the exercises to import.
+     * @return A response entity containing the import report.
+     */
+    @Operation(
+            summary = "Import exercises in bulk",
+            description = """
+        Imports exercises from a stream with one exercise per line and returns a report with the rejected lines. This endpoint requires a **private key** for access.
+        
+        **Formats**:
+        - `application/x-ndjson`: every line is a JSON object with the same fields as the creation request.
+        - `text/csv`: a header line followed by `name,description,equipment_id,muscle_engagements` lines, where the muscle engagements are written as `MUSCLE:LEVEL` pairs separated by `|`.
+        """
+    )
+    @OkResponseCode
+    @PostMapping(value = "/import", consumes = {NDJSON_MEDIA_TYPE, CSV_MEDIA_TYPE})
+    @PreAuthorize("hasRole('DEVELOPER')")
+    public ResponseEntity<ContentResponseDTO<ExerciseImportResponseDTO>> importExercises(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @Parameter(hidden = true) InputStream body
+    ) {
+        ExerciseImportFormat format = MediaType.valueOf(CSV_MEDIA_TYPE).isCompatibleWith(contentType)
+                ? ExerciseImportFormat.CSV
+                : ExerciseImportFormat.NDJSON;
+
+        // Read and import the exercises line by line
+        ExerciseImportReport report;
+        try (Stream<ExerciseImportLine> lines = exerciseImportMapper.readExercises(body, format)) {
+            report = exerciseImportService.importExercises(lines);
+        }
+
+        return ResponseEntity.ok(
+                mapper.exerciseImportReportToContentResponse(report)
+        );
+    }
+
+    /**
+     * Exports every exercise in bulk.
+     *
+     * <p>
+     * The exercises are written to the response while they are read from the database, one per
+     * line, so the whole catalog can be exported with constant memory. The response is compressed
+     * with gzip when the client accepts it.
+     * </p>
+     *
+     * @param acceptEncoding The encodings accepted by the client, if any.
+     * @param response The response to write the exercises to.
+     * @throws IOException If the response cannot be written.
+     */
+    @Operation(
+            summary = "Export every exercise",
+            description = "Streams every exercise ordered by ID as `application/x-ndjson`, one JSON object per line with the same fields as the exercise responses. The response is compressed when `Accept-Encoding: gzip` is sent. This endpoint requires a **private key** for access."
+    )
+    @OkResponseCode
+    @GetMapping(value = "/export", produces = NDJSON_MEDIA_TYPE)
+    @PreAuthorize("hasRole('DEVELOPER')")
+    public void exportExercises(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (!HttpResponseUtil.acceptsGzip(acceptEncoding)) {
+            exerciseExportService.exportExercises(response.getOutputStream());
+            return;
+        }
+
+        // Compress the lines as they are written and finish the gzip trailer at the end
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, HttpResponseUtil.GZIP_ENCODING);
+        GZIPOutputStream output = new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE);
+        exerciseExportService.exportExercises(output);
+        output.finish();
+    }
+
     /**
      * Updates an existing exercise.
      *
      * @param exerciseRequestDTO The updated exercise data.
+     * @param ifMatch The entity tag the exercise must still have, if any.
      * @return A response entity containing the updated exercise details.
      */
     @Operation(
             summary = "Update an exercise",
             description = """
-        Updates an existing exercise entity in the system. This endpoint requires a **private key** for access.
+        Updates an existing exercise entity in the system. Send the `ETag` of the exercise in the `If-Match` header to only update it if it has not been modified since. This endpoint requires a **private key** for access.
         
         **Valid Muscles**:
         - UPPER_CHEST, LOWER_CHEST, INNER_CHEST
@@ -175,6 +596,7 @@ public class ExerciseController {
     @OkResponseCode
     @NotFoundResponseCode
     @ConflictResponseCode
+    @PreconditionFailedResponseCode
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
             content = @Content(
                     schema = @Schema(
@@ -185,15 +607,18 @@ public class ExerciseController {
     @PutMapping()
     @PreAuthorize("hasRole('DEVELOPER')")
     public ResponseEntity<ContentResponseDTO<ExerciseResponseDTO>> updateExercise(
-            @RequestBody @Valid ExerciseRequestDTO exerciseRequestDTO
+            @RequestBody @Valid ExerciseRequestDTO exerciseRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         // Update the exercise entity and map it to response DTO
         ExerciseEntity exerciseUpdated = exerciseService.updateExercise(
-                mapper.exerciseRequestDtoToEntity(exerciseRequestDTO)
+                mapper.exerciseRequestDtoToEntity(exerciseRequestDTO),
+                mapper.ifMatchToExerciseVersion(ifMatch)
         );
 
         return ResponseEntity.ok()
                 .location(createLocationURI(exerciseUpdated.getId()))
+                .eTag(mapper.exerciseEntityToETag(exerciseUpdated))
                 .body(
                         mapper.exerciseEntityToContentResponse(exerciseUpdated)
                 );
@@ -203,12 +628,13 @@ public class ExerciseController {
      * Partially updates an existing exercise.
      *
      * @param exerciseRequestDTO The exercise data to update.
+     * @param ifMatch The entity tag the exercise must still have, if any.
      * @return A response entity containing the updated exercise details.
      */
     @Operation(
             summary = "Partially update an exercise",
             description = """
-        Partially updates an existing exercise entity in the system. This endpoint requires a **private key** for access.
+        Partially updates an existing exercise entity in the system. Send the `ETag` of the exercise in the `If-Match` header to only update it if it has not been modified since. This endpoint requires a **private key** for access.
         
         **Valid Muscles**:
         - UPPER_CHEST, LOWER_CHEST, INNER_CHEST
@@ -225,6 +651,7 @@ public class ExerciseController {
     @OkResponseCode
     @NotFoundResponseCode
     @ConflictResponseCode
+    @PreconditionFailedResponseCode
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
             content = @Content(
                     schema = @Schema(
@@ -235,15 +662,18 @@ public class ExerciseController {
     @PatchMapping()
     @PreAuthorize("hasRole('DEVELOPER')")
     public ResponseEntity<ContentResponseDTO<ExerciseResponseDTO>> patchExercise(
-            @RequestBody ExerciseRequestDTO exerciseRequestDTO
+            @RequestBody ExerciseRequestDTO exerciseRequestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         // Partially update the exercise entity and map it to response DTO
         ExerciseEntity exerciseUpdated = exerciseService.partialUpdateExercise(
-                mapper.exerciseRequestDtoToEntity(exerciseRequestDTO)
+                mapper.exerciseRequestDtoToEntity(exerciseRequestDTO),
+                mapper.ifMatchToExerciseVersion(ifMatch)
         );
 
         return ResponseEntity.ok()
                 .location(createLocationURI(exerciseUpdated.getId()))
+                .eTag(mapper.exerciseEntityToETag(exerciseUpdated))
                 .body(
                         mapper.exerciseEntityToContentResponse(exerciseUpdated)
                 );
@@ -285,5 +715,77 @@ public class ExerciseController {
         );
     }
 
-}
+    /**
+     * Fetches a page of exercises as response DTOs, skipping the count in slice mode.
+     *
+     * @param pageable The page to fetch.
+     * @param slice Whether the totals must be omitted.
+     * @return The page of exercise response DTOs.
+     */
+    private Slice<ExerciseResponseDTO> getExercisePage(Pageable pageable, boolean slice) {
+        return slice
+                ? exerciseService.getAllExerciseResponsesSlice(pageable)
+                : exerciseService.getAllExerciseResponses(pageable);
+    }
+
+    /**
+     * Fetches a page of exercise summaries, skipping the count in slice mode.
+     *
+     * @param pageable The page to fetch.
+     * @param slice Whether the totals must be omitted.
+     * @return The page of exercise summary DTOs.
+     */
+    private Slice<ExerciseSummaryResponseDTO> getExerciseSummaryPage(Pageable pageable, boolean slice) {
+        return slice
+                ? exerciseService.getAllExerciseSummariesSlice(pageable)
+                : exerciseService.getAllExerciseSummaries(pageable);
+    }
+
+    /**
+     * Maps an exercise to the body to cache, tagged with the exercise and its equipment.
+     *
+     * @param exercise The exercise entity.
+     * @return The body of the exercise and its entity tag.
+     */
+    private ResponseBodySource exerciseToBodySource(ExerciseEntity exercise) {
+        return new ResponseBodySource(
+                mapper.exerciseEntityToContentResponse(exercise),
+                mapper.exerciseEntityToETag(exercise),
+                Set.of(
+                        ResponseBodyCache.exerciseTag(exercise.getId()),
+                        ResponseBodyCache.equipmentTag(exercise.getEquipment().getId())
+                )
+        );
+    }
+
+    /**
+     * Maps a page of exercises to the body to cache, tagged with the exercise list and the
+     * equipment of its exercises.
+     *
+     * @param page The page of exercise response DTOs.
+     * @return The body of the page.
+     */
+    private ResponseBodySource exercisePageToBodySource(Slice<ExerciseResponseDTO> page) {
+        Set<String> tags = new HashSet<>();
+        tags.add(ResponseBodyCache.EXERCISE_LIST_TAG);
+        page.forEach(exercise -> tags.add(ResponseBodyCache.equipmentTag(exercise.equipment().id())));
 
+        return new ResponseBodySource(mapper.responseSliceToContentResponse(page), null, tags);
+    }
+
+    /**
+     * Maps a page of exercise summaries to the body to cache, tagged with the exercise summary
+     * list and the equipment of its exercises.
+     *
+     * @param page The page of exercise summary DTOs.
+     * @return The body of the page.
+     */
+    private ResponseBodySource exerciseSummaryPageToBodySource(Slice<ExerciseSummaryResponseDTO> page) {
+        Set<String> tags = new HashSet<>();
+        tags.add(ResponseBodyCache.EXERCISE_SUMMARY_LIST_TAG);
+        page.forEach(exercise -> tags.add(ResponseBodyCache.equipmentTag(exercise.equipment().id())));
+
+        return new ResponseBodySource(mapper.responseSliceToContentResponse(page), null, tags);
+    }
+
+}
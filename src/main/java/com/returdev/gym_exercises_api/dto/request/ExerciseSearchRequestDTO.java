@@ -0,0 +1,27 @@
+package com.returdev.gym_exercises_api.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * A Data Transfer Object (DTO) representing the query parameters of an exercise search.
+ *
+ * <p>
+ * The muscle, activation level and match values are received as strings and converted in a
+ * case-insensitive way when the request is mapped, so invalid values are reported with
+ * the list of valid ones.
+ * </p>
+ *
+ * @param muscle The muscles the exercises must engage. Must not be empty.
+ * @param level The activation level of the engagements. Optional.
+ * @param match Whether the exercises must engage any or all of the muscles. Optional, any by default.
+ * @param equipment The ID of the equipment of the exercises. Optional.
+ */
+public record ExerciseSearchRequestDTO(
+        @NotEmpty(message = "{validation.not_empty.message}")
+        List<String> muscle,
+        String level,
+        String match,
+        Long equipment
+) {}
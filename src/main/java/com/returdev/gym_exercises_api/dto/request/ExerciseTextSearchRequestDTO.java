@@ -0,0 +1,15 @@
+package com.returdev.gym_exercises_api.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * A Data Transfer Object (DTO) representing the query parameters of a full-text exercise search.
+ *
+ * @param q The text to search in the name and description of the exercises. Must not be blank.
+ */
+public record ExerciseTextSearchRequestDTO(
+        @NotBlank(message = "{validation.not_blank.message}")
+        @Size(max = 200, message = "{validation.size.message}")
+        String q
+) {}
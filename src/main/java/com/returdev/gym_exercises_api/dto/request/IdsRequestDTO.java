@@ -0,0 +1,26 @@
+package com.returdev.gym_exercises_api.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * A Data Transfer Object (DTO) representing the query parameters of a batch lookup by ID.
+ *
+ * @param ids The IDs of the resources to retrieve, separated by commas or as repeated parameters.
+ *            Must contain between 1 and {@value #MAX_IDS} IDs.
+ */
+public record IdsRequestDTO(
+        @NotEmpty(message = "{validation.not_empty.message}")
+        @Size(max = IdsRequestDTO.MAX_IDS, message = "{validation.size.message}")
+        List<@NotNull(message = "{validation.not_null.message}") Long> ids
+) {
+
+    /**
+     * The maximum number of IDs of a single batch lookup.
+     */
+    public static final int MAX_IDS = 50;
+
+}
@@ -14,9 +14,11 @@ public final class EquipmentPaginationRequestDTO extends PaginationRequestDTO {
             Integer page,
             Integer pageSize,
             String sortDirection,
-            String orderBy
+            String orderBy,
+            String paginationMode,
+            String cursor
     ) {
-        super(page,pageSize,sortDirection);
+        super(page, pageSize, sortDirection, paginationMode, cursor);
         this.orderBy = (orderBy != null) ? orderBy : EquipmentOrderByField.ID.name();
     }
 
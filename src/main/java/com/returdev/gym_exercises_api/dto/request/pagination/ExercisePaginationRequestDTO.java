@@ -27,14 +27,18 @@ public final class ExercisePaginationRequestDTO extends PaginationRequestDTO {
      * @param pageSize The size of the page to retrieve (default is set by parent).
      * @param sortDirection The direction to sort the results (default is set by parent).
      * @param orderBy The field to order by (defaults to ID if null).
+     * @param paginationMode The pagination mode (default is set by parent).
+     * @param cursor The cursor to scroll from in cursor mode.
      */
     public ExercisePaginationRequestDTO(
             Integer page,
             Integer pageSize,
             String sortDirection,
-            String orderBy
+            String orderBy,
+            String paginationMode,
+            String cursor
     ) {
-        super(page, pageSize, sortDirection);
+        super(page, pageSize, sortDirection, paginationMode, cursor);
         this.orderBy = (orderBy != null) ? orderBy : ExerciseOrderByField.ID.name();
     }
 
@@ -12,11 +12,18 @@ import org.springframework.data.domain.Sort;
  *
  * <p>
  * This class encapsulates the common pagination parameters such as page number,
- * page size, and sort direction. It provides default values for these parameters
+ * page size, sort direction and pagination mode. It provides default values for these parameters
  * and includes validation annotations to ensure they adhere to specified constraints.
  * Subclasses should implement the {@link #getOrderBy()} method to define the field by
  * which the results should be sorted.
  * </p>
+ *
+ * <p>
+ * Three pagination modes are supported: {@code OFFSET}, the default, which resolves the requested page
+ * number and reports the total number of elements, {@code SLICE}, which resolves the requested page number
+ * but only reports whether a next page exists, and {@code CURSOR}, which seeks from an opaque cursor
+ * returned by a previous response and ignores the page number.
+ * </p>
  */
 @Getter
 public sealed abstract class PaginationRequestDTO permits EquipmentPaginationRequestDTO, ExercisePaginationRequestDTO {
@@ -25,6 +32,9 @@ public sealed abstract class PaginationRequestDTO permits EquipmentPaginationReq
     public static final int DEFAULT_PAGE = 1;
     public static final int DEFAULT_PAGE_SIZE = 25;
     public static final String DEFAULT_SORT_DIRECTION = Sort.Direction.ASC.name();
+    public static final String OFFSET_PAGINATION_MODE = "OFFSET";
+    public static final String SLICE_PAGINATION_MODE = "SLICE";
+    public static final String CURSOR_PAGINATION_MODE = "CURSOR";
 
     /**
      * The page number to retrieve. Must be at least 1.
@@ -45,17 +55,53 @@ public sealed abstract class PaginationRequestDTO permits EquipmentPaginationReq
     @Pattern(regexp = "(?i)ASC|DESC", message = "{validation.pagination_request_dto.sort_direction.message}")
     protected String sortDirection;
 
+    /**
+     * The pagination mode. Can be "OFFSET", "SLICE" or "CURSOR".
+     */
+    @Pattern(regexp = "(?i)OFFSET|SLICE|CURSOR", message = "{validation.pagination_request_dto.pagination_mode.message}")
+    protected String paginationMode;
+
+    /**
+     * The opaque cursor returned by a previous response, used in cursor mode to retrieve
+     * the next or previous window of results.
+     */
+    protected String cursor;
+
     /**
      * Constructs a new instance of {@link PaginationRequestDTO}.
      *
      * @param page The page number to retrieve (default is 1 if null).
      * @param pageSize The size of the page to retrieve (default is 25 if null).
      * @param sortDirection The direction to sort the results (default is "ASC" if null).
+     * @param paginationMode The pagination mode (default is "OFFSET" if null).
+     * @param cursor The cursor to scroll from in cursor mode (null for the first window).
      */
-    protected PaginationRequestDTO(Integer page, Integer pageSize, String sortDirection) {
+    protected PaginationRequestDTO(Integer page, Integer pageSize, String sortDirection, String paginationMode, String cursor) {
         this.page = (page != null) ? page : DEFAULT_PAGE;
         this.pageSize = (pageSize != null) ? pageSize : DEFAULT_PAGE_SIZE;
         this.sortDirection = (sortDirection != null) ? sortDirection : DEFAULT_SORT_DIRECTION;
+        this.paginationMode = (paginationMode != null) ? paginationMode : OFFSET_PAGINATION_MODE;
+        this.cursor = (cursor != null && !cursor.isBlank()) ? cursor : null;
+    }
+
+    /**
+     * Indicates whether the results must be retrieved using cursor (keyset) pagination.
+     * Providing a cursor implies cursor mode.
+     *
+     * @return {@code true} if cursor mode is requested, {@code false} otherwise
+     */
+    public boolean isCursorMode() {
+        return cursor != null || CURSOR_PAGINATION_MODE.equalsIgnoreCase(paginationMode);
+    }
+
+    /**
+     * Indicates whether the requested page must be retrieved without counting the total number
+     * of elements. Cursor mode takes precedence when a cursor is provided.
+     *
+     * @return {@code true} if slice mode is requested, {@code false} otherwise
+     */
+    public boolean isSliceMode() {
+        return !isCursorMode() && SLICE_PAGINATION_MODE.equalsIgnoreCase(paginationMode);
     }
 
     /**
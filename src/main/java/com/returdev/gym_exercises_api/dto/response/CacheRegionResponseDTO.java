@@ -0,0 +1,26 @@
+package com.returdev.gym_exercises_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object (DTO) for representing the usage of a second-level cache region in the response.
+ *
+ * @param region The name of the cache region.
+ * @param hitCount The number of lookups served by the region.
+ * @param missCount The number of lookups not found in the region.
+ * @param putCount The number of entries put into the region.
+ * @param hitRatio The ratio of lookups served by the region, between 0 and 1.
+ */
+@Schema(name = "CacheRegion")
+public record CacheRegionResponseDTO(
+        String region,
+        @JsonProperty("hit_count")
+        long hitCount,
+        @JsonProperty("miss_count")
+        long missCount,
+        @JsonProperty("put_count")
+        long putCount,
+        @JsonProperty("hit_ratio")
+        double hitRatio
+) {}
@@ -0,0 +1,47 @@
+package com.returdev.gym_exercises_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for representing the report of an exercise bulk import in the response.
+ *
+ * <p>
+ * This record holds the number of processed, imported and rejected lines, and the reason
+ * each of the first rejected lines was rejected.
+ * </p>
+ *
+ * @param processedLines The number of non-empty lines processed.
+ * @param importedExercises The number of exercises saved.
+ * @param failedLines The number of rejected lines.
+ * @param errors The errors of the first rejected lines.
+ * @param errorsTruncated Whether some errors were left out of the report.
+ */
+@Schema(name = "ExerciseImport")
+public record ExerciseImportResponseDTO(
+        @JsonProperty("processed_lines")
+        long processedLines,
+        @JsonProperty("imported_exercises")
+        long importedExercises,
+        @JsonProperty("failed_lines")
+        long failedLines,
+        List<LineErrorResponseDTO> errors,
+        @JsonProperty("errors_truncated")
+        boolean errorsTruncated
+) {
+
+    /**
+     * Data Transfer Object (DTO) for representing a rejected line of an import.
+     *
+     * @param line The number of the rejected line, starting from 1.
+     * @param message The reason the line was rejected.
+     */
+    @Schema(name = "ExerciseImportLineError")
+    public record LineErrorResponseDTO(
+            long line,
+            String message
+    ) {}
+
+}
@@ -0,0 +1,29 @@
+package com.returdev.gym_exercises_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for representing an exercise in the summary view of the lists.
+ *
+ * <p>
+ * This record holds the same information as the {@link ExerciseResponseDTO} except the
+ * description, which list screens don't show and which is never read from the database for
+ * this view.
+ * </p>
+ *
+ * @param id The unique identifier for the exercise.
+ * @param name The name of the exercise.
+ * @param equipment The equipment associated with the exercise.
+ * @param muscleEngagements A list of muscle engagements involved in the exercise.
+ */
+@Schema(name = "ExerciseSummary")
+public record ExerciseSummaryResponseDTO(
+        Long id,
+        String name,
+        EquipmentResponseDTO equipment,
+        @JsonProperty("muscle_engagements")
+        List<MuscleEngagementResponseDTO> muscleEngagements
+) {}
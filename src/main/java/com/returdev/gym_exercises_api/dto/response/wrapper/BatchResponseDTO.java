@@ -0,0 +1,25 @@
+package com.returdev.gym_exercises_api.dto.response.wrapper;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+
+/**
+ * A generic Data Transfer Object (DTO) for wrapping the result of a batch lookup by ID.
+ *
+ * <p>
+ * The IDs that were not found are reported along with the found content instead of failing
+ * the whole lookup, so clients can resolve many references in a single request.
+ * </p>
+ *
+ * @param <T> The type of content being wrapped.
+ * @param content The found content items of type {@code T}, in the order of the requested IDs.
+ * @param missingIds The requested IDs that don't match any resource.
+ */
+@Schema(name = "Batch")
+public record BatchResponseDTO<T>(
+        @JsonProperty("data") List<T> content,
+        @JsonProperty("missingIds") List<Long> missingIds
+) {}
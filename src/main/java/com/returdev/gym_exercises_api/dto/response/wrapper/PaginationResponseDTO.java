@@ -1,5 +1,6 @@
 package com.returdev.gym_exercises_api.dto.response.wrapper;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -21,14 +22,39 @@ import java.util.List;
  *
  * @param <T> The type of content being wrapped.
  * @param content A list of content items of type {@code T} for the current page.
- * @param pageInfo Pagination metadata including size, total elements, total pages, and current page number.
+ * @param pageInfo Pagination metadata including size, current page number, whether a next page exists and,
+ *                 unless the page was retrieved in slice mode, total elements and total pages.
+ *                 Only present in offset and slice modes.
+ * @param cursorInfo Cursor metadata including size and the cursors to the next and previous windows.
+ *                   Only present in cursor mode.
  */
 @Schema(name = "Pagination")
 public record PaginationResponseDTO<T>(
         @JsonProperty("data") List<T> content,
-        @JsonProperty("pageInfo") PageInfo pageInfo
+        @JsonProperty("pageInfo") @JsonInclude(JsonInclude.Include.NON_NULL) PageInfo pageInfo,
+        @JsonProperty("cursorInfo") @JsonInclude(JsonInclude.Include.NON_NULL) CursorInfo cursorInfo
 ) {
 
+    /**
+     * Creates an offset-mode or slice-mode response with the given content and page information.
+     *
+     * @param content A list of content items of type {@code T} for the current page.
+     * @param pageInfo Pagination metadata of the current page.
+     */
+    public PaginationResponseDTO(List<T> content, PageInfo pageInfo) {
+        this(content, pageInfo, null);
+    }
+
+    /**
+     * Creates a cursor-mode response with the given content and cursor information.
+     *
+     * @param content A list of content items of type {@code T} for the current window.
+     * @param cursorInfo Cursor metadata of the current window.
+     */
+    public PaginationResponseDTO(List<T> content, CursorInfo cursorInfo) {
+        this(content, null, cursorInfo);
+    }
+
     /**
      * A static inner class representing pagination information.
      *
@@ -38,21 +64,53 @@ public record PaginationResponseDTO<T>(
      * total pages, and the current page number. It provides a way to
      * convey the pagination context along with the content.
      * </p>
+     *
+     * <p>
+     * The totals are {@code null}, and therefore omitted, when the page was retrieved
+     * in slice mode without counting the elements.
+     * </p>
      */
     @Data
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class PageInfo {
         @JsonProperty(value = "size")
         private int pageSize;          // The number of items per page.
 
         @JsonProperty(value = "totalElements")
-        private long totalElements;     // The total number of items available across all pages.
+        private Long totalElements;     // The total number of items available across all pages.
 
         @JsonProperty(value = "totalPages")
-        private int totalPages;         // The total number of pages available.
+        private Integer totalPages;     // The total number of pages available.
 
         @JsonProperty(value = "number")
         private int pageNumber;         // The current page number (0-indexed).
+
+        @JsonProperty(value = "hasNext")
+        private boolean hasNext;        // Whether a next page exists.
+    }
+
+    /**
+     * A static inner class representing cursor pagination information.
+     *
+     * <p>
+     * This class encapsulates the number of items in the current window and the
+     * opaque cursors that must be sent back to retrieve the next or previous window.
+     * A cursor is {@code null} when there are no more items in that direction.
+     * </p>
+     */
+    @Data
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class CursorInfo {
+        @JsonProperty(value = "size")
+        private int size;               // The number of items in the current window.
+
+        @JsonProperty(value = "next")
+        private String next;            // The cursor to the next window, if any.
+
+        @JsonProperty(value = "prev")
+        private String prev;            // The cursor to the previous window, if any.
     }
 }
 
@@ -38,5 +38,19 @@ public interface JwtManager {
      * @return the role associated with the token, or null if not found
      */
     String getTokenRole(@Nonnull DecodedJWT decodedJWT);
+
+    /**
+     * Validates a given JWT and returns its role claim.
+     *
+     * <p>
+     * The result of the validation of each token is reused until the token expires, and
+     * rejected tokens are remembered for a short time, so repeated tokens are not verified again.
+     * </p>
+     *
+     * @param token the JWT to validate
+     * @return the role associated with the token
+     * @throws JWTVerificationException if the token is invalid or has expired
+     */
+    String getValidatedTokenRole(@Nonnull String token) throws JWTVerificationException;
 }
 
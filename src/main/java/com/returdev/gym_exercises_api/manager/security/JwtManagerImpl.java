@@ -6,15 +6,23 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.returdev.gym_exercises_api.manager.message.MessageManager;
 import com.returdev.gym_exercises_api.model.auth.AuthToken;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 
 /**
  * Implementation of the {@link JwtManager} interface for handling JSON Web Tokens (JWT).
@@ -23,6 +31,13 @@ import java.time.Instant;
  * This class provides methods to generate and validate JWTs for user authentication,
  * as well as extracting role information from the token.
  * </p>
+ *
+ * <p>
+ * The signing algorithm and the verifier are built once. Clients reuse the same token for many
+ * requests, so the role of each verified token is cached by the SHA-256 hash of the token until
+ * the token expires, and rejected tokens are cached for a short time along with the exception
+ * they raised. Repeated tokens are then neither verified nor rejected again.
+ * </p>
  */
 @Component
 @RequiredArgsConstructor
@@ -30,6 +45,12 @@ public class JwtManagerImpl implements JwtManager {
 
     private final String ROLE_CLAIM_NAME = "role";
 
+    private static final String TOKEN_HASH_ALGORITHM = "SHA-256";
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+    private static final Duration VERIFIED_TOKEN_MAX_TTL = Duration.ofHours(1);
+    private static final int REJECTED_TOKEN_CACHE_SIZE = 1_000;
+    private static final Duration REJECTED_TOKEN_TTL = Duration.ofMinutes(1);
+
     @Value("${spring.jwt.private-key}")
     private String privateKey;
 
@@ -41,6 +62,31 @@ public class JwtManagerImpl implements JwtManager {
 
     private final MessageManager messageManager;
 
+    private Algorithm algorithm;
+
+    private JWTVerifier verifier;
+
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(new VerifiedTokenExpiry())
+            .build();
+
+    private final Cache<String, JWTVerificationException> rejectedTokens = Caffeine.newBuilder()
+            .maximumSize(REJECTED_TOKEN_CACHE_SIZE)
+            .expireAfterWrite(REJECTED_TOKEN_TTL)
+            .build();
+
+    /**
+     * Builds the signing algorithm and the verifier once the key and issuer are injected.
+     */
+    @PostConstruct
+    void init() {
+        algorithm = Algorithm.HMAC256(privateKey);
+        verifier = JWT.require(algorithm)
+                .withIssuer(issuer)
+                .build();
+    }
+
     /**
      * Generates a new JWT for a user with a specified expiration time and role claim.
      *
@@ -48,7 +94,6 @@ public class JwtManagerImpl implements JwtManager {
      */
     @Override
     public AuthToken generateUserToken() {
-        Algorithm algorithm = Algorithm.HMAC256(privateKey);
         Instant currentTime = Instant.now();
         Instant expirationTime = currentTime.plusMillis(tokenExpirationDurationMillis);
         String token = JWT.create()
@@ -69,7 +114,7 @@ public class JwtManagerImpl implements JwtManager {
      *
      * @param token the JWT to validate
      * @return the decoded JWT if validation is successful
-     * @throws JWTVerificationException if the token is invalid or expired
+     * @throws JWTVerificationException if the token is invalid or expired, caused by the exception of the verifier
      */
     @Override
     public DecodedJWT validateToken(@Nonnull String token) throws JWTVerificationException {
@@ -77,21 +122,17 @@ public class JwtManagerImpl implements JwtManager {
 
             token = token.substring(7);
 
-            Algorithm algorithm = Algorithm.HMAC256(privateKey);
-
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer(issuer)
-                    .build();
-
             return verifier.verify(token);
 
         } catch (TokenExpiredException e) {
             throw new JWTVerificationException(
-                    messageManager.getMessage("exception.token.expired")
+                    messageManager.getMessage("exception.token.expired"),
+                    e
             );
         } catch (JWTVerificationException e) {
             throw new JWTVerificationException(
-                    messageManager.getMessage("exception.token.invalid")
+                    messageManager.getMessage("exception.token.invalid"),
+                    e
             );
         }
     }
@@ -106,5 +147,111 @@ public class JwtManagerImpl implements JwtManager {
     public String getTokenRole(@Nonnull DecodedJWT decodedJWT) {
         return decodedJWT.getClaim(ROLE_CLAIM_NAME).asString();
     }
-}
 
+    /**
+     * Validates a given JWT and returns its role, using the cached result of a previous
+     * validation of the same token if there is one.
+     *
+     * @param token the JWT to validate
+     * @return the role associated with the token
+     * @throws JWTVerificationException if the token is invalid or expired
+     */
+    @Override
+    public String getValidatedTokenRole(@Nonnull String token) throws JWTVerificationException {
+        String tokenHash = hashToken(token);
+
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(tokenHash);
+        if (verifiedToken != null) {
+            return verifiedToken.role();
+        }
+
+        JWTVerificationException rejection = rejectedTokens.getIfPresent(tokenHash);
+        if (rejection != null) {
+            throw rejection;
+        }
+
+        try {
+            DecodedJWT decodedJWT = validateToken(token);
+            String role = getTokenRole(decodedJWT);
+
+            verifiedTokens.put(tokenHash, new VerifiedToken(role, decodedJWT.getExpiresAtAsInstant()));
+
+            return role;
+        } catch (JWTVerificationException e) {
+            rejectedTokens.put(tokenHash, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Computes the key of a token in the caches, so the tokens themselves are not retained.
+     *
+     * @param token the token to hash
+     * @return the Base64-encoded SHA-256 hash of the token
+     */
+    private String hashToken(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance(TOKEN_HASH_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The result of a successful token validation.
+     *
+     * @param role the role claim of the token
+     * @param expiresAt the expiration time of the token, or {@code null} if it does not expire
+     */
+    private record VerifiedToken(String role, Instant expiresAt) {
+
+        /**
+         * Returns how long the validation result can be reused, which is until the token
+         * expires and never longer than the maximum time to live.
+         *
+         * @return the time to live of the cache entry
+         */
+        Duration timeToLive() {
+            if (expiresAt == null) {
+                return VERIFIED_TOKEN_MAX_TTL;
+            }
+
+            Duration untilExpiration = Duration.between(Instant.now(), expiresAt);
+
+            if (untilExpiration.isNegative()) {
+                return Duration.ZERO;
+            }
+
+            return untilExpiration.compareTo(VERIFIED_TOKEN_MAX_TTL) < 0 ? untilExpiration : VERIFIED_TOKEN_MAX_TTL;
+        }
+
+    }
+
+    /**
+     * Expires each cached validation result after its {@link VerifiedToken#timeToLive()}.
+     * Reading an entry does not extend it.
+     */
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, VerifiedToken verifiedToken, long currentTime) {
+            return verifiedToken.timeToLive().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return verifiedToken.timeToLive().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
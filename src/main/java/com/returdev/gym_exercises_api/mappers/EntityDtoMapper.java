@@ -2,15 +2,26 @@ package com.returdev.gym_exercises_api.mappers;
 
 import com.returdev.gym_exercises_api.dto.request.EquipmentRequestDTO;
 import com.returdev.gym_exercises_api.dto.request.ExerciseRequestDTO;
+import com.returdev.gym_exercises_api.dto.request.ExerciseSearchRequestDTO;
 import com.returdev.gym_exercises_api.dto.request.pagination.PaginationRequestDTO;
 import com.returdev.gym_exercises_api.dto.response.*;
+import com.returdev.gym_exercises_api.dto.response.wrapper.BatchResponseDTO;
 import com.returdev.gym_exercises_api.dto.response.wrapper.ContentResponseDTO;
 import com.returdev.gym_exercises_api.dto.response.wrapper.PaginationResponseDTO;
 import com.returdev.gym_exercises_api.model.auth.AuthToken;
+import com.returdev.gym_exercises_api.model.cache.CacheRegionUsage;
 import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
 import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
-import org.springframework.data.domain.Page;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportReport;
+import com.returdev.gym_exercises_api.model.projections.ExerciseVersionProjection;
+import com.returdev.gym_exercises_api.model.search.ExerciseSearchCriteria;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
 
 /**
  * Interface for mapping entities to Data Transfer Objects (DTOs)
@@ -27,12 +38,13 @@ import org.springframework.data.domain.Pageable;
 public interface EntityDtoMapper {
 
     /**
-     * Converts a page of equipment entities to a paginated response DTO.
+     * Converts a page or slice of equipment entities to a paginated response DTO.
+     * The totals are only included when a {@link org.springframework.data.domain.Page} is given.
      *
-     * @param equipmentEntityPage the page of equipment entities
+     * @param equipmentEntityPage the page or slice of equipment entities
      * @return a {@link PaginationResponseDTO} containing the equipment response DTOs
      */
-    PaginationResponseDTO<EquipmentResponseDTO> equipmentEntityToContentResponse(Page<EquipmentEntity> equipmentEntityPage);
+    PaginationResponseDTO<EquipmentResponseDTO> equipmentEntityToContentResponse(Slice<EquipmentEntity> equipmentEntityPage);
 
     /**
      * Converts a single equipment entity to a content response DTO.
@@ -42,6 +54,27 @@ public interface EntityDtoMapper {
      */
     ContentResponseDTO<EquipmentResponseDTO> equipmentEntityToContentResponse(EquipmentEntity equipmentEntity);
 
+    /**
+     * Converts the equipment entities found by a batch lookup to a batch response DTO.
+     *
+     * @param ids the requested IDs
+     * @param equipmentEntities the found equipment entities, in the order of the IDs
+     * @return a {@link BatchResponseDTO} containing the equipment response DTOs and the IDs not found
+     */
+    BatchResponseDTO<EquipmentResponseDTO> equipmentEntitiesToBatchResponse(List<Long> ids, List<EquipmentEntity> equipmentEntities);
+
+    /**
+     * Converts a window of equipment entities to a cursor-paginated response DTO.
+     *
+     * @param equipmentEntityWindow the window of equipment entities
+     * @param paginationRequestDTO the pagination request the window was retrieved with
+     * @return a {@link PaginationResponseDTO} containing the equipment response DTOs and the cursors
+     */
+    PaginationResponseDTO<EquipmentResponseDTO> equipmentEntityToContentResponse(
+            Window<EquipmentEntity> equipmentEntityWindow,
+            PaginationRequestDTO paginationRequestDTO
+    );
+
     /**
      * Converts an equipment request DTO to an equipment entity.
      *
@@ -51,12 +84,59 @@ public interface EntityDtoMapper {
     EquipmentEntity equipmentRequestDtoToEntity(EquipmentRequestDTO equipmentRequestDTO);
 
     /**
-     * Converts a page of exercise entities to a paginated response DTO.
+     * Converts a page or slice of exercise entities to a paginated response DTO.
+     * The totals are only included when a {@link org.springframework.data.domain.Page} is given.
      *
-     * @param exerciseEntityPage the page of exercise entities
+     * @param exerciseEntityPage the page or slice of exercise entities
      * @return a {@link PaginationResponseDTO} containing the exercise response DTOs
      */
-    PaginationResponseDTO<ExerciseResponseDTO> exerciseEntityToContentResponse(Page<ExerciseEntity> exerciseEntityPage);
+    PaginationResponseDTO<ExerciseResponseDTO> exerciseEntityToContentResponse(Slice<ExerciseEntity> exerciseEntityPage);
+
+    /**
+     * Converts an exercise entity to a response DTO.
+     *
+     * @param exerciseEntity the exercise entity to convert
+     * @return an {@link ExerciseResponseDTO} containing the exercise's information
+     */
+    ExerciseResponseDTO exerciseEntityToResponseDto(ExerciseEntity exerciseEntity);
+
+    /**
+     * Converts an exercise entity to a summary DTO, without its description.
+     *
+     * @param exerciseEntity the exercise entity to convert
+     * @return an {@link ExerciseSummaryResponseDTO} containing the exercise's information
+     */
+    ExerciseSummaryResponseDTO exerciseEntityToSummaryDto(ExerciseEntity exerciseEntity);
+
+    /**
+     * Converts an equipment entity to a response DTO.
+     *
+     * @param equipmentEntity the equipment entity to convert
+     * @return an {@link EquipmentResponseDTO} containing the equipment's information
+     */
+    EquipmentResponseDTO equipmentEntityToResponseDto(EquipmentEntity equipmentEntity);
+
+    /**
+     * Wraps a page or slice of response DTOs, selected without loading the entities, in a
+     * paginated response DTO. The totals are only included when a
+     * {@link org.springframework.data.domain.Page} is given.
+     *
+     * @param responsePage the page or slice of response DTOs
+     * @param <T> the type of the response DTOs
+     * @return a {@link PaginationResponseDTO} containing the response DTOs
+     */
+    <T> PaginationResponseDTO<T> responseSliceToContentResponse(Slice<T> responsePage);
+
+    /**
+     * Wraps a window of response DTOs, selected without loading the entities, in a
+     * cursor-paginated response DTO.
+     *
+     * @param responseWindow the window of response DTOs
+     * @param paginationRequestDTO the pagination request the window was retrieved with
+     * @param <T> the type of the response DTOs
+     * @return a {@link PaginationResponseDTO} containing the response DTOs and the cursors
+     */
+    <T> PaginationResponseDTO<T> responseWindowToContentResponse(Window<T> responseWindow, PaginationRequestDTO paginationRequestDTO);
 
     /**
      * Converts a single exercise entity to a content response DTO.
@@ -66,6 +146,27 @@ public interface EntityDtoMapper {
      */
     ContentResponseDTO<ExerciseResponseDTO> exerciseEntityToContentResponse(ExerciseEntity exerciseEntity);
 
+    /**
+     * Converts the exercise entities found by a batch lookup to a batch response DTO.
+     *
+     * @param ids the requested IDs
+     * @param exerciseEntities the found exercise entities, in the order of the IDs
+     * @return a {@link BatchResponseDTO} containing the exercise response DTOs and the IDs not found
+     */
+    BatchResponseDTO<ExerciseResponseDTO> exerciseEntitiesToBatchResponse(List<Long> ids, List<ExerciseEntity> exerciseEntities);
+
+    /**
+     * Converts a window of exercise entities to a cursor-paginated response DTO.
+     *
+     * @param exerciseEntityWindow the window of exercise entities
+     * @param paginationRequestDTO the pagination request the window was retrieved with
+     * @return a {@link PaginationResponseDTO} containing the exercise response DTOs and the cursors
+     */
+    PaginationResponseDTO<ExerciseResponseDTO> exerciseEntityToContentResponse(
+            Window<ExerciseEntity> exerciseEntityWindow,
+            PaginationRequestDTO paginationRequestDTO
+    );
+
     /**
      * Converts an exercise request DTO to an exercise entity.
      *
@@ -74,6 +175,22 @@ public interface EntityDtoMapper {
      */
     ExerciseEntity exerciseRequestDtoToEntity(ExerciseRequestDTO exerciseRequestDTO);
 
+    /**
+     * Converts an exercise import report to a content response DTO.
+     *
+     * @param exerciseImportReport the exercise import report to convert
+     * @return a {@link ContentResponseDTO} containing the exercise import response DTO
+     */
+    ContentResponseDTO<ExerciseImportResponseDTO> exerciseImportReportToContentResponse(ExerciseImportReport exerciseImportReport);
+
+    /**
+     * Converts an exercise search request DTO to search criteria.
+     *
+     * @param exerciseSearchRequestDTO the exercise search request DTO to convert
+     * @return the corresponding {@link ExerciseSearchCriteria}
+     */
+    ExerciseSearchCriteria exerciseSearchRequestDtoToCriteria(ExerciseSearchRequestDTO exerciseSearchRequestDTO);
+
     /**
      * Converts a pagination request DTO to a pageable object.
      *
@@ -82,6 +199,74 @@ public interface EntityDtoMapper {
      */
     Pageable paginationRequestDtoToPageable(PaginationRequestDTO paginationRequestDTO);
 
+    /**
+     * Converts a pagination request DTO to the sort order it requests.
+     *
+     * @param paginationRequestDTO the pagination request DTO to convert
+     * @return the corresponding {@link Sort}
+     */
+    Sort paginationRequestDtoToSort(PaginationRequestDTO paginationRequestDTO);
+
+    /**
+     * Converts the cursor of a pagination request DTO to a keyset scroll position.
+     *
+     * <p>
+     * A request without cursor is converted to the initial position.
+     * </p>
+     *
+     * @param paginationRequestDTO the pagination request DTO to convert
+     * @return the corresponding {@link KeysetScrollPosition}
+     * @throws IllegalArgumentException if the cursor is malformed, does not match the requested ordering,
+     *                                  or the ordering is not supported in cursor mode
+     */
+    KeysetScrollPosition paginationRequestDtoToScrollPosition(PaginationRequestDTO paginationRequestDTO);
+
+    /**
+     * Converts the versions of an exercise and its equipment to a strong entity tag.
+     *
+     * @param exerciseVersion the versions of the exercise and its equipment
+     * @return the entity tag of the exercise
+     */
+    String exerciseVersionToETag(ExerciseVersionProjection exerciseVersion);
+
+    /**
+     * Converts an exercise entity to the strong entity tag of its representation.
+     *
+     * @param exercise the exercise entity with its equipment
+     * @return the entity tag of the exercise
+     */
+    String exerciseEntityToETag(ExerciseEntity exercise);
+
+    /**
+     * Converts the version of an equipment to a strong entity tag.
+     *
+     * @param equipmentVersion the version of the equipment
+     * @return the entity tag of the equipment
+     */
+    String equipmentVersionToETag(long equipmentVersion);
+
+    /**
+     * Extracts the exercise version from the value of an If-Match header.
+     *
+     * <p>
+     * Only the exercise version is returned, as updating an exercise does not modify its equipment.
+     * </p>
+     *
+     * @param ifMatch the value of the If-Match header, may be {@code null}
+     * @return the expected exercise version, or {@code null} if the header is absent or {@code *}
+     * @throws IllegalArgumentException if the header does not contain a single exercise entity tag
+     */
+    Long ifMatchToExerciseVersion(String ifMatch);
+
+    /**
+     * Extracts the equipment version from the value of an If-Match header.
+     *
+     * @param ifMatch the value of the If-Match header, may be {@code null}
+     * @return the expected equipment version, or {@code null} if the header is absent or {@code *}
+     * @throws IllegalArgumentException if the header does not contain a single equipment entity tag
+     */
+    Long ifMatchToEquipmentVersion(String ifMatch);
+
     /**
      * Converts an authentication token to a token response DTO.
      *
@@ -89,4 +274,12 @@ public interface EntityDtoMapper {
      * @return the corresponding {@link TokenResponseDTO}
      */
     TokenResponseDTO authTokenToResponse(AuthToken authToken);
+
+    /**
+     * Converts the usages of the cache regions to a content response DTO.
+     *
+     * @param cacheRegionUsages the cache region usages to convert
+     * @return a {@link ContentResponseDTO} containing the list of cache region response DTOs
+     */
+    ContentResponseDTO<List<CacheRegionResponseDTO>> cacheRegionUsagesToContentResponse(List<CacheRegionUsage> cacheRegionUsages);
 }
@@ -2,29 +2,48 @@ package com.returdev.gym_exercises_api.mappers;
 
 import com.returdev.gym_exercises_api.dto.request.EquipmentRequestDTO;
 import com.returdev.gym_exercises_api.dto.request.ExerciseRequestDTO;
+import com.returdev.gym_exercises_api.dto.request.ExerciseSearchRequestDTO;
 import com.returdev.gym_exercises_api.dto.request.MuscleEngagementRequestDTO;
 import com.returdev.gym_exercises_api.dto.request.pagination.PaginationRequestDTO;
 import com.returdev.gym_exercises_api.dto.response.*;
+import com.returdev.gym_exercises_api.dto.response.wrapper.BatchResponseDTO;
 import com.returdev.gym_exercises_api.dto.response.wrapper.ContentResponseDTO;
 import com.returdev.gym_exercises_api.dto.response.wrapper.PaginationResponseDTO;
+import com.returdev.gym_exercises_api.manager.message.MessageManager;
 import com.returdev.gym_exercises_api.model.auth.AuthToken;
+import com.returdev.gym_exercises_api.model.cache.CacheRegionUsage;
 import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
 import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
 import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportReport;
+import com.returdev.gym_exercises_api.model.projections.ExerciseVersionProjection;
+import com.returdev.gym_exercises_api.model.search.ExerciseSearchCriteria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ETag;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 /**
  * Implementation of the {@link EntityDtoMapper} interface for mapping between
@@ -36,15 +55,32 @@ import org.springframework.stereotype.Component;
  * respective DTOs and vice versa. It also manages pagination
  * requests and authentication tokens.
  * </p>
+ *
+ * <p>
+ * Cursors are opaque, URL-safe Base64 strings that encode the scroll direction, the ordering
+ * property, the sort direction and the sort keys (the ordering value and the ID) of the boundary
+ * item of a window.
+ * </p>
  */
 @Component
+@RequiredArgsConstructor
 public class EntityDtoMapperImpl implements EntityDtoMapper {
 
+    private static final String ID_PROPERTY = "id";
+    private static final Set<String> CURSOR_ORDER_BY_PROPERTIES = Set.of(ID_PROPERTY, "name");
+    private static final String CURSOR_SEPARATOR = ":";
+    private static final String CURSOR_INVALID_RESOURCE = "exception.pagination.cursor.invalid";
+    private static final String CURSOR_ORDER_BY_NOT_SUPPORTED_RESOURCE = "exception.pagination.cursor.order_by_not_supported";
+    private static final String ETAG_VERSION_SEPARATOR = ".";
+    private static final String IF_MATCH_INVALID_RESOURCE = "exception.precondition.if_match_invalid";
+
+    private final MessageManager messageManager;
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public PaginationResponseDTO<EquipmentResponseDTO> equipmentEntityToContentResponse(Page<EquipmentEntity> equipmentEntityPage) {
+    public PaginationResponseDTO<EquipmentResponseDTO> equipmentEntityToContentResponse(Slice<EquipmentEntity> equipmentEntityPage) {
         return new PaginationResponseDTO<>(
                 equipmentEntityPage.getContent().stream()
                         .map(this::equipmentEntityToResponseDto)
@@ -63,6 +99,35 @@ public class EntityDtoMapperImpl implements EntityDtoMapper {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BatchResponseDTO<EquipmentResponseDTO> equipmentEntitiesToBatchResponse(List<Long> ids, List<EquipmentEntity> equipmentEntities) {
+        return new BatchResponseDTO<>(
+                equipmentEntities.stream()
+                        .map(this::equipmentEntityToResponseDto)
+                        .toList(),
+                findMissingIds(ids, equipmentEntities.stream().map(EquipmentEntity::getId).collect(Collectors.toSet()))
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PaginationResponseDTO<EquipmentResponseDTO> equipmentEntityToContentResponse(
+            Window<EquipmentEntity> equipmentEntityWindow,
+            PaginationRequestDTO paginationRequestDTO
+    ) {
+        return new PaginationResponseDTO<>(
+                equipmentEntityWindow.getContent().stream()
+                        .map(this::equipmentEntityToResponseDto)
+                        .toList(),
+                windowToCursorInfo(equipmentEntityWindow, paginationRequestDTO)
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,7 +143,7 @@ public class EntityDtoMapperImpl implements EntityDtoMapper {
      * {@inheritDoc}
      */
     @Override
-    public PaginationResponseDTO<ExerciseResponseDTO> exerciseEntityToContentResponse(Page<ExerciseEntity> exerciseEntityPage) {
+    public PaginationResponseDTO<ExerciseResponseDTO> exerciseEntityToContentResponse(Slice<ExerciseEntity> exerciseEntityPage) {
         return new PaginationResponseDTO<>(
                 exerciseEntityPage.getContent().stream()
                         .map(this::exerciseEntityToResponseDto)
@@ -97,6 +162,57 @@ public class EntityDtoMapperImpl implements EntityDtoMapper {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BatchResponseDTO<ExerciseResponseDTO> exerciseEntitiesToBatchResponse(List<Long> ids, List<ExerciseEntity> exerciseEntities) {
+        return new BatchResponseDTO<>(
+                exerciseEntities.stream()
+                        .map(this::exerciseEntityToResponseDto)
+                        .toList(),
+                findMissingIds(ids, exerciseEntities.stream().map(ExerciseEntity::getId).collect(Collectors.toSet()))
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PaginationResponseDTO<ExerciseResponseDTO> exerciseEntityToContentResponse(
+            Window<ExerciseEntity> exerciseEntityWindow,
+            PaginationRequestDTO paginationRequestDTO
+    ) {
+        return new PaginationResponseDTO<>(
+                exerciseEntityWindow.getContent().stream()
+                        .map(this::exerciseEntityToResponseDto)
+                        .toList(),
+                windowToCursorInfo(exerciseEntityWindow, paginationRequestDTO)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> PaginationResponseDTO<T> responseSliceToContentResponse(Slice<T> responsePage) {
+        return new PaginationResponseDTO<>(
+                responsePage.getContent(),
+                pageToPageInfo(responsePage)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> PaginationResponseDTO<T> responseWindowToContentResponse(Window<T> responseWindow, PaginationRequestDTO paginationRequestDTO) {
+        return new PaginationResponseDTO<>(
+                responseWindow.getContent(),
+                windowToCursorInfo(responseWindow, paginationRequestDTO)
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -123,16 +239,115 @@ public class EntityDtoMapperImpl implements EntityDtoMapper {
      * {@inheritDoc}
      */
     @Override
-    public Pageable paginationRequestDtoToPageable(PaginationRequestDTO paginationRequestDTO) {
-        Sort sort = Sort.by(Sort.Direction.fromString(paginationRequestDTO.getSortDirection()), paginationRequestDTO.getOrderBy());
+    public ContentResponseDTO<ExerciseImportResponseDTO> exerciseImportReportToContentResponse(ExerciseImportReport exerciseImportReport) {
+        return new ContentResponseDTO<>(
+                new ExerciseImportResponseDTO(
+                        exerciseImportReport.processedLines(),
+                        exerciseImportReport.importedExercises(),
+                        exerciseImportReport.failedLines(),
+                        exerciseImportReport.errors().stream()
+                                .map(error -> new ExerciseImportResponseDTO.LineErrorResponseDTO(error.lineNumber(), error.message()))
+                                .toList(),
+                        exerciseImportReport.errorsTruncated()
+                )
+        );
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExerciseSearchCriteria exerciseSearchRequestDtoToCriteria(ExerciseSearchRequestDTO exerciseSearchRequestDTO) {
+        return new ExerciseSearchCriteria(
+                exerciseSearchRequestDTO.muscle().stream()
+                        .map(Muscle::fromString)
+                        .toList(),
+                exerciseSearchRequestDTO.level() == null ? null :
+                        MuscleActivationLevel.fromString(exerciseSearchRequestDTO.level()),
+                exerciseSearchRequestDTO.match() == null ? MuscleMatch.ANY :
+                        MuscleMatch.fromString(exerciseSearchRequestDTO.match()),
+                exerciseSearchRequestDTO.equipment()
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Pageable paginationRequestDtoToPageable(PaginationRequestDTO paginationRequestDTO) {
         return PageRequest.of(
                 paginationRequestDTO.getPage() - 1,
                 paginationRequestDTO.getPageSize(),
-                sort
+                paginationRequestDtoToSort(paginationRequestDTO)
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Sort paginationRequestDtoToSort(PaginationRequestDTO paginationRequestDTO) {
+        return Sort.by(Sort.Direction.fromString(paginationRequestDTO.getSortDirection()), paginationRequestDTO.getOrderBy());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeysetScrollPosition paginationRequestDtoToScrollPosition(PaginationRequestDTO paginationRequestDTO) {
+        String orderBy = paginationRequestDTO.getOrderBy();
+
+        if (!CURSOR_ORDER_BY_PROPERTIES.contains(orderBy)) {
+            throw new IllegalArgumentException(
+                    messageManager.getMessageWithParams(CURSOR_ORDER_BY_NOT_SUPPORTED_RESOURCE, new String[]{orderBy})
+            );
+        }
+
+        String cursor = paginationRequestDTO.getCursor();
+
+        return cursor == null ? ScrollPosition.keyset() : decodeCursor(cursor, orderBy, sortDirectionOf(paginationRequestDTO));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String exerciseVersionToETag(ExerciseVersionProjection exerciseVersion) {
+        return versionsToETag(exerciseVersion.getVersion(), exerciseVersion.getEquipmentVersion());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String exerciseEntityToETag(ExerciseEntity exercise) {
+        return versionsToETag(exercise.getVersion(), exercise.getEquipment().getVersion());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String equipmentVersionToETag(long equipmentVersion) {
+        return versionsToETag(equipmentVersion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long ifMatchToExerciseVersion(String ifMatch) {
+        return ifMatchToVersion(ifMatch, 2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long ifMatchToEquipmentVersion(String ifMatch) {
+        return ifMatchToVersion(ifMatch, 1);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -150,28 +365,171 @@ public class EntityDtoMapperImpl implements EntityDtoMapper {
     }
 
     /**
-     * Converts a Page object into a PageInfo DTO.
+     * {@inheritDoc}
+     */
+    @Override
+    public ContentResponseDTO<List<CacheRegionResponseDTO>> cacheRegionUsagesToContentResponse(List<CacheRegionUsage> cacheRegionUsages) {
+        return new ContentResponseDTO<>(
+                cacheRegionUsages.stream()
+                        .map(usage -> new CacheRegionResponseDTO(
+                                usage.region(),
+                                usage.hitCount(),
+                                usage.missCount(),
+                                usage.putCount(),
+                                usage.hitRatio()
+                        ))
+                        .toList()
+        );
+    }
+
+    /**
+     * Converts a Slice object into a PageInfo DTO. The totals are only included
+     * when the slice is a {@link Page}.
      *
-     * @param page the page to convert
-     * @param <T> the type of content in the page
-     * @return a {@link PaginationResponseDTO.PageInfo} containing the page's information
+     * @param page the slice to convert
+     * @param <T> the type of content in the slice
+     * @return a {@link PaginationResponseDTO.PageInfo} containing the slice's information
      */
-    private <T> PaginationResponseDTO.PageInfo pageToPageInfo(Page<T> page) {
+    private <T> PaginationResponseDTO.PageInfo pageToPageInfo(Slice<T> page) {
+        boolean counted = page instanceof Page<T>;
+
         return new PaginationResponseDTO.PageInfo(
                 page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages(),
-                page.getNumber() + 1
+                counted ? ((Page<T>) page).getTotalElements() : null,
+                counted ? ((Page<T>) page).getTotalPages() : null,
+                page.getNumber() + 1,
+                page.hasNext()
         );
     }
 
     /**
-     * Converts an EquipmentEntity to an EquipmentResponseDTO.
+     * Builds the cursor information of a window retrieved with the given pagination request.
+     *
+     * <p>
+     * In a forward scroll, the next cursor is present when the window has more items after it, and the
+     * previous cursor when the window was not the first one. In a backward scroll, the roles are swapped:
+     * the window reports whether more items exist before it, and the next cursor is always present.
+     * </p>
+     *
+     * @param window the window of entities
+     * @param paginationRequestDTO the pagination request the window was retrieved with
+     * @param <T> the type of content in the window
+     * @return a {@link PaginationResponseDTO.CursorInfo} containing the window's cursors
+     */
+    private <T> PaginationResponseDTO.CursorInfo windowToCursorInfo(Window<T> window, PaginationRequestDTO paginationRequestDTO) {
+        KeysetScrollPosition requestedPosition = paginationRequestDtoToScrollPosition(paginationRequestDTO);
+        String orderBy = paginationRequestDTO.getOrderBy();
+        Sort.Direction sortDirection = sortDirectionOf(paginationRequestDTO);
+
+        Map<String, ?> firstKeys = window.isEmpty() ? requestedPosition.getKeys() : positionKeysAt(window, 0);
+        Map<String, ?> lastKeys = window.isEmpty() ? requestedPosition.getKeys() : positionKeysAt(window, window.size() - 1);
+
+        String next;
+        String prev;
+
+        if (requestedPosition.scrollsBackward()) {
+            next = encodeCursor(ScrollPosition.Direction.FORWARD, orderBy, sortDirection, lastKeys);
+            prev = window.hasNext() ? encodeCursor(ScrollPosition.Direction.BACKWARD, orderBy, sortDirection, firstKeys) : null;
+        } else {
+            next = window.hasNext() ? encodeCursor(ScrollPosition.Direction.FORWARD, orderBy, sortDirection, lastKeys) : null;
+            prev = requestedPosition.isInitial() ? null : encodeCursor(ScrollPosition.Direction.BACKWARD, orderBy, sortDirection, firstKeys);
+        }
+
+        return new PaginationResponseDTO.CursorInfo(window.size(), next, prev);
+    }
+
+    /**
+     * Returns the sort keys of the item at the given index of a window.
+     *
+     * @param window the window of entities
+     * @param index the index of the item
+     * @return the sort keys of the item
+     */
+    private Map<String, ?> positionKeysAt(Window<?> window, int index) {
+        return ((KeysetScrollPosition) window.positionAt(index)).getKeys();
+    }
+
+    /**
+     * Returns the sort direction of a pagination request.
+     *
+     * @param paginationRequestDTO the pagination request
+     * @return the {@link Sort.Direction} of the request
+     */
+    private Sort.Direction sortDirectionOf(PaginationRequestDTO paginationRequestDTO) {
+        return Sort.Direction.fromString(paginationRequestDTO.getSortDirection());
+    }
+
+    /**
+     * Encodes a scroll direction, sort direction and sort keys into an opaque cursor.
      *
-     * @param equipmentEntity the equipment entity to convert
-     * @return a {@link EquipmentResponseDTO} containing the equipment's information
+     * @param direction the scroll direction of the cursor
+     * @param orderBy the ordering property of the request
+     * @param sortDirection the sort direction of the request
+     * @param keys the sort keys of the boundary item
+     * @return the encoded cursor
      */
-    private EquipmentResponseDTO equipmentEntityToResponseDto(EquipmentEntity equipmentEntity) {
+    private String encodeCursor(ScrollPosition.Direction direction, String orderBy, Sort.Direction sortDirection, Map<String, ?> keys) {
+        StringBuilder cursor = new StringBuilder()
+                .append(direction.name().charAt(0))
+                .append(CURSOR_SEPARATOR).append(orderBy)
+                .append(CURSOR_SEPARATOR).append(sortDirection.name())
+                .append(CURSOR_SEPARATOR).append(keys.get(ID_PROPERTY));
+
+        if (!ID_PROPERTY.equals(orderBy)) {
+            cursor.append(CURSOR_SEPARATOR).append(keys.get(orderBy));
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                cursor.toString().getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Decodes an opaque cursor into a keyset scroll position.
+     *
+     * @param cursor the cursor to decode
+     * @param orderBy the ordering property of the request, which must match the one of the cursor
+     * @param sortDirection the sort direction of the request, which must match the one of the cursor
+     * @return the decoded {@link KeysetScrollPosition}
+     * @throws IllegalArgumentException if the cursor is malformed or does not match the ordering
+     */
+    private KeysetScrollPosition decodeCursor(String cursor, String orderBy, Sort.Direction sortDirection) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(CURSOR_SEPARATOR, 5);
+
+            boolean orderedById = ID_PROPERTY.equals(orderBy);
+
+            if (parts.length != (orderedById ? 4 : 5)
+                    || !parts[1].equals(orderBy)
+                    || !parts[2].equals(sortDirection.name())) {
+                throw new IllegalArgumentException();
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            if (!orderedById) {
+                keys.put(orderBy, parts[4]);
+            }
+            keys.put(ID_PROPERTY, Long.valueOf(parts[3]));
+
+            return switch (parts[0]) {
+                case "F" -> ScrollPosition.forward(keys);
+                case "B" -> ScrollPosition.backward(keys);
+                default -> throw new IllegalArgumentException();
+            };
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(
+                    messageManager.getMessageWithParams(CURSOR_INVALID_RESOURCE, new String[]{cursor}),
+                    ex
+            );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EquipmentResponseDTO equipmentEntityToResponseDto(EquipmentEntity equipmentEntity) {
         return new EquipmentResponseDTO(
                 equipmentEntity.getId(),
                 equipmentEntity.getName()
@@ -179,12 +537,24 @@ public class EntityDtoMapperImpl implements EntityDtoMapper {
     }
 
     /**
-     * Converts an ExerciseEntity to an ExerciseResponseDTO.
+     * Finds the requested IDs that are not among the found ones, each one once.
      *
-     * @param exerciseEntity the exercise entity to convert
-     * @return a {@link ExerciseResponseDTO} containing the exercise's information
+     * @param ids the requested IDs
+     * @param foundIds the IDs that were found
+     * @return the missing IDs, in the order they were requested
      */
-    private ExerciseResponseDTO exerciseEntityToResponseDto(ExerciseEntity exerciseEntity) {
+    private List<Long> findMissingIds(List<Long> ids, Set<Long> foundIds) {
+        return ids.stream()
+                .filter(id -> !foundIds.contains(id))
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExerciseResponseDTO exerciseEntityToResponseDto(ExerciseEntity exerciseEntity) {
         return new ExerciseResponseDTO(
                 exerciseEntity.getId(),
                 exerciseEntity.getName(),
@@ -196,6 +566,21 @@ public class EntityDtoMapperImpl implements EntityDtoMapper {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExerciseSummaryResponseDTO exerciseEntityToSummaryDto(ExerciseEntity exerciseEntity) {
+        return new ExerciseSummaryResponseDTO(
+                exerciseEntity.getId(),
+                exerciseEntity.getName(),
+                this.equipmentEntityToResponseDto(exerciseEntity.getEquipment()),
+                exerciseEntity.getMusclesEngagement().stream()
+                        .map(this::muscleEngagementEntityToResponseDto)
+                        .toList()
+        );
+    }
+
     /**
      * Converts a MuscleEngagementEntity to a MuscleEngagementResponseDTO.
      *
@@ -223,5 +608,51 @@ public class EntityDtoMapperImpl implements EntityDtoMapper {
                 muscleEngagementRequestDTO.muscleActivationLevel()
         );
     }
+
+    /**
+     * Joins the given versions into a strong entity tag, such as {@code "3.1"}.
+     *
+     * @param versions the versions that identify the representation
+     * @return the quoted entity tag
+     */
+    private String versionsToETag(long... versions) {
+        String tag = LongStream.of(versions)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(ETAG_VERSION_SEPARATOR));
+
+        return new ETag(tag, false).formattedTag();
+    }
+
+    /**
+     * Parses the value of an If-Match header and returns the first version of its entity tag.
+     *
+     * @param ifMatch the value of the If-Match header, may be {@code null}
+     * @param versionCount the number of versions the entity tags of the resource are made of
+     * @return the first version of the entity tag, or {@code null} if the header is absent or {@code *}
+     * @throws IllegalArgumentException if the header does not contain a single strong entity tag of the resource
+     */
+    private Long ifMatchToVersion(String ifMatch, int versionCount) {
+        if (ifMatch == null) {
+            return null;
+        }
+
+        List<ETag> eTags = ETag.parse(ifMatch);
+        if (eTags.size() == 1 && eTags.get(0).isWildcard()) {
+            return null;
+        }
+
+        if (eTags.size() == 1 && !eTags.get(0).weak()) {
+            String[] versions = eTags.get(0).tag().split(Pattern.quote(ETAG_VERSION_SEPARATOR), -1);
+            if (versions.length == versionCount) {
+                try {
+                    return Long.parseLong(versions[0]);
+                } catch (NumberFormatException ignored) {
+                    // Reported below as an invalid header
+                }
+            }
+        }
+
+        throw new IllegalArgumentException(messageManager.getMessage(IF_MATCH_INVALID_RESOURCE));
+    }
 }
 
@@ -0,0 +1,34 @@
+package com.returdev.gym_exercises_api.mappers;
+
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Interface for writing exercise entities as an exercise bulk export.
+ *
+ * <p>
+ * Exercises are written one at a time as they are consumed from the stream, so an export of
+ * any size can be produced with constant memory.
+ * </p>
+ */
+public interface ExerciseExportMapper {
+
+    /**
+     * Writes the exercises as NDJSON, one {@link com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO}
+     * per line, encoded in UTF-8.
+     *
+     * <p>
+     * The output is flushed once every exercise has been written, but it is not closed.
+     * </p>
+     *
+     * @param exercises the exercises to write
+     * @param output the output to write the exercises to
+     * @return the number of exercises written
+     * @throws IOException if the output cannot be written
+     */
+    long writeExercises(Stream<ExerciseEntity> exercises, OutputStream output) throws IOException;
+
+}
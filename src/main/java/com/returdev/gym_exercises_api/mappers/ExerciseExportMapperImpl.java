@@ -0,0 +1,61 @@
+package com.returdev.gym_exercises_api.mappers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link ExerciseExportMapper} interface.
+ *
+ * <p>
+ * Each exercise is converted with the {@link EntityDtoMapper}, so the lines of the export have the
+ * same fields as the responses of the exercise endpoints. A single generator writes every line,
+ * and the output is only flushed when the generator's buffer is full.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ExerciseExportMapperImpl implements ExerciseExportMapper {
+
+    private static final char LINE_SEPARATOR = '\n';
+
+    private final ObjectMapper objectMapper;
+    private final EntityDtoMapper entityDtoMapper;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long writeExercises(Stream<ExerciseEntity> exercises, OutputStream output) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long writtenExercises = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            // The output belongs to the caller, who may still have to finish it
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Lines are separated explicitly instead of with the default space between root values
+            generator.setRootValueSeparator(null);
+
+            Iterator<ExerciseEntity> iterator = exercises.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, entityDtoMapper.exerciseEntityToResponseDto(iterator.next()));
+                generator.writeRaw(LINE_SEPARATOR);
+                writtenExercises++;
+            }
+
+            generator.flush();
+        }
+
+        return writtenExercises;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.returdev.gym_exercises_api.mappers;
+
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportFormat;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportLine;
+
+import java.io.InputStream;
+import java.util.stream.Stream;
+
+/**
+ * Interface for reading the lines of an exercise bulk import into exercise entities.
+ *
+ * <p>
+ * Lines are read lazily, one at a time, so an import of any size can be processed with
+ * constant memory. Lines that cannot be read or that fail validation are returned with
+ * the reason instead of interrupting the import.
+ * </p>
+ */
+public interface ExerciseImportMapper {
+
+    /**
+     * Reads the exercises of an import.
+     *
+     * <p>
+     * The returned stream must be closed after use, which closes the input.
+     * </p>
+     *
+     * @param input the import content, encoded in UTF-8
+     * @param format the format of the import
+     * @return a lazy {@link Stream} of the non-empty lines of the import
+     */
+    Stream<ExerciseImportLine> readExercises(InputStream input, ExerciseImportFormat format);
+
+}
@@ -0,0 +1,240 @@
+package com.returdev.gym_exercises_api.mappers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.returdev.gym_exercises_api.dto.request.ExerciseRequestDTO;
+import com.returdev.gym_exercises_api.dto.request.MuscleEngagementRequestDTO;
+import com.returdev.gym_exercises_api.exceptions.InvalidEnumValueException;
+import com.returdev.gym_exercises_api.manager.message.MessageManager;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportFormat;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportLine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link ExerciseImportMapper} interface.
+ *
+ * <p>
+ * Each line is parsed into an {@link ExerciseRequestDTO}, validated with the same constraints as
+ * the single-exercise endpoints and converted with the {@link EntityDtoMapper}.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ExerciseImportMapperImpl implements ExerciseImportMapper {
+
+    private static final String LINE_MALFORMED_RESOURCE = "exception.import.line_malformed";
+    private static final int CSV_COLUMNS = 4;
+    private static final String CSV_ENGAGEMENT_SEPARATOR = "\\|";
+    private static final String CSV_ENGAGEMENT_LEVEL_SEPARATOR = ":";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityDtoMapper entityDtoMapper;
+    private final MessageManager messageManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<ExerciseImportLine> readExercises(InputStream input, ExerciseImportFormat format) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        AtomicLong lineNumber = new AtomicLong();
+
+        return reader.lines()
+                .map(line -> {
+                    long number = lineNumber.incrementAndGet();
+
+                    // Skip blank lines and the CSV header
+                    if (line.isBlank() || (format == ExerciseImportFormat.CSV && number == 1)) {
+                        return null;
+                    }
+
+                    return readLine(number, line, format);
+                })
+                .filter(Objects::nonNull)
+                .onClose(() -> close(reader));
+    }
+
+    /**
+     * Reads a single line of the import.
+     *
+     * @param lineNumber the number of the line
+     * @param line the content of the line
+     * @param format the format of the import
+     * @return the read or failed {@link ExerciseImportLine}
+     */
+    private ExerciseImportLine readLine(long lineNumber, String line, ExerciseImportFormat format) {
+        ExerciseRequestDTO exerciseRequestDTO;
+
+        try {
+            exerciseRequestDTO = switch (format) {
+                case NDJSON -> objectMapper.readValue(line, ExerciseRequestDTO.class);
+                case CSV -> csvLineToRequestDto(line);
+            };
+        } catch (InvalidEnumValueException ex) {
+            return ExerciseImportLine.failed(lineNumber, invalidEnumValueMessage(ex));
+        } catch (JsonProcessingException ex) {
+            return (ex.getCause() instanceof InvalidEnumValueException invalidEnumValueException)
+                    ? ExerciseImportLine.failed(lineNumber, invalidEnumValueMessage(invalidEnumValueException))
+                    : ExerciseImportLine.failed(lineNumber, messageManager.getMessage(LINE_MALFORMED_RESOURCE));
+        } catch (IllegalArgumentException ex) {
+            return ExerciseImportLine.failed(lineNumber, messageManager.getMessage(LINE_MALFORMED_RESOURCE));
+        }
+
+        Set<ConstraintViolation<ExerciseRequestDTO>> violations = validator.validate(exerciseRequestDTO);
+        if (!violations.isEmpty()) {
+            return ExerciseImportLine.failed(lineNumber, violationsMessage(violations));
+        }
+
+        return ExerciseImportLine.read(
+                lineNumber,
+                entityDtoMapper.exerciseRequestDtoToEntity(exerciseRequestDTO)
+        );
+    }
+
+    /**
+     * Parses a CSV line into an exercise request DTO.
+     *
+     * @param line the CSV line
+     * @return the corresponding {@link ExerciseRequestDTO}
+     * @throws IllegalArgumentException if the line does not have the expected columns
+     * @throws InvalidEnumValueException if a muscle or activation level is invalid
+     */
+    private ExerciseRequestDTO csvLineToRequestDto(String line) {
+        List<String> columns = splitCsvLine(line);
+
+        if (columns.size() != CSV_COLUMNS) {
+            throw new IllegalArgumentException();
+        }
+
+        Set<MuscleEngagementRequestDTO> muscleEngagements = new LinkedHashSet<>();
+        for (String engagement : columns.get(3).split(CSV_ENGAGEMENT_SEPARATOR)) {
+            if (engagement.isBlank()) {
+                continue;
+            }
+
+            String[] muscleAndLevel = engagement.split(CSV_ENGAGEMENT_LEVEL_SEPARATOR, -1);
+            if (muscleAndLevel.length != 2) {
+                throw new IllegalArgumentException();
+            }
+
+            muscleEngagements.add(new MuscleEngagementRequestDTO(
+                    Muscle.fromString(muscleAndLevel[0].trim()),
+                    MuscleActivationLevel.fromString(muscleAndLevel[1].trim())
+            ));
+        }
+
+        String equipmentId = columns.get(2).trim();
+
+        return new ExerciseRequestDTO(
+                null,
+                columns.get(0),
+                columns.get(1),
+                equipmentId.isEmpty() ? null : Long.valueOf(equipmentId),
+                muscleEngagements
+        );
+    }
+
+    /**
+     * Splits a CSV line into its columns. Columns may be quoted with double quotes, in which
+     * case they may contain commas and escaped double quotes ({@code ""}).
+     *
+     * @param line the CSV line
+     * @return the columns of the line
+     * @throws IllegalArgumentException if a quoted column is not closed
+     */
+    private List<String> splitCsvLine(String line) {
+        List<String> columns = new ArrayList<>(CSV_COLUMNS);
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    column.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException();
+        }
+
+        columns.add(column.toString());
+        return columns;
+    }
+
+    /**
+     * Builds the message of an invalid enum value.
+     *
+     * @param ex the exception thrown for the invalid value
+     * @return the localized message
+     */
+    private String invalidEnumValueMessage(InvalidEnumValueException ex) {
+        return messageManager.getMessageWithParams(
+                ex.getMessageResource(),
+                new String[]{ex.getInvalidValue(), ex.getValidValues()}
+        );
+    }
+
+    /**
+     * Builds a single message from the constraint violations of a line, sorted by field.
+     *
+     * @param violations the constraint violations
+     * @return the message listing every violation
+     */
+    private String violationsMessage(Set<ConstraintViolation<ExerciseRequestDTO>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Closes the reader of the import.
+     *
+     * @param reader the reader to close
+     */
+    private void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.returdev.gym_exercises_api.model.cache;
+
+/**
+ * Represents the usage of a second-level cache region since the application started.
+ *
+ * @param region the name of the cache region
+ * @param hitCount the number of lookups served by the region
+ * @param missCount the number of lookups not found in the region
+ * @param putCount the number of entries put into the region
+ */
+public record CacheRegionUsage(
+        String region,
+        long hitCount,
+        long missCount,
+        long putCount
+) {
+
+    /**
+     * Returns the ratio of lookups served by the region.
+     *
+     * @return the hit ratio between 0 and 1, or 0 if the region has not been looked up
+     */
+    public double hitRatio() {
+        long lookupCount = hitCount + missCount;
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.returdev.gym_exercises_api.model.cache;
+
+/**
+ * Represents a response body serialized once and kept in memory to be written as is.
+ *
+ * @param body the JSON body, encoded in UTF-8
+ * @param gzipBody the same body compressed with gzip
+ * @param eTag the formatted entity tag of the body, or {@code null} if the body has none
+ */
+public record CachedResponseBody(
+        byte[] body,
+        byte[] gzipBody,
+        String eTag
+) {
+
+    /**
+     * Returns the memory taken by the body and its compressed variant.
+     *
+     * @return the size of both variants in bytes
+     */
+    public int size() {
+        return body.length + gzipBody.length;
+    }
+
+}
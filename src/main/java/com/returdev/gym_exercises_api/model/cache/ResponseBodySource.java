@@ -0,0 +1,18 @@
+package com.returdev.gym_exercises_api.model.cache;
+
+import java.util.Set;
+
+/**
+ * Represents a response body before its serialization, together with what it depends on.
+ *
+ * @param body the response DTO to serialize
+ * @param eTag the formatted entity tag of the body, or {@code null} if the body has none
+ * @param tags the tags of the exercises, equipment and lists the body was built from, so that a
+ *             write to any of them invalidates the body
+ */
+public record ResponseBodySource(
+        Object body,
+        String eTag,
+        Set<String> tags
+) {
+}
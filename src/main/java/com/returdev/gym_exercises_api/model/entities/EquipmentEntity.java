@@ -7,6 +7,8 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.hateoas.server.core.Relation;
 
 /**
@@ -17,10 +19,25 @@ import org.springframework.hateoas.server.core.Relation;
  * of various fitness equipment. It includes fields for the unique identifier and name
  * of the equipment, along with validation constraints.
  * </p>
+ *
+ * <p>
+ * The schema is created by the migrations in {@code db/migration}. The index declared here
+ * serves the keyset pagination by name.
+ * </p>
+ *
+ * <p>
+ * Equipment is rarely written, so it is kept in the "equipments" second-level cache region.
+ * </p>
  */
 @Entity
-@Table(name = "equipments")
+@Table(
+        name = "equipments",
+        indexes = {
+                @Index(name = "idx_equipments_name_id", columnList = "name, equipment_id")
+        }
+)
 @Relation(collectionRelation = "equipments")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "equipments")
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -31,11 +48,13 @@ public class EquipmentEntity {
      * <p>
      * This field is generated automatically using a sequence generator. It is the primary key
      * for the equipment entity.
+     * IDs are allocated in blocks of 50 by the pooled-lo optimizer, so the sequence is only
+     * queried once every 50 inserts.
      * </p>
      */
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "equipment_sequence")
-    @SequenceGenerator(name = "equipment_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "equipment_sequence", allocationSize = 50)
     @Column(name = "equipment_id")
     private Long id;
 
@@ -51,5 +70,27 @@ public class EquipmentEntity {
     @Size(min = 3, max = 25, message = "{validation.size.message}")
     private String name;
 
+    /**
+     * The version of the equipment.
+     * <p>
+     * This field is incremented on every update and is used for optimistic locking. It is
+     * exposed as the entity tag of the equipment resource.
+     * </p>
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * Creates an equipment whose version is assigned by the persistence provider.
+     *
+     * @param id the ID of the equipment
+     * @param name the name of the equipment
+     */
+    public EquipmentEntity(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
 }
 
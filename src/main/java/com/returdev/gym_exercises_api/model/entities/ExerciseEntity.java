@@ -1,13 +1,17 @@
 package com.returdev.gym_exercises_api.model.entities;
 
+import com.returdev.gym_exercises_api.model.search.MuscleSignature;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.hateoas.server.core.Relation;
 
 import java.util.List;
@@ -21,19 +25,41 @@ import java.util.List;
  * multiple muscles. This class includes fields for the unique identifier, name, description,
  * associated equipment, and muscle engagements, along with validation constraints.
  * </p>
+ *
+ * <p>
+ * The schema is created by the migrations in {@code db/migration}. The indexes declared here
+ * serve the keyset pagination by name, the listing of the exercises of an equipment and the muscle
+ * searches.
+ * </p>
+ *
+ * <p>
+ * The muscle engagements are also denormalized in the muscle signature column, which is kept in
+ * sync with them on every write and lets the muscle searches filter the exercises table alone.
+ * </p>
+ *
+ * <p>
+ * Exercises and their muscle engagements are kept in the "exercises" and
+ * "exercises_muscles_engagement" second-level cache regions.
+ * </p>
  */
 @Entity
 @Table(
         name = "exercises",
         uniqueConstraints = {
                 @UniqueConstraint(
+                        name = "uk_exercises_name_equipment",
                         columnNames = {"name", "equipment_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_exercises_name_id", columnList = "name, exercise_id"),
+                @Index(name = "idx_exercises_equipment_name", columnList = "equipment_id, name"),
+                @Index(name = "idx_exercises_muscle_signature", columnList = "muscle_signature, exercise_id")
         }
 )
 @Relation(collectionRelation = "exercises")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "exercises")
 @NoArgsConstructor
-@AllArgsConstructor
 @Data
 public class ExerciseEntity {
 
@@ -42,11 +68,13 @@ public class ExerciseEntity {
      * <p>
      * This field is generated automatically using a sequence generator. It is the primary key
      * for the exercise entity and must not be null.
+     * IDs are allocated in blocks of 50 by the pooled-lo optimizer, so the sequence is only
+     * queried once every 50 inserts.
      * </p>
      */
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exercises_sequence")
-    @SequenceGenerator(name = "exercises_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "exercises_sequence", allocationSize = 50)
     @Column(name = "exercise_id")
     private Long id;
 
@@ -94,7 +122,8 @@ public class ExerciseEntity {
      * <p>
      * This field represents a many-to-many relationship with the {@link MuscleEngagementEntity}
      * class. The list must not be empty, meaning every exercise must engage at least one muscle.
-     * The fetch type is eager, and cascading is set to merge.
+     * The fetch type is eager, and cascading is set to merge. The join table is indexed in both
+     * directions, to find the exercises of an engagement and the engagements of an exercise.
      * </p>
      */
     @ManyToMany(
@@ -104,10 +133,104 @@ public class ExerciseEntity {
     @JoinTable(
             name = "exercises_muscles_engagement",
             joinColumns = @JoinColumn(name = "exercise_id"),
-            inverseJoinColumns = @JoinColumn(name = "muscle_engagement_id")
+            inverseJoinColumns = @JoinColumn(name = "muscle_engagement_id"),
+            indexes = {
+                    @Index(name = "idx_exercises_muscles_engagement_engagement_exercise", columnList = "muscle_engagement_id, exercise_id"),
+                    @Index(name = "idx_exercises_muscles_engagement_exercise_engagement", columnList = "exercise_id, muscle_engagement_id")
+            }
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "exercises_muscles_engagement")
     @NotEmpty(message = "{validation.not_empty.message}")
     private List<MuscleEngagementEntity> musclesEngagement;
 
+    /**
+     * The muscle signature of the exercise.
+     * <p>
+     * This field encodes the muscle engagements as a {@link MuscleSignature}. It can't be set
+     * directly: it is recomputed whenever the muscle engagements are set, and before every insert
+     * and update in case the list of muscle engagements was modified in place.
+     * </p>
+     */
+    @Column(name = "muscle_signature", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private long muscleSignature;
+
+    /**
+     * The version of the exercise.
+     * <p>
+     * This field is incremented on every update, including changes to the muscle engagements,
+     * and is used for optimistic locking. Together with the version of the equipment, it is
+     * exposed as the entity tag of the exercise resource.
+     * </p>
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * Creates an exercise whose version is assigned by the persistence provider.
+     *
+     * @param id the ID of the exercise
+     * @param name the name of the exercise
+     * @param description the description of the exercise
+     * @param equipment the equipment used in the exercise
+     * @param musclesEngagement the muscle engagements of the exercise
+     */
+    public ExerciseEntity(
+            Long id,
+            String name,
+            String description,
+            EquipmentEntity equipment,
+            List<MuscleEngagementEntity> musclesEngagement
+    ) {
+        this(id, name, description, equipment, musclesEngagement, 0);
+    }
+
+    /**
+     * Creates an exercise with the given version.
+     *
+     * @param id the ID of the exercise
+     * @param name the name of the exercise
+     * @param description the description of the exercise
+     * @param equipment the equipment used in the exercise
+     * @param musclesEngagement the muscle engagements of the exercise
+     * @param version the version of the exercise
+     */
+    public ExerciseEntity(
+            Long id,
+            String name,
+            String description,
+            EquipmentEntity equipment,
+            List<MuscleEngagementEntity> musclesEngagement,
+            long version
+    ) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.equipment = equipment;
+        this.musclesEngagement = musclesEngagement;
+        this.muscleSignature = MuscleSignature.of(musclesEngagement);
+        this.version = version;
+    }
+
+    /**
+     * Sets the muscle engagements of the exercise and recomputes its muscle signature.
+     *
+     * @param musclesEngagement the muscle engagements of the exercise
+     */
+    public void setMusclesEngagement(List<MuscleEngagementEntity> musclesEngagement) {
+        this.musclesEngagement = musclesEngagement;
+        this.muscleSignature = MuscleSignature.of(musclesEngagement);
+    }
+
+    /**
+     * Recomputes the muscle signature from the muscle engagements before they are written.
+     */
+    @PrePersist
+    @PreUpdate
+    void updateMuscleSignature() {
+        this.muscleSignature = MuscleSignature.of(musclesEngagement);
+    }
+
 }
 
@@ -8,6 +8,8 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
@@ -23,14 +25,28 @@ import lombok.NoArgsConstructor;
  * information about how different muscles are engaged at various activation levels. Each muscle
  * engagement has a unique combination of muscle and activation level.
  * </p>
+ *
+ * <p>
+ * The schema is created by the migrations in {@code db/migration}. The index declared here
+ * serves the lookups by activation level, which the unique key cannot.
+ * </p>
+ *
+ * <p>
+ * Muscle engagements are reference data, so they are kept in the "muscle_engagements"
+ * second-level cache region.
+ * </p>
  */
 @Entity
 @Table(
         name = "muscle_engagements",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"muscle", "activation_level"})
+                @UniqueConstraint(name = "uk_muscle_engagements_muscle_activation_level", columnNames = {"muscle", "activation_level"})
+        },
+        indexes = {
+                @Index(name = "idx_muscle_engagements_activation_level", columnList = "activation_level, muscle")
         }
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "muscle_engagements")
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
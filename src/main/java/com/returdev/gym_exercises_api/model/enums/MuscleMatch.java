@@ -0,0 +1,58 @@
+package com.returdev.gym_exercises_api.model.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.returdev.gym_exercises_api.exceptions.InvalidEnumValueException;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enum representing how the muscles of a search are matched against the muscles of an exercise.
+ *
+ * <p>
+ * With {@link #ANY}, an exercise matches when it engages at least one of the searched muscles.
+ * With {@link #ALL}, it must engage every searched muscle.
+ * </p>
+ */
+public enum MuscleMatch {
+
+    ANY,
+    ALL;
+
+    /**
+     * Converts a string value to its corresponding {@link MuscleMatch} enum constant.
+     *
+     * <p>
+     * The string comparison is case-insensitive. If the provided string does not match any
+     * of the enum constants, an {@link InvalidEnumValueException} is thrown.
+     * </p>
+     *
+     * @param value the string representation of the muscle match
+     * @return the corresponding {@link MuscleMatch} enum constant
+     * @throws IllegalArgumentException if the string value does not match any enum constant
+     */
+    @JsonCreator
+    public static MuscleMatch fromString(String value) throws IllegalArgumentException {
+        try {
+            return MuscleMatch.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidEnumValueException(
+                    value,
+                    "validation.invalid_enum_value.message",
+                    validValues()
+            );
+        }
+    }
+
+    /**
+     * Returns a string of valid enum constant names for error messaging.
+     *
+     * @return a comma-separated list of valid muscle match names
+     */
+    private static String validValues() {
+        List<String> names = Arrays.stream(MuscleMatch.values())
+                .map(MuscleMatch::name)
+                .toList();
+        return String.join(", ", names.subList(0, names.size() - 1)) + " or " + names.get(names.size() - 1);
+    }
+}
@@ -0,0 +1,25 @@
+package com.returdev.gym_exercises_api.model.imports;
+
+/**
+ * Enum representing the formats accepted by the exercise bulk import.
+ *
+ * <p>
+ * Both formats contain one exercise per line, so an import can be read as a stream without
+ * loading the whole payload in memory.
+ * </p>
+ */
+public enum ExerciseImportFormat {
+
+    /**
+     * Newline-delimited JSON: every line is an exercise request JSON object.
+     */
+    NDJSON,
+
+    /**
+     * Comma-separated values with a header line and the columns {@code name}, {@code description},
+     * {@code equipment_id} and {@code muscle_engagements}. The muscle engagements are written as
+     * {@code MUSCLE:LEVEL} pairs separated by {@code |}.
+     */
+    CSV
+
+}
@@ -0,0 +1,53 @@
+package com.returdev.gym_exercises_api.model.imports;
+
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+
+/**
+ * Represents a line of an exercise bulk import once it has been read.
+ *
+ * <p>
+ * A line either contains the exercise it describes, or the reason it could not be read.
+ * </p>
+ *
+ * @param lineNumber the number of the line in the import, starting from 1
+ * @param exercise the exercise described by the line, or {@code null} if the line could not be read
+ * @param error the reason the line could not be read, or {@code null} if it was read
+ */
+public record ExerciseImportLine(
+        long lineNumber,
+        ExerciseEntity exercise,
+        String error
+) {
+
+    /**
+     * Creates a line that was read successfully.
+     *
+     * @param lineNumber the number of the line
+     * @param exercise the exercise described by the line
+     * @return the read {@link ExerciseImportLine}
+     */
+    public static ExerciseImportLine read(long lineNumber, ExerciseEntity exercise) {
+        return new ExerciseImportLine(lineNumber, exercise, null);
+    }
+
+    /**
+     * Creates a line that could not be read.
+     *
+     * @param lineNumber the number of the line
+     * @param error the reason the line could not be read
+     * @return the failed {@link ExerciseImportLine}
+     */
+    public static ExerciseImportLine failed(long lineNumber, String error) {
+        return new ExerciseImportLine(lineNumber, null, error);
+    }
+
+    /**
+     * Indicates whether the line could not be read.
+     *
+     * @return {@code true} if the line has an error, {@code false} otherwise
+     */
+    public boolean hasError() {
+        return error != null;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.returdev.gym_exercises_api.model.imports;
+
+import java.util.List;
+
+/**
+ * Represents the outcome of an exercise bulk import.
+ *
+ * <p>
+ * Only the first errors are kept, so the size of the report does not grow with the size of
+ * the import. The number of failed lines always counts every failure.
+ * </p>
+ *
+ * @param processedLines the number of non-empty lines processed
+ * @param importedExercises the number of exercises saved
+ * @param failedLines the number of lines that were rejected
+ * @param errors the errors of the first rejected lines
+ * @param errorsTruncated whether some errors were left out of the report
+ */
+public record ExerciseImportReport(
+        long processedLines,
+        long importedExercises,
+        long failedLines,
+        List<LineError> errors,
+        boolean errorsTruncated
+) {
+
+    /**
+     * Represents the reason a line of the import was rejected.
+     *
+     * @param lineNumber the number of the rejected line
+     * @param message the reason the line was rejected
+     */
+    public record LineError(
+            long lineNumber,
+            String message
+    ) {}
+
+}
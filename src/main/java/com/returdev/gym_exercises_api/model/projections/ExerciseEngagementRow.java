@@ -0,0 +1,19 @@
+package com.returdev.gym_exercises_api.model.projections;
+
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+
+/**
+ * Row of a muscle engagement of an exercise selected with a constructor expression.
+ *
+ * @param exerciseId the ID of the exercise
+ * @param muscleEngagementId the ID of the muscle engagement
+ * @param muscle the engaged muscle
+ * @param muscleActivationLevel the activation level of the muscle
+ */
+public record ExerciseEngagementRow(
+        Long exerciseId,
+        Long muscleEngagementId,
+        Muscle muscle,
+        MuscleActivationLevel muscleActivationLevel
+) {}
@@ -0,0 +1,27 @@
+package com.returdev.gym_exercises_api.model.projections;
+
+/**
+ * Projection that exposes the natural key of an exercise: its name and the ID of its equipment.
+ *
+ * <p>
+ * It is used to check in a single query which of several exercises already exist, without
+ * loading the full entities.
+ * </p>
+ */
+public interface ExerciseKeyProjection {
+
+    /**
+     * Returns the name of the exercise.
+     *
+     * @return the exercise name
+     */
+    String getName();
+
+    /**
+     * Returns the ID of the equipment of the exercise.
+     *
+     * @return the equipment ID
+     */
+    Long getEquipmentId();
+
+}
@@ -0,0 +1,23 @@
+package com.returdev.gym_exercises_api.model.projections;
+
+/**
+ * Row of an exercise and its equipment selected with a constructor expression.
+ *
+ * <p>
+ * The row holds the columns of the exercise response except the muscle engagements, which are
+ * selected separately for a whole page, so no entity is loaded into the persistence context.
+ * </p>
+ *
+ * @param id the ID of the exercise
+ * @param name the name of the exercise
+ * @param description the description of the exercise
+ * @param equipmentId the ID of the equipment of the exercise
+ * @param equipmentName the name of the equipment of the exercise
+ */
+public record ExerciseResponseRow(
+        Long id,
+        String name,
+        String description,
+        Long equipmentId,
+        String equipmentName
+) {}
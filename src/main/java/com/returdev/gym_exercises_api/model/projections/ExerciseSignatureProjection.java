@@ -0,0 +1,41 @@
+package com.returdev.gym_exercises_api.model.projections;
+
+/**
+ * Projection that exposes the muscle signature and equipment of an exercise.
+ *
+ * <p>
+ * It is used to build the in-memory muscle index of the exercises without loading their
+ * equipment and muscle engagements.
+ * </p>
+ */
+public interface ExerciseSignatureProjection {
+
+    /**
+     * Returns the ID of the exercise.
+     *
+     * @return the exercise ID
+     */
+    Long getId();
+
+    /**
+     * Returns the muscle signature of the exercise.
+     *
+     * @return the exercise muscle signature
+     */
+    long getMuscleSignature();
+
+    /**
+     * Returns the ID of the equipment of the exercise.
+     *
+     * @return the equipment ID
+     */
+    Long getEquipmentId();
+
+    /**
+     * Returns the version of the exercise.
+     *
+     * @return the exercise version
+     */
+    long getVersion();
+
+}
@@ -0,0 +1,23 @@
+package com.returdev.gym_exercises_api.model.projections;
+
+/**
+ * Row of an exercise and its equipment selected with a constructor expression, without the
+ * description of the exercise.
+ *
+ * <p>
+ * Like the {@link ExerciseResponseRow}, the muscle engagements are selected separately for a
+ * whole page. The description column is not part of the select list, so the large object is
+ * never read.
+ * </p>
+ *
+ * @param id the ID of the exercise
+ * @param name the name of the exercise
+ * @param equipmentId the ID of the equipment of the exercise
+ * @param equipmentName the name of the equipment of the exercise
+ */
+public record ExerciseSummaryRow(
+        Long id,
+        String name,
+        Long equipmentId,
+        String equipmentName
+) {}
@@ -0,0 +1,41 @@
+package com.returdev.gym_exercises_api.model.projections;
+
+/**
+ * Projection that exposes the searchable text of an exercise: its name and description.
+ *
+ * <p>
+ * It is used to build the full-text index of the exercises without loading their equipment
+ * and muscle engagements.
+ * </p>
+ */
+public interface ExerciseTextProjection {
+
+    /**
+     * Returns the ID of the exercise.
+     *
+     * @return the exercise ID
+     */
+    Long getId();
+
+    /**
+     * Returns the name of the exercise.
+     *
+     * @return the exercise name
+     */
+    String getName();
+
+    /**
+     * Returns the description of the exercise.
+     *
+     * @return the exercise description
+     */
+    String getDescription();
+
+    /**
+     * Returns the version of the exercise.
+     *
+     * @return the exercise version
+     */
+    long getVersion();
+
+}
@@ -0,0 +1,28 @@
+package com.returdev.gym_exercises_api.model.projections;
+
+/**
+ * Projection that exposes the version of an exercise and the version of its equipment.
+ *
+ * <p>
+ * Both versions identify the current representation of the exercise, which includes its
+ * equipment, so it can be checked whether the representation changed without loading the
+ * full entity.
+ * </p>
+ */
+public interface ExerciseVersionProjection {
+
+    /**
+     * Returns the version of the exercise.
+     *
+     * @return the exercise version
+     */
+    long getVersion();
+
+    /**
+     * Returns the version of the equipment of the exercise.
+     *
+     * @return the equipment version
+     */
+    long getEquipmentVersion();
+
+}
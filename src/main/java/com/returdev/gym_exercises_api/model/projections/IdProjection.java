@@ -0,0 +1,20 @@
+package com.returdev.gym_exercises_api.model.projections;
+
+/**
+ * Projection that exposes only the identifier of an entity.
+ *
+ * <p>
+ * It is used by queries that resolve which rows belong to a page or window before loading
+ * the full entities, so that only the key columns are read.
+ * </p>
+ */
+public interface IdProjection {
+
+    /**
+     * Returns the identifier of the entity.
+     *
+     * @return the entity ID
+     */
+    Long getId();
+
+}
@@ -0,0 +1,14 @@
+package com.returdev.gym_exercises_api.model.search;
+
+import java.util.List;
+
+/**
+ * Represents a page of the results of an in-memory muscle search.
+ *
+ * @param ids the IDs of the exercises of the page, in the requested ID order
+ * @param total the total number of exercises matching the search
+ */
+public record ExerciseMuscleSearchResult(
+        List<Long> ids,
+        long total
+) {}
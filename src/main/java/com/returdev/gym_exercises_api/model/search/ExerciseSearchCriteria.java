@@ -0,0 +1,30 @@
+package com.returdev.gym_exercises_api.model.search;
+
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Represents the criteria of an exercise search.
+ *
+ * <p>
+ * An exercise matches the criteria when it engages any or all of the given muscles, depending on
+ * the match, with the given activation level if one is specified, and uses the given equipment if
+ * one is specified.
+ * </p>
+ *
+ * @param muscles the muscles the exercise must engage
+ * @param activationLevel the activation level of the engagements, or {@code null} for any level
+ * @param match whether the exercise must engage any or all of the muscles
+ * @param equipmentId the ID of the equipment of the exercise, or {@code null} for any equipment
+ */
+public record ExerciseSearchCriteria(
+        @NotEmpty List<Muscle> muscles,
+        MuscleActivationLevel activationLevel,
+        @NotNull MuscleMatch match,
+        Long equipmentId
+) {}
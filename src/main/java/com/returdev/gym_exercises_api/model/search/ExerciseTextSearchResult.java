@@ -0,0 +1,14 @@
+package com.returdev.gym_exercises_api.model.search;
+
+import java.util.List;
+
+/**
+ * Represents a page of the results of a full-text exercise search.
+ *
+ * @param ids the IDs of the exercises of the page, from the most to the least relevant
+ * @param total the total number of exercises matching the search
+ */
+public record ExerciseTextSearchResult(
+        List<Long> ids,
+        long total
+) {}
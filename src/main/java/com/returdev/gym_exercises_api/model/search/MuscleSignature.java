@@ -0,0 +1,113 @@
+package com.returdev.gym_exercises_api.model.search;
+
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+
+import java.util.Collection;
+
+/**
+ * Encodes the muscle engagements of an exercise in the bits of a {@code long}.
+ *
+ * <p>
+ * The 20 muscles with 3 activation levels each take 60 bits: the engagement of a muscle with an
+ * activation level sets bit {@code muscle.ordinal() * 3 + activationLevel.ordinal()}. Since no
+ * engagement uses the sign bit, signatures compare as unsigned values. The bits follow the
+ * declaration order of the enums, which the migrations also rely on, so reordering their values
+ * requires a migration that recomputes the persisted signatures.
+ * </p>
+ *
+ * <p>
+ * A signature is folded by or-ing it with itself shifted one and two bits to the left, which
+ * gathers the engagements of each muscle, at any level, in the bit of its last activation level.
+ * Matching the folded signature against a mask with that bit set for the searched muscles tells
+ * which of them are engaged.
+ * </p>
+ */
+public final class MuscleSignature {
+
+    private static final int ACTIVATION_LEVELS = MuscleActivationLevel.values().length;
+    private static final int FOLDED_LEVEL = ACTIVATION_LEVELS - 1;
+
+    /**
+     * Mask with the bits of every muscle at every activation level.
+     */
+    public static final long ALL_ENGAGEMENTS = (1L << Muscle.values().length * ACTIVATION_LEVELS) - 1;
+
+    private MuscleSignature() {}
+
+    /**
+     * Returns the bit of the engagement of a muscle with an activation level.
+     *
+     * @param muscle the engaged muscle
+     * @param activationLevel the activation level of the engagement
+     * @return the signature with only the bit of the engagement set
+     */
+    public static long of(Muscle muscle, MuscleActivationLevel activationLevel) {
+        return 1L << (muscle.ordinal() * ACTIVATION_LEVELS + activationLevel.ordinal());
+    }
+
+    /**
+     * Returns the signature of the given muscle engagements.
+     *
+     * @param muscleEngagements the muscle engagements of an exercise, or {@code null} for none
+     * @return the signature with the bit of every engagement set
+     */
+    public static long of(Collection<MuscleEngagementEntity> muscleEngagements) {
+        long signature = 0;
+
+        if (muscleEngagements != null) {
+            for (MuscleEngagementEntity muscleEngagement : muscleEngagements) {
+                signature |= of(muscleEngagement.getMuscle(), muscleEngagement.getMuscleActivationLevel());
+            }
+        }
+
+        return signature;
+    }
+
+    /**
+     * Returns the mask of the engagements with the given activation level.
+     *
+     * @param activationLevel the activation level, or {@code null} for any level
+     * @return the mask with the bit of every muscle at the activation level set
+     */
+    public static long levelMask(MuscleActivationLevel activationLevel) {
+        if (activationLevel == null) {
+            return ALL_ENGAGEMENTS;
+        }
+
+        long mask = 0;
+        for (Muscle muscle : Muscle.values()) {
+            mask |= of(muscle, activationLevel);
+        }
+
+        return mask;
+    }
+
+    /**
+     * Returns the mask of the given muscles in a folded signature.
+     *
+     * @param muscles the muscles
+     * @return the mask with the folded bit of every muscle set
+     */
+    public static long muscleMask(Collection<Muscle> muscles) {
+        long mask = 0;
+
+        for (Muscle muscle : muscles) {
+            mask |= 1L << (muscle.ordinal() * ACTIVATION_LEVELS + FOLDED_LEVEL);
+        }
+
+        return mask;
+    }
+
+    /**
+     * Folds a signature, gathering the engagements of each muscle in its folded bit.
+     *
+     * @param signature the signature to fold
+     * @return the folded signature
+     */
+    public static long fold(long signature) {
+        return signature | signature << 1 | signature << 2;
+    }
+
+}
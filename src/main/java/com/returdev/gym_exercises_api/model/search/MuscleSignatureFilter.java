@@ -0,0 +1,82 @@
+package com.returdev.gym_exercises_api.model.search;
+
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+
+import java.util.Collection;
+
+/**
+ * Represents a muscle search as a predicate over the {@link MuscleSignature} of the exercises.
+ *
+ * <p>
+ * A signature matches when {@code fold(signature & levels) & muscles >= minimum}. The engagements
+ * with other activation levels are discarded, and the remaining ones are folded to tell which of
+ * the searched muscles are engaged. Any engaged muscle gives a positive value, and only all of them
+ * give the muscle mask itself, so the minimum is {@code 1} to match any muscle and the muscle mask
+ * to match all of them. Both the database queries and the in-memory scans evaluate this predicate.
+ * </p>
+ *
+ * @param levels the mask of the engagements with the searched activation level
+ * @param muscles the mask of the searched muscles in a folded signature
+ * @param minimum the minimum value of the masked folded signature
+ */
+public record MuscleSignatureFilter(
+        long levels,
+        long muscles,
+        long minimum
+) {
+
+    /**
+     * Creates the filter of a muscle search.
+     *
+     * @param muscles the searched muscles
+     * @param activationLevel the activation level of the engagements, or {@code null} for any level
+     * @param match whether any or all of the muscles must be engaged
+     * @return the {@link MuscleSignatureFilter} of the search
+     */
+    public static MuscleSignatureFilter of(Collection<Muscle> muscles, MuscleActivationLevel activationLevel, MuscleMatch match) {
+        long muscleMask = MuscleSignature.muscleMask(muscles);
+
+        return new MuscleSignatureFilter(
+                MuscleSignature.levelMask(activationLevel),
+                muscleMask,
+                match == MuscleMatch.ALL ? muscleMask : 1
+        );
+    }
+
+    /**
+     * Creates the filter of a search by the muscles and activation level of the given criteria.
+     *
+     * @param criteria the search criteria
+     * @return the {@link MuscleSignatureFilter} of the criteria
+     */
+    public static MuscleSignatureFilter of(ExerciseSearchCriteria criteria) {
+        return of(criteria.muscles(), criteria.activationLevel(), criteria.match());
+    }
+
+    /**
+     * Checks whether an exercise with the given signature matches the filter.
+     *
+     * @param signature the muscle signature of the exercise
+     * @return {@code true} if the signature matches
+     */
+    public boolean matches(long signature) {
+        return (MuscleSignature.fold(signature & levels) & muscles) >= minimum;
+    }
+
+    /**
+     * Returns the mask of the muscles that every matching signature engages, in a folded signature.
+     *
+     * <p>
+     * All the searched muscles are required when all of them must match, or when a single muscle
+     * is searched. Otherwise no muscle in particular is required.
+     * </p>
+     *
+     * @return the mask with the folded bit of every required muscle set
+     */
+    public long requiredMuscles() {
+        return minimum == muscles || Long.bitCount(muscles) == 1 ? muscles : 0;
+    }
+
+}
@@ -1,8 +1,19 @@
 package com.returdev.gym_exercises_api.repositories.data;
 
+import com.returdev.gym_exercises_api.dto.response.EquipmentResponseDTO;
 import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,31 +27,119 @@ import java.util.Optional;
  * defines custom queries to check the existence of equipment by name and to find
  * the ID of equipment by its name.
  * </p>
+ *
+ * <p>
+ * The lookups by name and the version lookup are cached in the "equipment_queries" query cache
+ * region. Hibernate invalidates the cached results whenever the equipment table is written.
+ * </p>
  */
 @Repository
 public interface EquipmentRepository extends JpaRepository<EquipmentEntity, Long> {
 
+    /**
+     * The query cache region of the lookups by name and the version lookup.
+     */
+    String EQUIPMENT_QUERIES_CACHE_REGION = "equipment_queries";
+
     /**
      * Finds the ID of the equipment by its name.
      *
      * <p>
      * This custom query retrieves the ID of an {@link EquipmentEntity} based on the given name.
      * If no entity with the provided name exists, the method returns an empty {@link Optional}.
+     * The result is served from the query cache.
      * </p>
      *
      * @param name the name of the equipment
      * @return an {@link Optional} containing the ID of the equipment if found, or an empty {@link Optional} if not
      */
     @Query("SELECT e.id FROM EquipmentEntity e WHERE e.name = :name")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EQUIPMENT_QUERIES_CACHE_REGION)
+    })
     Optional<Long> findIdByName(@Param("name") String name);
 
     /**
      * Checks whether equipment with the specified name exists.
      *
+     * <p>
+     * The result is served from the query cache.
+     * </p>
+     *
      * @param name the name of the equipment to check
      * @return {@code true} if equipment with the specified name exists, {@code false} otherwise
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EQUIPMENT_QUERIES_CACHE_REGION)
+    })
     boolean existsByName(String name);
 
+    /**
+     * Finds the version of the equipment with the given ID.
+     *
+     * <p>
+     * Only the version column is read, and the result is served from the query cache.
+     * </p>
+     *
+     * @param id the ID of the equipment
+     * @return an {@link Optional} containing the version if the equipment exists, or an empty {@link Optional} if not
+     */
+    @Query("SELECT e.version FROM EquipmentEntity e WHERE e.id = :id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EQUIPMENT_QUERIES_CACHE_REGION)
+    })
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Finds a slice of equipment without counting the total number of equipment.
+     *
+     * <p>
+     * One extra row is fetched to determine whether a next slice exists, so no count query is run.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of equipment
+     */
+    Slice<EquipmentEntity> findAllBy(Pageable pageable);
+
+    /**
+     * Finds a page of equipment responses without loading the entities.
+     *
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link EquipmentResponseDTO} objects
+     */
+    @Query(
+            value = "SELECT new com.returdev.gym_exercises_api.dto.response.EquipmentResponseDTO(e.id, e.name) FROM EquipmentEntity e",
+            countQuery = "SELECT COUNT(e) FROM EquipmentEntity e"
+    )
+    Page<EquipmentResponseDTO> findAllResponses(Pageable pageable);
+
+    /**
+     * Finds a slice of equipment responses without loading the entities or counting them.
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link EquipmentResponseDTO} objects
+     */
+    @Query("SELECT new com.returdev.gym_exercises_api.dto.response.EquipmentResponseDTO(e.id, e.name) FROM EquipmentEntity e")
+    Slice<EquipmentResponseDTO> findAllResponsesBy(Pageable pageable);
+
+    /**
+     * Finds a window of equipment after or before the given keyset position.
+     *
+     * <p>
+     * The query seeks directly to the sort keys of the position, so it neither skips rows
+     * with an offset nor runs a count query.
+     * </p>
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order, which must be the same one used to obtain the position
+     * @param limit the maximum number of equipment in the window
+     * @return a {@link Window} of equipment
+     */
+    Window<EquipmentEntity> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
 }
 
@@ -1,16 +1,49 @@
 package com.returdev.gym_exercises_api.repositories.data;
 
 
+import com.returdev.gym_exercises_api.dto.response.EquipmentResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.ExerciseSummaryResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.MuscleEngagementResponseDTO;
 import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
 import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+import com.returdev.gym_exercises_api.model.projections.ExerciseEngagementRow;
+import com.returdev.gym_exercises_api.model.projections.ExerciseKeyProjection;
+import com.returdev.gym_exercises_api.model.projections.ExerciseResponseRow;
+import com.returdev.gym_exercises_api.model.projections.ExerciseSignatureProjection;
+import com.returdev.gym_exercises_api.model.projections.ExerciseSummaryRow;
+import com.returdev.gym_exercises_api.model.projections.ExerciseTextProjection;
+import com.returdev.gym_exercises_api.model.projections.ExerciseVersionProjection;
+import com.returdev.gym_exercises_api.model.projections.IdProjection;
+import com.returdev.gym_exercises_api.model.search.MuscleSignatureFilter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for {@link ExerciseEntity} that provides database access operations.
@@ -19,69 +52,235 @@ import java.util.List;
  * This repository extends {@link JpaRepository}, inheriting several CRUD methods, and
  * defines custom queries to retrieve exercises based on muscle engagements, equipment, and IDs.
  * </p>
+ *
+ * <p>
+ * Paginated lookups are resolved in two phases: a query selects the IDs of the requested page and
+ * a second query loads those exercises with their equipment and muscle engagements, so the number
+ * of statements per page does not grow with the page size.
+ * </p>
  */
 @Repository
 public interface ExerciseRepository extends JpaRepository<ExerciseEntity, Long> {
 
+    /**
+     * Number of rows fetched from the database per round trip when streaming the catalog.
+     */
+    String EXPORT_FETCH_SIZE = "1000";
+
+    /**
+     * Predicate of a {@link MuscleSignatureFilter} over the muscle signature of the exercises,
+     * with the signature folded by multiplying instead of shifting it. The masks are cast because
+     * the database can't infer the type of the parameters of the bitwise functions.
+     */
+    String MUSCLE_SIGNATURE_MATCHES = "bitand(bitor(bitor(bitand(ex.muscleSignature, cast(:levels AS Long)), "
+            + "bitand(ex.muscleSignature, cast(:levels AS Long)) * 2), bitand(ex.muscleSignature, cast(:levels AS Long)) * 4), "
+            + "cast(:muscles AS Long)) >= :minimum";
+
+    /**
+     * Finds a page of exercises with their equipment and muscle engagements already loaded.
+     *
+     * <p>
+     * The page is resolved in two phases: first the IDs of the requested page are selected, and
+     * then the matching exercises are loaded together with their associations in a single
+     * fetch-join query, avoiding one follow-up select per exercise.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Page} of exercises with their associations initialized
+     */
+    default Page<ExerciseEntity> findAllWithRelations(Pageable pageable) {
+        return fetchPageContent(findAllIds(pageable));
+    }
+
+    /**
+     * Finds a slice of exercises with their equipment and muscle engagements already loaded,
+     * without counting the total number of exercises.
+     *
+     * <p>
+     * The IDs query fetches one extra row to determine whether a next slice exists, and the
+     * matching exercises are then loaded with their associations in a single fetch-join query.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of exercises with their associations initialized
+     */
+    default Slice<ExerciseEntity> findAllWithRelationsAsSlice(Pageable pageable) {
+        Slice<Long> idSlice = findIdsBy(pageable);
+
+        return fetchSliceContent(idSlice);
+    }
+
+    /**
+     * Finds a slice of exercise responses without loading any entity.
+     *
+     * <p>
+     * The exercises of the slice and their equipment are selected into rows, and the muscle
+     * engagements of the whole slice are selected into rows by a second query and grouped by
+     * exercise. Nothing is added to the persistence context, so neither the entity graphs nor
+     * their dirty-checking snapshots are built.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link ExerciseResponseDTO} objects
+     */
+    default Slice<ExerciseResponseDTO> findAllResponsesAsSlice(Pageable pageable) {
+        Slice<ExerciseResponseRow> rowSlice = findResponseRowsBy(pageable);
+
+        Map<Long, List<MuscleEngagementResponseDTO>> engagementsByExerciseId =
+                fetchEngagementResponsesByExerciseIds(rowSlice.map(ExerciseResponseRow::id).getContent());
+
+        return rowSlice.map(row -> new ExerciseResponseDTO(
+                row.id(),
+                row.name(),
+                row.description(),
+                new EquipmentResponseDTO(row.equipmentId(), row.equipmentName()),
+                engagementsByExerciseId.getOrDefault(row.id(), List.of())
+        ));
+    }
+
+    /**
+     * Finds a slice of exercise summaries without loading any entity.
+     *
+     * <p>
+     * Like {@link #findAllResponsesAsSlice(Pageable)}, the rows and the muscle engagements of the
+     * slice are selected by two queries, and the description column is never selected.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link ExerciseSummaryResponseDTO} objects
+     */
+    default Slice<ExerciseSummaryResponseDTO> findAllSummariesAsSlice(Pageable pageable) {
+        Slice<ExerciseSummaryRow> rowSlice = findSummaryRowsBy(pageable);
+
+        Map<Long, List<MuscleEngagementResponseDTO>> engagementsByExerciseId =
+                fetchEngagementResponsesByExerciseIds(rowSlice.map(ExerciseSummaryRow::id).getContent());
+
+        return rowSlice.map(row -> rowToSummary(row, engagementsByExerciseId));
+    }
+
+    /**
+     * Finds a window of exercise summaries after or before the given keyset position, without
+     * loading any entity.
+     *
+     * <p>
+     * The IDs of the window are sought with the same keyset query as
+     * {@link #findAllWithRelations(ScrollPosition, Sort, Limit)}, so the cursors of both views
+     * are interchangeable, and then the summaries of the window are selected without the
+     * description column.
+     * </p>
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order, which must be the same one used to obtain the position
+     * @param limit the maximum number of exercises in the window
+     * @return a {@link Window} of {@link ExerciseSummaryResponseDTO} objects
+     */
+    default Window<ExerciseSummaryResponseDTO> findAllSummaries(ScrollPosition position, Sort sort, Limit limit) {
+        Window<IdProjection> idWindow = findIdsBy(position, sort, limit);
+        List<Long> ids = idWindow.map(IdProjection::getId).getContent();
+
+        Map<Long, List<MuscleEngagementResponseDTO>> engagementsByExerciseId = fetchEngagementResponsesByExerciseIds(ids);
+        Map<Long, ExerciseSummaryResponseDTO> summariesById = ids.isEmpty() ? Map.of() :
+                findSummaryRowsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(ExerciseSummaryRow::id, row -> rowToSummary(row, engagementsByExerciseId)));
+
+        return fetchWindowContent(idWindow, summariesById);
+    }
+
+    /**
+     * Finds a window of exercises after or before the given keyset position, with their equipment
+     * and muscle engagements already loaded.
+     *
+     * <p>
+     * The window is resolved in two phases: a keyset query seeks the IDs of the window using
+     * the sort keys of the position, without any offset or count query, and then the matching
+     * exercises are loaded with their associations in a single fetch-join query.
+     * </p>
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order, which must be the same one used to obtain the position
+     * @param limit the maximum number of exercises in the window
+     * @return a {@link Window} of exercises with their associations initialized
+     */
+    default Window<ExerciseEntity> findAllWithRelations(ScrollPosition position, Sort sort, Limit limit) {
+        Window<IdProjection> idWindow = findIdsBy(position, sort, limit);
+
+        return fetchWindowContent(idWindow, fetchByIds(idWindow.map(IdProjection::getId).getContent()));
+    }
+
     /**
      * Finds a page of exercises that engage a specific muscle.
      *
      * <p>
-     * This query joins the {@link ExerciseEntity} with its associated muscle engagements
-     * to find exercises involving a given {@link Muscle}.
+     * This method filters the {@link ExerciseEntity} by its muscle signature to find exercises
+     * involving a given {@link Muscle}, at any activation level, without reading the join table.
      * </p>
      *
      * @param muscle the muscle that the exercises engage
      * @param pageable the pagination information
      * @return a {@link Page} of exercises that involve the specified muscle
      */
-    @Query("SELECT ex FROM ExerciseEntity ex JOIN ex.musclesEngagement me WHERE me.muscle = :muscle")
-    Page<ExerciseEntity> findByMuscle(@Param("muscle") Muscle muscle, Pageable pageable);
+    default Page<ExerciseEntity> findByMuscle(Muscle muscle, Pageable pageable) {
+        return findByMuscleSignature(MuscleSignatureFilter.of(List.of(muscle), null, MuscleMatch.ANY), pageable);
+    }
 
     /**
      * Finds a page of exercises that engage any of the specified muscles.
      *
      * <p>
-     * This query joins the {@link ExerciseEntity} with its associated muscle engagements
-     * to find exercises that involve any muscle in the provided list.
+     * This method filters the {@link ExerciseEntity} by its muscle signature to find exercises
+     * that involve any muscle in the provided list, without reading the join table.
      * </p>
      *
      * @param muscles the list of muscles that the exercises engage
      * @param pageable the pagination information
      * @return a {@link Page} of exercises that involve the specified muscles
      */
-    @Query("SELECT ex FROM ExerciseEntity ex JOIN ex.musclesEngagement me WHERE me.muscle IN :muscles")
-    Page<ExerciseEntity> findByMuscles(@Param("muscles") List<Muscle> muscles, Pageable pageable);
+    default Page<ExerciseEntity> findByMuscles(List<Muscle> muscles, Pageable pageable) {
+        return findByMuscleSignature(MuscleSignatureFilter.of(muscles, null, MuscleMatch.ANY), pageable);
+    }
+
+    /**
+     * Finds a page of exercises whose muscle signature matches the given filter.
+     *
+     * @param filter the muscle signature filter
+     * @param pageable the pagination information
+     * @return a {@link Page} of matching exercises
+     */
+    default Page<ExerciseEntity> findByMuscleSignature(MuscleSignatureFilter filter, Pageable pageable) {
+        return fetchPageContent(findIdsByMuscleSignature(filter.levels(), filter.muscles(), filter.minimum(), pageable));
+    }
 
     /**
      * Finds a page of exercises by a specific muscle engagement ID.
      *
      * <p>
-     * This query retrieves exercises based on the muscle engagement ID by joining
-     * the exercise entity with its muscle engagements.
+     * This method retrieves exercises based on the muscle engagement ID by filtering
+     * the exercise entity by its muscle engagements.
      * </p>
      *
      * @param id the muscle engagement ID
      * @param pageable the pagination information
      * @return a {@link Page} of exercises associated with the given muscle engagement ID
      */
-    @Query("SELECT ex FROM ExerciseEntity ex JOIN ex.musclesEngagement me WHERE me.id = :id")
-    Page<ExerciseEntity> findByMuscleEngagementId(@Param("id") Long id, Pageable pageable);
+    default Page<ExerciseEntity> findByMuscleEngagementId(Long id, Pageable pageable) {
+        return fetchPageContent(findIdsByMuscleEngagementId(id, pageable));
+    }
 
     /**
      * Finds a page of exercises by multiple muscle engagement IDs.
      *
      * <p>
-     * This query retrieves exercises based on a list of muscle engagement IDs by joining
-     * the exercise entity with its muscle engagements.
+     * This method retrieves exercises based on a list of muscle engagement IDs by filtering
+     * the exercise entity by its muscle engagements. Each exercise is returned only once.
      * </p>
      *
      * @param ids the list of muscle engagement IDs
      * @param pageable the pagination information
      * @return a {@link Page} of exercises associated with the specified muscle engagement IDs
      */
-    @Query("SELECT ex FROM ExerciseEntity ex JOIN ex.musclesEngagement me WHERE me.id IN :ids")
-    Page<ExerciseEntity> findByMuscleEngagementIds(@Param("ids") List<Long> ids, Pageable pageable);
+    default Page<ExerciseEntity> findByMuscleEngagementIds(List<Long> ids, Pageable pageable) {
+        return fetchPageContent(findIdsByMuscleEngagementIds(ids, pageable));
+    }
 
     /**
      * Finds a page of exercises associated with a specific equipment.
@@ -90,7 +289,300 @@ public interface ExerciseRepository extends JpaRepository<ExerciseEntity, Long>
      * @param pageable the pagination information
      * @return a {@link Page} of exercises associated with the specified equipment
      */
-    Page<ExerciseEntity> findByEquipmentId(Long id, Pageable pageable);
+    default Page<ExerciseEntity> findByEquipmentId(Long id, Pageable pageable) {
+        return fetchPageContent(findIdsByEquipmentId(id, pageable));
+    }
+
+    /**
+     * Finds a slice of exercises whose muscle signature matches the given filter and, optionally,
+     * with a specific equipment, with their associations already loaded.
+     *
+     * <p>
+     * The filter is evaluated on the muscle signature column, so the join table is not read and
+     * no count query is run. Without an equipment, the muscle signature index is scanned instead
+     * of the table rows.
+     * </p>
+     *
+     * @param filter the muscle signature filter
+     * @param equipmentId the ID of the equipment to match, or {@code null} for any equipment
+     * @param pageable the pagination information
+     * @return a {@link Slice} of matching exercises with their associations initialized
+     */
+    default Slice<ExerciseEntity> searchByMuscleSignature(MuscleSignatureFilter filter, Long equipmentId, Pageable pageable) {
+        Slice<Long> idSlice = (equipmentId != null)
+                ? searchIdsByEquipmentIdAndMuscleSignature(equipmentId, filter.levels(), filter.muscles(), filter.minimum(), pageable)
+                : searchIdsByMuscleSignature(filter.levels(), filter.muscles(), filter.minimum(), pageable);
+
+        return fetchSliceContent(idSlice);
+    }
+
+    /**
+     * Counts the exercises returned by {@link #searchByMuscleSignature(MuscleSignatureFilter, Long, Pageable)}.
+     *
+     * @param filter the muscle signature filter
+     * @param equipmentId the ID of the equipment to match, or {@code null} for any equipment
+     * @return the number of matching exercises
+     */
+    default long countSearchByMuscleSignature(MuscleSignatureFilter filter, Long equipmentId) {
+        return (equipmentId != null)
+                ? countByEquipmentIdAndMuscleSignature(equipmentId, filter.levels(), filter.muscles(), filter.minimum())
+                : countByMuscleSignature(filter.levels(), filter.muscles(), filter.minimum());
+    }
+
+    /**
+     * Finds a slice of exercise rows with their equipment, without loading the entities.
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link ExerciseResponseRow} objects
+     */
+    @Query("SELECT new com.returdev.gym_exercises_api.model.projections.ExerciseResponseRow(ex.id, ex.name, ex.description, eq.id, eq.name) FROM ExerciseEntity ex JOIN ex.equipment eq")
+    Slice<ExerciseResponseRow> findResponseRowsBy(Pageable pageable);
+
+    /**
+     * Finds a slice of exercise summary rows with their equipment, without loading the entities
+     * nor selecting the description.
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link ExerciseSummaryRow} objects
+     */
+    @Query("SELECT new com.returdev.gym_exercises_api.model.projections.ExerciseSummaryRow(ex.id, ex.name, eq.id, eq.name) FROM ExerciseEntity ex JOIN ex.equipment eq")
+    Slice<ExerciseSummaryRow> findSummaryRowsBy(Pageable pageable);
+
+    /**
+     * Finds the summary rows of the exercises with the given IDs, without loading the entities
+     * nor selecting the description.
+     *
+     * @param ids the IDs of the exercises
+     * @return the summary rows of the exercises, in no particular order
+     */
+    @Query("SELECT new com.returdev.gym_exercises_api.model.projections.ExerciseSummaryRow(ex.id, ex.name, eq.id, eq.name) FROM ExerciseEntity ex JOIN ex.equipment eq WHERE ex.id IN :ids")
+    List<ExerciseSummaryRow> findSummaryRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the muscle engagement rows of the exercises with the given IDs, without loading the
+     * entities.
+     *
+     * @param ids the IDs of the exercises
+     * @return the muscle engagement rows of the exercises
+     */
+    @Query("SELECT new com.returdev.gym_exercises_api.model.projections.ExerciseEngagementRow(ex.id, me.id, me.muscle, me.muscleActivationLevel) FROM ExerciseEntity ex JOIN ex.musclesEngagement me WHERE ex.id IN :ids")
+    List<ExerciseEngagementRow> findEngagementRowsByExerciseIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds a page of exercise IDs.
+     *
+     * @param pageable the pagination information
+     * @return a {@link Page} of exercise IDs
+     */
+    @Query(
+            value = "SELECT ex.id FROM ExerciseEntity ex",
+            countQuery = "SELECT COUNT(ex) FROM ExerciseEntity ex"
+    )
+    Page<Long> findAllIds(Pageable pageable);
+
+    /**
+     * Finds a slice of exercise IDs without running a count query.
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of exercise IDs
+     */
+    @Query("SELECT ex.id FROM ExerciseEntity ex")
+    Slice<Long> findIdsBy(Pageable pageable);
+
+    /**
+     * Finds a window of exercise IDs after or before the given keyset position.
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order
+     * @param limit the maximum number of IDs in the window
+     * @return a {@link Window} of exercise IDs
+     */
+    Window<IdProjection> findIdsBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Finds a page of IDs of exercises whose muscle signature matches a {@link MuscleSignatureFilter}.
+     *
+     * @param levels the mask of the engagements with the searched activation level
+     * @param muscles the mask of the searched muscles
+     * @param minimum the minimum value of the masked folded signature
+     * @param pageable the pagination information
+     * @return a {@link Page} of exercise IDs
+     */
+    @Query(
+            value = "SELECT ex.id FROM ExerciseEntity ex WHERE " + MUSCLE_SIGNATURE_MATCHES,
+            countQuery = "SELECT COUNT(ex) FROM ExerciseEntity ex WHERE " + MUSCLE_SIGNATURE_MATCHES
+    )
+    Page<Long> findIdsByMuscleSignature(
+            @Param("levels") long levels,
+            @Param("muscles") long muscles,
+            @Param("minimum") long minimum,
+            Pageable pageable
+    );
+
+    /**
+     * Finds a page of IDs of exercises associated with a specific muscle engagement ID.
+     *
+     * @param id the muscle engagement ID
+     * @param pageable the pagination information
+     * @return a {@link Page} of exercise IDs
+     */
+    @Query("SELECT ex.id FROM ExerciseEntity ex WHERE EXISTS (SELECT 1 FROM ex.musclesEngagement me WHERE me.id = :id)")
+    Page<Long> findIdsByMuscleEngagementId(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Finds a page of IDs of exercises associated with any of the specified muscle engagement IDs.
+     *
+     * @param ids the list of muscle engagement IDs
+     * @param pageable the pagination information
+     * @return a {@link Page} of exercise IDs
+     */
+    @Query("SELECT ex.id FROM ExerciseEntity ex WHERE EXISTS (SELECT 1 FROM ex.musclesEngagement me WHERE me.id IN :ids)")
+    Page<Long> findIdsByMuscleEngagementIds(@Param("ids") List<Long> ids, Pageable pageable);
+
+    /**
+     * Finds a page of IDs of exercises associated with a specific equipment.
+     *
+     * @param id the ID of the equipment
+     * @param pageable the pagination information
+     * @return a {@link Page} of exercise IDs
+     */
+    @Query("SELECT ex.id FROM ExerciseEntity ex WHERE ex.equipment.id = :id")
+    Page<Long> findIdsByEquipmentId(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Finds a slice of IDs of exercises whose muscle signature matches a {@link MuscleSignatureFilter}.
+     *
+     * @param levels the mask of the engagements with the searched activation level
+     * @param muscles the mask of the searched muscles
+     * @param minimum the minimum value of the masked folded signature
+     * @param pageable the pagination information
+     * @return a {@link Slice} of exercise IDs
+     */
+    @Query("SELECT ex.id FROM ExerciseEntity ex WHERE " + MUSCLE_SIGNATURE_MATCHES)
+    Slice<Long> searchIdsByMuscleSignature(
+            @Param("levels") long levels,
+            @Param("muscles") long muscles,
+            @Param("minimum") long minimum,
+            Pageable pageable
+    );
+
+    /**
+     * Finds a slice of IDs of exercises with a specific equipment whose muscle signature matches a
+     * {@link MuscleSignatureFilter}.
+     *
+     * @param equipmentId the ID of the equipment
+     * @param levels the mask of the engagements with the searched activation level
+     * @param muscles the mask of the searched muscles
+     * @param minimum the minimum value of the masked folded signature
+     * @param pageable the pagination information
+     * @return a {@link Slice} of exercise IDs
+     */
+    @Query("SELECT ex.id FROM ExerciseEntity ex WHERE ex.equipment.id = :equipmentId AND " + MUSCLE_SIGNATURE_MATCHES)
+    Slice<Long> searchIdsByEquipmentIdAndMuscleSignature(
+            @Param("equipmentId") Long equipmentId,
+            @Param("levels") long levels,
+            @Param("muscles") long muscles,
+            @Param("minimum") long minimum,
+            Pageable pageable
+    );
+
+    /**
+     * Counts the exercises whose muscle signature matches a {@link MuscleSignatureFilter}.
+     *
+     * @param levels the mask of the engagements with the searched activation level
+     * @param muscles the mask of the searched muscles
+     * @param minimum the minimum value of the masked folded signature
+     * @return the number of matching exercises
+     */
+    @Query("SELECT COUNT(ex) FROM ExerciseEntity ex WHERE " + MUSCLE_SIGNATURE_MATCHES)
+    long countByMuscleSignature(
+            @Param("levels") long levels,
+            @Param("muscles") long muscles,
+            @Param("minimum") long minimum
+    );
+
+    /**
+     * Counts the exercises with a specific equipment whose muscle signature matches a
+     * {@link MuscleSignatureFilter}.
+     *
+     * @param equipmentId the ID of the equipment
+     * @param levels the mask of the engagements with the searched activation level
+     * @param muscles the mask of the searched muscles
+     * @param minimum the minimum value of the masked folded signature
+     * @return the number of matching exercises
+     */
+    @Query("SELECT COUNT(ex) FROM ExerciseEntity ex WHERE ex.equipment.id = :equipmentId AND " + MUSCLE_SIGNATURE_MATCHES)
+    long countByEquipmentIdAndMuscleSignature(
+            @Param("equipmentId") Long equipmentId,
+            @Param("levels") long levels,
+            @Param("muscles") long muscles,
+            @Param("minimum") long minimum
+    );
+
+    /**
+     * Finds the exercises with the given IDs, loading their equipment and muscle engagements
+     * in the same query.
+     *
+     * <p>
+     * The order of the returned list is not guaranteed to match the order of the given IDs.
+     * </p>
+     *
+     * @param ids the IDs of the exercises to load
+     * @return a list of exercises with their associations initialized
+     */
+    @Query("SELECT ex FROM ExerciseEntity ex JOIN FETCH ex.equipment LEFT JOIN FETCH ex.musclesEngagement WHERE ex.id IN :ids")
+    List<ExerciseEntity> findAllWithRelationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Streams every exercise with its equipment and muscle engagements, ordered by ID.
+     *
+     * <p>
+     * Rows are read forward-only in batches of {@link #EXPORT_FETCH_SIZE}, so the catalog is never
+     * loaded at once. The entities are read-only and bypass the second-level cache. Since the rows of
+     * an exercise are consecutive, each exercise is complete when the next one is emitted, and the
+     * caller can detach it once processed. The stream must be consumed inside a transaction and
+     * closed after use.
+     * </p>
+     *
+     * @return a {@link Stream} of every exercise with its associations initialized
+     */
+    @Query("SELECT ex FROM ExerciseEntity ex JOIN FETCH ex.equipment LEFT JOIN FETCH ex.musclesEngagement ORDER BY ex.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<ExerciseEntity> streamAllWithRelations();
+
+    /**
+     * Streams the ID, name, description and version of every exercise.
+     *
+     * <p>
+     * Only the searchable columns are read, in batches of {@link #EXPORT_FETCH_SIZE} rows, so the
+     * full-text index can be built without loading the entities. The stream must be consumed
+     * inside a transaction and closed after use.
+     * </p>
+     *
+     * @return a {@link Stream} of the searchable text of every exercise
+     */
+    @Query("SELECT ex.id AS id, ex.name AS name, ex.description AS description, ex.version AS version FROM ExerciseEntity ex")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    Stream<ExerciseTextProjection> streamTextBy();
+
+    /**
+     * Streams the ID, muscle signature, equipment ID and version of every exercise.
+     *
+     * <p>
+     * Only these columns are read, in batches of {@link #EXPORT_FETCH_SIZE} rows, so the muscle
+     * index can be built without loading the entities. The stream must be consumed inside a
+     * transaction and closed after use.
+     * </p>
+     *
+     * @return a {@link Stream} of the muscle signature of every exercise
+     */
+    @Query("SELECT ex.id AS id, ex.muscleSignature AS muscleSignature, ex.equipment.id AS equipmentId, ex.version AS version FROM ExerciseEntity ex")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    Stream<ExerciseSignatureProjection> streamSignatureBy();
 
     /**
      * Checks whether an exercise with the specified name and equipment ID exists.
@@ -101,5 +593,162 @@ public interface ExerciseRepository extends JpaRepository<ExerciseEntity, Long>
      */
     boolean existsByNameAndEquipmentId(String name, Long equipmentId);
 
-}
+    /**
+     * Checks whether an exercise other than the given one has the specified name and equipment ID.
+     *
+     * @param name the name of the exercise
+     * @param equipmentId the ID of the associated equipment
+     * @param id the ID of the exercise to exclude
+     * @return {@code true} if another exercise with the specified name and equipment exists, {@code false} otherwise
+     */
+    boolean existsByNameAndEquipmentIdAndIdNot(String name, Long equipmentId, Long id);
+
+    /**
+     * Finds the name and equipment ID of the exercises with any of the given names.
+     *
+     * <p>
+     * It allows checking the existence of many exercises with a single query, instead of
+     * calling {@link #existsByNameAndEquipmentId(String, Long)} for each one.
+     * </p>
+     *
+     * @param names the names of the exercises
+     * @return the keys of the exercises with any of the given names
+     */
+    @Query("SELECT ex.name AS name, ex.equipment.id AS equipmentId FROM ExerciseEntity ex WHERE ex.name IN :names")
+    List<ExerciseKeyProjection> findKeysByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * Finds the version of the exercise with the given ID and the version of its equipment.
+     *
+     * <p>
+     * Only the two version columns are read, so the exercise and its associations are not loaded.
+     * </p>
+     *
+     * @param id the ID of the exercise
+     * @return an {@link Optional} containing the versions if the exercise exists, or an empty {@link Optional} if not
+     */
+    @Query("SELECT ex.version AS version, eq.version AS equipmentVersion FROM ExerciseEntity ex JOIN ex.equipment eq WHERE ex.id = :id")
+    Optional<ExerciseVersionProjection> findVersionById(@Param("id") Long id);
+
+    /**
+     * Replaces the IDs of a page with the corresponding fully loaded exercises, keeping the
+     * order and pagination metadata of the ID page. The exercises deleted since the IDs were
+     * selected are skipped.
+     *
+     * @param idPage the page of exercise IDs
+     * @return a {@link Page} of exercises in the same order as the IDs
+     */
+    private Page<ExerciseEntity> fetchPageContent(Page<Long> idPage) {
+        return new PageImpl<>(fetchInOrder(idPage.getContent()), idPage.getPageable(), idPage.getTotalElements());
+    }
 
+    /**
+     * Replaces the IDs of a slice with the corresponding fully loaded exercises, keeping the
+     * order and pagination metadata of the ID slice. The exercises deleted since the IDs were
+     * selected are skipped.
+     *
+     * @param idSlice the slice of exercise IDs
+     * @return a {@link Slice} of exercises in the same order as the IDs
+     */
+    private Slice<ExerciseEntity> fetchSliceContent(Slice<Long> idSlice) {
+        return new SliceImpl<>(fetchInOrder(idSlice.getContent()), idSlice.getPageable(), idSlice.hasNext());
+    }
+
+    /**
+     * Replaces the IDs of a window with the given elements, keeping the order of the IDs and the
+     * keyset position of each element. The IDs without an element, deleted since they were
+     * selected, are skipped.
+     *
+     * @param idWindow the window of exercise IDs
+     * @param elementsById the elements of the window by exercise ID
+     * @param <T> the type of the elements
+     * @return a {@link Window} of the elements in the same order as the IDs
+     */
+    private <T> Window<T> fetchWindowContent(Window<IdProjection> idWindow, Map<Long, T> elementsById) {
+        List<IdProjection> ids = idWindow.getContent();
+        int[] indexes = IntStream.range(0, ids.size())
+                .filter(index -> elementsById.containsKey(ids.get(index).getId()))
+                .toArray();
+
+        return Window.from(
+                Arrays.stream(indexes).mapToObj(index -> elementsById.get(ids.get(index).getId())).toList(),
+                index -> idWindow.positionAt(indexes[index]),
+                idWindow.hasNext()
+        );
+    }
+
+    /**
+     * Loads the exercises with the given IDs and their associations, in the order of the IDs and
+     * skipping the exercises deleted since the IDs were selected.
+     *
+     * @param ids the IDs of the exercises to load
+     * @return the loaded exercises in the order of the IDs
+     */
+    private List<ExerciseEntity> fetchInOrder(List<Long> ids) {
+        Map<Long, ExerciseEntity> exercisesById = fetchByIds(ids);
+
+        return ids.stream()
+                .map(exercisesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Loads the exercises with the given IDs and their associations, indexed by ID.
+     * No query is run when there are no IDs.
+     *
+     * @param ids the IDs of the exercises to load
+     * @return a map of the loaded exercises by ID
+     */
+    private Map<Long, ExerciseEntity> fetchByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return findAllWithRelationsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ExerciseEntity::getId, Function.identity(), (first, duplicate) -> first));
+    }
+
+    /**
+     * Selects the muscle engagements of the exercises with the given IDs into response DTOs,
+     * grouped by exercise ID. No query is run when there are no IDs.
+     *
+     * @param ids the IDs of the exercises
+     * @return a map of the muscle engagements by exercise ID
+     */
+    private Map<Long, List<MuscleEngagementResponseDTO>> fetchEngagementResponsesByExerciseIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return findEngagementRowsByExerciseIdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        ExerciseEngagementRow::exerciseId,
+                        Collectors.mapping(
+                                row -> new MuscleEngagementResponseDTO(
+                                        row.muscleEngagementId(),
+                                        row.muscle().name(),
+                                        row.muscleActivationLevel().name()
+                                ),
+                                Collectors.toList()
+                        )
+                ));
+    }
+
+    /**
+     * Builds the summary of an exercise from its row and the muscle engagements of its page.
+     *
+     * @param row the summary row of the exercise
+     * @param engagementsByExerciseId the muscle engagements of the page by exercise ID
+     * @return the summary of the exercise
+     */
+    private static ExerciseSummaryResponseDTO rowToSummary(ExerciseSummaryRow row, Map<Long, List<MuscleEngagementResponseDTO>> engagementsByExerciseId) {
+        return new ExerciseSummaryResponseDTO(
+                row.id(),
+                row.name(),
+                new EquipmentResponseDTO(row.equipmentId(), row.equipmentName()),
+                engagementsByExerciseId.getOrDefault(row.id(), List.of())
+        );
+    }
+
+}
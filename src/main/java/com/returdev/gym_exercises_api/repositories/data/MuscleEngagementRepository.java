@@ -63,5 +63,14 @@ public interface MuscleEngagementRepository extends JpaRepository<MuscleEngageme
     @Query("SELECT me FROM MuscleEngagementEntity me WHERE me.muscle = :muscle AND me.muscleActivationLevel = :activationLevel")
     MuscleEngagementEntity findByMuscleAndActivationLevel(@Param("muscle") Muscle muscle, @Param("activationLevel") MuscleActivationLevel activationLevel);
 
-}
+    /**
+     * Finds a list of muscle engagement entities whose muscle and activation level are among the given values.
+     *
+     * @param muscles the list of muscles to filter by
+     * @param activationLevels the list of activation levels to filter by
+     * @return a list of {@link MuscleEngagementEntity} that match the specified muscles and activation levels
+     */
+    @Query("SELECT me FROM MuscleEngagementEntity me WHERE me.muscle IN :muscles AND me.muscleActivationLevel IN :activationLevels")
+    List<MuscleEngagementEntity> findByMusclesAndActivationLevels(@Param("muscles") List<Muscle> muscles, @Param("activationLevels") List<MuscleActivationLevel> activationLevels);
 
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.returdev.gym_exercises_api.service.data.cache;
+
+import com.returdev.gym_exercises_api.model.cache.CacheRegionUsage;
+
+import java.util.List;
+
+/**
+ * Service interface for reading the statistics of the Hibernate second-level cache.
+ *
+ * <p>
+ * The hit, miss and put counts of each region are used to size the regions.
+ * </p>
+ */
+public interface CacheStatisticsService {
+
+    /**
+     * Retrieves the usage of every entity, collection and query cache region.
+     *
+     * @return the usage of each region, sorted by region name
+     */
+    List<CacheRegionUsage> getCacheRegionUsages();
+
+}
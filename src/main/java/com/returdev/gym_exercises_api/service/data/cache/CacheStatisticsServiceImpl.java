@@ -0,0 +1,56 @@
+package com.returdev.gym_exercises_api.service.data.cache;
+
+import com.returdev.gym_exercises_api.model.cache.CacheRegionUsage;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the {@link CacheStatisticsService} interface backed by the Hibernate statistics.
+ *
+ * <p>
+ * The statistics are only collected when {@code hibernate.generate_statistics} is enabled.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CacheRegionUsage> getCacheRegionUsages() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Statistics statistics = sessionFactory.getStatistics();
+
+        // Unlike the region names of the statistics, the cache region names include the query regions
+        return sessionFactory.getCache()
+                .getCacheRegionNames()
+                .stream()
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(this::toCacheRegionUsage)
+                .sorted(Comparator.comparing(CacheRegionUsage::region))
+                .toList();
+    }
+
+    private CacheRegionUsage toCacheRegionUsage(CacheRegionStatistics regionStatistics) {
+        return new CacheRegionUsage(
+                regionStatistics.getRegionName(),
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount()
+        );
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.returdev.gym_exercises_api.service.data.cache;
+
+import com.returdev.gym_exercises_api.model.cache.CachedResponseBody;
+import com.returdev.gym_exercises_api.model.cache.ResponseBodySource;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the serialized and compressed response bodies of the exercise and equipment reads.
+ *
+ * <p>
+ * A cached body is written to the response as is, so neither the DTO mapping nor the JSON
+ * serialization run again while it is valid. Each body is tagged with the exercises, equipment and
+ * lists it was built from, and the write methods of the services invalidate the tags they change
+ * once their transaction commits. The memory taken by the cached bodies is bounded.
+ * </p>
+ */
+public interface ResponseBodyCache {
+
+    /**
+     * The tag of every page of the exercise list.
+     */
+    String EXERCISE_LIST_TAG = "exercise-list";
+
+    /**
+     * The tag of every page of the exercise list in the summary view.
+     */
+    String EXERCISE_SUMMARY_LIST_TAG = "exercise-summary-list";
+
+    /**
+     * The tag of every page of the equipment list.
+     */
+    String EQUIPMENT_LIST_TAG = "equipment-list";
+
+    /**
+     * Returns the tag of the bodies that contain the given exercise.
+     *
+     * @param id the ID of the exercise
+     * @return the tag of the exercise
+     */
+    static String exerciseTag(Long id) {
+        return "exercise:" + id;
+    }
+
+    /**
+     * Returns the tag of the bodies that contain the given equipment.
+     *
+     * @param id the ID of the equipment
+     * @return the tag of the equipment
+     */
+    static String equipmentTag(Long id) {
+        return "equipment:" + id;
+    }
+
+    /**
+     * Indicates whether the response bodies must be served from the cache.
+     *
+     * @return {@code true} if the response body cache is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the cached body of the given key, or loads, serializes and caches it if it is absent
+     * or has been invalidated.
+     *
+     * @param key the key of the body
+     * @param loader the function that builds the body, called only on a miss
+     * @return the serialized body
+     */
+    CachedResponseBody get(String key, Supplier<ResponseBodySource> loader);
+
+    /**
+     * Returns the cached body of a list page, or loads, serializes and caches it. Only the first
+     * pages are cached; the deeper ones are serialized on every call.
+     *
+     * @param listTag the tag of the list
+     * @param pageable the page of the list
+     * @param slice whether the page omits the totals
+     * @param loader the function that builds the body, called only on a miss
+     * @return the serialized body
+     */
+    CachedResponseBody getPage(String listTag, Pageable pageable, boolean slice, Supplier<ResponseBodySource> loader);
+
+    /**
+     * Invalidates the bodies of the given exercises and every page of the exercise list, in both
+     * views, once the current transaction, if any, commits.
+     *
+     * @param ids the IDs of the created, updated or deleted exercises
+     */
+    void exercisesChanged(Collection<Long> ids);
+
+    /**
+     * Invalidates the bodies of the given equipment, including the exercises and pages that embed
+     * it, and every page of the equipment list once the current transaction, if any, commits.
+     *
+     * @param id the ID of the created, updated or deleted equipment
+     */
+    void equipmentChanged(Long id);
+
+}
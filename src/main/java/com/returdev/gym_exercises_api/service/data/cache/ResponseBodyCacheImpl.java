@@ -0,0 +1,250 @@
+package com.returdev.gym_exercises_api.service.data.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.returdev.gym_exercises_api.config.datasource.ReadYourWritesContext;
+import com.returdev.gym_exercises_api.model.cache.CachedResponseBody;
+import com.returdev.gym_exercises_api.model.cache.ResponseBodySource;
+import com.returdev.gym_exercises_api.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Implementation of the {@link ResponseBodyCache} backed by a Caffeine cache weighed by the size
+ * of the bodies.
+ *
+ * <p>
+ * The cache is enabled by the {@code spring.response-cache.enabled} property and bounded by
+ * {@code spring.response-cache.maximum-size}, and its bodies expire after
+ * {@code spring.response-cache.time-to-live}. Each tag has a version, incremented when the tag is
+ * invalidated, and each body records the versions of its tags when it was loaded, so invalidating
+ * a tag does not need to find the bodies that depend on it: they are reloaded on their next read,
+ * or evicted by size before. Like the {@code ExerciseCountCache}, a body loaded while an
+ * invalidation happens is returned to its caller but not cached.
+ * </p>
+ *
+ * <p>
+ * The versions are kept for at most {@value #MAXIMUM_TAGS} tags. Beyond that, every version and
+ * every body are dropped together, as a body can't tell a dropped version from one that was never
+ * incremented.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBodyCacheImpl implements ResponseBodyCache {
+
+    private static final String CACHE_NAME = "response_bodies";
+    private static final int MAXIMUM_CACHED_PAGES = 10;
+    private static final int MAXIMUM_TAGS = 10_000;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.response-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${spring.response-cache.maximum-size:32MB}")
+    private DataSize maximumSize;
+
+    @Value("${spring.response-cache.time-to-live:10m}")
+    private Duration timeToLive;
+
+    private final Map<String, Long> tagVersions = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private Cache<String, CacheEntry> bodies;
+
+    /**
+     * Builds the cache and registers its metrics when the cache is enabled.
+     */
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+
+        bodies = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String key, CacheEntry entry) -> key.length() + entry.body().size())
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, bodies, CACHE_NAME);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CachedResponseBody get(String key, Supplier<ResponseBodySource> loader) {
+        CacheEntry cachedEntry = bodies.getIfPresent(key);
+        if (cachedEntry != null) {
+            if (isValid(cachedEntry)) {
+                return cachedEntry.body();
+            }
+            bodies.asMap().remove(key, cachedEntry);
+        }
+
+        long loadGeneration = generation.get();
+        // Loaded from the primary database, which has the writes that invalidated the previous body
+        ResponseBodySource source = ReadYourWritesContext.callOnPrimary(loader);
+
+        // The versions are read after the load, as the tags of the body are only known then
+        Map<String, Long> versions = source.tags()
+                .stream()
+                .collect(Collectors.toMap(tag -> tag, tag -> tagVersions.getOrDefault(tag, 0L)));
+        CachedResponseBody body = serialize(source);
+
+        if (generation.get() == loadGeneration) {
+            bodies.put(key, new CacheEntry(body, versions));
+        }
+
+        return body;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CachedResponseBody getPage(String listTag, Pageable pageable, boolean slice, Supplier<ResponseBodySource> loader) {
+        if (pageable.getPageNumber() >= MAXIMUM_CACHED_PAGES) {
+            return serialize(loader.get());
+        }
+
+        return get(
+                listTag + "?page=" + pageable.getPageNumber()
+                        + "&size=" + pageable.getPageSize()
+                        + "&sort=" + pageable.getSort()
+                        + "&slice=" + slice,
+                loader
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void exercisesChanged(Collection<Long> ids) {
+        Set<String> tags = new HashSet<>();
+        tags.add(EXERCISE_LIST_TAG);
+        tags.add(EXERCISE_SUMMARY_LIST_TAG);
+        ids.forEach(id -> tags.add(ResponseBodyCache.exerciseTag(id)));
+
+        afterCommit(tags);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void equipmentChanged(Long id) {
+        afterCommit(Set.of(EQUIPMENT_LIST_TAG, ResponseBodyCache.equipmentTag(id)));
+    }
+
+    /**
+     * Invalidates the given tags after the current transaction commits, or immediately outside of
+     * a transaction. Nothing is invalidated when the cache is disabled.
+     *
+     * @param tags the tags to invalidate
+     */
+    private void afterCommit(Set<String> tags) {
+        if (!enabled) {
+            return;
+        }
+
+        TransactionUtil.afterCommit(() -> invalidate(tags));
+    }
+
+    /**
+     * Increments the versions of the given tags, or drops every version and body when there would
+     * be too many tags. The generation is incremented first, so a body loaded meanwhile is either
+     * not cached or recorded with the previous versions.
+     *
+     * @param tags the tags to invalidate
+     */
+    private void invalidate(Set<String> tags) {
+        generation.incrementAndGet();
+
+        if (tagVersions.size() + tags.size() > MAXIMUM_TAGS) {
+            tagVersions.clear();
+            bodies.invalidateAll();
+            return;
+        }
+
+        tags.forEach(tag -> tagVersions.merge(tag, 1L, Long::sum));
+    }
+
+    /**
+     * Checks whether none of the tags of a cached body has been invalidated since it was loaded.
+     *
+     * @param entry the cached body and the versions of its tags
+     * @return {@code true} if the body is still valid
+     */
+    private boolean isValid(CacheEntry entry) {
+        return entry.tagVersions()
+                .entrySet()
+                .stream()
+                .allMatch(tagVersion -> tagVersions.getOrDefault(tagVersion.getKey(), 0L).equals(tagVersion.getValue()));
+    }
+
+    /**
+     * Serializes a body to JSON with the same object mapper as the responses, and compresses it.
+     *
+     * @param source the body to serialize
+     * @return the serialized body and its compressed variant
+     */
+    private CachedResponseBody serialize(ResponseBodySource source) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(source.body());
+
+            ByteArrayOutputStream gzipBody = new ByteArrayOutputStream(body.length / 2);
+            try (GZIPOutputStream output = new GZIPOutputStream(gzipBody)) {
+                output.write(body);
+            }
+
+            return new CachedResponseBody(body, gzipBody.toByteArray(), source.eTag());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * A cached body with the versions of its tags when it was loaded.
+     *
+     * @param body the serialized body
+     * @param tagVersions the version of each tag of the body
+     */
+    private record CacheEntry(CachedResponseBody body, Map<String, Long> tagVersions) {
+    }
+
+}
@@ -0,0 +1,802 @@
+package com.returdev.gym_exercises_api.service.data.catalog;
+
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.projections.ExerciseVersionProjection;
+import com.returdev.gym_exercises_api.model.search.MuscleSignature;
+import com.returdev.gym_exercises_api.model.search.MuscleSignatureFilter;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the catalog, indexed for every read operation of the services.
+ *
+ * <p>
+ * Equipment and exercises are kept ordered by ID and by name, and exercises are also grouped by
+ * equipment and by engaged muscle, each group ordered by ID. Pages, slices and keyset windows are
+ * cut from these lists, and muscle searches only scan the smallest group that every match belongs
+ * to, so no read needs the database. Entities ordered by name are ordered by ID among equal names,
+ * and the whole order is reversed when descending.
+ * </p>
+ *
+ * <p>
+ * A snapshot is never modified. Writes derive a new snapshot with {@link #withExercises},
+ * {@link #withoutExercise}, {@link #withEquipment} or {@link #withoutEquipment}, which shares the
+ * unchanged entities with this one. The entities are detached copies owned by the snapshot, so
+ * callers must not modify them.
+ * </p>
+ */
+public final class CatalogSnapshot {
+
+    private static final String ID_PROPERTY = "id";
+    private static final String NAME_PROPERTY = "name";
+
+    private static final Muscle[] MUSCLES = Muscle.values();
+
+    private static final Comparator<EquipmentEntity> EQUIPMENT_BY_ID = Comparator.comparing(EquipmentEntity::getId);
+    private static final Comparator<EquipmentEntity> EQUIPMENT_BY_NAME = Comparator.comparing(EquipmentEntity::getName)
+            .thenComparing(EQUIPMENT_BY_ID);
+    private static final Comparator<ExerciseEntity> EXERCISE_BY_ID = Comparator.comparing(ExerciseEntity::getId);
+    private static final Comparator<ExerciseEntity> EXERCISE_BY_NAME = Comparator.comparing(ExerciseEntity::getName)
+            .thenComparing(EXERCISE_BY_ID);
+
+    private static final CatalogSnapshot EMPTY = new CatalogSnapshot(List.of(), List.of(), Map.of());
+
+    private final Map<Long, MuscleEngagementEntity> engagementsById;
+
+    private final OrderedEntities<EquipmentEntity> equipments;
+    private final Map<Long, EquipmentEntity> equipmentsById;
+
+    private final OrderedEntities<ExerciseEntity> exercises;
+    private final Map<Long, ExerciseEntity> exercisesById;
+    private final Map<Long, List<ExerciseEntity>> exercisesByEquipmentId;
+    private final List<List<ExerciseEntity>> exercisesByMuscle;
+
+    /**
+     * Indexes entities that are already owned by the snapshot.
+     *
+     * @param equipments the equipment of the snapshot
+     * @param exercises the exercises of the snapshot, linked to its equipment
+     * @param engagementsById the muscle engagements shared by the exercises, by ID
+     */
+    private CatalogSnapshot(
+            Collection<EquipmentEntity> equipments,
+            Collection<ExerciseEntity> exercises,
+            Map<Long, MuscleEngagementEntity> engagementsById
+    ) {
+        this.engagementsById = engagementsById;
+
+        this.equipments = new OrderedEntities<>(
+                sorted(equipments, EQUIPMENT_BY_ID),
+                sorted(equipments, EQUIPMENT_BY_NAME),
+                EquipmentEntity::getId,
+                EquipmentEntity::getName,
+                EquipmentEntity.class
+        );
+        this.equipmentsById = indexById(equipments, EquipmentEntity::getId);
+
+        this.exercises = new OrderedEntities<>(
+                sorted(exercises, EXERCISE_BY_ID),
+                sorted(exercises, EXERCISE_BY_NAME),
+                ExerciseEntity::getId,
+                ExerciseEntity::getName,
+                ExerciseEntity.class
+        );
+        this.exercisesById = indexById(exercises, ExerciseEntity::getId);
+        this.exercisesByEquipmentId = this.exercises.byId().stream()
+                .collect(Collectors.groupingBy(
+                        exercise -> exercise.getEquipment().getId(),
+                        Collectors.toUnmodifiableList()
+                ));
+        this.exercisesByMuscle = groupByMuscle(this.exercises.byId());
+    }
+
+    /**
+     * Returns a snapshot without equipment nor exercises.
+     *
+     * @return the empty {@link CatalogSnapshot}
+     */
+    public static CatalogSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a snapshot of the given catalog. The entities are copied, so they can be loaded
+     * by a persistence context that is closed afterwards.
+     *
+     * @param equipments every equipment
+     * @param exercises every exercise, with its equipment and muscle engagements initialized
+     * @param engagements every muscle engagement, shared by the copies of the exercises
+     * @return the {@link CatalogSnapshot} of the catalog
+     */
+    public static CatalogSnapshot of(
+            Collection<EquipmentEntity> equipments,
+            Collection<ExerciseEntity> exercises,
+            Collection<MuscleEngagementEntity> engagements
+    ) {
+        Map<Long, MuscleEngagementEntity> engagementsById = indexById(
+                engagements.stream().map(CatalogSnapshot::copyOf).toList(),
+                MuscleEngagementEntity::getId
+        );
+        Map<Long, EquipmentEntity> equipmentsById = indexById(
+                equipments.stream().map(CatalogSnapshot::copyOf).toList(),
+                EquipmentEntity::getId
+        );
+
+        return new CatalogSnapshot(
+                equipmentsById.values(),
+                exercises.stream().map(exercise -> copyOf(exercise, equipmentsById, engagementsById)).toList(),
+                engagementsById
+        );
+    }
+
+    /**
+     * Finds an equipment by its ID.
+     *
+     * @param id the ID of the equipment
+     * @return an {@link Optional} with the equipment, or empty if it doesn't exist
+     */
+    public Optional<EquipmentEntity> findEquipmentById(Long id) {
+        return Optional.ofNullable(id).map(equipmentsById::get);
+    }
+
+    /**
+     * Finds the version of an equipment by its ID.
+     *
+     * @param id the ID of the equipment
+     * @return an {@link Optional} with the version, or empty if the equipment doesn't exist
+     */
+    public Optional<Long> findEquipmentVersionById(Long id) {
+        return findEquipmentById(id).map(EquipmentEntity::getVersion);
+    }
+
+    /**
+     * Returns a page of the equipment.
+     *
+     * @param pageable the pagination information, ordered by ID or name
+     * @return a {@link Page} of {@link EquipmentEntity} objects
+     */
+    public Page<EquipmentEntity> getEquipments(Pageable pageable) {
+        return page(equipments.ordered(pageable.getSort()), pageable);
+    }
+
+    /**
+     * Returns a slice of the equipment, which only reports whether a next slice exists.
+     *
+     * @param pageable the pagination information, ordered by ID or name
+     * @return a {@link Slice} of {@link EquipmentEntity} objects
+     */
+    public Slice<EquipmentEntity> getEquipmentsSlice(Pageable pageable) {
+        return slice(equipments.ordered(pageable.getSort()), pageable);
+    }
+
+    /**
+     * Returns the window of equipment that follows or precedes a keyset position.
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order of the equipment, by ID or name
+     * @param limit the maximum number of equipment in the window
+     * @return a {@link Window} of {@link EquipmentEntity} objects
+     */
+    public Window<EquipmentEntity> getEquipments(ScrollPosition position, Sort sort, int limit) {
+        return equipments.window((KeysetScrollPosition) position, sort, limit);
+    }
+
+    /**
+     * Finds an exercise by its ID.
+     *
+     * @param id the ID of the exercise
+     * @return an {@link Optional} with the exercise, or empty if it doesn't exist
+     */
+    public Optional<ExerciseEntity> findExerciseById(Long id) {
+        return Optional.ofNullable(id).map(exercisesById::get);
+    }
+
+    /**
+     * Finds the version of an exercise and the version of its equipment by the exercise ID.
+     *
+     * @param id the ID of the exercise
+     * @return an {@link Optional} with the versions, or empty if the exercise doesn't exist
+     */
+    public Optional<ExerciseVersionProjection> findExerciseVersionById(Long id) {
+        return findExerciseById(id).map(exercise -> new ExerciseVersion(
+                exercise.getVersion(),
+                exercise.getEquipment().getVersion()
+        ));
+    }
+
+    /**
+     * Finds the exercises with the given IDs, keeping the order of the IDs and skipping the
+     * exercises that don't exist.
+     *
+     * @param ids the IDs of the exercises
+     * @return the exercises, in the order of the IDs
+     */
+    public List<ExerciseEntity> findExercisesByIds(List<Long> ids) {
+        return ids.stream()
+                .map(exercisesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Returns a page of the exercises.
+     *
+     * @param pageable the pagination information, ordered by ID or name
+     * @return a {@link Page} of {@link ExerciseEntity} objects
+     */
+    public Page<ExerciseEntity> getExercises(Pageable pageable) {
+        return page(exercises.ordered(pageable.getSort()), pageable);
+    }
+
+    /**
+     * Returns a slice of the exercises, which only reports whether a next slice exists.
+     *
+     * @param pageable the pagination information, ordered by ID or name
+     * @return a {@link Slice} of {@link ExerciseEntity} objects
+     */
+    public Slice<ExerciseEntity> getExercisesSlice(Pageable pageable) {
+        return slice(exercises.ordered(pageable.getSort()), pageable);
+    }
+
+    /**
+     * Returns the window of exercises that follows or precedes a keyset position.
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order of the exercises, by ID or name
+     * @param limit the maximum number of exercises in the window
+     * @return a {@link Window} of {@link ExerciseEntity} objects
+     */
+    public Window<ExerciseEntity> getExercises(ScrollPosition position, Sort sort, int limit) {
+        return exercises.window((KeysetScrollPosition) position, sort, limit);
+    }
+
+    /**
+     * Searches a page of the exercises whose muscle signature matches the filter and, optionally,
+     * with a specific equipment.
+     *
+     * @param filter the muscle signature filter
+     * @param equipmentId the ID of the equipment to match, or {@code null} for any equipment
+     * @param pageable the pagination information, ordered by ID or name
+     * @return a {@link Page} of matching {@link ExerciseEntity} objects
+     */
+    public Page<ExerciseEntity> searchExercises(MuscleSignatureFilter filter, Long equipmentId, Pageable pageable) {
+        return page(search(filter, equipmentId, pageable.getSort()), pageable);
+    }
+
+    /**
+     * Searches a slice of the exercises whose muscle signature matches the filter and, optionally,
+     * with a specific equipment.
+     *
+     * @param filter the muscle signature filter
+     * @param equipmentId the ID of the equipment to match, or {@code null} for any equipment
+     * @param pageable the pagination information, ordered by ID or name
+     * @return a {@link Slice} of matching {@link ExerciseEntity} objects
+     */
+    public Slice<ExerciseEntity> searchExercisesSlice(MuscleSignatureFilter filter, Long equipmentId, Pageable pageable) {
+        return slice(search(filter, equipmentId, pageable.getSort()), pageable);
+    }
+
+    /**
+     * Derives a snapshot with the given exercises added or replaced. An exercise older than the
+     * one in this snapshot is ignored.
+     *
+     * @param savedExercises the saved exercises, with their equipment and muscle engagements initialized
+     * @return the derived {@link CatalogSnapshot}
+     */
+    public CatalogSnapshot withExercises(Collection<ExerciseEntity> savedExercises) {
+        Map<Long, ExerciseEntity> updatedExercises = new HashMap<>(exercisesById);
+
+        for (ExerciseEntity exercise : savedExercises) {
+            ExerciseEntity current = updatedExercises.get(exercise.getId());
+
+            if (current == null || current.getVersion() <= exercise.getVersion()) {
+                updatedExercises.put(exercise.getId(), copyOf(exercise, equipmentsById, engagementsById));
+            }
+        }
+
+        return new CatalogSnapshot(equipmentsById.values(), updatedExercises.values(), engagementsById);
+    }
+
+    /**
+     * Derives a snapshot without the given exercise.
+     *
+     * @param id the ID of the deleted exercise
+     * @return the derived {@link CatalogSnapshot}, or this one if it doesn't have the exercise
+     */
+    public CatalogSnapshot withoutExercise(Long id) {
+        if (!exercisesById.containsKey(id)) {
+            return this;
+        }
+
+        Map<Long, ExerciseEntity> updatedExercises = new HashMap<>(exercisesById);
+        updatedExercises.remove(id);
+
+        return new CatalogSnapshot(equipmentsById.values(), updatedExercises.values(), engagementsById);
+    }
+
+    /**
+     * Derives a snapshot with the given equipment added or replaced, and its exercises linked to
+     * it. An equipment older than the one in this snapshot is ignored.
+     *
+     * @param savedEquipment the saved equipment
+     * @return the derived {@link CatalogSnapshot}
+     */
+    public CatalogSnapshot withEquipment(EquipmentEntity savedEquipment) {
+        EquipmentEntity current = equipmentsById.get(savedEquipment.getId());
+
+        if (current != null && current.getVersion() > savedEquipment.getVersion()) {
+            return this;
+        }
+
+        EquipmentEntity equipment = copyOf(savedEquipment);
+
+        Map<Long, EquipmentEntity> updatedEquipments = new HashMap<>(equipmentsById);
+        updatedEquipments.put(equipment.getId(), equipment);
+
+        Map<Long, ExerciseEntity> updatedExercises = new HashMap<>(exercisesById);
+        for (ExerciseEntity exercise : exercisesByEquipmentId.getOrDefault(equipment.getId(), List.of())) {
+            updatedExercises.put(exercise.getId(), new ExerciseEntity(
+                    exercise.getId(),
+                    exercise.getName(),
+                    exercise.getDescription(),
+                    equipment,
+                    exercise.getMusclesEngagement(),
+                    exercise.getVersion()
+            ));
+        }
+
+        return new CatalogSnapshot(updatedEquipments.values(), updatedExercises.values(), engagementsById);
+    }
+
+    /**
+     * Derives a snapshot without the given equipment nor its exercises.
+     *
+     * @param id the ID of the deleted equipment
+     * @return the derived {@link CatalogSnapshot}, or this one if it doesn't have the equipment
+     */
+    public CatalogSnapshot withoutEquipment(Long id) {
+        if (!equipmentsById.containsKey(id)) {
+            return this;
+        }
+
+        Map<Long, EquipmentEntity> updatedEquipments = new HashMap<>(equipmentsById);
+        updatedEquipments.remove(id);
+
+        List<ExerciseEntity> updatedExercises = exercises.byId().stream()
+                .filter(exercise -> !exercise.getEquipment().getId().equals(id))
+                .toList();
+
+        return new CatalogSnapshot(updatedEquipments.values(), updatedExercises, engagementsById);
+    }
+
+    /**
+     * Returns the number of equipment in the snapshot.
+     *
+     * @return the number of equipment
+     */
+    public int getEquipmentCount() {
+        return equipmentsById.size();
+    }
+
+    /**
+     * Returns the number of exercises in the snapshot.
+     *
+     * @return the number of exercises
+     */
+    public int getExerciseCount() {
+        return exercisesById.size();
+    }
+
+    /**
+     * Lists the exercises that match a muscle search, in the requested order.
+     *
+     * <p>
+     * In ID order, only the smallest group every match belongs to is scanned: the exercises of
+     * the equipment, or the exercises of a required muscle. In name order, all the exercises are
+     * scanned in that order.
+     * </p>
+     *
+     * @param filter the muscle signature filter
+     * @param equipmentId the ID of the equipment to match, or {@code null} for any equipment
+     * @param sort the sort order of the exercises, by ID or name
+     * @return the matching exercises
+     */
+    private List<ExerciseEntity> search(MuscleSignatureFilter filter, Long equipmentId, Sort sort) {
+        Sort.Order order = exercises.order(sort);
+        List<ExerciseEntity> candidates;
+
+        if (order.getProperty().equals(ID_PROPERTY)) {
+            candidates = equipmentId != null ? exercisesByEquipmentId.getOrDefault(equipmentId, List.of()) : exercises.byId();
+
+            long requiredMuscles = filter.requiredMuscles();
+            for (Muscle muscle : MUSCLES) {
+                List<ExerciseEntity> muscleExercises = exercisesByMuscle.get(muscle.ordinal());
+
+                if ((requiredMuscles & muscleMask(muscle)) != 0 && muscleExercises.size() < candidates.size()) {
+                    candidates = muscleExercises;
+                }
+            }
+
+            if (order.isDescending()) {
+                candidates = reversed(candidates);
+            }
+        } else {
+            candidates = exercises.ordered(sort);
+        }
+
+        return candidates.stream()
+                .filter(exercise -> filter.matches(exercise.getMuscleSignature()))
+                .filter(exercise -> equipmentId == null || exercise.getEquipment().getId().equals(equipmentId))
+                .toList();
+    }
+
+    /**
+     * Groups exercises by the muscles they engage, at any activation level.
+     *
+     * @param exercises the exercises, ordered by ID
+     * @return the exercises of each muscle, by muscle ordinal and ordered by ID
+     */
+    private static List<List<ExerciseEntity>> groupByMuscle(List<ExerciseEntity> exercises) {
+        List<List<ExerciseEntity>> exercisesByMuscle = new ArrayList<>(MUSCLES.length);
+
+        for (Muscle muscle : MUSCLES) {
+            long mask = muscleMask(muscle);
+
+            exercisesByMuscle.add(exercises.stream()
+                    .filter(exercise -> (MuscleSignature.fold(exercise.getMuscleSignature()) & mask) != 0)
+                    .toList());
+        }
+
+        return List.copyOf(exercisesByMuscle);
+    }
+
+    /**
+     * Returns the mask of a single muscle in a folded signature.
+     *
+     * @param muscle the muscle
+     * @return the mask with the folded bit of the muscle set
+     */
+    private static long muscleMask(Muscle muscle) {
+        return MuscleSignature.muscleMask(List.of(muscle));
+    }
+
+    /**
+     * Copies an exercise, linking the copy to the equipment and muscle engagements of a snapshot.
+     * The equipment of the exercise itself is copied if the snapshot doesn't have it yet.
+     *
+     * @param exercise the exercise to copy
+     * @param equipmentsById the equipment of the snapshot, by ID
+     * @param engagementsById the muscle engagements of the snapshot, by ID
+     * @return the copy of the exercise
+     */
+    private static ExerciseEntity copyOf(
+            ExerciseEntity exercise,
+            Map<Long, EquipmentEntity> equipmentsById,
+            Map<Long, MuscleEngagementEntity> engagementsById
+    ) {
+        EquipmentEntity equipment = equipmentsById.get(exercise.getEquipment().getId());
+
+        return new ExerciseEntity(
+                exercise.getId(),
+                exercise.getName(),
+                exercise.getDescription(),
+                equipment != null ? equipment : copyOf(exercise.getEquipment()),
+                exercise.getMusclesEngagement().stream()
+                        .map(engagement -> Optional.ofNullable(engagementsById.get(engagement.getId()))
+                                .orElseGet(() -> copyOf(engagement)))
+                        .toList(),
+                exercise.getVersion()
+        );
+    }
+
+    /**
+     * Copies an equipment.
+     *
+     * @param equipment the equipment to copy
+     * @return the copy of the equipment
+     */
+    private static EquipmentEntity copyOf(EquipmentEntity equipment) {
+        return new EquipmentEntity(equipment.getId(), equipment.getName(), equipment.getVersion());
+    }
+
+    /**
+     * Copies a muscle engagement.
+     *
+     * @param engagement the muscle engagement to copy
+     * @return the copy of the muscle engagement
+     */
+    private static MuscleEngagementEntity copyOf(MuscleEngagementEntity engagement) {
+        return new MuscleEngagementEntity(engagement.getId(), engagement.getMuscle(), engagement.getMuscleActivationLevel());
+    }
+
+    /**
+     * Returns a page of an ordered list.
+     *
+     * @param items the ordered items
+     * @param pageable the pagination information
+     * @param <T> the type of the items
+     * @return the requested {@link Page}, with the number of items as total
+     */
+    private static <T> Page<T> page(List<T> items, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(List.copyOf(items));
+        }
+
+        return new PageImpl<>(pageContent(items, pageable), pageable, items.size());
+    }
+
+    /**
+     * Returns a slice of an ordered list.
+     *
+     * @param items the ordered items
+     * @param pageable the pagination information
+     * @param <T> the type of the items
+     * @return the requested {@link Slice}
+     */
+    private static <T> Slice<T> slice(List<T> items, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(List.copyOf(items));
+        }
+
+        return new SliceImpl<>(pageContent(items, pageable), pageable, pageable.getOffset() + pageable.getPageSize() < items.size());
+    }
+
+    /**
+     * Copies the items of the requested page of an ordered list.
+     *
+     * @param items the ordered items
+     * @param pageable the pagination information
+     * @param <T> the type of the items
+     * @return the items of the page
+     */
+    private static <T> List<T> pageContent(List<T> items, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+
+        return List.copyOf(items.subList(from, to));
+    }
+
+    /**
+     * Returns a reversed view of a list.
+     *
+     * @param items the list to reverse
+     * @param <T> the type of the items
+     * @return the list in reverse order
+     */
+    private static <T> List<T> reversed(List<T> items) {
+        return new AbstractList<>() {
+
+            @Override
+            public T get(int index) {
+                return items.get(items.size() - 1 - index);
+            }
+
+            @Override
+            public int size() {
+                return items.size();
+            }
+
+        };
+    }
+
+    /**
+     * Copies entities into an unmodifiable list, ordered by the given comparator.
+     *
+     * @param entities the entities to order
+     * @param comparator the order of the entities
+     * @param <T> the type of the entities
+     * @return the ordered entities
+     */
+    private static <T> List<T> sorted(Collection<T> entities, Comparator<T> comparator) {
+        return entities.stream().sorted(comparator).toList();
+    }
+
+    /**
+     * Indexes entities by their IDs.
+     *
+     * @param entities the entities to index
+     * @param idOf the function that returns the ID of an entity
+     * @param <T> the type of the entities
+     * @return an unmodifiable map of the entities by ID
+     */
+    private static <T> Map<Long, T> indexById(Collection<T> entities, Function<T, Long> idOf) {
+        return entities.stream().collect(Collectors.toUnmodifiableMap(idOf, Function.identity()));
+    }
+
+    /**
+     * Entities ordered by ID and by name, from which the pages and windows of every order are cut.
+     *
+     * @param byId the entities ordered by ID
+     * @param byName the entities ordered by name, then by ID
+     * @param idOf the function that returns the ID of an entity
+     * @param nameOf the function that returns the name of an entity
+     * @param type the type of the entities, reported when a sort property doesn't exist
+     * @param <T> the type of the entities
+     */
+    private record OrderedEntities<T>(
+            List<T> byId,
+            List<T> byName,
+            Function<T, Long> idOf,
+            Function<T, String> nameOf,
+            Class<T> type
+    ) {
+
+        /**
+         * Returns the entities in the given order.
+         *
+         * @param sort the sort order, by ID or name
+         * @return the ordered entities
+         */
+        List<T> ordered(Sort sort) {
+            Sort.Order order = order(sort);
+            List<T> ordered = order.getProperty().equals(ID_PROPERTY) ? byId : byName;
+
+            return order.isDescending() ? reversed(ordered) : ordered;
+        }
+
+        /**
+         * Returns the window of entities that follows or precedes a keyset position, in the given order.
+         *
+         * <p>
+         * The entities are ordered, so the boundary of the position is found by binary search.
+         * A forward window starts right after the position, and a backward window ends right before
+         * it, keeping the order of the entities. In both cases, the window reports whether more
+         * entities exist in the scroll direction.
+         * </p>
+         *
+         * @param position the keyset position to scroll from
+         * @param sort the sort order, by ID or name
+         * @param limit the maximum number of entities in the window
+         * @return a {@link Window} of the entities
+         */
+        Window<T> window(KeysetScrollPosition position, Sort sort, int limit) {
+            Sort.Order order = order(sort);
+            List<T> ordered = ordered(sort);
+            boolean orderedByName = order.getProperty().equals(NAME_PROPERTY);
+
+            int from;
+            int to;
+            boolean hasNext;
+
+            if (position.scrollsForward()) {
+                from = position.isInitial() ? 0 : firstIndex(ordered, entity -> compareToKeys(entity, position.getKeys(), order) > 0);
+                to = Math.min(from + limit, ordered.size());
+                hasNext = to < ordered.size();
+            } else {
+                to = position.isInitial() ? ordered.size() : firstIndex(ordered, entity -> compareToKeys(entity, position.getKeys(), order) >= 0);
+                from = Math.max(to - limit, 0);
+                hasNext = from > 0;
+            }
+
+            List<T> content = List.copyOf(ordered.subList(from, to));
+
+            return Window.from(
+                    content,
+                    index -> ScrollPosition.forward(keysOf(content.get(index), orderedByName)),
+                    hasNext
+            );
+        }
+
+        /**
+         * Returns the single order of a sort, which must be by ID or name.
+         *
+         * @param sort the sort
+         * @return the first order of the sort, or ascending by ID if unsorted
+         * @throws IllegalArgumentException if the sort is by another property
+         */
+        Sort.Order order(Sort sort) {
+            Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc(ID_PROPERTY));
+
+            if (!order.getProperty().equals(ID_PROPERTY) && !order.getProperty().equals(NAME_PROPERTY)) {
+                throw new IllegalArgumentException(
+                        "No property '" + order.getProperty() + "' found for type '" + type.getSimpleName() + "'"
+                );
+            }
+
+            return order;
+        }
+
+        /**
+         * Compares an entity with the sort keys of a position, in the given order.
+         *
+         * @param entity the entity to compare
+         * @param keys the sort keys of the position
+         * @param order the order of the entities
+         * @return a negative value, zero or a positive value if the entity goes before, at or after the position
+         */
+        private int compareToKeys(T entity, Map<String, ?> keys, Sort.Order order) {
+            int comparison = order.getProperty().equals(NAME_PROPERTY)
+                    ? nameOf.apply(entity).compareTo((String) keys.get(NAME_PROPERTY))
+                    : 0;
+
+            if (comparison == 0) {
+                comparison = Long.compare(idOf.apply(entity), ((Number) keys.get(ID_PROPERTY)).longValue());
+            }
+
+            return order.isDescending() ? -comparison : comparison;
+        }
+
+        /**
+         * Returns the sort keys of an entity.
+         *
+         * @param entity the entity
+         * @param orderedByName whether the entities are ordered by name
+         * @return the sort keys of the entity
+         */
+        private Map<String, Object> keysOf(T entity, boolean orderedByName) {
+            return orderedByName
+                    ? Map.of(NAME_PROPERTY, nameOf.apply(entity), ID_PROPERTY, idOf.apply(entity))
+                    : Map.of(ID_PROPERTY, idOf.apply(entity));
+        }
+
+        /**
+         * Finds the first entity of an ordered list that satisfies a predicate, which must be
+         * satisfied by every entity after it.
+         *
+         * @param entities the ordered entities
+         * @param predicate the predicate
+         * @return the index of the first entity that satisfies the predicate, or the size of the list if none does
+         */
+        private static <T> int firstIndex(List<T> entities, Predicate<T> predicate) {
+            int low = 0;
+            int high = entities.size();
+
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+
+                if (predicate.test(entities.get(middle))) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+
+            return low;
+        }
+
+    }
+
+    /**
+     * The versions of an exercise and its equipment.
+     *
+     * @param version the version of the exercise
+     * @param equipmentVersion the version of the equipment of the exercise
+     */
+    private record ExerciseVersion(long version, long equipmentVersion) implements ExerciseVersionProjection {
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public long getEquipmentVersion() {
+            return equipmentVersion;
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.returdev.gym_exercises_api.service.data.catalog;
+
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+
+import java.util.Collection;
+
+/**
+ * Service that publishes the current {@link CatalogSnapshot} when the snapshot read mode is enabled.
+ *
+ * <p>
+ * In this mode, the reads of the equipment and exercise services are served from the snapshot
+ * without accessing the database. Implementations build the snapshot on startup and derive a new
+ * one after every committed write, which replaces the current snapshot at once, so readers never
+ * lock nor see a partially applied write. When the mode is disabled, the write notifications are
+ * ignored.
+ * </p>
+ */
+public interface CatalogSnapshotService {
+
+    /**
+     * Indicates whether the reads must be served from the snapshot.
+     *
+     * @return {@code true} if the snapshot read mode is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the current snapshot of the catalog.
+     *
+     * @return the current {@link CatalogSnapshot}, which is empty when the mode is disabled
+     */
+    CatalogSnapshot getSnapshot();
+
+    /**
+     * Applies saved exercises to the snapshot once the current transaction, if any, commits.
+     *
+     * @param exercises the saved exercises, with their equipment and muscle engagements initialized
+     */
+    void exercisesSaved(Collection<ExerciseEntity> exercises);
+
+    /**
+     * Removes a deleted exercise from the snapshot once the current transaction, if any, commits.
+     *
+     * @param id the ID of the deleted exercise
+     */
+    void exerciseDeleted(Long id);
+
+    /**
+     * Applies a saved equipment to the snapshot once the current transaction, if any, commits.
+     *
+     * @param equipment the saved equipment
+     */
+    void equipmentSaved(EquipmentEntity equipment);
+
+    /**
+     * Removes a deleted equipment from the snapshot once the current transaction, if any, commits.
+     *
+     * @param id the ID of the deleted equipment
+     */
+    void equipmentDeleted(Long id);
+
+}
@@ -0,0 +1,152 @@
+package com.returdev.gym_exercises_api.service.data.catalog;
+
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.repositories.data.EquipmentRepository;
+import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
+import com.returdev.gym_exercises_api.service.data.muscleengagement.MuscleEngagementRegistry;
+import com.returdev.gym_exercises_api.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link CatalogSnapshotService} that publishes the snapshot through a
+ * volatile reference.
+ *
+ * <p>
+ * The mode is enabled by the {@code spring.catalog-snapshot.enabled} property. Readers only read
+ * the reference, so they never block. Writes are applied one at a time: each one derives a new
+ * snapshot from the current one and publishes it, after the transaction of the write commits so
+ * that uncommitted or rolled back changes are never visible.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotServiceImpl implements CatalogSnapshotService {
+
+    private final EquipmentRepository equipmentRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final MuscleEngagementRegistry muscleEngagementRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${spring.catalog-snapshot.enabled:false}")
+    private boolean enabled;
+
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.empty();
+
+    /**
+     * Builds the snapshot from the whole catalog when the mode is enabled, reading every
+     * exercise with its associations in a single streamed query.
+     */
+    @PostConstruct
+    void loadSnapshot() {
+        if (!enabled) {
+            return;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        snapshot = transactionTemplate.execute(status -> {
+            Map<Long, ExerciseEntity> exercisesById = new LinkedHashMap<>();
+
+            try (Stream<ExerciseEntity> exercises = exerciseRepository.streamAllWithRelations()) {
+                exercises.forEach(exercise -> exercisesById.put(exercise.getId(), exercise));
+            }
+
+            return CatalogSnapshot.of(
+                    equipmentRepository.findAll(),
+                    exercisesById.values(),
+                    muscleEngagementRegistry.getAll()
+            );
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CatalogSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void exercisesSaved(Collection<ExerciseEntity> exercises) {
+        List<ExerciseEntity> savedExercises = List.copyOf(exercises);
+        afterCommit(current -> current.withExercises(savedExercises));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void exerciseDeleted(Long id) {
+        afterCommit(current -> current.withoutExercise(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The equipment is copied after the commit, once its version has been incremented.
+     * </p>
+     */
+    @Override
+    public void equipmentSaved(EquipmentEntity equipment) {
+        afterCommit(current -> current.withEquipment(equipment));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void equipmentDeleted(Long id) {
+        afterCommit(current -> current.withoutEquipment(id));
+    }
+
+    /**
+     * Applies a change to the snapshot after the current transaction commits, or immediately
+     * outside of a transaction. Nothing is applied when the mode is disabled.
+     *
+     * @param change the function that derives the new snapshot from the current one
+     */
+    private void afterCommit(UnaryOperator<CatalogSnapshot> change) {
+        if (!enabled) {
+            return;
+        }
+
+        TransactionUtil.afterCommit(() -> apply(change));
+    }
+
+    /**
+     * Derives the new snapshot and publishes it. Writes are serialized so that none of them is lost.
+     *
+     * @param change the function that derives the new snapshot from the current one
+     */
+    private synchronized void apply(UnaryOperator<CatalogSnapshot> change) {
+        snapshot = change.apply(snapshot);
+    }
+
+}
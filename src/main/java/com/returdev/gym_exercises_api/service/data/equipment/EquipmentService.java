@@ -1,11 +1,18 @@
 package com.returdev.gym_exercises_api.service.data.equipment;
 
+import com.returdev.gym_exercises_api.dto.response.EquipmentResponseDTO;
 import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 /**
  * Service interface for managing equipment entities.
  *
@@ -30,6 +37,27 @@ public interface EquipmentService {
      */
     EquipmentEntity getEquipmentById(Long id);
 
+    /**
+     * Retrieves the version of an equipment entity by its ID, without loading the entity.
+     *
+     * @param id the ID of the equipment
+     * @return the current version of the equipment
+     */
+    long getEquipmentVersionById(Long id);
+
+    /**
+     * Retrieves the equipment entities with the given IDs.
+     *
+     * <p>
+     * The IDs that don't match any equipment are skipped instead of failing the lookup, and
+     * repeated IDs are returned once.
+     * </p>
+     *
+     * @param ids the IDs of the equipment to retrieve
+     * @return the existing {@link EquipmentEntity} objects, in the order of the IDs
+     */
+    List<EquipmentEntity> getEquipmentsByIds(List<Long> ids);
+
     /**
      * Retrieves all equipment entities in a paginated format.
      *
@@ -38,6 +66,49 @@ public interface EquipmentService {
      */
     Page<EquipmentEntity> getAllEquipments(Pageable pageable);
 
+    /**
+     * Retrieves all equipment entities in a paginated format without counting them.
+     *
+     * <p>
+     * The returned slice only reports whether a next slice exists.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link EquipmentEntity} objects
+     */
+    Slice<EquipmentEntity> getAllEquipmentsSlice(Pageable pageable);
+
+    /**
+     * Retrieves all equipment in a paginated format, as response DTOs, without loading the entities.
+     *
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link EquipmentResponseDTO} objects
+     */
+    Page<EquipmentResponseDTO> getAllEquipmentResponses(Pageable pageable);
+
+    /**
+     * Retrieves all equipment in a paginated format, as response DTOs, without loading the
+     * entities or counting them.
+     *
+     * <p>
+     * The returned slice only reports whether a next slice exists.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link EquipmentResponseDTO} objects
+     */
+    Slice<EquipmentResponseDTO> getAllEquipmentResponsesSlice(Pageable pageable);
+
+    /**
+     * Retrieves a window of equipment entities using keyset (cursor) pagination.
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order of the equipment
+     * @param limit the maximum number of equipment entities to retrieve
+     * @return a {@link Window} of {@link EquipmentEntity} objects
+     */
+    Window<EquipmentEntity> getAllEquipments(ScrollPosition position, Sort sort, int limit);
+
     /**
      * Saves a new equipment entity after validation.
      *
@@ -56,13 +127,16 @@ public interface EquipmentService {
      *
      * <p>
      * The input equipment entity is validated and checked for existing conflicts
-     * before it is updated in the database.
+     * before it is updated in the database. If an expected version is given, the update
+     * only succeeds if the equipment still has that version.
      * </p>
      *
      * @param equipment the equipment entity containing updated information
+     * @param expectedVersion the version the equipment must have, or {@code null} to update any version
      * @return the updated {@link EquipmentEntity}
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the equipment does not have the expected version
      */
-    EquipmentEntity updateEquipment(@Valid EquipmentEntity equipment);
+    EquipmentEntity updateEquipment(@Valid EquipmentEntity equipment, Long expectedVersion);
 
     /**
      * Deletes an equipment entity by its ID.
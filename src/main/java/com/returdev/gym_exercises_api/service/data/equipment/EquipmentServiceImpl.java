@@ -1,13 +1,32 @@
 package com.returdev.gym_exercises_api.service.data.equipment;
 
+import com.returdev.gym_exercises_api.config.datasource.ReadYourWritesContext;
+import com.returdev.gym_exercises_api.dto.response.EquipmentResponseDTO;
+import com.returdev.gym_exercises_api.mappers.EntityDtoMapper;
 import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
 import com.returdev.gym_exercises_api.repositories.data.EquipmentRepository;
+import com.returdev.gym_exercises_api.service.data.cache.ResponseBodyCache;
+import com.returdev.gym_exercises_api.service.data.catalog.CatalogSnapshot;
+import com.returdev.gym_exercises_api.service.data.catalog.CatalogSnapshotService;
 import com.returdev.gym_exercises_api.service.data.validators.ServiceValidator;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link EquipmentService} interface.
@@ -18,13 +37,37 @@ import org.springframework.stereotype.Service;
  * It utilizes a {@link ServiceValidator} to validate operations and an
  * {@link EquipmentRepository} for persistence.
  * </p>
+ *
+ * <p>
+ * When the snapshot read mode of the {@link CatalogSnapshotService} is enabled, every read is
+ * served from the current {@link CatalogSnapshot} instead, without accessing the database, and
+ * every committed write is also applied to the snapshot.
+ * </p>
+ *
+ * <p>
+ * Every committed write invalidates the cached response bodies of the equipment, including the
+ * exercises that embed it, and of the equipment list in the {@link ResponseBodyCache}.
+ * </p>
+ *
+ * <p>
+ * The reads run in read-only transactions, which Hibernate runs without dirty checking and which
+ * are served by the read replica when one is configured.
+ * </p>
+ *
+ * <p>
+ * Every method is timed by the {@code service.method} timer, tagged with the class and method names.
+ * </p>
  */
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 public class EquipmentServiceImpl implements EquipmentService {
 
     private final ServiceValidator serviceValidator;
     private final EquipmentRepository equipmentRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final ResponseBodyCache responseBodyCache;
+    private final EntityDtoMapper mapper;
 
     /**
      * {@inheritDoc}
@@ -38,13 +81,70 @@ public class EquipmentServiceImpl implements EquipmentService {
      * @return the {@link EquipmentEntity} associated with the given ID
      */
     @Override
+    @Transactional(readOnly = true)
     public EquipmentEntity getEquipmentById(Long id) {
         return serviceValidator.validateGetEquipmentById(
                 id,
-                equipmentRepository::findById
+                catalogSnapshotService.isEnabled() ? catalogSnapshotService.getSnapshot()::findEquipmentById : equipmentRepository::findById
         );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Reads only the version column, from the query cache when possible. The query cache is
+     * loaded from the primary database, so it never holds a version older than the last write.
+     * If the ID is invalid or the entity doesn't exist, appropriate exceptions are thrown.
+     * </p>
+     *
+     * @param id the ID of the equipment
+     * @return the current version of the equipment
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getEquipmentVersionById(Long id) {
+        return serviceValidator.validateGetEquipmentVersionById(
+                id,
+                catalogSnapshotService.isEnabled()
+                        ? catalogSnapshotService.getSnapshot()::findEquipmentVersionById
+                        : equipmentId -> ReadYourWritesContext.callOnPrimary(() -> equipmentRepository.findVersionById(equipmentId))
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The equipment is loaded in a single query, or from the snapshot.
+     * </p>
+     *
+     * @param ids the IDs of the equipment to retrieve
+     * @return the existing {@link EquipmentEntity} objects, in the order of the IDs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EquipmentEntity> getEquipmentsByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+
+        if (catalogSnapshotService.isEnabled()) {
+            CatalogSnapshot snapshot = catalogSnapshotService.getSnapshot();
+            return distinctIds.stream()
+                    .map(snapshot::findEquipmentById)
+                    .flatMap(Optional::stream)
+                    .toList();
+        }
+
+        Map<Long, EquipmentEntity> equipmentById = distinctIds.isEmpty() ? Map.of() :
+                equipmentRepository.findAllById(distinctIds).stream()
+                        .collect(Collectors.toMap(EquipmentEntity::getId, Function.identity()));
+
+        return distinctIds.stream()
+                .map(equipmentById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -57,10 +157,99 @@ public class EquipmentServiceImpl implements EquipmentService {
      * @return a {@link Page} of {@link EquipmentEntity} objects
      */
     @Override
+    @Transactional(readOnly = true)
     public Page<EquipmentEntity> getAllEquipments(Pageable pageable) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getEquipments(pageable);
+        }
+
         return equipmentRepository.findAll(pageable);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Fetches one extra entity to determine whether a next slice exists instead of
+     * running a count query.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link EquipmentEntity} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EquipmentEntity> getAllEquipmentsSlice(Pageable pageable) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getEquipmentsSlice(pageable);
+        }
+
+        return equipmentRepository.findAllBy(pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * With the snapshot read mode, the equipment of the snapshot is mapped instead.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link EquipmentResponseDTO} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EquipmentResponseDTO> getAllEquipmentResponses(Pageable pageable) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getEquipments(pageable).map(mapper::equipmentEntityToResponseDto);
+        }
+
+        return equipmentRepository.findAllResponses(pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * With the snapshot read mode, the equipment of the snapshot is mapped instead.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link EquipmentResponseDTO} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EquipmentResponseDTO> getAllEquipmentResponsesSlice(Pageable pageable) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getEquipmentsSlice(pageable).map(mapper::equipmentEntityToResponseDto);
+        }
+
+        return equipmentRepository.findAllResponsesBy(pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Seeks the equipment entities that follow or precede the given position, without
+     * counting the total number of entities.
+     * </p>
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order of the equipment
+     * @param limit the maximum number of equipment entities to retrieve
+     * @return a {@link Window} of {@link EquipmentEntity} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Window<EquipmentEntity> getAllEquipments(ScrollPosition position, Sort sort, int limit) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getEquipments(position, sort, limit);
+        }
+
+        return equipmentRepository.findAllBy(position, sort, Limit.of(limit));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -80,7 +269,11 @@ public class EquipmentServiceImpl implements EquipmentService {
                 equipment,
                 equipmentRepository::existsByName
         );
-        return equipmentRepository.save(equipment);
+        EquipmentEntity savedEquipment = equipmentRepository.save(equipment);
+        catalogSnapshotService.equipmentSaved(savedEquipment);
+        responseBodyCache.equipmentChanged(savedEquipment.getId());
+
+        return savedEquipment;
     }
 
     /**
@@ -89,21 +282,36 @@ public class EquipmentServiceImpl implements EquipmentService {
      * <p>
      * Validates the equipment entity before updating it. This includes ensuring
      * the entity exists and that no naming conflicts occur. The operation is
-     * transactional to prevent partial updates.
+     * transactional to prevent partial updates. The expected version is checked by the
+     * versioned update statement; without it, the current version is read to update the
+     * equipment unconditionally.
      * </p>
      *
      * @param equipment the equipment entity containing updated information
+     * @param expectedVersion the version the equipment must have, or {@code null} to update any version
      * @return the updated {@link EquipmentEntity}
      */
     @Override
     @Transactional
-    public EquipmentEntity updateEquipment(EquipmentEntity equipment) {
+    public EquipmentEntity updateEquipment(EquipmentEntity equipment, Long expectedVersion) {
         serviceValidator.validateUpdateEquipment(
                 equipment,
                 equipmentRepository::existsById,
                 equipmentRepository::existsByName
         );
-        return equipmentRepository.save(equipment);
+
+        // The version is read from the database, as the snapshot may not have the latest write yet
+        equipment.setVersion(
+                expectedVersion != null ? expectedVersion : serviceValidator.validateGetEquipmentVersionById(
+                        equipment.getId(),
+                        equipmentRepository::findVersionById
+                )
+        );
+        EquipmentEntity savedEquipment = equipmentRepository.save(equipment);
+        catalogSnapshotService.equipmentSaved(savedEquipment);
+        responseBodyCache.equipmentChanged(savedEquipment.getId());
+
+        return savedEquipment;
     }
 
     /**
@@ -125,6 +333,8 @@ public class EquipmentServiceImpl implements EquipmentService {
                 equipmentRepository::existsById
         );
         equipmentRepository.deleteById(id);
+        catalogSnapshotService.equipmentDeleted(id);
+        responseBodyCache.equipmentChanged(id);
     }
 
 }
@@ -0,0 +1,31 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory cache of exercise totals, keyed by the filter the total was counted with.
+ *
+ * <p>
+ * Counting the exercises that match a filter requires a full scan of the matching rows, while
+ * the catalog changes rarely. Implementations keep the last computed total of each filter until
+ * an exercise is written, so that paginated reads only run the count query after a change.
+ * </p>
+ */
+public interface ExerciseCountCache {
+
+    /**
+     * Returns the total number of exercises matching the given filter, counting them only
+     * when no total is cached for the filter.
+     *
+     * @param filter the key identifying the filter the total applies to
+     * @param counter the function that counts the exercises matching the filter
+     * @return the total number of exercises matching the filter
+     */
+    long getTotal(String filter, LongSupplier counter);
+
+    /**
+     * Discards every cached total. Must be called after any exercise is created, updated or deleted.
+     */
+    void invalidate();
+
+}
@@ -0,0 +1,59 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementation of the {@link ExerciseCountCache} backed by a concurrent map.
+ *
+ * <p>
+ * Each invalidation increments a generation counter. A total counted while an invalidation
+ * happens is returned to its caller but not cached, so a count that started before a write
+ * can never be served after it.
+ * </p>
+ */
+@Component
+public class ExerciseCountCacheImpl implements ExerciseCountCache {
+
+    private final Map<String, Long> totals = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotal(String filter, LongSupplier counter) {
+        Long cachedTotal = totals.get(filter);
+        if (cachedTotal != null) {
+            return cachedTotal;
+        }
+
+        long countGeneration = generation.get();
+        long total = counter.getAsLong();
+
+        if (generation.get() == countGeneration) {
+            totals.put(filter, total);
+
+            // An invalidation may have cleared the map between the check and the put
+            if (generation.get() != countGeneration) {
+                totals.remove(filter, total);
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate() {
+        generation.incrementAndGet();
+        totals.clear();
+    }
+
+}
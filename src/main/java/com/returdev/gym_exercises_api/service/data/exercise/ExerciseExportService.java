@@ -0,0 +1,30 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting the exercise catalog in bulk.
+ *
+ * <p>
+ * The export contains every exercise with its equipment and muscle engagements, in the same
+ * format as the responses of {@link ExerciseService}, and it is written while it is read from the
+ * database, so its size is not limited by memory.
+ * </p>
+ */
+public interface ExerciseExportService {
+
+    /**
+     * Writes every exercise to the given output as NDJSON, ordered by ID.
+     *
+     * <p>
+     * The output is flushed but not closed.
+     * </p>
+     *
+     * @param output the output to write the exercises to
+     * @return the number of exported exercises
+     * @throws IOException if the output cannot be written
+     */
+    long exportExercises(OutputStream output) throws IOException;
+
+}
@@ -0,0 +1,67 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.mappers.ExerciseExportMapper;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link ExerciseExportService} interface.
+ *
+ * <p>
+ * The exercises are read through a forward-only stream and detached from the persistence context
+ * as they are written, so only the rows of the current fetch batch are held in memory no matter
+ * how large the catalog is.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ExerciseExportServiceImpl implements ExerciseExportService {
+
+    private final ExerciseRepository exerciseRepository;
+    private final ExerciseExportMapper exerciseExportMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * Streams the exercises of the catalog to the export mapper in a read-only transaction.
+     *
+     * @param output the output to write the exercises to
+     * @return the number of exported exercises
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportExercises(OutputStream output) throws IOException {
+        try (Stream<ExerciseEntity> exercises = exerciseRepository.streamAllWithRelations()) {
+            return exerciseExportMapper.writeExercises(
+                    exercises.map(this::detach),
+                    output
+            );
+        }
+    }
+
+    /**
+     * Detaches a fully loaded exercise and its muscle engagements collection from the persistence context.
+     *
+     * <p>
+     * The exercise is only emitted once all its rows have been read, so it can be detached
+     * before it is written without losing any of its muscle engagements. The equipments and
+     * muscle engagements themselves are shared between exercises and remain managed.
+     * </p>
+     *
+     * @param exercise the exercise to detach
+     * @return the detached exercise
+     */
+    private ExerciseEntity detach(ExerciseEntity exercise) {
+        entityManager.detach(exercise);
+        return exercise;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportLine;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportReport;
+
+import java.util.stream.Stream;
+
+/**
+ * Service interface for importing exercises in bulk.
+ *
+ * <p>
+ * Unlike {@link ExerciseService#saveExercise}, an import does not stop at the first invalid
+ * exercise: every line is validated with the same rules, valid exercises are saved and the
+ * rejected lines are reported with their reason.
+ * </p>
+ */
+public interface ExerciseImportService {
+
+    /**
+     * Imports the exercises of the given lines.
+     *
+     * <p>
+     * The lines are consumed in chunks, and each chunk is saved in its own transaction, so the
+     * exercises of the chunks already processed remain saved if the import is interrupted.
+     * </p>
+     *
+     * @param lines the lines of the import
+     * @return the {@link ExerciseImportReport} of the import
+     */
+    ExerciseImportReport importExercises(Stream<ExerciseImportLine> lines);
+
+}
@@ -0,0 +1,341 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.manager.message.MessageManager;
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportLine;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportReport;
+import com.returdev.gym_exercises_api.repositories.data.EquipmentRepository;
+import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
+import com.returdev.gym_exercises_api.service.data.cache.ResponseBodyCache;
+import com.returdev.gym_exercises_api.service.data.catalog.CatalogSnapshotService;
+import com.returdev.gym_exercises_api.service.data.muscleengagement.MuscleEngagementService;
+import com.returdev.gym_exercises_api.service.data.validators.ServiceValidator;
+import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link ExerciseImportService} interface.
+ *
+ * <p>
+ * The equipment is loaded once per import and muscle engagements are resolved in memory, so the
+ * only query run per chunk checks which of its exercises already exist. Valid exercises are
+ * inserted with JDBC batching, and the persistence context is cleared after every chunk to keep
+ * memory usage constant. A chunk rejected by the database is retried line by line, so an invalid
+ * line never aborts the import.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ExerciseImportServiceImpl implements ExerciseImportService {
+
+    private static final int CHUNK_SIZE = 50;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final String IMPORT_CONSTRAINT_VIOLATION_RESOURCE = "exception.import.constraint_violation";
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final ServiceValidator serviceValidator;
+    private final MessageManager messageManager;
+    private final ExerciseRepository exerciseRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final MuscleEngagementService muscleEngagementService;
+    private final ExerciseCountCache exerciseCountCache;
+    private final ExerciseTextIndex exerciseTextIndex;
+    private final ExerciseMuscleIndex exerciseMuscleIndex;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final ResponseBodyCache responseBodyCache;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Imports the exercises of the given lines in chunks.
+     *
+     * @param lines the lines of the import
+     * @return the {@link ExerciseImportReport} of the import
+     */
+    @Override
+    public ExerciseImportReport importExercises(Stream<ExerciseImportLine> lines) {
+        Map<Long, EquipmentEntity> equipmentById = equipmentRepository.findAll().stream()
+                .collect(Collectors.toMap(EquipmentEntity::getId, Function.identity()));
+
+        ReportBuilder report = new ReportBuilder();
+        List<ExerciseImportLine> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try {
+            Iterator<ExerciseImportLine> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, equipmentById, report);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, equipmentById, report);
+            }
+        } finally {
+            if (report.importedExercises > 0) {
+                exerciseCountCache.invalidate();
+            }
+        }
+
+        return report.build();
+    }
+
+    /**
+     * Validates the lines of a chunk and saves the valid exercises in a single transaction,
+     * adding them to the text and muscle indexes once the transaction is completed.
+     *
+     * <p>
+     * If the database rejects the chunk, the lines are retried one by one, so only the lines
+     * that clash with the catalog are reported and the rest are still imported.
+     * </p>
+     *
+     * @param chunk the lines of the chunk
+     * @param equipmentById the existing equipment by ID
+     * @param report the report of the import
+     */
+    private void importChunk(List<ExerciseImportLine> chunk, Map<Long, EquipmentEntity> equipmentById, ReportBuilder report) {
+        ReportBuilder chunkReport = new ReportBuilder();
+        List<ExerciseEntity> importedExercises;
+
+        try {
+            importedExercises = transactionTemplate.execute(status -> saveChunk(chunk, equipmentById, chunkReport));
+        } catch (DataIntegrityViolationException ex) {
+            // A line clashes with an exercise in a way the checks can't see, so the lines are retried one by one
+            chunkReport.clear();
+            importedExercises = saveLineByLine(chunk, equipmentById, chunkReport);
+        }
+
+        report.addAll(chunkReport);
+
+        // The detached exercises keep the ID and version assigned when they were inserted
+        importedExercises.forEach(exercise -> {
+            exerciseTextIndex.index(exercise);
+            exerciseMuscleIndex.index(exercise);
+        });
+        catalogSnapshotService.exercisesSaved(importedExercises);
+        responseBodyCache.exercisesChanged(importedExercises.stream().map(ExerciseEntity::getId).toList());
+    }
+
+    /**
+     * Validates the lines of a chunk and saves the valid exercises with JDBC batching, in the
+     * current transaction.
+     *
+     * @param chunk the lines of the chunk
+     * @param equipmentById the existing equipment by ID
+     * @param chunkReport the report of the chunk
+     * @return the saved exercises
+     */
+    private List<ExerciseEntity> saveChunk(List<ExerciseImportLine> chunk, Map<Long, EquipmentEntity> equipmentById, ReportBuilder chunkReport) {
+        Set<String> existingKeys = findExistingKeys(chunk);
+        Set<String> chunkKeys = new HashSet<>();
+        List<ExerciseEntity> validExercises = new ArrayList<>(chunk.size());
+
+        for (ExerciseImportLine line : chunk) {
+            ExerciseEntity validatedExercise = validateLine(line, equipmentById, existingKeys, chunkKeys, chunkReport);
+
+            if (validatedExercise != null) {
+                chunkKeys.add(exerciseKey(validatedExercise.getName(), validatedExercise.getEquipment().getId()));
+                validExercises.add(validatedExercise);
+            }
+        }
+
+        exerciseRepository.saveAll(validExercises);
+        exerciseRepository.flush();
+        entityManager.clear();
+
+        chunkReport.importedExercises += validExercises.size();
+
+        return validExercises;
+    }
+
+    /**
+     * Validates and saves the lines of a chunk one by one, each one in its own transaction. The
+     * violations of the constraints of the database are reported like the equivalent checks.
+     *
+     * @param chunk the lines of the chunk
+     * @param equipmentById the existing equipment by ID
+     * @param chunkReport the report of the chunk
+     * @return the saved exercises
+     */
+    private List<ExerciseEntity> saveLineByLine(List<ExerciseImportLine> chunk, Map<Long, EquipmentEntity> equipmentById, ReportBuilder chunkReport) {
+        List<ExerciseEntity> importedExercises = new ArrayList<>();
+
+        for (ExerciseImportLine line : chunk) {
+            ExerciseEntity validatedExercise = transactionTemplate.execute(
+                    status -> validateLine(line, equipmentById, findExistingKeys(List.of(line)), Set.of(), chunkReport)
+            );
+
+            if (validatedExercise == null) {
+                continue;
+            }
+
+            try {
+                importedExercises.add(serviceValidator.validateExerciseWrite(
+                        validatedExercise,
+                        exercise -> transactionTemplate.execute(status -> exerciseRepository.saveAndFlush(exercise)),
+                        (name, equipmentId) -> Boolean.TRUE.equals(transactionTemplate.execute(
+                                status -> exerciseRepository.existsByNameAndEquipmentId(name, equipmentId)
+                        )),
+                        equipmentId -> Boolean.TRUE.equals(transactionTemplate.execute(
+                                status -> equipmentRepository.existsById(equipmentId)
+                        ))
+                ));
+                chunkReport.importedExercises++;
+            } catch (EntityExistsException | EntityNotFoundException ex) {
+                chunkReport.addError(line.lineNumber(), ex.getMessage());
+            } catch (DataIntegrityViolationException ex) {
+                chunkReport.addError(line.lineNumber(), messageManager.getMessageWithParams(
+                        IMPORT_CONSTRAINT_VIOLATION_RESOURCE,
+                        new Object[]{validatedExercise.getName()}
+                ));
+            }
+        }
+
+        return importedExercises;
+    }
+
+    /**
+     * Validates a line of the import, reporting it if it is invalid.
+     *
+     * @param line the line to validate
+     * @param equipmentById the existing equipment by ID
+     * @param existingKeys the keys of the existing exercises
+     * @param chunkKeys the keys of the exercises already validated in the chunk
+     * @param chunkReport the report of the chunk
+     * @return the validated exercise, or {@code null} if the line is invalid
+     */
+    private ExerciseEntity validateLine(
+            ExerciseImportLine line,
+            Map<Long, EquipmentEntity> equipmentById,
+            Set<String> existingKeys,
+            Set<String> chunkKeys,
+            ReportBuilder chunkReport
+    ) {
+        chunkReport.processedLines++;
+
+        if (line.hasError()) {
+            chunkReport.addError(line.lineNumber(), line.error());
+            return null;
+        }
+
+        try {
+            return serviceValidator.validateSaveExercise(
+                    line.exercise(),
+                    (name, equipmentId) -> existingKeys.contains(exerciseKey(name, equipmentId))
+                            || chunkKeys.contains(exerciseKey(name, equipmentId)),
+                    equipmentId -> serviceValidator.validateGetEquipmentById(
+                            equipmentId,
+                            id -> Optional.ofNullable(equipmentById.get(id))
+                    ),
+                    muscleEngagementService::getMuscleEngagementsWithId
+            );
+        } catch (EntityExistsException | EntityNotFoundException | IllegalArgumentException ex) {
+            chunkReport.addError(line.lineNumber(), ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Finds which of the exercises of a chunk already exist, with a single query.
+     *
+     * @param chunk the lines of the chunk
+     * @return the keys of the existing exercises with the same name as an exercise of the chunk
+     */
+    private Set<String> findExistingKeys(List<ExerciseImportLine> chunk) {
+        Set<String> names = chunk.stream()
+                .filter(line -> !line.hasError())
+                .map(line -> line.exercise().getName())
+                .collect(Collectors.toSet());
+
+        if (names.isEmpty()) {
+            return Set.of();
+        }
+
+        return exerciseRepository.findKeysByNameIn(names).stream()
+                .map(key -> exerciseKey(key.getName(), key.getEquipmentId()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Builds the natural key of an exercise. The name is compared without case and accents, like
+     * the collation of the unique key of the database.
+     *
+     * @param name the name of the exercise
+     * @param equipmentId the ID of the equipment of the exercise
+     * @return the key of the exercise
+     */
+    private static String exerciseKey(String name, Long equipmentId) {
+        String comparableName = DIACRITICS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        return equipmentId + ":" + comparableName;
+    }
+
+    /**
+     * Accumulates the outcome of an import, keeping only the first errors.
+     */
+    private static final class ReportBuilder {
+
+        private long processedLines;
+        private long importedExercises;
+        private long failedLines;
+        private final List<ExerciseImportReport.LineError> errors = new ArrayList<>();
+
+        private void addAll(ReportBuilder chunkReport) {
+            processedLines += chunkReport.processedLines;
+            importedExercises += chunkReport.importedExercises;
+            chunkReport.errors.forEach(error -> addError(error.lineNumber(), error.message()));
+        }
+
+        private void clear() {
+            processedLines = 0;
+            importedExercises = 0;
+            failedLines = 0;
+            errors.clear();
+        }
+
+        private void addError(long lineNumber, String message) {
+            failedLines++;
+
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ExerciseImportReport.LineError(lineNumber, message));
+            }
+        }
+
+        private ExerciseImportReport build() {
+            return new ExerciseImportReport(
+                    processedLines,
+                    importedExercises,
+                    failedLines,
+                    List.copyOf(errors),
+                    failedLines > errors.size()
+            );
+        }
+
+    }
+
+}
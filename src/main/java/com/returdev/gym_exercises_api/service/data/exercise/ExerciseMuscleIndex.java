@@ -0,0 +1,47 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.search.ExerciseMuscleSearchResult;
+import com.returdev.gym_exercises_api.model.search.MuscleSignatureFilter;
+
+/**
+ * In-memory index of the muscle signature and equipment of the exercises.
+ *
+ * <p>
+ * Muscle searches ordered by ID are resolved by scanning the signatures of the whole catalog,
+ * which also gives their total without a count query. Implementations build the index once on
+ * startup and are then kept up to date by the write paths of {@link ExerciseService}, so
+ * searches never touch the database.
+ * </p>
+ */
+public interface ExerciseMuscleIndex {
+
+    /**
+     * Adds an exercise to the index, or replaces its indexed signature and equipment if it is
+     * already indexed. An exercise older than the indexed version is ignored.
+     *
+     * @param exercise the exercise to index
+     */
+    void index(ExerciseEntity exercise);
+
+    /**
+     * Removes an exercise from the index. Nothing happens if the exercise is not indexed.
+     *
+     * @param id the ID of the exercise to remove
+     */
+    void remove(Long id);
+
+    /**
+     * Searches the exercises whose muscle signature matches the filter and, optionally, with a
+     * specific equipment.
+     *
+     * @param filter the muscle signature filter
+     * @param equipmentId the ID of the equipment to match, or {@code null} for any equipment
+     * @param descending whether the exercises are ordered by descending instead of ascending ID
+     * @param offset the number of matching exercises to skip
+     * @param limit the maximum number of exercises to return
+     * @return the {@link ExerciseMuscleSearchResult} with the requested range of matching exercises
+     */
+    ExerciseMuscleSearchResult search(MuscleSignatureFilter filter, Long equipmentId, boolean descending, long offset, int limit);
+
+}
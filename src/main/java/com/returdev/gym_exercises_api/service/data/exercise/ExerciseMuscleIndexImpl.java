@@ -0,0 +1,203 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.projections.ExerciseSignatureProjection;
+import com.returdev.gym_exercises_api.model.search.ExerciseMuscleSearchResult;
+import com.returdev.gym_exercises_api.model.search.MuscleSignature;
+import com.returdev.gym_exercises_api.model.search.MuscleSignatureFilter;
+import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link ExerciseMuscleIndex} backed by parallel primitive arrays.
+ *
+ * <p>
+ * The IDs of the indexed exercises are kept in ascending order, with their muscle signatures,
+ * equipment IDs and versions at the same positions. A search scans the signatures sequentially,
+ * forwards or backwards depending on the order, evaluating the filter with a few bitwise
+ * operations per exercise and without allocating, so scanning the whole catalog takes
+ * microseconds.
+ * </p>
+ *
+ * <p>
+ * Exercises are located by binary search, and new IDs, which are assigned in ascending order, are
+ * usually appended at the end. Searches share a read lock and writes, which are rare, take the
+ * write lock.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ExerciseMuscleIndexImpl implements ExerciseMuscleIndex {
+
+    private static final int INITIAL_CAPACITY = 1_024;
+
+    private final ExerciseRepository exerciseRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] signatures = new long[INITIAL_CAPACITY];
+    private long[] equipmentIds = new long[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * Indexes every persisted exercise, reading only their signature and equipment columns.
+     */
+    @PostConstruct
+    void loadIndex() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        lock.writeLock().lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ExerciseSignatureProjection> exercises = exerciseRepository.streamSignatureBy()) {
+                    exercises.forEach(exercise -> put(
+                            exercise.getId(),
+                            exercise.getMuscleSignature(),
+                            exercise.getEquipmentId(),
+                            exercise.getVersion()
+                    ));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The signature is computed from the muscle engagements of the exercise, so it doesn't depend
+     * on the signature column having been updated yet.
+     * </p>
+     */
+    @Override
+    public void index(ExerciseEntity exercise) {
+        lock.writeLock().lock();
+        try {
+            put(
+                    exercise.getId(),
+                    MuscleSignature.of(exercise.getMusclesEngagement()),
+                    exercise.getEquipment().getId(),
+                    exercise.getVersion()
+            );
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                int moved = size - position - 1;
+                System.arraycopy(ids, position + 1, ids, position, moved);
+                System.arraycopy(signatures, position + 1, signatures, position, moved);
+                System.arraycopy(equipmentIds, position + 1, equipmentIds, position, moved);
+                System.arraycopy(versions, position + 1, versions, position, moved);
+                size--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExerciseMuscleSearchResult search(MuscleSignatureFilter filter, Long equipmentId, boolean descending, long offset, int limit) {
+        List<Long> pageIds = new ArrayList<>(Math.min(limit, INITIAL_CAPACITY));
+        boolean anyEquipment = equipmentId == null;
+        long searchedEquipmentId = anyEquipment ? 0 : equipmentId;
+        long end = offset + limit;
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                int position = descending ? size - 1 - i : i;
+
+                if (filter.matches(signatures[position]) && (anyEquipment || equipmentIds[position] == searchedEquipmentId)) {
+                    if (total >= offset && total < end) {
+                        pageIds.add(ids[position]);
+                    }
+                    total++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new ExerciseMuscleSearchResult(pageIds, total);
+    }
+
+    /**
+     * Adds an exercise at its position by ID, or replaces it unless the indexed version is newer.
+     * Must be called while holding the write lock.
+     *
+     * @param id the ID of the exercise
+     * @param signature the muscle signature of the exercise
+     * @param equipmentId the ID of the equipment of the exercise
+     * @param version the version of the exercise
+     */
+    private void put(long id, long signature, long equipmentId, long version) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+
+        if (position >= 0) {
+            if (version < versions[position]) {
+                return;
+            }
+        } else {
+            position = -position - 1;
+            ensureCapacity();
+
+            int moved = size - position;
+            System.arraycopy(ids, position, ids, position + 1, moved);
+            System.arraycopy(signatures, position, signatures, position + 1, moved);
+            System.arraycopy(equipmentIds, position, equipmentIds, position + 1, moved);
+            System.arraycopy(versions, position, versions, position + 1, moved);
+            size++;
+        }
+
+        ids[position] = id;
+        signatures[position] = signature;
+        equipmentIds[position] = equipmentId;
+        versions[position] = version;
+    }
+
+    /**
+     * Doubles the capacity of the arrays when they are full.
+     */
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            signatures = Arrays.copyOf(signatures, capacity);
+            equipmentIds = Arrays.copyOf(equipmentIds, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+    }
+
+}
@@ -1,11 +1,21 @@
 package com.returdev.gym_exercises_api.service.data.exercise;
 
+import com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.ExerciseSummaryResponseDTO;
 import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.projections.ExerciseVersionProjection;
+import com.returdev.gym_exercises_api.model.search.ExerciseSearchCriteria;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 /**
  * Service interface for managing exercises.
  *
@@ -30,6 +40,28 @@ public interface ExerciseService {
      */
     ExerciseEntity getExerciseById(Long id);
 
+    /**
+     * Retrieves the version of an exercise and the version of its equipment by the exercise ID,
+     * without loading the entity.
+     *
+     * @param id the ID of the exercise
+     * @return the {@link ExerciseVersionProjection} of the exercise
+     */
+    ExerciseVersionProjection getExerciseVersionById(Long id);
+
+    /**
+     * Retrieves the exercise entities with the given IDs.
+     *
+     * <p>
+     * The IDs that don't match any exercise are skipped instead of failing the lookup, and
+     * repeated IDs are returned once.
+     * </p>
+     *
+     * @param ids the IDs of the exercises to retrieve
+     * @return the existing {@link ExerciseEntity} objects, in the order of the IDs
+     */
+    List<ExerciseEntity> getExercisesByIds(List<Long> ids);
+
     /**
      * Retrieves all exercises in a paginated format.
      *
@@ -42,6 +74,134 @@ public interface ExerciseService {
      */
     Page<ExerciseEntity> getAllExercises(Pageable pageable);
 
+    /**
+     * Retrieves all exercises in a paginated format without counting them.
+     *
+     * <p>
+     * This method returns a slice of exercise entities based on the provided pagination information.
+     * The slice only reports whether a next slice exists.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link ExerciseEntity} objects
+     */
+    Slice<ExerciseEntity> getAllExercisesSlice(Pageable pageable);
+
+    /**
+     * Retrieves all exercises in a paginated format, as response DTOs.
+     *
+     * <p>
+     * The exercises are selected directly into the response DTOs, without loading the entities.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link ExerciseResponseDTO} objects
+     */
+    Page<ExerciseResponseDTO> getAllExerciseResponses(Pageable pageable);
+
+    /**
+     * Retrieves all exercises in a paginated format, as response DTOs, without counting them.
+     *
+     * <p>
+     * The exercises are selected directly into the response DTOs, without loading the entities.
+     * The slice only reports whether a next slice exists.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link ExerciseResponseDTO} objects
+     */
+    Slice<ExerciseResponseDTO> getAllExerciseResponsesSlice(Pageable pageable);
+
+    /**
+     * Retrieves all exercises in a paginated format, as summaries without the description.
+     *
+     * <p>
+     * The exercises are selected directly into the summary DTOs, so the description column
+     * is never read.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link ExerciseSummaryResponseDTO} objects
+     */
+    Page<ExerciseSummaryResponseDTO> getAllExerciseSummaries(Pageable pageable);
+
+    /**
+     * Retrieves all exercises in a paginated format, as summaries without the description,
+     * without counting them.
+     *
+     * <p>
+     * The exercises are selected directly into the summary DTOs, so the description column
+     * is never read. The slice only reports whether a next slice exists.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link ExerciseSummaryResponseDTO} objects
+     */
+    Slice<ExerciseSummaryResponseDTO> getAllExerciseSummariesSlice(Pageable pageable);
+
+    /**
+     * Retrieves a window of exercises, as summaries without the description, using keyset
+     * (cursor) pagination.
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order of the exercises
+     * @param limit the maximum number of exercises to retrieve
+     * @return a {@link Window} of {@link ExerciseSummaryResponseDTO} objects
+     */
+    Window<ExerciseSummaryResponseDTO> getAllExerciseSummaries(ScrollPosition position, Sort sort, int limit);
+
+    /**
+     * Searches the exercises that match the given criteria in a paginated format.
+     *
+     * <p>
+     * Each matching exercise is returned only once, regardless of how many of its muscle
+     * engagements match the criteria.
+     * </p>
+     *
+     * @param criteria the search criteria
+     * @param pageable the pagination information
+     * @return a {@link Page} of matching {@link ExerciseEntity} objects
+     */
+    Page<ExerciseEntity> searchExercises(ExerciseSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Searches the exercises that match the given criteria in a paginated format without counting them.
+     *
+     * @param criteria the search criteria
+     * @param pageable the pagination information
+     * @return a {@link Slice} of matching {@link ExerciseEntity} objects
+     */
+    Slice<ExerciseEntity> searchExercisesSlice(ExerciseSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Searches the exercises whose name or description contain all the terms of the query
+     * in a paginated format.
+     *
+     * <p>
+     * The exercises are ordered by relevance, so the sort of the pagination information is ignored.
+     * </p>
+     *
+     * @param query the text to search
+     * @param pageable the pagination information
+     * @return a {@link Page} of matching {@link ExerciseEntity} objects, from the most to the least relevant
+     */
+    Page<ExerciseEntity> searchExercisesByText(String query, Pageable pageable);
+
+    /**
+     * Retrieves a window of exercises using keyset (cursor) pagination.
+     *
+     * <p>
+     * This method returns the exercises that follow or precede the given position according
+     * to the provided sort order, without counting the total number of exercises.
+     * </p>
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order of the exercises
+     * @param limit the maximum number of exercises to retrieve
+     * @return a {@link Window} of {@link ExerciseEntity} objects
+     */
+    Window<ExerciseEntity> getAllExercises(ScrollPosition position, Sort sort, int limit);
+
     /**
      * Saves a new exercise entity to the database.
      *
@@ -60,26 +220,32 @@ public interface ExerciseService {
      *
      * <p>
      * This method modifies the existing exercise entity with the provided information.
-     * The exercise entity must be valid according to the defined constraints.
+     * The exercise entity must be valid according to the defined constraints. If an expected
+     * version is given, the update only succeeds if the exercise still has that version.
      * </p>
      *
      * @param exercise the exercise entity containing the updated information
+     * @param expectedVersion the version the exercise must have, or {@code null} to update any version
      * @return the updated {@link ExerciseEntity}
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the exercise does not have the expected version
      */
-    ExerciseEntity updateExercise(@Valid ExerciseEntity exercise);
+    ExerciseEntity updateExercise(@Valid ExerciseEntity exercise, Long expectedVersion);
 
     /**
      * Partially updates an existing exercise entity in the database.
      *
      * <p>
      * This method updates only the fields that are present in the provided patch exercise entity.
-     * The patch exercise entity must be valid according to the defined constraints.
+     * The patch exercise entity must be valid according to the defined constraints. If an expected
+     * version is given, the update only succeeds if the exercise still has that version.
      * </p>
      *
      * @param patchExercise the exercise entity containing the fields to update
+     * @param expectedVersion the version the exercise must have, or {@code null} to update any version
      * @return the updated {@link ExerciseEntity}
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the exercise does not have the expected version
      */
-    ExerciseEntity partialUpdateExercise(@Valid ExerciseEntity patchExercise);
+    ExerciseEntity partialUpdateExercise(@Valid ExerciseEntity patchExercise, Long expectedVersion);
 
     /**
      * Deletes an exercise entity by its ID.
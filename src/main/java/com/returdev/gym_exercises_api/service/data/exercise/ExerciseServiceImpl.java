@@ -1,19 +1,52 @@
 package com.returdev.gym_exercises_api.service.data.exercise;
 
+import com.returdev.gym_exercises_api.config.datasource.ReadYourWritesContext;
+import com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.ExerciseSummaryResponseDTO;
+import com.returdev.gym_exercises_api.mappers.EntityDtoMapper;
 import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.projections.ExerciseVersionProjection;
+import com.returdev.gym_exercises_api.model.search.ExerciseMuscleSearchResult;
+import com.returdev.gym_exercises_api.model.search.ExerciseSearchCriteria;
+import com.returdev.gym_exercises_api.model.search.ExerciseTextSearchResult;
+import com.returdev.gym_exercises_api.model.search.MuscleSignatureFilter;
+import com.returdev.gym_exercises_api.repositories.data.EquipmentRepository;
 import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
-import com.returdev.gym_exercises_api.service.data.equipment.EquipmentService;
+import com.returdev.gym_exercises_api.service.data.cache.ResponseBodyCache;
+import com.returdev.gym_exercises_api.service.data.catalog.CatalogSnapshot;
+import com.returdev.gym_exercises_api.service.data.catalog.CatalogSnapshotService;
 import com.returdev.gym_exercises_api.service.data.muscleengagement.MuscleEngagementService;
 import com.returdev.gym_exercises_api.service.data.validators.ServiceValidator;
+import com.returdev.gym_exercises_api.util.TransactionUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.stereotype.Service;
-import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link ExerciseService} interface.
@@ -22,28 +55,287 @@ import lombok.RequiredArgsConstructor;
  * This service is responsible for managing exercise entities, including creating,
  * updating, partially updating, retrieving, and deleting exercises. It validates
  * the inputs using the {@link ServiceValidator} and interacts with the necessary
- * repositories and services such as {@link ExerciseRepository}, {@link EquipmentService},
+ * repositories and services such as {@link ExerciseRepository}, {@link EquipmentRepository},
  * and {@link MuscleEngagementService}.
  * </p>
  */
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 public class ExerciseServiceImpl implements ExerciseService {
 
+    private static final String ALL_EXERCISES_FILTER = "all";
+    private static final String SEARCH_FILTER_PREFIX = "search:";
+    private static final String ID_PROPERTY = "id";
+
     private final ServiceValidator serviceValidator;
     private final ExerciseRepository exerciseRepository;
-    private final EquipmentService equipmentService;
+    private final EquipmentRepository equipmentRepository;
     private final MuscleEngagementService muscleEngagementService;
+    private final ExerciseCountCache exerciseCountCache;
+    private final ExerciseTextIndex exerciseTextIndex;
+    private final ExerciseMuscleIndex exerciseMuscleIndex;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final ResponseBodyCache responseBodyCache;
+    private final EntityDtoMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.read-replica.enabled:false}")
+    private boolean readReplicaEnabled;
 
     /**
      * Retrieves all exercises in a paginated format.
      *
+     * <p>
+     * The page content is loaded as a slice and the total is taken from the count cache. The total
+     * is not looked up at all when it can be deduced from the page, as on a last partial page.
+     * With the snapshot read mode, the page is served from the current {@link CatalogSnapshot}
+     * without accessing the database.
+     * </p>
+     *
      * @param pageable the pagination information
      * @return a {@link Page} of {@link ExerciseEntity} objects
      */
     @Override
+    @Transactional(readOnly = true)
     public Page<ExerciseEntity> getAllExercises(Pageable pageable) {
-        return exerciseRepository.findAll(pageable);
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getExercises(pageable);
+        }
+
+        Slice<ExerciseEntity> slice = exerciseRepository.findAllWithRelationsAsSlice(pageable);
+
+        return PageableExecutionUtils.getPage(
+                slice.getContent(),
+                pageable,
+                () -> exerciseCountCache.getTotal(ALL_EXERCISES_FILTER, () -> countOnPrimary(exerciseRepository::count))
+        );
+    }
+
+    /**
+     * Retrieves all exercises in a paginated format without counting them.
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link ExerciseEntity} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ExerciseEntity> getAllExercisesSlice(Pageable pageable) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getExercisesSlice(pageable);
+        }
+
+        return exerciseRepository.findAllWithRelationsAsSlice(pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Like {@link #getAllExercises(Pageable)}, the total is taken from the count cache, or deduced
+     * from the page. With the snapshot read mode, the exercises of the snapshot are mapped instead.
+     * </p>
+     *
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link ExerciseResponseDTO} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ExerciseResponseDTO> getAllExerciseResponses(Pageable pageable) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getExercises(pageable).map(mapper::exerciseEntityToResponseDto);
+        }
+
+        Slice<ExerciseResponseDTO> slice = exerciseRepository.findAllResponsesAsSlice(pageable);
+
+        return PageableExecutionUtils.getPage(
+                slice.getContent(),
+                pageable,
+                () -> exerciseCountCache.getTotal(ALL_EXERCISES_FILTER, () -> countOnPrimary(exerciseRepository::count))
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link ExerciseResponseDTO} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ExerciseResponseDTO> getAllExerciseResponsesSlice(Pageable pageable) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getExercisesSlice(pageable).map(mapper::exerciseEntityToResponseDto);
+        }
+
+        return exerciseRepository.findAllResponsesAsSlice(pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link ExerciseSummaryResponseDTO} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ExerciseSummaryResponseDTO> getAllExerciseSummaries(Pageable pageable) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getExercises(pageable).map(mapper::exerciseEntityToSummaryDto);
+        }
+
+        Slice<ExerciseSummaryResponseDTO> slice = exerciseRepository.findAllSummariesAsSlice(pageable);
+
+        return PageableExecutionUtils.getPage(
+                slice.getContent(),
+                pageable,
+                () -> exerciseCountCache.getTotal(ALL_EXERCISES_FILTER, () -> countOnPrimary(exerciseRepository::count))
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param pageable the pagination information
+     * @return a {@link Slice} of {@link ExerciseSummaryResponseDTO} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ExerciseSummaryResponseDTO> getAllExerciseSummariesSlice(Pageable pageable) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getExercisesSlice(pageable).map(mapper::exerciseEntityToSummaryDto);
+        }
+
+        return exerciseRepository.findAllSummariesAsSlice(pageable);
+    }
+
+    /**
+     * Searches the exercises that match the given criteria in a paginated format.
+     *
+     * <p>
+     * The criteria are resolved to a muscle signature filter. When the page is ordered by ID, the
+     * filter is evaluated by the muscle index, which also gives the total, and only the exercises
+     * of the page are loaded. Otherwise it is evaluated on the muscle signature column, so the
+     * search doesn't read the join table, and the total is taken from the count cache, keyed by
+     * the filter and the equipment.
+     * </p>
+     *
+     * @param criteria the search criteria
+     * @param pageable the pagination information
+     * @return a {@link Page} of matching {@link ExerciseEntity} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ExerciseEntity> searchExercises(ExerciseSearchCriteria criteria, Pageable pageable) {
+        MuscleSignatureFilter filter = MuscleSignatureFilter.of(criteria);
+
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().searchExercises(filter, criteria.equipmentId(), pageable);
+        }
+
+        if (isOrderedById(pageable)) {
+            return searchExercisesInMuscleIndex(filter, criteria.equipmentId(), pageable);
+        }
+
+        Slice<ExerciseEntity> slice = exerciseRepository.searchByMuscleSignature(filter, criteria.equipmentId(), pageable);
+
+        return PageableExecutionUtils.getPage(
+                slice.getContent(),
+                pageable,
+                () -> exerciseCountCache.getTotal(
+                        SEARCH_FILTER_PREFIX + "levels=" + filter.levels() + "&muscles=" + filter.muscles()
+                                + "&minimum=" + filter.minimum() + "&equipment=" + criteria.equipmentId(),
+                        () -> countOnPrimary(() -> exerciseRepository.countSearchByMuscleSignature(filter, criteria.equipmentId()))
+                )
+        );
+    }
+
+    /**
+     * Searches the exercises that match the given criteria in a paginated format without counting them.
+     *
+     * <p>
+     * Pages ordered by ID are resolved by the muscle index, whose total comes at no extra cost.
+     * </p>
+     *
+     * @param criteria the search criteria
+     * @param pageable the pagination information
+     * @return a {@link Slice} of matching {@link ExerciseEntity} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ExerciseEntity> searchExercisesSlice(ExerciseSearchCriteria criteria, Pageable pageable) {
+        MuscleSignatureFilter filter = MuscleSignatureFilter.of(criteria);
+
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().searchExercisesSlice(filter, criteria.equipmentId(), pageable);
+        }
+
+        if (isOrderedById(pageable)) {
+            return searchExercisesInMuscleIndex(filter, criteria.equipmentId(), pageable);
+        }
+
+        return exerciseRepository.searchByMuscleSignature(filter, criteria.equipmentId(), pageable);
+    }
+
+    /**
+     * Searches the exercises that match the given text in a paginated format.
+     *
+     * <p>
+     * The IDs of the requested page and the total are resolved by the text index, and only the
+     * exercises of the page are loaded, in a single query or from the snapshot.
+     * </p>
+     *
+     * @param query the text to search
+     * @param pageable the pagination information
+     * @return a {@link Page} of matching {@link ExerciseEntity} objects, from the most to the least relevant
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ExerciseEntity> searchExercisesByText(String query, Pageable pageable) {
+        ExerciseTextSearchResult result = exerciseTextIndex.search(query, pageable.getOffset(), pageable.getPageSize());
+
+        List<ExerciseEntity> exercises = catalogSnapshotService.isEnabled()
+                ? catalogSnapshotService.getSnapshot().findExercisesByIds(result.ids())
+                : findAllWithRelationsInOrder(result.ids());
+
+        // Keep the ranking of the index
+        return new PageImpl<>(exercises, pageable, result.total());
+    }
+
+    /**
+     * Retrieves a window of exercises using keyset pagination.
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order of the exercises
+     * @param limit the maximum number of exercises to retrieve
+     * @return a {@link Window} of {@link ExerciseEntity} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Window<ExerciseEntity> getAllExercises(ScrollPosition position, Sort sort, int limit) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getExercises(position, sort, limit);
+        }
+
+        return exerciseRepository.findAllWithRelations(position, sort, Limit.of(limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param position the keyset position to scroll from
+     * @param sort the sort order of the exercises
+     * @param limit the maximum number of exercises to retrieve
+     * @return a {@link Window} of {@link ExerciseSummaryResponseDTO} objects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Window<ExerciseSummaryResponseDTO> getAllExerciseSummaries(ScrollPosition position, Sort sort, int limit) {
+        if (catalogSnapshotService.isEnabled()) {
+            return catalogSnapshotService.getSnapshot().getExercises(position, sort, limit).map(mapper::exerciseEntityToSummaryDto);
+        }
+
+        return exerciseRepository.findAllSummaries(position, sort, Limit.of(limit));
     }
 
     /**
@@ -57,59 +349,116 @@ public class ExerciseServiceImpl implements ExerciseService {
      * @return the {@link ExerciseEntity} associated with the given ID
      */
     @Override
+    @Transactional(readOnly = true)
     public ExerciseEntity getExerciseById(Long id) {
         return serviceValidator.validateGetExerciseById(
                 id,
-                exerciseRepository::findById
+                catalogSnapshotService.isEnabled() ? catalogSnapshotService.getSnapshot()::findExerciseById : exerciseRepository::findById
         );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Reads only the version columns of the exercise and its equipment. If the ID is invalid
+     * or the exercise doesn't exist, appropriate exceptions are thrown.
+     * </p>
+     *
+     * @param id the ID of the exercise
+     * @return the {@link ExerciseVersionProjection} of the exercise
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ExerciseVersionProjection getExerciseVersionById(Long id) {
+        return serviceValidator.validateGetExerciseVersionById(
+                id,
+                catalogSnapshotService.isEnabled() ? catalogSnapshotService.getSnapshot()::findExerciseVersionById : exerciseRepository::findVersionById
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The exercises are loaded with their equipment and muscle engagements in a single query, or
+     * from the snapshot.
+     * </p>
+     *
+     * @param ids the IDs of the exercises to retrieve
+     * @return the existing {@link ExerciseEntity} objects, in the order of the IDs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExerciseEntity> getExercisesByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+
+        return catalogSnapshotService.isEnabled()
+                ? catalogSnapshotService.getSnapshot().findExercisesByIds(distinctIds)
+                : findAllWithRelationsInOrder(distinctIds);
+    }
+
     /**
      * Saves a new exercise entity after validation.
      *
      * <p>
-     * Validates the input exercise entity, checking for conflicts (e.g., duplicate names)
-     * and relationships (e.g., valid equipment and muscle engagements), then persists
-     * the entity in the database.
+     * Validates the input exercise entity and its muscle engagements, then inserts it. The equipment
+     * is referenced without being loaded. A duplicate name for the equipment or a missing equipment
+     * are detected by the insert itself, and reported with the same exceptions as the equivalent
+     * queries.
      * </p>
      *
      * @param exercise the exercise entity to save
      * @return the saved {@link ExerciseEntity}
      */
     @Override
+    @Transactional
     public ExerciseEntity saveExercise(ExerciseEntity exercise) {
         ExerciseEntity validatedExercise = serviceValidator.validateSaveExercise(
                 exercise,
-                exerciseRepository::existsByNameAndEquipmentId,
-                equipmentService::getEquipmentById,
+                // Checked by the unique constraint on the name and equipment when inserting
+                (name, equipmentId) -> false,
+                equipmentRepository::getReferenceById,
                 muscleEngagementService::getMuscleEngagementsWithId
         );
 
-        return exerciseRepository.save(validatedExercise);
+        return exerciseWritten(serviceValidator.validateExerciseWrite(
+                validatedExercise,
+                exerciseRepository::saveAndFlush,
+                (name, equipmentId) -> lookUpAfterFailedWrite(() -> exerciseRepository.existsByNameAndEquipmentId(name, equipmentId)),
+                equipmentId -> lookUpAfterFailedWrite(() -> equipmentRepository.existsById(equipmentId))
+        ));
     }
 
     /**
      * Updates an existing exercise entity after validation.
      *
      * <p>
-     * Validates the input exercise entity, ensuring that the entity exists,
-     * and checks for potential conflicts or updates in related entities.
+     * Validates the input exercise entity, ensuring that the entity exists, and copies its fields
+     * to the persisted exercise, which is loaded once to check its existence. The expected version
+     * is compared with the loaded one and checked again by the versioned update statement; without
+     * it, the exercise is updated over its current version, read from the database even with the
+     * snapshot read mode.
      * </p>
      *
      * @param exercise the exercise entity containing updated information
+     * @param expectedVersion the version the exercise must have, or {@code null} to update any version
      * @return the updated {@link ExerciseEntity}
      */
     @Override
-    public ExerciseEntity updateExercise(ExerciseEntity exercise) {
+    @Transactional
+    public ExerciseEntity updateExercise(ExerciseEntity exercise, Long expectedVersion) {
         ExerciseEntity validatedExercise = serviceValidator.validateUpdateExercise(
                 exercise,
-                exerciseRepository::existsById,
-                exerciseRepository::existsByNameAndEquipmentId,
-                equipmentService::getEquipmentById,
+                id -> exerciseRepository.findById(id).isPresent(),
+                // Checked by the unique constraint on the name and equipment when updating
+                (name, equipmentId) -> false,
+                equipmentRepository::getReferenceById,
                 muscleEngagementService::getMuscleEngagementsWithId
         );
 
-        return exerciseRepository.save(validatedExercise);
+        // Already loaded in the persistence context by the existence check
+        return updatePersistedExercise(exerciseRepository.getReferenceById(exercise.getId()), validatedExercise, expectedVersion);
     }
 
     /**
@@ -118,22 +467,27 @@ public class ExerciseServiceImpl implements ExerciseService {
      * <p>
      * Updates only the specified fields of the exercise entity, validating any
      * new information provided, and persists the updated entity in the database.
+     * Without an expected version, the version of the persisted exercise is kept.
      * </p>
      *
      * @param exercise the exercise entity containing the fields to update
+     * @param expectedVersion the version the exercise must have, or {@code null} to update any version
      * @return the updated {@link ExerciseEntity}
      */
     @Override
-    public ExerciseEntity partialUpdateExercise(ExerciseEntity exercise) {
+    @Transactional
+    public ExerciseEntity partialUpdateExercise(ExerciseEntity exercise, Long expectedVersion) {
         ExerciseEntity validatedExercise = serviceValidator.validatePartialUpdateExercise(
                 exercise,
                 exerciseRepository::findById,
-                exerciseRepository::existsByNameAndEquipmentId,
-                equipmentService::getEquipmentById,
+                // Checked by the unique constraint on the name and equipment when updating
+                (name, equipmentId) -> false,
+                equipmentRepository::getReferenceById,
                 muscleEngagementService::getMuscleEngagementsWithId
         );
 
-        return exerciseRepository.save(validatedExercise);
+        // Already loaded in the persistence context by the validation
+        return updatePersistedExercise(exerciseRepository.getReferenceById(exercise.getId()), validatedExercise, expectedVersion);
     }
 
     /**
@@ -141,12 +495,14 @@ public class ExerciseServiceImpl implements ExerciseService {
      *
      * <p>
      * Validates that the ID exists before deleting the corresponding exercise entity
-     * from the database.
+     * from the database, in the same transaction. Once it commits, the exercise is removed from
+     * the count cache, the indexes, the snapshot and the response body cache.
      * </p>
      *
      * @param id the ID of the exercise to delete
      */
     @Override
+    @Transactional
     public void deleteExercise(Long id) {
         serviceValidator.validateDeleteExercise(
                 id,
@@ -154,7 +510,175 @@ public class ExerciseServiceImpl implements ExerciseService {
         );
 
         exerciseRepository.deleteById(id);
+        TransactionUtil.afterCommit(() -> {
+            exerciseCountCache.invalidate();
+            exerciseTextIndex.remove(id);
+            exerciseMuscleIndex.remove(id);
+        });
+        catalogSnapshotService.exerciseDeleted(id);
+        responseBodyCache.exercisesChanged(List.of(id));
     }
 
-}
+    /**
+     * Copies the fields of a validated exercise to the persisted one and flushes the update.
+     *
+     * <p>
+     * The persisted exercise is loaded from the second-level cache when present and updated in
+     * place instead of merging a copy. The muscle engagements are only replaced when they change,
+     * regardless of their order, so an update of the other fields doesn't rewrite the join table.
+     * </p>
+     *
+     * @param persistedExercise the exercise managed by the persistence context
+     * @param validatedExercise the validated exercise with the updated fields
+     * @param expectedVersion the version the exercise must have, or {@code null} to update any version
+     * @return the updated {@link ExerciseEntity}
+     */
+    private ExerciseEntity updatePersistedExercise(ExerciseEntity persistedExercise, ExerciseEntity validatedExercise, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != persistedExercise.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(ExerciseEntity.class, persistedExercise.getId());
+        }
+
+        persistedExercise.setName(validatedExercise.getName());
+        persistedExercise.setDescription(validatedExercise.getDescription());
+        persistedExercise.setEquipment(validatedExercise.getEquipment());
+        if (!getIds(persistedExercise.getMusclesEngagement()).equals(getIds(validatedExercise.getMusclesEngagement()))) {
+            persistedExercise.setMusclesEngagement(validatedExercise.getMusclesEngagement());
+        }
 
+        // The exercise is managed, so flushing writes the changes without merging it
+        return exerciseWritten(serviceValidator.validateExerciseWrite(
+                persistedExercise,
+                updatedExercise -> {
+                    exerciseRepository.flush();
+                    return updatedExercise;
+                },
+                (name, equipmentId) -> lookUpAfterFailedWrite(
+                        () -> exerciseRepository.existsByNameAndEquipmentIdAndIdNot(name, equipmentId, persistedExercise.getId())
+                ),
+                equipmentId -> lookUpAfterFailedWrite(() -> equipmentRepository.existsById(equipmentId))
+        ));
+    }
+
+    /**
+     * Counts exercises for the count cache on the primary database, so a lagging replica can't
+     * fill the cache with a total older than the write that invalidated it. The connection of a
+     * read-only transaction may already be acquired from the replica, so the count runs in a new
+     * read-only transaction.
+     *
+     * @param counter the count to run
+     * @return the number of exercises
+     */
+    private long countOnPrimary(LongSupplier counter) {
+        if (!readReplicaEnabled || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return counter.getAsLong();
+        }
+
+        TransactionTemplate newTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        newTransaction.setReadOnly(true);
+
+        return ReadYourWritesContext.callOnPrimary(() -> newTransaction.execute(status -> counter.getAsLong()));
+    }
+
+    /**
+     * Runs a lookup that explains a failed write in a new read-write transaction, so it is served
+     * by the primary database and doesn't flush the persistence context of the failed write again.
+     *
+     * @param lookup the lookup to run
+     * @return the result of the lookup
+     */
+    private boolean lookUpAfterFailedWrite(Supplier<Boolean> lookup) {
+        TransactionTemplate newTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        return Boolean.TRUE.equals(newTransaction.execute(status -> lookup.get()));
+    }
+
+    /**
+     * Applies a written exercise to the count cache, the indexes, the snapshot and the response
+     * body cache once the transaction commits.
+     *
+     * <p>
+     * The equipment, referenced without being loaded, is initialized for the response, usually
+     * from the second-level cache.
+     * </p>
+     *
+     * @param savedExercise the written exercise
+     * @return the written exercise, with its equipment initialized
+     */
+    private ExerciseEntity exerciseWritten(ExerciseEntity savedExercise) {
+        Hibernate.initialize(savedExercise.getEquipment());
+
+        TransactionUtil.afterCommit(() -> {
+            exerciseCountCache.invalidate();
+            exerciseTextIndex.index(savedExercise);
+            exerciseMuscleIndex.index(savedExercise);
+        });
+        catalogSnapshotService.exercisesSaved(List.of(savedExercise));
+        responseBodyCache.exercisesChanged(List.of(savedExercise.getId()));
+
+        return savedExercise;
+    }
+
+    /**
+     * Returns the IDs of the given muscle engagements.
+     *
+     * @param muscleEngagements the muscle engagements
+     * @return the IDs of the muscle engagements
+     */
+    private static Set<Long> getIds(List<MuscleEngagementEntity> muscleEngagements) {
+        return muscleEngagements.stream().map(MuscleEngagementEntity::getId).collect(Collectors.toSet());
+    }
+
+    /**
+     * Searches a page of the exercises that match the filter in the muscle index.
+     *
+     * @param filter the muscle signature filter
+     * @param equipmentId the ID of the equipment to match, or {@code null} for any equipment
+     * @param pageable the pagination information, ordered by ID
+     * @return a {@link Page} of matching {@link ExerciseEntity} objects
+     */
+    private Page<ExerciseEntity> searchExercisesInMuscleIndex(MuscleSignatureFilter filter, Long equipmentId, Pageable pageable) {
+        Sort.Order idOrder = pageable.getSort().getOrderFor(ID_PROPERTY);
+
+        ExerciseMuscleSearchResult result = exerciseMuscleIndex.search(
+                filter,
+                equipmentId,
+                idOrder != null && idOrder.isDescending(),
+                pageable.getOffset(),
+                pageable.getPageSize()
+        );
+
+        return new PageImpl<>(findAllWithRelationsInOrder(result.ids()), pageable, result.total());
+    }
+
+    /**
+     * Checks whether the pagination requests a page ordered by ID, or in no particular order.
+     *
+     * @param pageable the pagination information
+     * @return {@code true} if the page is ordered by ID only
+     */
+    private static boolean isOrderedById(Pageable pageable) {
+        return pageable.isPaged() && pageable.getSort().stream()
+                .allMatch(order -> order.getProperty().equals(ID_PROPERTY));
+    }
+
+    /**
+     * Loads the exercises with the given IDs in a single query, keeping the order of the IDs and
+     * skipping the exercises deleted since the IDs were resolved.
+     *
+     * @param ids the IDs of the exercises
+     * @return the exercises with their associations initialized, in the order of the IDs
+     */
+    private List<ExerciseEntity> findAllWithRelationsInOrder(List<Long> ids) {
+        Map<Long, ExerciseEntity> exercisesById = ids.isEmpty() ? Map.of() :
+                exerciseRepository.findAllWithRelationsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(ExerciseEntity::getId, Function.identity()));
+
+        return ids.stream()
+                .map(exercisesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+}
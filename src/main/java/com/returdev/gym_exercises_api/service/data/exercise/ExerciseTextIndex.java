@@ -0,0 +1,48 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.search.ExerciseTextSearchResult;
+
+/**
+ * In-memory full-text index over the name and description of the exercises.
+ *
+ * <p>
+ * Matching the text of the exercises in the database would require a scan of the description
+ * column on every search. Implementations build the index once on startup and are then kept up
+ * to date by the write paths of {@link ExerciseService}, so searches never touch the database.
+ * </p>
+ */
+public interface ExerciseTextIndex {
+
+    /**
+     * Adds an exercise to the index, or replaces its indexed text if it is already indexed.
+     * An exercise older than the indexed version is ignored.
+     *
+     * @param exercise the exercise to index
+     */
+    void index(ExerciseEntity exercise);
+
+    /**
+     * Removes an exercise from the index. Nothing happens if the exercise is not indexed.
+     *
+     * @param id the ID of the exercise to remove
+     */
+    void remove(Long id);
+
+    /**
+     * Searches the exercises whose name or description contain all the terms of the query.
+     *
+     * <p>
+     * The matching exercises are ranked by relevance, with BM25 scoring, where terms found in
+     * the name weigh more than terms found in the description. Exercises with the same score are
+     * ordered by ID.
+     * </p>
+     *
+     * @param query the text to search
+     * @param offset the number of matching exercises to skip
+     * @param limit the maximum number of exercises to return
+     * @return the {@link ExerciseTextSearchResult} with the requested range of matching exercises
+     */
+    ExerciseTextSearchResult search(String query, long offset, int limit);
+
+}
@@ -0,0 +1,541 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.projections.ExerciseTextProjection;
+import com.returdev.gym_exercises_api.model.search.ExerciseTextSearchResult;
+import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link ExerciseTextIndex} backed by an inverted index of primitive arrays.
+ *
+ * <p>
+ * Each indexed exercise is assigned a dense ordinal, and each term keeps the ordinals of the
+ * exercises that contain it, in ascending order, with its frequency. A search walks the postings
+ * of its rarest term and gallops through the postings of the other terms to intersect them, so its
+ * cost depends on how many exercises contain the rarest term and not on the size of the catalog.
+ * </p>
+ *
+ * <p>
+ * Removed exercises are only marked as removed, and their postings are skipped by the searches
+ * until enough of them accumulate to compact the index. Searches share a read lock and writes,
+ * which are rare, take the write lock.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ExerciseTextIndexImpl implements ExerciseTextIndex {
+
+    // BM25 parameters: term frequency saturation and document length normalization
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Each occurrence of a term in the name counts as this many occurrences in the description
+    private static final int NAME_WEIGHT = 3;
+
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final int MIN_REMOVED_TO_COMPACT = 1_024;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TERM_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ExerciseRepository exerciseRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private Postings[][] documentPostings = new Postings[INITIAL_CAPACITY][];
+    private boolean[] removed = new boolean[INITIAL_CAPACITY];
+
+    private int ordinalCount;
+    private int removedCount;
+    private long totalLength;
+
+    /**
+     * Indexes every persisted exercise, reading only their text columns.
+     */
+    @PostConstruct
+    void loadIndex() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        lock.writeLock().lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ExerciseTextProjection> exercises = exerciseRepository.streamTextBy()) {
+                    exercises.forEach(exercise -> addDocument(
+                            exercise.getId(),
+                            exercise.getName(),
+                            exercise.getDescription(),
+                            exercise.getVersion()
+                    ));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void index(ExerciseEntity exercise) {
+        lock.writeLock().lock();
+        try {
+            addDocument(exercise.getId(), exercise.getName(), exercise.getDescription(), exercise.getVersion());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalsById.get(id);
+            if (ordinal != null) {
+                removeDocument(ordinal);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExerciseTextSearchResult search(String query, long offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            int documentCount = ordinalCount - removedCount;
+            if (terms.isEmpty() || documentCount == 0) {
+                return new ExerciseTextSearchResult(List.of(), 0);
+            }
+
+            Postings[] termPostings = new Postings[terms.size()];
+            int termIndex = 0;
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    return new ExerciseTextSearchResult(List.of(), 0);
+                }
+                termPostings[termIndex++] = postings;
+            }
+
+            // The rarest term drives the intersection, so the cost is bounded by its postings
+            Arrays.sort(termPostings, (first, second) -> Integer.compare(first.size, second.size));
+
+            float[] idfs = new float[termPostings.length];
+            for (int i = 0; i < termPostings.length; i++) {
+                int documentFrequency = termPostings[i].documentFrequency;
+                idfs[i] = (float) Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            }
+
+            // The length normalization of BM25 reduced to a multiply-add per posting
+            float lengthFactor = K1 * B * documentCount / totalLength;
+
+            Postings rarest = termPostings[0];
+            int[] positions = new int[termPostings.length];
+            int[] matches = new int[rarest.size];
+            float[] scores = new float[rarest.size];
+            int matchCount = 0;
+
+            candidates:
+            for (int i = 0; i < rarest.size; i++) {
+                int ordinal = rarest.ordinals[i];
+                if (removed[ordinal]) {
+                    continue;
+                }
+
+                float normalization = K1 * (1 - B) + lengthFactor * lengths[ordinal];
+                float score = termScore(idfs[0], rarest.frequencies[i], normalization);
+
+                for (int t = 1; t < termPostings.length; t++) {
+                    Postings postings = termPostings[t];
+                    int position = postings.advance(positions[t], ordinal);
+                    positions[t] = position;
+
+                    if (position == postings.size) {
+                        break candidates;
+                    }
+                    if (postings.ordinals[position] != ordinal) {
+                        continue candidates;
+                    }
+
+                    score += termScore(idfs[t], postings.frequencies[position], normalization);
+                }
+
+                matches[matchCount] = ordinal;
+                scores[matchCount] = score;
+                matchCount++;
+            }
+
+            if (offset >= matchCount) {
+                return new ExerciseTextSearchResult(List.of(), matchCount);
+            }
+
+            int[] ranked = topRanked(matches, scores, matchCount, (int) Math.min(matchCount, offset + limit));
+
+            List<Long> rankedIds = new ArrayList<>(ranked.length - (int) offset);
+            for (int i = (int) offset; i < ranked.length; i++) {
+                rankedIds.add(ids[matches[ranked[i]]]);
+            }
+
+            return new ExerciseTextSearchResult(rankedIds, matchCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Computes the BM25 score of a term in an exercise.
+     *
+     * @param idf the inverse document frequency of the term
+     * @param frequency the weighted frequency of the term in the exercise
+     * @param normalization the length normalization of the exercise
+     * @return the score of the term in the exercise
+     */
+    private static float termScore(float idf, int frequency, float normalization) {
+        return idf * frequency * (K1 + 1) / (frequency + normalization);
+    }
+
+    /**
+     * Selects the best ranked matches, from the highest to the lowest score, breaking ties by ID.
+     *
+     * <p>
+     * Only the requested number of matches is kept in a bounded binary heap of match indexes, so
+     * the matches are neither fully sorted nor boxed.
+     * </p>
+     *
+     * @param matches the ordinals of the matching exercises
+     * @param scores the scores of the matching exercises
+     * @param matchCount the number of matching exercises
+     * @param count the number of matches to select
+     * @return the indexes of the selected matches in ranking order
+     */
+    private int[] topRanked(int[] matches, float[] scores, int matchCount, int count) {
+        // The root of the heap is the worst ranked match kept so far
+        int[] heap = new int[count];
+        int size = 0;
+
+        for (int match = 0; match < matchCount; match++) {
+            if (size < count) {
+                heap[size] = match;
+                siftUp(heap, size++, matches, scores);
+            } else if (ranksLower(heap[0], match, matches, scores)) {
+                heap[0] = match;
+                siftDown(heap, size, matches, scores);
+            }
+        }
+
+        // Repeatedly move the worst ranked match to the end of the heap
+        for (int last = size - 1; last > 0; last--) {
+            int worst = heap[0];
+            heap[0] = heap[last];
+            heap[last] = worst;
+            siftDown(heap, last, matches, scores);
+        }
+
+        return heap;
+    }
+
+    private void siftUp(int[] heap, int index, int[] matches, float[] scores) {
+        int match = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksLower(match, heap[parent], matches, scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = match;
+    }
+
+    private void siftDown(int[] heap, int size, int[] matches, float[] scores) {
+        int match = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && ranksLower(heap[child + 1], heap[child], matches, scores)) {
+                child++;
+            }
+            if (!ranksLower(heap[child], match, matches, scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = match;
+    }
+
+    /**
+     * Checks whether a match ranks below another one: it has a lower score, or the same score
+     * and a higher ID.
+     *
+     * @param match the index of the match
+     * @param other the index of the match to compare with
+     * @param matches the ordinals of the matching exercises
+     * @param scores the scores of the matching exercises
+     * @return {@code true} if the match ranks below the other one, {@code false} otherwise
+     */
+    private boolean ranksLower(int match, int other, int[] matches, float[] scores) {
+        return scores[match] < scores[other]
+                || (scores[match] == scores[other] && ids[matches[match]] > ids[matches[other]]);
+    }
+
+    /**
+     * Adds an exercise to the index, replacing the previous text of the exercise if it is
+     * already indexed with the same or an older version. Must be called with the write lock held.
+     *
+     * @param id the ID of the exercise
+     * @param name the name of the exercise
+     * @param description the description of the exercise
+     * @param version the version of the exercise
+     */
+    private void addDocument(Long id, String name, String description, long version) {
+        Integer previousOrdinal = ordinalsById.get(id);
+        if (previousOrdinal != null) {
+            // A write that finished late must not override a newer version
+            if (versions[previousOrdinal] > version) {
+                return;
+            }
+            removeDocument(previousOrdinal);
+        }
+
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        tokenize(name).forEach(term -> frequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(description).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+
+        ensureCapacity(ordinalCount + 1);
+        int ordinal = ordinalCount++;
+
+        Postings[] termPostings = new Postings[frequencies.size()];
+        int length = 0;
+        int termIndex = 0;
+        for (Map.Entry<String, Integer> termFrequency : frequencies.entrySet()) {
+            Postings postings = postingsByTerm.computeIfAbsent(termFrequency.getKey(), Postings::new);
+            postings.add(ordinal, termFrequency.getValue());
+            termPostings[termIndex++] = postings;
+            length += termFrequency.getValue();
+        }
+
+        ids[ordinal] = id;
+        versions[ordinal] = version;
+        lengths[ordinal] = length;
+        documentPostings[ordinal] = termPostings;
+        ordinalsById.put(id, ordinal);
+        totalLength += length;
+
+        compactIfNeeded();
+    }
+
+    /**
+     * Marks an indexed exercise as removed. Its postings are kept until the index is compacted.
+     * Must be called with the write lock held.
+     *
+     * @param ordinal the ordinal of the exercise
+     */
+    private void removeDocument(int ordinal) {
+        for (Postings postings : documentPostings[ordinal]) {
+            // Terms no longer found in any exercise are dropped, with their stale postings
+            if (--postings.documentFrequency == 0) {
+                postingsByTerm.remove(postings.term, postings);
+            }
+        }
+
+        removed[ordinal] = true;
+        documentPostings[ordinal] = null;
+        ordinalsById.remove(ids[ordinal]);
+        totalLength -= lengths[ordinal];
+        removedCount++;
+    }
+
+    /**
+     * Rewrites the index without the removed exercises once they are a quarter of the indexed ones.
+     * Must be called with the write lock held.
+     */
+    private void compactIfNeeded() {
+        if (removedCount < MIN_REMOVED_TO_COMPACT || removedCount * 4 < ordinalCount) {
+            return;
+        }
+
+        int[] newOrdinals = new int[ordinalCount];
+        int liveCount = 0;
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            if (removed[ordinal]) {
+                newOrdinals[ordinal] = -1;
+                continue;
+            }
+
+            int newOrdinal = liveCount++;
+            newOrdinals[ordinal] = newOrdinal;
+            ids[newOrdinal] = ids[ordinal];
+            versions[newOrdinal] = versions[ordinal];
+            lengths[newOrdinal] = lengths[ordinal];
+            documentPostings[newOrdinal] = documentPostings[ordinal];
+            ordinalsById.put(ids[newOrdinal], newOrdinal);
+        }
+
+        for (Postings postings : postingsByTerm.values()) {
+            postings.remap(newOrdinals);
+        }
+
+        Arrays.fill(documentPostings, liveCount, ordinalCount, null);
+        Arrays.fill(removed, 0, ordinalCount, false);
+        ordinalCount = liveCount;
+        removedCount = 0;
+    }
+
+    /**
+     * Grows the arrays indexed by ordinal to hold at least the given number of exercises.
+     *
+     * @param capacity the required capacity
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        versions = Arrays.copyOf(versions, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+        documentPostings = Arrays.copyOf(documentPostings, newCapacity);
+        removed = Arrays.copyOf(removed, newCapacity);
+    }
+
+    /**
+     * Splits a text into lower-case terms without diacritics, so that a query matches
+     * regardless of case and accents. Terms shorter than two characters are discarded.
+     *
+     * @param text the text to split, or {@code null}
+     * @return the terms of the text, in order and with repetitions
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalizedText = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        List<String> terms = new ArrayList<>();
+        for (String term : TERM_SEPARATORS.split(normalizedText)) {
+            if (term.length() >= MIN_TERM_LENGTH) {
+                terms.add(term);
+            }
+        }
+
+        return terms;
+    }
+
+    /**
+     * The exercises that contain a term, as parallel arrays of ordinals and term frequencies.
+     */
+    private static final class Postings {
+
+        private final String term;
+        private int[] ordinals = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private int documentFrequency;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private void add(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+            documentFrequency++;
+        }
+
+        /**
+         * Finds the first position at or after the given one whose ordinal is not lower than the
+         * target, galloping and then binary searching, since the ordinals are in ascending order.
+         */
+        private int advance(int from, int target) {
+            if (from >= size || ordinals[from] >= target) {
+                return from;
+            }
+
+            int low = from;
+            int step = 1;
+            while (low + step < size && ordinals[low + step] < target) {
+                low += step;
+                step <<= 1;
+            }
+
+            int high = Math.min(low + step, size);
+            while (low + 1 < high) {
+                int middle = (low + high) >>> 1;
+                if (ordinals[middle] < target) {
+                    low = middle;
+                } else {
+                    high = middle;
+                }
+            }
+
+            return high;
+        }
+
+        private void remap(int[] newOrdinals) {
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                int newOrdinal = newOrdinals[ordinals[i]];
+                if (newOrdinal >= 0) {
+                    ordinals[newSize] = newOrdinal;
+                    frequencies[newSize] = frequencies[i];
+                    newSize++;
+                }
+            }
+            size = newSize;
+        }
+
+    }
+
+}
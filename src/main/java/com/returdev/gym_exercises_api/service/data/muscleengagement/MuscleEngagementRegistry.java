@@ -0,0 +1,38 @@
+package com.returdev.gym_exercises_api.service.data.muscleengagement;
+
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+
+import java.util.List;
+
+/**
+ * In-memory registry of every persisted muscle engagement.
+ *
+ * <p>
+ * Muscle engagements form a closed set: one row for each combination of {@link Muscle} and
+ * {@link MuscleActivationLevel}. Implementations make sure every combination exists in the
+ * database and keep the persisted entities in memory so they can be resolved without any
+ * database access.
+ * </p>
+ */
+public interface MuscleEngagementRegistry {
+
+    /**
+     * Resolves the persisted muscle engagement for the given muscle and activation level.
+     *
+     * @param muscle the muscle of the engagement
+     * @param activationLevel the activation level of the engagement
+     * @return the persisted {@link MuscleEngagementEntity}, never {@code null}
+     * @throws NullPointerException if the muscle or the activation level is null
+     */
+    MuscleEngagementEntity get(Muscle muscle, MuscleActivationLevel activationLevel);
+
+    /**
+     * Returns every persisted muscle engagement, ordered by muscle and then by activation level.
+     *
+     * @return an unmodifiable list with all the muscle engagements
+     */
+    List<MuscleEngagementEntity> getAll();
+
+}
@@ -0,0 +1,97 @@
+package com.returdev.gym_exercises_api.service.data.muscleengagement;
+
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.repositories.data.MuscleEngagementRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the {@link MuscleEngagementRegistry} backed by an array indexed by enum ordinals.
+ *
+ * <p>
+ * On startup, the registry loads all the muscle engagements with a single query and inserts
+ * the missing combinations in one batch. After that, the array is never modified, so lookups
+ * are lock-free and perform neither allocation nor I/O.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class MuscleEngagementRegistryImpl implements MuscleEngagementRegistry {
+
+    private static final Muscle[] MUSCLES = Muscle.values();
+    private static final MuscleActivationLevel[] ACTIVATION_LEVELS = MuscleActivationLevel.values();
+
+    private final MuscleEngagementRepository muscleEngagementRepository;
+
+    private MuscleEngagementEntity[] engagements;
+    private List<MuscleEngagementEntity> allEngagements;
+
+    /**
+     * Loads the persisted muscle engagements and creates the missing combinations.
+     */
+    @PostConstruct
+    void loadMuscleEngagements() {
+        MuscleEngagementEntity[] loadedEngagements = new MuscleEngagementEntity[MUSCLES.length * ACTIVATION_LEVELS.length];
+
+        muscleEngagementRepository.findAll().forEach(me ->
+                loadedEngagements[indexOf(me.getMuscle(), me.getMuscleActivationLevel())] = me
+        );
+
+        List<MuscleEngagementEntity> missingEngagements = new ArrayList<>();
+        for (Muscle muscle : MUSCLES) {
+            for (MuscleActivationLevel activationLevel : ACTIVATION_LEVELS) {
+                if (loadedEngagements[indexOf(muscle, activationLevel)] == null) {
+                    missingEngagements.add(new MuscleEngagementEntity(null, muscle, activationLevel));
+                }
+            }
+        }
+
+        if (!missingEngagements.isEmpty()) {
+            muscleEngagementRepository.saveAll(missingEngagements).forEach(me ->
+                    loadedEngagements[indexOf(me.getMuscle(), me.getMuscleActivationLevel())] = me
+            );
+        }
+
+        this.engagements = loadedEngagements;
+        this.allEngagements = List.copyOf(Arrays.asList(loadedEngagements));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MuscleEngagementEntity get(Muscle muscle, MuscleActivationLevel activationLevel) {
+        return engagements[indexOf(
+                Objects.requireNonNull(muscle),
+                Objects.requireNonNull(activationLevel)
+        )];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MuscleEngagementEntity> getAll() {
+        return allEngagements;
+    }
+
+    /**
+     * Calculates the array position of a muscle and activation level combination.
+     *
+     * @param muscle the muscle of the engagement
+     * @param activationLevel the activation level of the engagement
+     * @return the index of the combination
+     */
+    private static int indexOf(Muscle muscle, MuscleActivationLevel activationLevel) {
+        return muscle.ordinal() * ACTIVATION_LEVELS.length + activationLevel.ordinal();
+    }
+
+}
@@ -47,4 +47,3 @@ public interface MuscleEngagementService {
      */
     List<MuscleEngagementEntity> getMuscleEngagementsWithId(List<MuscleEngagementEntity> muscleEngagements);
 }
-
@@ -13,7 +13,9 @@ import java.util.Optional;
  *
  * <p>
  * This service interacts with the {@link MuscleEngagementRepository} to perform operations
- * related to muscle engagements, including retrieving IDs and saving entities.
+ * related to muscle engagements, including retrieving IDs and saving entities. Lookups by muscle
+ * and activation level are resolved through the {@link MuscleEngagementRegistry} without accessing
+ * the database.
  * </p>
  */
 @Service
@@ -21,14 +23,14 @@ import java.util.Optional;
 public class MuscleEngagementServiceImpl implements MuscleEngagementService {
 
     private final MuscleEngagementRepository muscleEngagementRepository;
+    private final MuscleEngagementRegistry muscleEngagementRegistry;
 
     /**
      * Retrieves the ID of a muscle engagement based on muscle and activation level.
      *
      * <p>
-     * This method uses the repository to find the ID of the specified muscle engagement entity.
-     * If the entity exists, the ID is returned wrapped in an {@link Optional}. If not, an empty
-     * {@link Optional} is returned.
+     * This method uses the registry to find the ID of the specified muscle engagement entity.
+     * Since every combination is registered, the ID is always present.
      * </p>
      *
      * @param muscleEngagement the muscle engagement entity containing the muscle and activation level
@@ -36,7 +38,9 @@ public class MuscleEngagementServiceImpl implements MuscleEngagementService {
      */
     @Override
     public Optional<Long> getMuscleEngagementId(MuscleEngagementEntity muscleEngagement) {
-        return muscleEngagementRepository.findIdByMuscleAndActivationLevel(muscleEngagement.getMuscle(), muscleEngagement.getMuscleActivationLevel());
+        return Optional.of(
+                muscleEngagementRegistry.get(muscleEngagement.getMuscle(), muscleEngagement.getMuscleActivationLevel()).getId()
+        );
     }
 
     /**
@@ -59,8 +63,8 @@ public class MuscleEngagementServiceImpl implements MuscleEngagementService {
      * Retrieves a list of muscle engagement entities based on the provided muscles and activation levels.
      *
      * <p>
-     * This method uses the repository to find and return muscle engagement entities that match
-     * the provided lists of muscles and activation levels.
+     * This method uses the registry to resolve the persisted muscle engagement entities that match
+     * the provided muscles and activation levels, without issuing any query.
      * </p>
      *
      * @param muscleEngagements the list of muscle engagement entities to retrieve
@@ -70,10 +74,8 @@ public class MuscleEngagementServiceImpl implements MuscleEngagementService {
     public List<MuscleEngagementEntity> getMuscleEngagementsWithId(List<MuscleEngagementEntity> muscleEngagements) {
 
         return muscleEngagements.stream().map(me ->
-                muscleEngagementRepository.findByMuscleAndActivationLevel(me.getMuscle(), me.getMuscleActivationLevel()
-                )
+                muscleEngagementRegistry.get(me.getMuscle(), me.getMuscleActivationLevel())
         ).toList();
 
     }
 }
-
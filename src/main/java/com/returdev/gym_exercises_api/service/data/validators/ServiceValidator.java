@@ -3,12 +3,14 @@ package com.returdev.gym_exercises_api.service.data.validators;
 import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
 import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
 import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.projections.ExerciseVersionProjection;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Interface for validating service operations related to exercises and equipment.
@@ -46,6 +48,30 @@ public interface ServiceValidator {
             Function<Long, Optional<EquipmentEntity>> getEquipmentById
     );
 
+    /**
+     * Validates the retrieval of the version of an exercise by its ID.
+     *
+     * @param id The ID of the exercise.
+     * @param getExerciseVersionById A function that retrieves the exercise version by its ID, returning an optional.
+     * @return The validated {@link ExerciseVersionProjection} if found.
+     */
+    ExerciseVersionProjection validateGetExerciseVersionById(
+            Long id,
+            Function<Long, Optional<ExerciseVersionProjection>> getExerciseVersionById
+    );
+
+    /**
+     * Validates the retrieval of the version of an equipment by its ID.
+     *
+     * @param id The ID of the equipment.
+     * @param getEquipmentVersionById A function that retrieves the equipment version by its ID, returning an optional.
+     * @return The validated version if found.
+     */
+    long validateGetEquipmentVersionById(
+            Long id,
+            Function<Long, Optional<Long>> getEquipmentVersionById
+    );
+
     /**
      * Validates the saving of a new equipment entity.
      *
@@ -140,5 +166,29 @@ public interface ServiceValidator {
      * @param existsById A predicate to check if the exercise ID exists.
      */
     void validateDeleteExercise(Long id, Predicate<Long> existsById);
+
+    /**
+     * Validates the write of an exercise entity against the constraints of the database.
+     *
+     * <p>
+     * The write is run as is. A violation of the unique key on the name and equipment, or of the
+     * foreign key of the equipment, is recognized by the error code of the database and reported
+     * with the same exception as the equivalent check, so the write does not need to query for
+     * them beforehand. A violation that is not recognized is checked with the given lookups, and
+     * rethrown if neither of them explains it.
+     * </p>
+     *
+     * @param exercise The exercise entity to write.
+     * @param write A function that writes and flushes the exercise.
+     * @param existsByNameAndEquipmentId A predicate to check if another exercise has the name for the equipment ID.
+     * @param equipmentExistsById A predicate to check if the equipment ID exists.
+     * @return The written {@link ExerciseEntity}.
+     */
+    ExerciseEntity validateExerciseWrite(
+            ExerciseEntity exercise,
+            UnaryOperator<ExerciseEntity> write,
+            BiPredicate<String, Long> existsByNameAndEquipmentId,
+            Predicate<Long> equipmentExistsById
+    );
 }
 
@@ -4,16 +4,20 @@ import com.returdev.gym_exercises_api.manager.message.MessageManager;
 import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
 import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
 import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.projections.ExerciseVersionProjection;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Implementation of the {@link ServiceValidator} interface for validating service operations
@@ -39,6 +43,10 @@ public class ServiceValidatorImpl implements ServiceValidator {
     private static final String EXERCISE_NOT_EXISTS_BY_ID_RESOURCE = "exception.exercise.not_exists_by_id";
     private static final String EQUIPMENT_EXISTS_BY_NAME_RESOURCE = "exception.equipment.exists_by_name";
     private static final String EXERCISE_EXISTS_BY_NAME_AND_EQUIPMENT_ID_RESOURCE = "exception.exercise.exists_by_name_and_equipment_id";
+    private static final int MYSQL_DUPLICATE_KEY_ERROR_CODE = 1062;
+    private static final int MYSQL_NO_REFERENCED_ROW_ERROR_CODE = 1452;
+    private static final String H2_DUPLICATE_KEY_SQL_STATE = "23505";
+    private static final String H2_NO_REFERENCED_ROW_SQL_STATE = "23506";
 
 
     private final MessageManager messageManager;
@@ -64,6 +72,27 @@ public class ServiceValidatorImpl implements ServiceValidator {
 
     }
 
+    @Override
+    public ExerciseVersionProjection validateGetExerciseVersionById(
+            Long id,
+            Function<Long, Optional<ExerciseVersionProjection>> getExerciseVersionById
+    ) {
+
+        validateIdIsNotNull(id);
+
+        return getExerciseEntityById(id, getExerciseVersionById);
+
+    }
+
+    @Override
+    public long validateGetEquipmentVersionById(Long id, Function<Long, Optional<Long>> getEquipmentVersionById) {
+
+        validateIdIsNotNull(id);
+
+        return getEquipmentEntityById(id, getEquipmentVersionById);
+
+    }
+
 
     @Override
     public void validateSaveEquipment(EquipmentEntity equipment, Predicate<String> existsByName) {
@@ -181,6 +210,77 @@ public class ServiceValidatorImpl implements ServiceValidator {
 
     }
 
+    @Override
+    public ExerciseEntity validateExerciseWrite(
+            ExerciseEntity exercise,
+            UnaryOperator<ExerciseEntity> write,
+            BiPredicate<String, Long> existsByNameAndEquipmentId,
+            Predicate<Long> equipmentExistsById
+    ) {
+
+        try {
+            return write.apply(exercise);
+        } catch (DataIntegrityViolationException ex) {
+            String name = exercise.getName();
+            Long equipmentId = exercise.getEquipment().getId();
+            SQLException sqlException = getSqlException(ex);
+
+            if (isDuplicateKey(sqlException)) {
+                throw exerciseExistsException(name, equipmentId);
+            }
+            if (isMissingReferencedRow(sqlException)) {
+                throw notExistsByIdException(equipmentId, EQUIPMENT_NOT_EXISTS_BY_ID_RESOURCE);
+            }
+
+            // Not recognized, so the lookups tell whether one of the checks explains it
+            equipmentNotExistsById(equipmentId, equipmentExistsById);
+            exerciseExistsByNameAndEquipmentId(name, equipmentId, existsByNameAndEquipmentId);
+
+            throw ex;
+        }
+
+    }
+
+    /**
+     * Returns the database error that caused a data integrity violation.
+     *
+     * @param ex the exception thrown by the write
+     * @return the {@link SQLException} of the violation, or {@code null} if there is none
+     */
+    private static SQLException getSqlException(DataIntegrityViolationException ex) {
+        Throwable cause = ex;
+        while (cause != null && !(cause instanceof SQLException)) {
+            cause = cause.getCause();
+        }
+
+        return (SQLException) cause;
+    }
+
+    /**
+     * Checks whether a database error is a duplicate entry in a unique key, by the vendor error
+     * code on MySQL and the SQL state on H2. The constraint names are not used, as the databases
+     * created by Hibernate before the migrations have generated ones.
+     *
+     * @param sqlException the database error, or {@code null}
+     * @return {@code true} if the error is a duplicate key
+     */
+    private static boolean isDuplicateKey(SQLException sqlException) {
+        return sqlException != null && (sqlException.getErrorCode() == MYSQL_DUPLICATE_KEY_ERROR_CODE
+                || H2_DUPLICATE_KEY_SQL_STATE.equals(sqlException.getSQLState()));
+    }
+
+    /**
+     * Checks whether a database error is a foreign key referencing a missing row, by the vendor
+     * error code on MySQL and the SQL state on H2.
+     *
+     * @param sqlException the database error, or {@code null}
+     * @return {@code true} if the error is a missing referenced row
+     */
+    private static boolean isMissingReferencedRow(SQLException sqlException) {
+        return sqlException != null && (sqlException.getErrorCode() == MYSQL_NO_REFERENCED_ROW_ERROR_CODE
+                || H2_NO_REFERENCED_ROW_SQL_STATE.equals(sqlException.getSQLState()));
+    }
+
     /**
      * Validates that the ID is not null.
      *
@@ -279,7 +379,7 @@ public class ServiceValidatorImpl implements ServiceValidator {
      * @param existsByNameAndEquipmentId a predicate to check if an exercise name exists for the equipment ID
      * @param getEquipmentById a function to retrieve an equipment entity by ID
      * @param getMuscleEngagementsWithId a function to retrieve muscle engagements by ID
-     * @return the merged exercise entity
+     * @return the merged exercise entity, with the version of the persisted exercise
      */
     private ExerciseEntity mergeExerciseFields(
             ExerciseEntity persistedExercise,
@@ -315,7 +415,8 @@ public class ServiceValidatorImpl implements ServiceValidator {
                 updatedName,
                 updatedDescription,
                 updatedEquipment,
-                updatedMuscleEngagements
+                updatedMuscleEngagements,
+                persistedExercise.getVersion()
         );
 
     }
@@ -333,15 +434,26 @@ public class ServiceValidatorImpl implements ServiceValidator {
      */
     private void notExistsById(Long id, Predicate<Long> existsById, String errorMsgResourceKey) {
         if (!existsById.test(id)) {
-            throw new EntityNotFoundException(
-                    messageManager.getMessageWithParams(
-                            errorMsgResourceKey,
-                            new Long[]{id}
-                    )
-            );
+            throw notExistsByIdException(id, errorMsgResourceKey);
         }
     }
 
+    /**
+     * Creates the exception reported when no entity exists with the specified ID.
+     *
+     * @param id the ID that does not exist
+     * @param errorMsgResourceKey the resource key for the error message
+     * @return the {@link EntityNotFoundException} to throw
+     */
+    private EntityNotFoundException notExistsByIdException(Long id, String errorMsgResourceKey) {
+        return new EntityNotFoundException(
+                messageManager.getMessageWithParams(
+                        errorMsgResourceKey,
+                        new Long[]{id}
+                )
+        );
+    }
+
 
     /**
      * Checks if equipment with the specified name already exists.
@@ -384,16 +496,28 @@ public class ServiceValidatorImpl implements ServiceValidator {
     ) {
 
         if (existsByNameAndEquipmentId.test(equipmentName, equipmentId)) {
-            throw new EntityExistsException(
-                    messageManager.getMessageWithParams(
-                            EXERCISE_EXISTS_BY_NAME_AND_EQUIPMENT_ID_RESOURCE,
-                            new Object[]{equipmentName, equipmentId}
-                    )
-            );
+            throw exerciseExistsException(equipmentName, equipmentId);
         }
 
     }
 
+    /**
+     * Creates the exception reported when an exercise with the specified name already exists for
+     * the equipment.
+     *
+     * @param name the name of the exercise
+     * @param equipmentId the ID of the equipment
+     * @return the {@link EntityExistsException} to throw
+     */
+    private EntityExistsException exerciseExistsException(String name, Long equipmentId) {
+        return new EntityExistsException(
+                messageManager.getMessageWithParams(
+                        EXERCISE_EXISTS_BY_NAME_AND_EQUIPMENT_ID_RESOURCE,
+                        new Object[]{name, equipmentId}
+                )
+        );
+    }
+
     /**
      * Validates that the exercise with the specified ID does not exist.
      *
@@ -424,12 +548,13 @@ public class ServiceValidatorImpl implements ServiceValidator {
      * </p>
      *
      * @param id the ID of the exercise to retrieve
-     * @param getExerciseById a function to retrieve an exercise entity by ID
-     * @return the retrieved exercise entity
+     * @param getExerciseById a function to retrieve an exercise entity, or a projection of it, by ID
+     * @param <T> the type of the retrieved exercise entity or projection
+     * @return the retrieved exercise entity or projection
      */
-    private ExerciseEntity getExerciseEntityById(
+    private <T> T getExerciseEntityById(
             Long id,
-            Function<Long, Optional<ExerciseEntity>> getExerciseById
+            Function<Long, Optional<T>> getExerciseById
     ) {
 
         return getExerciseById.apply(id)
@@ -472,12 +597,13 @@ public class ServiceValidatorImpl implements ServiceValidator {
      * </p>
      *
      * @param id the ID of the equipment to retrieve
-     * @param getEquipmentById a function to retrieve an equipment entity by ID
-     * @return the retrieved equipment entity
+     * @param getEquipmentById a function to retrieve an equipment entity, or a projection of it, by ID
+     * @param <T> the type of the retrieved equipment entity or projection
+     * @return the retrieved equipment entity or projection
      */
-    private EquipmentEntity getEquipmentEntityById(
+    private <T> T getEquipmentEntityById(
             Long id,
-            Function<Long, Optional<EquipmentEntity>> getEquipmentById
+            Function<Long, Optional<T>> getEquipmentById
     ) {
         return getEquipmentById.apply(id)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -0,0 +1,101 @@
+package com.returdev.gym_exercises_api.util;
+
+import com.returdev.gym_exercises_api.config.converter.MessageConverterConfig;
+import com.returdev.gym_exercises_api.model.cache.CachedResponseBody;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Utility class to write response bodies directly to the servlet response.
+ */
+public class HttpResponseUtil {
+
+    public static final String GZIP_ENCODING = "gzip";
+
+    /**
+     * Writes a cached JSON body to the response, compressed with gzip when the client accepts it.
+     *
+     * @param body the cached body to write
+     * @param acceptEncoding the encodings accepted by the client, if any
+     * @param response the response to write the body to
+     * @throws IOException if the response cannot be written
+     */
+    public static void writeCachedBody(CachedResponseBody body, String acceptEncoding, HttpServletResponse response) throws IOException {
+        byte[] content = body.body();
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (body.eTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, body.eTag());
+        }
+        if (acceptsGzip(acceptEncoding)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+            content = body.gzipBody();
+        }
+
+        response.setContentLength(content.length);
+        response.getOutputStream().write(content);
+    }
+
+    /**
+     * Checks whether the given {@code Accept-Encoding} header accepts gzip.
+     *
+     * @param acceptEncoding the encodings accepted by the client, if any
+     * @return {@code true} if gzip is accepted with a non-zero quality, {@code false} otherwise
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parameters = encoding.split(";");
+            if (parameters[0].trim().equalsIgnoreCase(GZIP_ENCODING)) {
+                return parameters.length == 1 || !parameters[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks whether a cached JSON body can be written for the given {@code Accept} header. JSON
+     * must be accepted, and none of the binary representations of the responses, which are
+     * negotiated instead. A missing header accepts any media type.
+     *
+     * @param accept the media types accepted by the client, if any
+     * @return {@code true} if the cached JSON body can be written, {@code false} otherwise
+     */
+    public static boolean acceptsCachedJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+
+        boolean jsonRejected = mediaTypes.stream()
+                .anyMatch(mediaType -> mediaType.getQualityValue() == 0 && mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_JSON));
+        List<MediaType> acceptedMediaTypes = mediaTypes.stream()
+                .filter(mediaType -> mediaType.getQualityValue() > 0)
+                .toList();
+
+        return !jsonRejected
+                && acceptedMediaTypes.stream().anyMatch(mediaType -> mediaType.includes(MediaType.APPLICATION_JSON))
+                && acceptedMediaTypes.stream().noneMatch(mediaType -> MessageConverterConfig.BINARY_MEDIA_TYPES
+                        .stream()
+                        .anyMatch(mediaType::equalsTypeAndSubtype));
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.returdev.gym_exercises_api.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class to defer actions until the current transaction commits.
+ */
+public class TransactionUtil {
+
+    /**
+     * Runs an action after the current transaction commits, or immediately outside of a transaction.
+     * Nothing is run when the transaction is rolled back.
+     *
+     * @param action the action to run
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+-- Catalog schema as previously generated by Hibernate.
+
+CREATE SEQUENCE equipment_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE exercises_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE equipments (
+    equipment_id BIGINT      NOT NULL,
+    version      BIGINT      NOT NULL,
+    name         VARCHAR(25) NOT NULL,
+    PRIMARY KEY (equipment_id),
+    CONSTRAINT uk_equipments_name UNIQUE (name)
+);
+
+CREATE TABLE exercises (
+    exercise_id  BIGINT      NOT NULL,
+    equipment_id BIGINT      NOT NULL,
+    version      BIGINT      NOT NULL,
+    name         VARCHAR(30) NOT NULL,
+    description  CLOB        NOT NULL,
+    PRIMARY KEY (exercise_id),
+    CONSTRAINT uk_exercises_name_equipment UNIQUE (name, equipment_id),
+    CONSTRAINT fk_exercises_equipment FOREIGN KEY (equipment_id) REFERENCES equipments (equipment_id)
+);
+
+CREATE TABLE muscle_engagements (
+    muscle_engagement_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    activation_level     ENUM ('HIGH','LOW','MEDIUM') NOT NULL,
+    muscle               ENUM ('ABS','ANTERIOR_DELTOID','BICEPS','BUTTOCKS','CALVES','DORSALS','FOREARMS','HAMSTRINGS','INNER_CHEST','LATERAL_DELTOID','LOWER_CHEST','LUMBAR','OBLIQUES','POSTERIOR_DELTOID','QUADRICEPS','RHOMBOIDS','TRAPEZES','TRICEPS','UPPER_CHEST','WIDE_BACK') NOT NULL,
+    PRIMARY KEY (muscle_engagement_id),
+    CONSTRAINT uk_muscle_engagements_muscle_activation_level UNIQUE (muscle, activation_level)
+);
+
+CREATE TABLE exercises_muscles_engagement (
+    exercise_id          BIGINT NOT NULL,
+    muscle_engagement_id BIGINT NOT NULL,
+    CONSTRAINT fk_exercises_muscles_engagement_exercise FOREIGN KEY (exercise_id) REFERENCES exercises (exercise_id),
+    CONSTRAINT fk_exercises_muscles_engagement_engagement FOREIGN KEY (muscle_engagement_id) REFERENCES muscle_engagements (muscle_engagement_id)
+);
+
+CREATE INDEX idx_exercises_muscles_engagement_engagement_exercise
+    ON exercises_muscles_engagement (muscle_engagement_id, exercise_id);
+
+CREATE INDEX idx_exercises_muscles_engagement_exercise_engagement
+    ON exercises_muscles_engagement (exercise_id, muscle_engagement_id);
@@ -0,0 +1,44 @@
+-- Denormalized muscle signature of the exercises, maintained by the application on every write.
+-- Bit (muscle ordinal * 3 + activation level ordinal) is set for every muscle engagement of the
+-- exercise, so the muscle searches are resolved on the exercises table with bitwise predicates.
+ALTER TABLE exercises ADD COLUMN muscle_signature BIGINT DEFAULT 0 NOT NULL;
+
+-- The join table has no primary key, so repeated engagements are only counted once
+UPDATE exercises
+SET muscle_signature = (
+    SELECT COALESCE(SUM(DISTINCT CAST(POWER(2,
+        CASE me.muscle
+            WHEN 'UPPER_CHEST' THEN 0
+            WHEN 'LOWER_CHEST' THEN 1
+            WHEN 'INNER_CHEST' THEN 2
+            WHEN 'DORSALS' THEN 3
+            WHEN 'WIDE_BACK' THEN 4
+            WHEN 'RHOMBOIDS' THEN 5
+            WHEN 'TRAPEZES' THEN 6
+            WHEN 'LUMBAR' THEN 7
+            WHEN 'ANTERIOR_DELTOID' THEN 8
+            WHEN 'LATERAL_DELTOID' THEN 9
+            WHEN 'POSTERIOR_DELTOID' THEN 10
+            WHEN 'QUADRICEPS' THEN 11
+            WHEN 'HAMSTRINGS' THEN 12
+            WHEN 'CALVES' THEN 13
+            WHEN 'BUTTOCKS' THEN 14
+            WHEN 'BICEPS' THEN 15
+            WHEN 'TRICEPS' THEN 16
+            WHEN 'FOREARMS' THEN 17
+            WHEN 'ABS' THEN 18
+            WHEN 'OBLIQUES' THEN 19
+        END * 3
+        + CASE me.activation_level
+            WHEN 'HIGH' THEN 0
+            WHEN 'MEDIUM' THEN 1
+            WHEN 'LOW' THEN 2
+        END
+    ) AS BIGINT)), 0)
+    FROM exercises_muscles_engagement eme
+    JOIN muscle_engagements me ON me.muscle_engagement_id = eme.muscle_engagement_id
+    WHERE eme.exercise_id = exercises.exercise_id
+);
+
+-- The searches scan this narrow index instead of the table rows with their descriptions
+CREATE INDEX idx_exercises_muscle_signature ON exercises (muscle_signature, exercise_id);
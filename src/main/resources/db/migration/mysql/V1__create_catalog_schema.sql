@@ -0,0 +1,54 @@
+-- Catalog schema as previously generated by Hibernate. Databases created before the
+-- migrations were introduced are baselined at this version.
+
+CREATE TABLE equipment_sequence (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO equipment_sequence VALUES (1);
+
+CREATE TABLE exercises_sequence (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO exercises_sequence VALUES (1);
+
+CREATE TABLE equipments (
+    equipment_id BIGINT      NOT NULL,
+    version      BIGINT      NOT NULL,
+    name         VARCHAR(25) NOT NULL,
+    PRIMARY KEY (equipment_id),
+    CONSTRAINT uk_equipments_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE exercises (
+    exercise_id  BIGINT      NOT NULL,
+    equipment_id BIGINT      NOT NULL,
+    version      BIGINT      NOT NULL,
+    name         VARCHAR(30) NOT NULL,
+    description  TINYTEXT    NOT NULL,
+    PRIMARY KEY (exercise_id),
+    CONSTRAINT uk_exercises_name_equipment UNIQUE (name, equipment_id),
+    CONSTRAINT fk_exercises_equipment FOREIGN KEY (equipment_id) REFERENCES equipments (equipment_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE muscle_engagements (
+    muscle_engagement_id BIGINT NOT NULL AUTO_INCREMENT,
+    activation_level     ENUM ('HIGH','LOW','MEDIUM') NOT NULL,
+    muscle               ENUM ('ABS','ANTERIOR_DELTOID','BICEPS','BUTTOCKS','CALVES','DORSALS','FOREARMS','HAMSTRINGS','INNER_CHEST','LATERAL_DELTOID','LOWER_CHEST','LUMBAR','OBLIQUES','POSTERIOR_DELTOID','QUADRICEPS','RHOMBOIDS','TRAPEZES','TRICEPS','UPPER_CHEST','WIDE_BACK') NOT NULL,
+    PRIMARY KEY (muscle_engagement_id),
+    CONSTRAINT uk_muscle_engagements_muscle_activation_level UNIQUE (muscle, activation_level)
+) ENGINE = InnoDB;
+
+CREATE TABLE exercises_muscles_engagement (
+    exercise_id          BIGINT NOT NULL,
+    muscle_engagement_id BIGINT NOT NULL,
+    CONSTRAINT fk_exercises_muscles_engagement_exercise FOREIGN KEY (exercise_id) REFERENCES exercises (exercise_id),
+    CONSTRAINT fk_exercises_muscles_engagement_engagement FOREIGN KEY (muscle_engagement_id) REFERENCES muscle_engagements (muscle_engagement_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_exercises_muscles_engagement_engagement_exercise
+    ON exercises_muscles_engagement (muscle_engagement_id, exercise_id);
+
+CREATE INDEX idx_exercises_muscles_engagement_exercise_engagement
+    ON exercises_muscles_engagement (exercise_id, muscle_engagement_id);
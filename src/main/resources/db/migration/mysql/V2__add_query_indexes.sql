@@ -0,0 +1,12 @@
+-- Indexes for the repository queries not served by the primary and unique keys.
+
+-- Keyset pagination of exercises and equipment by name, with the ID as tie-breaker
+CREATE INDEX idx_exercises_name_id ON exercises (name, exercise_id);
+
+CREATE INDEX idx_equipments_name_id ON equipments (name, equipment_id);
+
+-- Exercises of an equipment, sorted by name without a separate sort step
+CREATE INDEX idx_exercises_equipment_name ON exercises (equipment_id, name);
+
+-- Muscle engagements by activation level, which is not a prefix of the unique key
+CREATE INDEX idx_muscle_engagements_activation_level ON muscle_engagements (activation_level, muscle);
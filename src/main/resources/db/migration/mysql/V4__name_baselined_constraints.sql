@@ -0,0 +1,116 @@
+-- Databases baselined at version 1 were created by Hibernate, so their unique keys and foreign keys
+-- have generated names and the join table lacks the indexes of V1. They are renamed and created
+-- here, looked up in information_schema, so this is a no-op on databases created by V1.
+
+DROP PROCEDURE IF EXISTS rename_unique_key;
+DROP PROCEDURE IF EXISTS create_missing_index;
+DROP PROCEDURE IF EXISTS rename_foreign_key;
+
+DELIMITER //
+
+-- Renames the unique key on the given columns, listed in key order, if it has another name
+CREATE PROCEDURE rename_unique_key(IN key_table VARCHAR(64), IN key_columns VARCHAR(255), IN key_name VARCHAR(64))
+BEGIN
+    DECLARE old_key_name VARCHAR(64) DEFAULT NULL;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET old_key_name = NULL;
+
+    SELECT unique_keys.index_name INTO old_key_name
+    FROM (
+        SELECT index_name, GROUP_CONCAT(column_name ORDER BY seq_in_index) AS index_columns
+        FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = key_table AND non_unique = 0 AND index_name <> 'PRIMARY'
+        GROUP BY index_name
+    ) unique_keys
+    WHERE unique_keys.index_columns = key_columns AND unique_keys.index_name <> key_name
+    LIMIT 1;
+
+    IF old_key_name IS NOT NULL AND NOT EXISTS (
+        SELECT 1 FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = key_table AND index_name = key_name
+    ) THEN
+        SET @statement = CONCAT('ALTER TABLE ', key_table, ' RENAME INDEX ', old_key_name, ' TO ', key_name);
+        PREPARE statement FROM @statement;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+    END IF;
+END //
+
+-- Creates the index if no index of the table has its name
+CREATE PROCEDURE create_missing_index(IN index_table VARCHAR(64), IN index_columns VARCHAR(255), IN new_index_name VARCHAR(64))
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = index_table AND index_name = new_index_name
+    ) THEN
+        SET @statement = CONCAT('CREATE INDEX ', new_index_name, ' ON ', index_table, ' (', index_columns, ')');
+        PREPARE statement FROM @statement;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+    END IF;
+END //
+
+-- Recreates the foreign key on the given column with the given name, as MySQL can't rename one,
+-- and drops the index MySQL created for the generated one
+CREATE PROCEDURE rename_foreign_key(
+    IN key_table VARCHAR(64),
+    IN key_column VARCHAR(64),
+    IN referenced_table VARCHAR(64),
+    IN referenced_column VARCHAR(64),
+    IN key_name VARCHAR(64)
+)
+BEGIN
+    DECLARE old_key_name VARCHAR(64) DEFAULT NULL;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET old_key_name = NULL;
+
+    SELECT constraint_name INTO old_key_name
+    FROM information_schema.key_column_usage
+    WHERE table_schema = DATABASE() AND table_name = key_table AND column_name = key_column
+        AND referenced_table_name = referenced_table AND constraint_name <> key_name
+    LIMIT 1;
+
+    IF old_key_name IS NOT NULL THEN
+        IF EXISTS (
+            SELECT 1 FROM information_schema.table_constraints
+            WHERE table_schema = DATABASE() AND table_name = key_table
+                AND constraint_type = 'FOREIGN KEY' AND constraint_name = key_name
+        ) THEN
+            SET @statement = CONCAT('ALTER TABLE ', key_table, ' DROP FOREIGN KEY ', old_key_name);
+        ELSE
+            SET @statement = CONCAT(
+                'ALTER TABLE ', key_table, ' DROP FOREIGN KEY ', old_key_name,
+                ', ADD CONSTRAINT ', key_name, ' FOREIGN KEY (', key_column, ') REFERENCES ', referenced_table, ' (', referenced_column, ')'
+            );
+        END IF;
+        PREPARE statement FROM @statement;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+
+        -- The new foreign key is served by the indexes created before
+        IF EXISTS (
+            SELECT 1 FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = key_table AND index_name = old_key_name
+        ) THEN
+            SET @statement = CONCAT('ALTER TABLE ', key_table, ' DROP INDEX ', old_key_name);
+            PREPARE statement FROM @statement;
+            EXECUTE statement;
+            DEALLOCATE PREPARE statement;
+        END IF;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL rename_unique_key('equipments', 'name', 'uk_equipments_name');
+CALL rename_unique_key('exercises', 'name,equipment_id', 'uk_exercises_name_equipment');
+CALL rename_unique_key('muscle_engagements', 'muscle,activation_level', 'uk_muscle_engagements_muscle_activation_level');
+
+CALL create_missing_index('exercises_muscles_engagement', 'muscle_engagement_id, exercise_id', 'idx_exercises_muscles_engagement_engagement_exercise');
+CALL create_missing_index('exercises_muscles_engagement', 'exercise_id, muscle_engagement_id', 'idx_exercises_muscles_engagement_exercise_engagement');
+
+CALL rename_foreign_key('exercises', 'equipment_id', 'equipments', 'equipment_id', 'fk_exercises_equipment');
+CALL rename_foreign_key('exercises_muscles_engagement', 'exercise_id', 'exercises', 'exercise_id', 'fk_exercises_muscles_engagement_exercise');
+CALL rename_foreign_key('exercises_muscles_engagement', 'muscle_engagement_id', 'muscle_engagements', 'muscle_engagement_id', 'fk_exercises_muscles_engagement_engagement');
+
+DROP PROCEDURE rename_unique_key;
+DROP PROCEDURE create_missing_index;
+DROP PROCEDURE rename_foreign_key;
@@ -0,0 +1,28 @@
+-- Databases baselined at version 1 were created by Hibernate before the entities were versioned,
+-- so they lack the version columns of V1. They are added here, looked up in information_schema,
+-- so this is a no-op on databases created by V1.
+
+DROP PROCEDURE IF EXISTS add_missing_version_column;
+
+DELIMITER //
+
+-- Adds the optimistic locking version column to the table if it doesn't have one
+CREATE PROCEDURE add_missing_version_column(IN version_table VARCHAR(64))
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_schema = DATABASE() AND table_name = version_table AND column_name = 'version'
+    ) THEN
+        SET @statement = CONCAT('ALTER TABLE ', version_table, ' ADD COLUMN version BIGINT NOT NULL DEFAULT 0');
+        PREPARE statement FROM @statement;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL add_missing_version_column('equipments');
+CALL add_missing_version_column('exercises');
+
+DROP PROCEDURE add_missing_version_column;
@@ -0,0 +1,113 @@
+package com.returdev.gym_exercises_api.config.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufField;
+import com.returdev.gym_exercises_api.dto.response.EquipmentResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.MuscleEngagementResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.TokenResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.wrapper.ContentResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.wrapper.PaginationResponseDTO;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static com.returdev.gym_exercises_api.config.converter.JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonProtobufHttpMessageConverterTest {
+
+    private final NativeProtobufSchema schema = MessageConverterConfig.loadProtobufSchema();
+
+    private final JacksonProtobufHttpMessageConverter converter = new JacksonProtobufHttpMessageConverter(
+            Jackson2ObjectMapperBuilder.json().factory(new ProtobufFactory()).build(),
+            schema
+    );
+
+    private final PaginationResponseDTO<ExerciseResponseDTO> exercisePage = new PaginationResponseDTO<>(
+            List.of(
+                    new ExerciseResponseDTO(
+                            1L,
+                            "Curl",
+                            "Curl with a bar",
+                            new EquipmentResponseDTO(2L, "Bar"),
+                            List.of(
+                                    new MuscleEngagementResponseDTO(46L, Muscle.BICEPS.name(), MuscleActivationLevel.HIGH.name()),
+                                    new MuscleEngagementResponseDTO(54L, Muscle.FOREARMS.name(), MuscleActivationLevel.LOW.name())
+                            )
+                    )
+            ),
+            new PaginationResponseDTO.PageInfo(10, null, null, 0, true)
+    );
+
+    @Test
+    void schemaEnums_shouldMirrorJavaEnumOrdinals() {
+
+        ProtobufField muscle = schema.forType("MuscleEngagement").getRootType().field("muscle");
+        ProtobufField level = schema.forType("MuscleEngagement").getRootType().field("muscle_activation_level");
+
+        assertEquals(Muscle.values().length, muscle.getEnumValues().size());
+        for (Muscle value : Muscle.values()) {
+            assertEquals(value.ordinal(), muscle.findEnumIndex(value.name()));
+        }
+        assertEquals(MuscleActivationLevel.values().length, level.getEnumValues().size());
+        for (MuscleActivationLevel value : MuscleActivationLevel.values()) {
+            assertEquals(value.ordinal(), level.findEnumIndex(value.name()));
+        }
+
+    }
+
+    @Test
+    void canWrite_shouldOnlyAcceptTypesWithMessage() {
+
+        assertTrue(converter.canWrite(type(PaginationResponseDTO.class, ExerciseResponseDTO.class), PaginationResponseDTO.class, APPLICATION_PROTOBUF));
+        assertTrue(converter.canWrite(type(ContentResponseDTO.class, EquipmentResponseDTO.class), ContentResponseDTO.class, APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(type(PaginationResponseDTO.class, ExerciseResponseDTO.class), PaginationResponseDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(PaginationResponseDTO.class, APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(TokenResponseDTO.class, APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(ProblemDetail.class, APPLICATION_PROTOBUF));
+        assertFalse(converter.canRead(type(PaginationResponseDTO.class, ExerciseResponseDTO.class), null, APPLICATION_PROTOBUF));
+
+    }
+
+    @Test
+    void write_shouldEncodePageAsSmallerMessageThanJson() throws IOException {
+
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(exercisePage, type(PaginationResponseDTO.class, ExerciseResponseDTO.class), APPLICATION_PROTOBUF, outputMessage);
+
+        byte[] body = outputMessage.getBodyAsBytes();
+        JsonNode message = new ObjectMapper(new ProtobufFactory())
+                .readerFor(JsonNode.class)
+                .with(schema.forType("ExercisePagination"))
+                .readValue(body);
+
+        assertEquals(APPLICATION_PROTOBUF, outputMessage.getHeaders().getContentType());
+        assertEquals("Curl", message.at("/data/0/name").asText());
+        assertEquals("Bar", message.at("/data/0/equipment/name").asText());
+        // The enums are encoded as their ordinals
+        assertEquals(Muscle.FOREARMS.ordinal(), message.at("/data/0/muscle_engagements/1/muscle").asInt());
+        assertEquals(MuscleActivationLevel.LOW.ordinal(), message.at("/data/0/muscle_engagements/1/muscle_activation_level").asInt());
+        assertTrue(message.at("/pageInfo/hasNext").asBoolean());
+        assertTrue(message.at("/pageInfo/totalElements").isMissingNode());
+        assertTrue(body.length < Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(exercisePage).length / 2);
+
+    }
+
+    private static Type type(Class<?> wrapper, Class<?> content) {
+        return ResolvableType.forClassWithGenerics(wrapper, content).getType();
+    }
+
+}
@@ -0,0 +1,192 @@
+package com.returdev.gym_exercises_api.config.datasource;
+
+import com.returdev.gym_exercises_api.model.cache.ResponseBodySource;
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.service.data.cache.ResponseBodyCache;
+import com.returdev.gym_exercises_api.service.data.equipment.EquipmentService;
+import com.returdev.gym_exercises_api.service.data.exercise.ExerciseService;
+import com.returdev.gym_exercises_api.service.data.muscleengagement.MuscleEngagementRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the application against two H2 databases standing in for the primary database and a
+ * replica that never receives the writes of the primary one.
+ */
+@SpringBootTest(properties = {
+        "spring.read-replica.enabled=true",
+        "spring.datasource.url=" + ReadWriteRoutingDataSourceTest.PRIMARY_URL,
+        "spring.read-replica.datasource.jdbc-url=" + ReadWriteRoutingDataSourceTest.REPLICA_URL,
+        "spring.read-replica.datasource.username=sa",
+        "spring.read-replica.datasource.password=password",
+        "spring.response-cache.enabled=true"
+})
+@ActiveProfiles("test")
+class ReadWriteRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EquipmentService equipmentService;
+
+    @Autowired
+    private ExerciseService exerciseService;
+
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
+    @Autowired
+    private MuscleEngagementRegistry muscleEngagementRegistry;
+
+    private Long equipmentId;
+
+    private final List<Long> exerciseIds = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void migrateReplica(DynamicPropertyRegistry registry) {
+        // The replica must have the schema before the application reads from it
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "password")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.unbind();
+        exerciseIds.forEach(exerciseService::deleteExercise);
+        if (equipmentId != null) {
+            equipmentService.deleteEquipment(equipmentId);
+        }
+    }
+
+    @Test
+    void transactions_shouldRouteTheReadOnlyOnesToTheReplica() {
+
+        assertEquals("REPLICA", currentDatabase(true));
+        assertEquals("PRIMARY", currentDatabase(false));
+        assertEquals("PRIMARY", new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+
+    }
+
+    @Test
+    void serviceReads_shouldBeServedByThePrimaryOnlyAfterAWrite() {
+
+        AtomicInteger firstWrites = new AtomicInteger();
+        equipmentId = equipmentService.saveEquipment(new EquipmentEntity(null, "Routed Bar")).getId();
+
+        assertFalse(equipmentNames().contains("Routed Bar"));
+
+        ReadYourWritesContext.bind(false, firstWrites::incrementAndGet);
+        assertEquals("REPLICA", currentDatabase(true));
+        equipmentService.updateEquipment(new EquipmentEntity(equipmentId, "Routed Barbell"), null);
+
+        assertTrue(equipmentNames().contains("Routed Barbell"));
+        assertEquals("PRIMARY", currentDatabase(true));
+        assertEquals(1, firstWrites.get());
+
+    }
+
+    @Test
+    void cachedTotals_shouldBeCountedOnThePrimaryAfterAnotherCallersWrite() {
+
+        equipmentId = equipmentService.saveEquipment(new EquipmentEntity(null, "Counted Bar")).getId();
+        exerciseIds.add(exerciseService.saveExercise(exercise("Counted Curl")).getId());
+
+        // The second page of the replica is empty, so its total is counted
+        assertEquals(1, exerciseService.getAllExercises(PageRequest.of(1, 1)).getTotalElements());
+
+        exerciseIds.add(exerciseService.saveExercise(exercise("Counted Row")).getId());
+
+        assertEquals(2, exerciseService.getAllExercises(PageRequest.of(2, 1)).getTotalElements());
+        assertEquals(2, exerciseService.getAllExercises(PageRequest.of(2, 1)).getTotalElements());
+
+    }
+
+    @Test
+    void cachedBodies_shouldBeLoadedFromThePrimaryAfterAnotherCallersWrite() {
+
+        Supplier<ResponseBodySource> loader = () -> new ResponseBodySource(
+                equipmentNames(),
+                null,
+                Set.of(ResponseBodyCache.EQUIPMENT_LIST_TAG)
+        );
+
+        responseBodyCache.get("test:routed", loader);
+        equipmentId = equipmentService.saveEquipment(new EquipmentEntity(null, "Cached Routed Bar")).getId();
+
+        assertTrue(new String(responseBodyCache.get("test:routed", loader).body(), StandardCharsets.UTF_8).contains("Cached Routed Bar"));
+        assertTrue(new String(responseBodyCache.get("test:routed", loader).body(), StandardCharsets.UTF_8).contains("Cached Routed Bar"));
+
+    }
+
+    @Test
+    void cachedVersions_shouldBeQueriedOnThePrimaryAfterAnotherCallersWrite() {
+
+        equipmentId = equipmentService.saveEquipment(new EquipmentEntity(null, "Versioned Bar")).getId();
+
+        assertEquals(0, equipmentService.getEquipmentVersionById(equipmentId));
+
+        equipmentService.updateEquipment(new EquipmentEntity(equipmentId, "Versioned Barbell"), null);
+
+        assertEquals(1, equipmentService.getEquipmentVersionById(equipmentId));
+
+    }
+
+    private ExerciseEntity exercise(String name) {
+        return new ExerciseEntity(
+                null,
+                name,
+                "Description",
+                new EquipmentEntity(equipmentId, null),
+                new ArrayList<>(List.of(muscleEngagementRegistry.get(Muscle.BICEPS, MuscleActivationLevel.HIGH)))
+        );
+    }
+
+    private List<String> equipmentNames() {
+        return equipmentService.getAllEquipments(PageRequest.of(0, 100))
+                .map(EquipmentEntity::getName)
+                .getContent();
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class)
+        );
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.returdev.gym_exercises_api.config.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(
+            Duration.ofSeconds(5),
+            Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    @Test
+    void doFilter_whenRequestWrites_shouldPinItAndSetTheCookieOnce() throws Exception {
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        List<Boolean> pinned = new ArrayList<>();
+
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            pinned.add(ReadYourWritesContext.isPinnedToPrimary());
+            ReadYourWritesContext.writeStarted();
+            ReadYourWritesContext.writeStarted();
+            pinned.add(ReadYourWritesContext.isPinnedToPrimary());
+        });
+
+        assertEquals(List.of(false, true), pinned);
+        assertEquals(1, response.getCookies().length);
+        assertEquals(String.valueOf(NOW.plusSeconds(5).toEpochMilli()), response.getCookie(ReadYourWritesFilter.COOKIE_NAME).getValue());
+        assertEquals(5, response.getCookie(ReadYourWritesFilter.COOKIE_NAME).getMaxAge());
+        assertFalse(ReadYourWritesContext.isPinnedToPrimary());
+
+    }
+
+    @Test
+    void doFilter_withCookie_shouldPinTheRequestUntilItExpires() throws Exception {
+
+        List<Boolean> pinned = new ArrayList<>();
+
+        for (Instant until : List.of(NOW.plusMillis(1), NOW, NOW.minusSeconds(1))) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(until.toEpochMilli())));
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> pinned.add(ReadYourWritesContext.isPinnedToPrimary()));
+        }
+
+        MockHttpServletRequest malformed = new MockHttpServletRequest();
+        malformed.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "soon"));
+        filter.doFilter(malformed, new MockHttpServletResponse(), (req, res) -> pinned.add(ReadYourWritesContext.isPinnedToPrimary()));
+
+        assertEquals(List.of(true, false, false, false), pinned);
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.returdev.gym_exercises_api.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestStatisticsFilterTest {
+
+    private static final String URI = "/v1/exercises/{id}";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RequestStatisticsFilter filter = new RequestStatisticsFilter(meterRegistry);
+
+    @Test
+    void doFilter_shouldRecordTheSessionActivityOfTheRequestByUriPattern() throws Exception {
+
+        RequestStatisticsSessionListener listener = new RequestStatisticsSessionListener();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/exercises/1"), new MockHttpServletResponse(), (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+            listener.jdbcExecuteBatchStart();
+            listener.jdbcExecuteBatchEnd();
+            listener.cacheGetEnd(true);
+            listener.cacheGetEnd(true);
+            listener.cacheGetEnd(false);
+        });
+
+        assertEquals(2, summary(RequestStatisticsFilter.STATEMENTS_METRIC).totalAmount());
+        assertEquals(2, summary(RequestStatisticsFilter.CACHE_HITS_METRIC).totalAmount());
+        assertEquals(1, summary(RequestStatisticsFilter.CACHE_MISSES_METRIC).totalAmount());
+        assertEquals(1, meterRegistry.get(RequestStatisticsFilter.STATEMENT_TIME_METRIC).tag("uri", URI).timer().count());
+
+    }
+
+    @Test
+    void doFilter_shouldOnlyRecordTheActivityWhileTheRequestIsHandled() throws Exception {
+
+        RequestStatisticsSessionListener listener = new RequestStatisticsSessionListener();
+
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/exercises"), new MockHttpServletResponse(), (request, response) -> {});
+        listener.cacheGetEnd(false);
+
+        DistributionSummary statements = meterRegistry.get(RequestStatisticsFilter.STATEMENTS_METRIC).tag("uri", "UNKNOWN").summary();
+
+        assertEquals(1, statements.count());
+        assertEquals(0, statements.totalAmount());
+        assertNull(RequestStatistics.current());
+
+    }
+
+    private DistributionSummary summary(String name) {
+        return meterRegistry.get(name).tag("method", "GET").tag("uri", URI).summary();
+    }
+
+}
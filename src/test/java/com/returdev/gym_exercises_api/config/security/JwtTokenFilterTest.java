@@ -0,0 +1,92 @@
+package com.returdev.gym_exercises_api.config.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.returdev.gym_exercises_api.manager.security.JwtManager;
+import com.returdev.gym_exercises_api.model.auth.AuthToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenFilterTest {
+
+    private static final String PRIVATE_KEY = "private-key";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final JwtTokenFilter filter = new JwtTokenFilter(new VerifyingJwtManager(), (request, response, handler, ex) -> null, meterRegistry);
+
+    @Test
+    void doFilter_withRejectedTokens_shouldTagTheFailuresWithTheRejectionReason() throws Exception {
+
+        String expiredToken = JWT.create()
+                .withExpiresAt(Instant.now().minusSeconds(60))
+                .sign(Algorithm.HMAC256(PRIVATE_KEY));
+        String tokenSignedWithOtherKey = JWT.create()
+                .sign(Algorithm.HMAC256("another-private-key"));
+
+        filter.doFilter(request(expiredToken), new MockHttpServletResponse(), (request, response) -> fail());
+        filter.doFilter(request(tokenSignedWithOtherKey), new MockHttpServletResponse(), (request, response) -> fail());
+        filter.doFilter(request("not.a.token"), new MockHttpServletResponse(), (request, response) -> fail());
+
+        assertEquals(1, failureCount("expired"));
+        assertEquals(1, failureCount("invalid_signature"));
+        assertEquals(1, failureCount("malformed"));
+
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/exercises");
+        request.addHeader(HttpHeaders.AUTHORIZATION, token);
+        return request;
+    }
+
+    private long failureCount(String reason) {
+        return meterRegistry.get("jwt.verification").tag("outcome", "failure").tag("reason", reason).timer().count();
+    }
+
+    /**
+     * Verifies the tokens and rethrows the rejections wrapped as {@link JwtManager} implementations do.
+     */
+    private static class VerifyingJwtManager implements JwtManager {
+
+        private final JWTVerifier verifier = JWT.require(Algorithm.HMAC256(PRIVATE_KEY)).build();
+
+        @Override
+        public AuthToken generateUserToken() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DecodedJWT validateToken(@Nonnull String token) {
+            try {
+                return verifier.verify(token);
+            } catch (JWTVerificationException e) {
+                throw new JWTVerificationException("Rejected token", e);
+            }
+        }
+
+        @Override
+        public String getTokenRole(@Nonnull DecodedJWT decodedJWT) {
+            return "USER";
+        }
+
+        @Override
+        public String getValidatedTokenRole(@Nonnull String token) {
+            return getTokenRole(validateToken(token));
+        }
+
+    }
+
+}
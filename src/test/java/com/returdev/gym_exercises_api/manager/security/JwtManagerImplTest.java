@@ -0,0 +1,87 @@
+package com.returdev.gym_exercises_api.manager.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.returdev.gym_exercises_api.manager.message.MessageManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtManagerImplTest {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Autowired
+    private JwtManager jwtManager;
+
+    @Autowired
+    private MessageManager messageManager;
+
+    @Value("${spring.jwt.private-key}")
+    private String privateKey;
+
+    @Value("${spring.jwt.user-generator}")
+    private String issuer;
+
+    @Test
+    void getValidatedTokenRole_withValidToken_shouldReturnRoleOnEveryCall() {
+
+        String token = BEARER_PREFIX + jwtManager.generateUserToken().token();
+
+        assertEquals("USER", jwtManager.getValidatedTokenRole(token));
+        assertEquals("USER", jwtManager.getValidatedTokenRole(token));
+
+    }
+
+    @Test
+    void getValidatedTokenRole_withInvalidToken_shouldRejectRepeatedTokenWithSameException() {
+
+        String token = BEARER_PREFIX + "not.a.token";
+
+        JWTVerificationException first = assertThrows(JWTVerificationException.class, () -> jwtManager.getValidatedTokenRole(token));
+        JWTVerificationException second = assertThrows(JWTVerificationException.class, () -> jwtManager.getValidatedTokenRole(token));
+
+        assertEquals(messageManager.getMessage("exception.token.invalid"), first.getMessage());
+        assertSame(first, second);
+
+    }
+
+    @Test
+    void getValidatedTokenRole_withExpiredToken_shouldReject() {
+
+        String token = BEARER_PREFIX + JWT.create()
+                .withIssuer(issuer)
+                .withExpiresAt(Instant.now().minusSeconds(60))
+                .withClaim("role", "USER")
+                .sign(Algorithm.HMAC256(privateKey));
+
+        JWTVerificationException exception = assertThrows(JWTVerificationException.class, () -> jwtManager.getValidatedTokenRole(token));
+
+        assertEquals(messageManager.getMessage("exception.token.expired"), exception.getMessage());
+        assertInstanceOf(TokenExpiredException.class, exception.getCause());
+
+    }
+
+    @Test
+    void getValidatedTokenRole_withTokenSignedWithOtherKey_shouldReject() {
+
+        String token = BEARER_PREFIX + JWT.create()
+                .withIssuer(issuer)
+                .withClaim("role", "DEVELOPER")
+                .sign(Algorithm.HMAC256("another-private-key"));
+
+        assertThrows(JWTVerificationException.class, () -> jwtManager.getValidatedTokenRole(token));
+
+    }
+
+}
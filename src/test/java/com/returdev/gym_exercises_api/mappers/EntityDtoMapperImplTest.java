@@ -0,0 +1,64 @@
+package com.returdev.gym_exercises_api.mappers;
+
+import com.returdev.gym_exercises_api.dto.request.pagination.ExercisePaginationRequestDTO;
+import com.returdev.gym_exercises_api.manager.message.MessageManagerImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityDtoMapperImplTest {
+
+    private final EntityDtoMapperImpl mapper = new EntityDtoMapperImpl(new MessageManagerImpl(messageSource()));
+
+    @Test
+    void paginationRequestDtoToScrollPosition_withCursorOfSameOrdering_shouldDecodeKeys() {
+
+        String next = nextCursor(cursorRequest("ASC", null));
+
+        KeysetScrollPosition position = mapper.paginationRequestDtoToScrollPosition(cursorRequest("ASC", next));
+
+        assertTrue(position.scrollsForward());
+        assertEquals(Map.of("name", "Curl", "id", 7L), position.getKeys());
+
+    }
+
+    @Test
+    void paginationRequestDtoToScrollPosition_withCursorOfOtherSortDirection_shouldThrow() {
+
+        String next = nextCursor(cursorRequest("ASC", null));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> mapper.paginationRequestDtoToScrollPosition(cursorRequest("DESC", next))
+        );
+
+    }
+
+    private String nextCursor(ExercisePaginationRequestDTO request) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", "Curl");
+        keys.put("id", 7L);
+        Window<String> window = Window.from(List.of("Curl"), index -> ScrollPosition.forward(keys), true);
+
+        return mapper.responseWindowToContentResponse(window, request).cursorInfo().getNext();
+    }
+
+    private static ExercisePaginationRequestDTO cursorRequest(String sortDirection, String cursor) {
+        return new ExercisePaginationRequestDTO(null, 1, sortDirection, "EXERCISE_NAME", "cursor", cursor);
+    }
+
+    private static ResourceBundleMessageSource messageSource() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        return messageSource;
+    }
+
+}
@@ -1,24 +1,37 @@
 package com.returdev.gym_exercises_api.repositories;
 
+import com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.ExerciseSummaryResponseDTO;
+import com.returdev.gym_exercises_api.dto.response.MuscleEngagementResponseDTO;
 import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
 import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
 import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
 import com.returdev.gym_exercises_api.model.enums.Muscle;
 import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+import com.returdev.gym_exercises_api.model.search.MuscleSignature;
+import com.returdev.gym_exercises_api.model.search.MuscleSignatureFilter;
 import com.returdev.gym_exercises_api.repositories.data.EquipmentRepository;
 import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
 import com.returdev.gym_exercises_api.repositories.data.MuscleEngagementRepository;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.*;
+import org.springframework.data.util.Streamable;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,6 +48,9 @@ class ExerciseRepositoryTest {
     @Autowired
     private MuscleEngagementRepository muscleEngagementRepository;
 
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     private final List<EquipmentEntity> equipmentEntityList = List.of(
             new EquipmentEntity(
                     null,
@@ -173,4 +189,242 @@ class ExerciseRepositoryTest {
         }, Assertions::fail);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchByMuscleSignature_withAllMatch_shouldReturnExercisesEngagingEveryMuscle() {
+
+        Slice<ExerciseEntity> anyLevelSlice = exerciseRepository.searchByMuscleSignature(
+                MuscleSignatureFilter.of(List.of(Muscle.BICEPS, Muscle.DORSALS), null, MuscleMatch.ALL),
+                null,
+                PageRequest.of(0, 5, Sort.by("id"))
+        );
+        Slice<ExerciseEntity> lowLevelSlice = exerciseRepository.searchByMuscleSignature(
+                MuscleSignatureFilter.of(List.of(Muscle.DORSALS, Muscle.HAMSTRINGS), MuscleActivationLevel.LOW, MuscleMatch.ALL),
+                null,
+                PageRequest.of(0, 5, Sort.by("id"))
+        );
+
+        assertEquals(List.of("Exercise1"), anyLevelSlice.getContent().stream().map(ExerciseEntity::getName).toList());
+        assertEquals(List.of("Exercise2"), lowLevelSlice.getContent().stream().map(ExerciseEntity::getName).toList());
+        assertEquals(0, exerciseRepository.countSearchByMuscleSignature(
+                MuscleSignatureFilter.of(List.of(Muscle.BICEPS, Muscle.DORSALS), MuscleActivationLevel.LOW, MuscleMatch.ALL), null));
+
+    }
+
+    @Test
+    void searchByMuscleSignature_withAnyMatchAndEquipment_shouldFilterByLevelAndEquipment() {
+
+        MuscleSignatureFilter filter = MuscleSignatureFilter.of(List.of(Muscle.DORSALS, Muscle.FOREARMS), MuscleActivationLevel.LOW, MuscleMatch.ANY);
+        Long equipmentId = equipmentEntityList.get(1).getId();
+
+        Slice<ExerciseEntity> exerciseSlice = exerciseRepository.searchByMuscleSignature(filter, equipmentId, PageRequest.of(0, 5, Sort.by("id")));
+
+        assertEquals(List.of("Exercise2"), exerciseSlice.getContent().stream().map(ExerciseEntity::getName).toList());
+        assertEquals(2, exerciseRepository.countSearchByMuscleSignature(filter, null));
+        assertEquals(1, exerciseRepository.countSearchByMuscleSignature(filter, equipmentId));
+
+    }
+
+    @Test
+    void save_shouldKeepMuscleSignatureInSyncWithMuscleEngagements() {
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Long id = exerciseEntityList.get(2).getId();
+        assertEquals(MuscleSignature.of(Muscle.FOREARMS, MuscleActivationLevel.MEDIUM), findPersistedMuscleSignature(id));
+
+        // Modify the loaded list in place, so only the flush callback can update the signature
+        ExerciseEntity exercise = exerciseRepository.findById(id).orElseThrow();
+        exercise.getMusclesEngagement().add(muscleEngagementEntityList.get(0));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertEquals(
+                MuscleSignature.of(Muscle.FOREARMS, MuscleActivationLevel.MEDIUM) | MuscleSignature.of(Muscle.BICEPS, MuscleActivationLevel.HIGH),
+                findPersistedMuscleSignature(id)
+        );
+
+    }
+
+    @Test
+    void findAllWithRelations_shouldLoadPageInBoundedNumberOfStatements() {
+
+        Statistics statistics = startStatementCount();
+
+        Page<ExerciseEntity> exercisePage = exerciseRepository.findAllWithRelations(PageRequest.of(0, 2, Sort.by("id")));
+
+        // IDs query, count query and a single fetch-join query for the page content
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(2, exercisePage.getContent().size());
+        assertEquals(exerciseEntityList.size(), exercisePage.getTotalElements());
+        assertRelationsInitialized(exercisePage);
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+    }
+
+    @Test
+    void findByMuscles_shouldLoadPageInBoundedNumberOfStatements() {
+
+        Statistics statistics = startStatementCount();
+
+        Page<ExerciseEntity> exercisePage = exerciseRepository.findByMuscles(
+                List.of(Muscle.BICEPS, Muscle.HAMSTRINGS, Muscle.FOREARMS), PageRequest.of(0, 2, Sort.by("id")));
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(List.of("Exercise1", "Exercise2"), exercisePage.getContent().stream().map(ExerciseEntity::getName).toList());
+        assertRelationsInitialized(exercisePage);
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+    }
+
+    @Test
+    void findAllWithRelationsAsSlice_shouldLoadSliceWithoutCountQuery() {
+
+        Statistics statistics = startStatementCount();
+
+        Slice<ExerciseEntity> exerciseSlice = exerciseRepository.findAllWithRelationsAsSlice(PageRequest.of(0, 2, Sort.by("id")));
+
+        // IDs query and a single fetch-join query, no count query
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(List.of("Exercise1", "Exercise2"), exerciseSlice.getContent().stream().map(ExerciseEntity::getName).toList());
+        assertTrue(exerciseSlice.hasNext());
+        assertRelationsInitialized(exerciseSlice);
+
+        Slice<ExerciseEntity> lastSlice = exerciseRepository.findAllWithRelationsAsSlice(exerciseSlice.nextPageable());
+
+        assertEquals(List.of("Exercise3"), lastSlice.getContent().stream().map(ExerciseEntity::getName).toList());
+        assertFalse(lastSlice.hasNext());
+
+    }
+
+    @Test
+    void findAllResponsesAsSlice_shouldSelectResponsesWithoutLoadingEntities() {
+
+        Statistics statistics = startStatementCount();
+
+        Slice<ExerciseResponseDTO> responseSlice = exerciseRepository.findAllResponsesAsSlice(PageRequest.of(0, 2, Sort.by("id")));
+
+        // Page rows query and a single engagements query, no count query
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of("Exercise1", "Exercise2"), responseSlice.getContent().stream().map(ExerciseResponseDTO::name).toList());
+        assertTrue(responseSlice.hasNext());
+
+        ExerciseResponseDTO first = responseSlice.getContent().get(0);
+        assertEquals("Dumbbells", first.equipment().name());
+        assertEquals(
+                Set.of(Muscle.BICEPS.name(), Muscle.DORSALS.name()),
+                first.muscleEngagements().stream().map(MuscleEngagementResponseDTO::muscle).collect(Collectors.toSet())
+        );
+
+        Slice<ExerciseResponseDTO> lastSlice = exerciseRepository.findAllResponsesAsSlice(responseSlice.nextPageable());
+
+        assertEquals(List.of("Exercise3"), lastSlice.getContent().stream().map(ExerciseResponseDTO::name).toList());
+        assertFalse(lastSlice.hasNext());
+
+    }
+
+    @Test
+    void findAllSummariesAsSlice_shouldSelectSummariesWithoutDescription() {
+
+        Statistics statistics = startStatementCount();
+
+        Slice<ExerciseSummaryResponseDTO> summarySlice = exerciseRepository.findAllSummariesAsSlice(PageRequest.of(0, 2, Sort.by("id")));
+
+        // Page rows query and a single engagements query, neither of them reading the description
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(Arrays.stream(statistics.getQueries()).noneMatch(query -> query.contains("description")));
+        assertEquals(List.of("Exercise1", "Exercise2"), summarySlice.getContent().stream().map(ExerciseSummaryResponseDTO::name).toList());
+        assertTrue(summarySlice.hasNext());
+
+        ExerciseSummaryResponseDTO first = summarySlice.getContent().get(0);
+        assertEquals("Dumbbells", first.equipment().name());
+        assertEquals(
+                Set.of(Muscle.BICEPS.name(), Muscle.DORSALS.name()),
+                first.muscleEngagements().stream().map(MuscleEngagementResponseDTO::muscle).collect(Collectors.toSet())
+        );
+
+    }
+
+    @Test
+    void findAllSummaries_withKeysetPosition_shouldScrollWithoutLoadingEntities() {
+
+        Statistics statistics = startStatementCount();
+        Sort sort = Sort.by(Sort.Direction.DESC, "name");
+
+        Window<ExerciseSummaryResponseDTO> firstWindow = exerciseRepository.findAllSummaries(ScrollPosition.keyset(), sort, Limit.of(2));
+
+        // Keyset IDs query, summary rows query and a single engagements query
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of("Exercise3", "Exercise2"), firstWindow.getContent().stream().map(ExerciseSummaryResponseDTO::name).toList());
+        assertTrue(firstWindow.hasNext());
+
+        Window<ExerciseSummaryResponseDTO> secondWindow = exerciseRepository.findAllSummaries(
+                firstWindow.positionAt(firstWindow.size() - 1), sort, Limit.of(2));
+
+        assertEquals(List.of("Exercise1"), secondWindow.getContent().stream().map(ExerciseSummaryResponseDTO::name).toList());
+        assertFalse(secondWindow.hasNext());
+
+    }
+
+    @Test
+    void findAllWithRelations_withKeysetPosition_shouldScrollWithoutCountQuery() {
+
+        Statistics statistics = startStatementCount();
+        Sort sort = Sort.by(Sort.Direction.DESC, "name");
+
+        Window<ExerciseEntity> firstWindow = exerciseRepository.findAllWithRelations(ScrollPosition.keyset(), sort, Limit.of(2));
+
+        // Keyset IDs query and a single fetch-join query, no count query
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(List.of("Exercise3", "Exercise2"), firstWindow.getContent().stream().map(ExerciseEntity::getName).toList());
+        assertTrue(firstWindow.hasNext());
+        assertRelationsInitialized(firstWindow);
+
+        Window<ExerciseEntity> secondWindow = exerciseRepository.findAllWithRelations(
+                firstWindow.positionAt(firstWindow.size() - 1), sort, Limit.of(2));
+
+        assertEquals(List.of("Exercise1"), secondWindow.getContent().stream().map(ExerciseEntity::getName).toList());
+        assertFalse(secondWindow.hasNext());
+
+        KeysetScrollPosition backward = ((KeysetScrollPosition) secondWindow.positionAt(0)).backward();
+        Window<ExerciseEntity> previousWindow = exerciseRepository.findAllWithRelations(backward, sort, Limit.of(2));
+
+        assertEquals(List.of("Exercise3", "Exercise2"), previousWindow.getContent().stream().map(ExerciseEntity::getName).toList());
+
+    }
+
+    private Statistics startStatementCount() {
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Statistics statistics = testEntityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        return statistics;
+    }
+
+    private void assertRelationsInitialized(Streamable<ExerciseEntity> exercises) {
+        exercises.forEach(exercise -> {
+            assertTrue(Hibernate.isInitialized(exercise.getEquipment()));
+            assertTrue(Hibernate.isInitialized(exercise.getMusclesEngagement()));
+            assertFalse(exercise.getMusclesEngagement().isEmpty());
+            assertNotNull(exercise.getEquipment().getName());
+        });
+    }
+
+    private long findPersistedMuscleSignature(Long id) {
+        return ((Number) testEntityManager.getEntityManager()
+                .createNativeQuery("SELECT muscle_signature FROM exercises WHERE exercise_id = ?1")
+                .setParameter(1, id)
+                .getSingleResult()).longValue();
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.returdev.gym_exercises_api.repositories;
+
+import com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO;
+import com.returdev.gym_exercises_api.mappers.EntityDtoMapper;
+import com.returdev.gym_exercises_api.mappers.EntityDtoMapperImpl;
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.search.MuscleSignature;
+import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
+import com.returdev.gym_exercises_api.repositories.data.MuscleEngagementRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark of the exercise list page read through managed entities and through DTO projections.
+ *
+ * <p>
+ * The entity path loads the page with its equipment and engagements into the persistence context and maps
+ * it to response DTOs, while the projection path selects the response fields directly. Each run starts with
+ * an empty persistence context, as a request would. The benchmark reports the average latency and the bytes
+ * allocated by the calling thread per page, and is skipped by default; run it with
+ * {@code mvn test -Dtest=ExerciseResponseProjectionBenchmarkTest -Dbenchmark=true}.
+ * </p>
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Slf4j
+class ExerciseResponseProjectionBenchmarkTest {
+
+    private static final int EXERCISES = 20_000;
+    private static final int EQUIPMENTS = 20;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    private final EntityDtoMapper mapper = new EntityDtoMapperImpl(null);
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private MuscleEngagementRepository muscleEngagementRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void readExercisePage_withEntitiesAndWithProjections() {
+
+        seedCatalog();
+        PageRequest pageRequest = PageRequest.of(100, PAGE_SIZE, Sort.by("name"));
+
+        Supplier<List<ExerciseResponseDTO>> entityPath = () -> exerciseRepository.findAllWithRelationsAsSlice(pageRequest)
+                .map(mapper::exerciseEntityToResponseDto)
+                .getContent();
+        Supplier<List<ExerciseResponseDTO>> projectionPath = () -> exerciseRepository.findAllResponsesAsSlice(pageRequest)
+                .getContent();
+
+        entityManager.clear();
+        List<ExerciseResponseDTO> fromEntities = entityPath.get();
+        entityManager.clear();
+        List<ExerciseResponseDTO> fromProjections = projectionPath.get();
+
+        assertEquals(PAGE_SIZE, fromProjections.size());
+        assertEquals(fromEntities.stream().map(ExerciseResponseDTO::id).toList(), fromProjections.stream().map(ExerciseResponseDTO::id).toList());
+
+        Result entities = measure(entityPath);
+        Result projections = measure(projectionPath);
+
+        log.info("Exercise page of {} over {} exercises", PAGE_SIZE, EXERCISES);
+        log.info("Entities mapped to DTOs: {} ms, {} KB allocated", String.format("%.2f", entities.millis()), entities.allocatedBytes() / 1024);
+        log.info("DTO projections:         {} ms, {} KB allocated", String.format("%.2f", projections.millis()), projections.allocatedBytes() / 1024);
+
+    }
+
+    /**
+     * Inserts every muscle engagement, the equipment and the exercises with one to three
+     * engagements each using JDBC batches.
+     */
+    private void seedCatalog() {
+        List<MuscleEngagementEntity> muscleEngagements = new ArrayList<>();
+        for (Muscle muscle : Muscle.values()) {
+            for (MuscleActivationLevel activationLevel : MuscleActivationLevel.values()) {
+                muscleEngagements.add(new MuscleEngagementEntity(null, muscle, activationLevel));
+            }
+        }
+        List<Long> muscleEngagementIds = muscleEngagementRepository.saveAll(muscleEngagements).stream()
+                .map(MuscleEngagementEntity::getId)
+                .toList();
+
+        List<Object[]> equipments = new ArrayList<>();
+        for (long id = 1; id <= EQUIPMENTS; id++) {
+            equipments.add(new Object[]{id, "Equipment" + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO equipments (equipment_id, name, version) VALUES (?, ?, 0)", equipments);
+
+        Random random = new Random(42);
+        List<Object[]> exercises = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> engagements = new ArrayList<>(BATCH_SIZE * 3);
+
+        for (long id = 1; id <= EXERCISES; id++) {
+            int first = random.nextInt(muscleEngagementIds.size());
+            int engagementCount = 1 + random.nextInt(3);
+            long muscleSignature = 0;
+            for (int i = 0; i < engagementCount; i++) {
+                int engagement = (first + i * 7) % muscleEngagementIds.size();
+                engagements.add(new Object[]{id, muscleEngagementIds.get(engagement)});
+                muscleSignature |= MuscleSignature.of(muscleEngagements.get(engagement).getMuscle(), muscleEngagements.get(engagement).getMuscleActivationLevel());
+            }
+
+            exercises.add(new Object[]{id, "Exercise" + id, "Description" + id, 1 + id % EQUIPMENTS, muscleSignature});
+
+            if (exercises.size() == BATCH_SIZE) {
+                flushBatch(exercises, engagements);
+            }
+        }
+        flushBatch(exercises, engagements);
+    }
+
+    private void flushBatch(List<Object[]> exercises, List<Object[]> engagements) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO exercises (exercise_id, name, description, equipment_id, muscle_signature, version) VALUES (?, ?, ?, ?, ?, 0)",
+                exercises
+        );
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO exercises_muscles_engagement (exercise_id, muscle_engagement_id) VALUES (?, ?)",
+                engagements
+        );
+        exercises.clear();
+        engagements.clear();
+    }
+
+    /**
+     * Runs the read a few times to warm up and returns the average time and allocation of the measured runs.
+     * The persistence context is cleared before every run.
+     *
+     * @param read the read to measure
+     * @return the average time in milliseconds and bytes allocated per run
+     */
+    private Result measure(Supplier<?> read) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            entityManager.clear();
+            read.get();
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long elapsed = 0;
+        long allocated = 0;
+
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            entityManager.clear();
+            long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            read.get();
+            elapsed += System.nanoTime() - start;
+            allocated += threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+
+        return new Result(elapsed / 1_000_000.0 / MEASURED_ITERATIONS, allocated / MEASURED_ITERATIONS);
+    }
+
+    private record Result(double millis, long allocatedBytes) {}
+
+}
@@ -0,0 +1,191 @@
+package com.returdev.gym_exercises_api.repositories;
+
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+import com.returdev.gym_exercises_api.model.search.MuscleSignature;
+import com.returdev.gym_exercises_api.model.search.MuscleSignatureFilter;
+import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
+import com.returdev.gym_exercises_api.repositories.data.MuscleEngagementRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark of the muscle search queries over a catalog of 100k exercises.
+ *
+ * <p>
+ * It compares the muscle signature search, which doesn't read the join table, with the join-based
+ * form it replaced, which returns one row per matching engagement. The benchmark is skipped by default; run it with
+ * {@code mvn test -Dtest=ExerciseSearchBenchmarkTest -Dbenchmark=true}.
+ * </p>
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Slf4j
+class ExerciseSearchBenchmarkTest {
+
+    private static final int EXERCISES = 100_000;
+    private static final int EQUIPMENTS = 20;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private MuscleEngagementRepository muscleEngagementRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void searchByMuscleSignature_with100kExercises() {
+
+        List<Long> muscleEngagementIds = seedCatalog();
+        List<Long> searchedIds = muscleEngagementIds.subList(0, 9);
+        // The first 9 engagements are those of the first 3 muscles, at any activation level
+        MuscleSignatureFilter filter = MuscleSignatureFilter.of(
+                List.of(Muscle.UPPER_CHEST, Muscle.LOWER_CHEST, Muscle.INNER_CHEST),
+                null,
+                MuscleMatch.ANY
+        );
+        PageRequest pageRequest = PageRequest.of(10, 25, Sort.by("name"));
+
+        long signatureCount = exerciseRepository.countSearchByMuscleSignature(filter, null);
+        long distinctJoinCount = entityManager.createQuery(
+                        "SELECT COUNT(DISTINCT ex) FROM ExerciseEntity ex JOIN ex.musclesEngagement me WHERE me.id IN :ids", Long.class)
+                .setParameter("ids", searchedIds)
+                .getSingleResult();
+        long joinRowCount = entityManager.createQuery(
+                        "SELECT COUNT(ex) FROM ExerciseEntity ex JOIN ex.musclesEngagement me WHERE me.id IN :ids", Long.class)
+                .setParameter("ids", searchedIds)
+                .getSingleResult();
+
+        // The join form counts one row per matching engagement
+        assertTrue(joinRowCount > signatureCount);
+        assertEquals(distinctJoinCount, signatureCount);
+
+        double signatureMillis = measure(() -> exerciseRepository.searchIdsByMuscleSignature(filter.levels(), filter.muscles(), filter.minimum(), pageRequest).getContent());
+        double signatureCountMillis = measure(() -> exerciseRepository.countSearchByMuscleSignature(filter, null));
+        double joinMillis = measure(() -> entityManager.createQuery(
+                        "SELECT ex.id FROM ExerciseEntity ex JOIN ex.musclesEngagement me WHERE me.id IN :ids ORDER BY ex.name", Long.class)
+                .setParameter("ids", searchedIds)
+                .setFirstResult((int) pageRequest.getOffset())
+                .setMaxResults(pageRequest.getPageSize())
+                .getResultList());
+
+        log.info("Search over {} exercises: {} matches ({} join rows)", EXERCISES, signatureCount, joinRowCount);
+        log.info("Signature IDs page:            {} ms", String.format("%.2f", signatureMillis));
+        log.info("Signature count:               {} ms", String.format("%.2f", signatureCountMillis));
+        log.info("Join IDs page (previous form): {} ms", String.format("%.2f", joinMillis));
+
+        assertEquals(
+                pageRequest.getPageSize(),
+                exerciseRepository.searchByMuscleSignature(filter, null, pageRequest).getNumberOfElements()
+        );
+
+    }
+
+    /**
+     * Inserts every muscle engagement, the equipment and the exercises with one to three
+     * engagements each using JDBC batches.
+     *
+     * @return the IDs of the muscle engagements
+     */
+    private List<Long> seedCatalog() {
+        List<MuscleEngagementEntity> muscleEngagements = new ArrayList<>();
+        for (Muscle muscle : Muscle.values()) {
+            for (MuscleActivationLevel activationLevel : MuscleActivationLevel.values()) {
+                muscleEngagements.add(new MuscleEngagementEntity(null, muscle, activationLevel));
+            }
+        }
+        List<Long> muscleEngagementIds = muscleEngagementRepository.saveAll(muscleEngagements).stream()
+                .map(MuscleEngagementEntity::getId)
+                .toList();
+
+        List<Object[]> equipments = new ArrayList<>();
+        for (long id = 1; id <= EQUIPMENTS; id++) {
+            equipments.add(new Object[]{id, "Equipment" + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO equipments (equipment_id, name, version) VALUES (?, ?, 0)", equipments);
+
+        Random random = new Random(42);
+        List<Object[]> exercises = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> engagements = new ArrayList<>(BATCH_SIZE * 3);
+
+        for (long id = 1; id <= EXERCISES; id++) {
+            int first = random.nextInt(muscleEngagementIds.size());
+            int engagementCount = 1 + random.nextInt(3);
+            long muscleSignature = 0;
+            for (int i = 0; i < engagementCount; i++) {
+                int engagement = (first + i * 7) % muscleEngagementIds.size();
+                engagements.add(new Object[]{id, muscleEngagementIds.get(engagement)});
+                muscleSignature |= MuscleSignature.of(muscleEngagements.get(engagement).getMuscle(), muscleEngagements.get(engagement).getMuscleActivationLevel());
+            }
+
+            exercises.add(new Object[]{id, "Exercise" + id, "Description" + id, 1 + id % EQUIPMENTS, muscleSignature});
+
+            if (exercises.size() == BATCH_SIZE) {
+                flushBatch(exercises, engagements);
+            }
+        }
+        flushBatch(exercises, engagements);
+
+        return muscleEngagementIds;
+    }
+
+    private void flushBatch(List<Object[]> exercises, List<Object[]> engagements) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO exercises (exercise_id, name, description, equipment_id, muscle_signature, version) VALUES (?, ?, ?, ?, ?, 0)",
+                exercises
+        );
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO exercises_muscles_engagement (exercise_id, muscle_engagement_id) VALUES (?, ?)",
+                engagements
+        );
+        exercises.clear();
+        engagements.clear();
+    }
+
+    /**
+     * Runs the query a few times to warm up and returns the average time of the measured runs.
+     *
+     * @param query the query to measure
+     * @return the average time per run in milliseconds
+     */
+    private double measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            query.get();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            query.get();
+        }
+
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ITERATIONS;
+    }
+
+}
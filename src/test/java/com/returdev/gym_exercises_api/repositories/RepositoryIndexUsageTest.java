@@ -0,0 +1,160 @@
+package com.returdev.gym_exercises_api.repositories;
+
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+import com.returdev.gym_exercises_api.model.search.MuscleSignatureFilter;
+import com.returdev.gym_exercises_api.repositories.data.EquipmentRepository;
+import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
+import com.returdev.gym_exercises_api.repositories.data.MuscleEngagementRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the H2 execution plan of every statement run by the repository queries against the
+ * schema created by the migrations.
+ *
+ * <p>
+ * A statement fails the check if any table is read with a full scan, or if a paginated listing
+ * of a whole table is sorted after reading the rows instead of following an index. Filtered
+ * statements are not checked for sorting, as H2 does not skip the sort step when the leading
+ * index columns are fixed by the filter.
+ * </p>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.returdev.gym_exercises_api.repositories.RepositoryIndexUsageTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+class RepositoryIndexUsageTest {
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private MuscleEngagementRepository muscleEngagementRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private EquipmentEntity equipment;
+
+    private MuscleEngagementEntity muscleEngagement;
+
+    private ExerciseEntity exercise;
+
+    @BeforeEach
+    void setUp() {
+        equipment = equipmentRepository.save(new EquipmentEntity(null, "Bar"));
+        muscleEngagement = muscleEngagementRepository.save(new MuscleEngagementEntity(null, Muscle.BICEPS, MuscleActivationLevel.HIGH));
+        exercise = exerciseRepository.save(new ExerciseEntity(null, "Curl", "Description", equipment, List.of(muscleEngagement)));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void exerciseRepositoryQueries_shouldUseIndexes() {
+
+        List<Long> muscleEngagementIds = List.of(muscleEngagement.getId());
+        MuscleSignatureFilter filter = MuscleSignatureFilter.of(List.of(Muscle.BICEPS), MuscleActivationLevel.HIGH, MuscleMatch.ALL);
+        Long equipmentId = equipment.getId();
+
+        assertUsesIndexes(() -> exerciseRepository.findAllWithRelations(PageRequest.of(0, 5, Sort.by("id"))));
+        assertUsesIndexes(() -> exerciseRepository.findAllWithRelations(PageRequest.of(0, 5, Sort.by("name"))));
+        assertUsesIndexes(() -> exerciseRepository.findAllWithRelationsAsSlice(PageRequest.of(0, 5, Sort.by("name"))));
+        assertUsesIndexes(() -> exerciseRepository.findAllWithRelations(ScrollPosition.keyset(), Sort.by("name"), Limit.of(5)));
+        assertUsesIndexes(() -> exerciseRepository.findByMuscle(Muscle.BICEPS, PageRequest.of(0, 5, Sort.by("id"))));
+        assertUsesIndexes(() -> exerciseRepository.findByMuscles(List.of(Muscle.BICEPS), PageRequest.of(0, 5, Sort.by("id"))));
+        assertUsesIndexes(() -> exerciseRepository.findByMuscleEngagementId(muscleEngagement.getId(), PageRequest.of(0, 5, Sort.by("id"))));
+        assertUsesIndexes(() -> exerciseRepository.findByMuscleEngagementIds(muscleEngagementIds, PageRequest.of(0, 5, Sort.by("id"))));
+        assertUsesIndexes(() -> exerciseRepository.findByEquipmentId(equipmentId, PageRequest.of(0, 5, Sort.by("name"))));
+        assertUsesIndexes(() -> exerciseRepository.searchByMuscleSignature(filter, null, PageRequest.of(0, 5, Sort.by("id"))));
+        assertUsesIndexes(() -> exerciseRepository.searchByMuscleSignature(filter, equipmentId, PageRequest.of(0, 5, Sort.by("name"))));
+        assertUsesIndexes(() -> exerciseRepository.countSearchByMuscleSignature(filter, null));
+        assertUsesIndexes(() -> exerciseRepository.countSearchByMuscleSignature(filter, equipmentId));
+        assertUsesIndexes(() -> exerciseRepository.existsByNameAndEquipmentId("Curl", equipmentId));
+        assertUsesIndexes(() -> exerciseRepository.findKeysByNameIn(List.of("Curl")));
+        assertUsesIndexes(() -> exerciseRepository.findVersionById(exercise.getId()));
+
+    }
+
+    @Test
+    void equipmentRepositoryQueries_shouldUseIndexes() {
+
+        assertUsesIndexes(() -> equipmentRepository.findIdByName("Bar"));
+        assertUsesIndexes(() -> equipmentRepository.existsByName("Bar"));
+        assertUsesIndexes(() -> equipmentRepository.findVersionById(equipment.getId()));
+        assertUsesIndexes(() -> equipmentRepository.findAllBy(PageRequest.of(0, 5, Sort.by("name"))));
+        assertUsesIndexes(() -> equipmentRepository.findAllBy(ScrollPosition.keyset(), Sort.by("name"), Limit.of(5)));
+
+    }
+
+    @Test
+    void muscleEngagementRepositoryQueries_shouldUseIndexes() {
+
+        assertUsesIndexes(() -> muscleEngagementRepository.findByMuscle(Muscle.BICEPS));
+        assertUsesIndexes(() -> muscleEngagementRepository.findByMuscleActivationLevel(MuscleActivationLevel.HIGH));
+        assertUsesIndexes(() -> muscleEngagementRepository.findIdByMuscleAndActivationLevel(Muscle.BICEPS, MuscleActivationLevel.HIGH));
+        assertUsesIndexes(() -> muscleEngagementRepository.findByMusclesAndActivationLevels(List.of(Muscle.BICEPS), List.of(MuscleActivationLevel.HIGH)));
+
+    }
+
+    /**
+     * Runs the query and checks the plan of each statement it executed.
+     *
+     * @param query the repository call to check
+     */
+    private void assertUsesIndexes(Runnable query) {
+        RecordingStatementInspector.STATEMENTS.clear();
+        query.run();
+
+        assertFalse(RecordingStatementInspector.STATEMENTS.isEmpty());
+
+        for (String sql : RecordingStatementInspector.STATEMENTS) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+            assertFalse(plan.contains(".tableScan"), () -> "Full table scan in:\n" + plan);
+            if (!sql.contains(" where ") && sql.contains(" order by ") && sql.contains(" fetch first ")) {
+                assertTrue(plan.contains("/* index sorted */"), () -> "Sort step in:\n" + plan);
+            }
+        }
+    }
+
+    /**
+     * Records the SQL of every statement prepared by Hibernate.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.returdev.gym_exercises_api.service.data.cache;
+
+import com.returdev.gym_exercises_api.model.cache.CacheRegionUsage;
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.repositories.data.EquipmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheStatisticsServiceImplTest {
+
+    private static final String EQUIPMENT_NAME = "Cached Bar";
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    private Long equipmentId;
+
+    @BeforeEach
+    void setUp() {
+        equipmentId = equipmentRepository.save(new EquipmentEntity(null, EQUIPMENT_NAME)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        equipmentRepository.deleteById(equipmentId);
+    }
+
+    @Test
+    void getCacheRegionUsages_shouldCountEntityCacheHits() {
+
+        CacheRegionUsage before = getRegionUsage("equipments");
+
+        // Each call runs in its own session, so only the second-level cache can serve it
+        assertTrue(equipmentRepository.findById(equipmentId).isPresent());
+        assertTrue(equipmentRepository.findById(equipmentId).isPresent());
+
+        CacheRegionUsage after = getRegionUsage("equipments");
+
+        assertEquals(before.hitCount() + 2, after.hitCount());
+        assertEquals(before.missCount(), after.missCount());
+        assertTrue(after.hitRatio() > 0);
+
+    }
+
+    @Test
+    void getCacheRegionUsages_shouldCountQueryCacheHits() {
+
+        CacheRegionUsage before = getRegionUsage(EquipmentRepository.EQUIPMENT_QUERIES_CACHE_REGION);
+
+        // The first run of each query misses and stores its result, the second one hits
+        for (int i = 0; i < 2; i++) {
+            assertTrue(equipmentRepository.existsByName(EQUIPMENT_NAME));
+            assertEquals(equipmentId, equipmentRepository.findIdByName(EQUIPMENT_NAME).orElseThrow());
+        }
+
+        CacheRegionUsage after = getRegionUsage(EquipmentRepository.EQUIPMENT_QUERIES_CACHE_REGION);
+
+        assertEquals(before.missCount() + 2, after.missCount());
+        assertEquals(before.putCount() + 2, after.putCount());
+        assertEquals(before.hitCount() + 2, after.hitCount());
+
+    }
+
+    @Test
+    void getCacheRegionUsages_afterWrite_shouldNotServeStaleQueryResults() {
+
+        assertTrue(equipmentRepository.existsByName(EQUIPMENT_NAME));
+
+        equipmentRepository.save(new EquipmentEntity(equipmentId, "Renamed Bar"));
+
+        assertFalse(equipmentRepository.existsByName(EQUIPMENT_NAME));
+        assertEquals("Renamed Bar", equipmentRepository.findById(equipmentId).orElseThrow().getName());
+
+    }
+
+    private CacheRegionUsage getRegionUsage(String region) {
+        // Query cache regions are only created when first used
+        return cacheStatisticsService.getCacheRegionUsages().stream()
+                .filter(usage -> usage.region().equals(region))
+                .findFirst()
+                .orElse(new CacheRegionUsage(region, 0, 0, 0));
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.returdev.gym_exercises_api.service.data.cache;
+
+import com.returdev.gym_exercises_api.model.cache.CachedResponseBody;
+import com.returdev.gym_exercises_api.model.cache.ResponseBodySource;
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.service.data.equipment.EquipmentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.response-cache.enabled=true")
+@ActiveProfiles("test")
+class ResponseBodyCacheImplTest {
+
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
+    @Autowired
+    private EquipmentService equipmentService;
+
+    @Test
+    void get_shouldSerializeOnceAndKeepTheGzipVariant() throws IOException {
+
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ResponseBodySource> loader = countingLoader(loads, Set.of(ResponseBodyCache.exerciseTag(-1L)));
+
+        CachedResponseBody first = responseBodyCache.get("test:serialize", loader);
+        CachedResponseBody second = responseBodyCache.get("test:serialize", loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals("{\"name\":\"Curl\"}", new String(first.body(), StandardCharsets.UTF_8));
+        assertEquals("\"1\"", first.eTag());
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(first.gzipBody()))) {
+            assertArrayEquals(first.body(), input.readAllBytes());
+        }
+
+    }
+
+    @Test
+    void exercisesChanged_shouldInvalidateTheExerciseAndTheListOnly() {
+
+        AtomicInteger exerciseLoads = new AtomicInteger();
+        AtomicInteger pageLoads = new AtomicInteger();
+        AtomicInteger otherLoads = new AtomicInteger();
+        Supplier<ResponseBodySource> exerciseLoader = countingLoader(exerciseLoads, Set.of(ResponseBodyCache.exerciseTag(-2L)));
+        Supplier<ResponseBodySource> pageLoader = countingLoader(pageLoads, Set.of(ResponseBodyCache.EXERCISE_LIST_TAG));
+        Supplier<ResponseBodySource> otherLoader = countingLoader(otherLoads, Set.of(ResponseBodyCache.exerciseTag(-3L)));
+
+        responseBodyCache.get("test:exercise", exerciseLoader);
+        responseBodyCache.getPage(ResponseBodyCache.EXERCISE_LIST_TAG, PageRequest.of(0, 7), true, pageLoader);
+        responseBodyCache.get("test:other", otherLoader);
+
+        responseBodyCache.exercisesChanged(List.of(-2L));
+
+        responseBodyCache.get("test:exercise", exerciseLoader);
+        responseBodyCache.getPage(ResponseBodyCache.EXERCISE_LIST_TAG, PageRequest.of(0, 7), true, pageLoader);
+        responseBodyCache.get("test:other", otherLoader);
+
+        assertEquals(2, exerciseLoads.get());
+        assertEquals(2, pageLoads.get());
+        assertEquals(1, otherLoads.get());
+
+    }
+
+    @Test
+    void equipmentChanged_shouldInvalidateTheBodiesThatEmbedTheEquipment() {
+
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ResponseBodySource> loader = countingLoader(
+                loads,
+                Set.of(ResponseBodyCache.exerciseTag(-4L), ResponseBodyCache.equipmentTag(-4L))
+        );
+
+        responseBodyCache.get("test:embedded", loader);
+        responseBodyCache.equipmentChanged(-4L);
+        responseBodyCache.get("test:embedded", loader);
+
+        assertEquals(2, loads.get());
+
+    }
+
+    @Test
+    void get_withInvalidationDuringTheLoad_shouldNotCacheTheBody() {
+
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ResponseBodySource> loader = () -> {
+            if (loads.incrementAndGet() == 1) {
+                responseBodyCache.exercisesChanged(List.of(-5L));
+            }
+            return new ResponseBodySource(Map.of("name", "Curl"), null, Set.of(ResponseBodyCache.exerciseTag(-5L)));
+        };
+
+        responseBodyCache.get("test:concurrent", loader);
+        responseBodyCache.get("test:concurrent", loader);
+        responseBodyCache.get("test:concurrent", loader);
+
+        assertEquals(2, loads.get());
+
+    }
+
+    @Test
+    void getPage_withDeepPage_shouldNotCacheTheBody() {
+
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ResponseBodySource> loader = countingLoader(loads, Set.of(ResponseBodyCache.EQUIPMENT_LIST_TAG));
+
+        responseBodyCache.getPage(ResponseBodyCache.EQUIPMENT_LIST_TAG, PageRequest.of(100, 7), false, loader);
+        responseBodyCache.getPage(ResponseBodyCache.EQUIPMENT_LIST_TAG, PageRequest.of(100, 7), false, loader);
+
+        assertEquals(2, loads.get());
+
+    }
+
+    @Test
+    void serviceWrites_shouldInvalidateTheBodiesOnceCommitted() {
+
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ResponseBodySource> loader = countingLoader(loads, Set.of(ResponseBodyCache.EQUIPMENT_LIST_TAG));
+
+        responseBodyCache.getPage(ResponseBodyCache.EQUIPMENT_LIST_TAG, PageRequest.of(0, 3), false, loader);
+        Long equipmentId = equipmentService.saveEquipment(new EquipmentEntity(null, "Cached Bar")).getId();
+        responseBodyCache.getPage(ResponseBodyCache.EQUIPMENT_LIST_TAG, PageRequest.of(0, 3), false, loader);
+        equipmentService.deleteEquipment(equipmentId);
+        responseBodyCache.getPage(ResponseBodyCache.EQUIPMENT_LIST_TAG, PageRequest.of(0, 3), false, loader);
+
+        assertEquals(3, loads.get());
+
+    }
+
+    @Test
+    void exercisesChanged_withTooManyTags_shouldDropEveryBody() {
+
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ResponseBodySource> loader = countingLoader(loads, Set.of(ResponseBodyCache.exerciseTag(-6L)));
+
+        responseBodyCache.get("test:pruned", loader);
+        responseBodyCache.exercisesChanged(LongStream.rangeClosed(-20_006L, -10_006L).boxed().toList());
+        responseBodyCache.get("test:pruned", loader);
+        responseBodyCache.get("test:pruned", loader);
+
+        assertEquals(2, loads.get());
+
+    }
+
+    private static Supplier<ResponseBodySource> countingLoader(AtomicInteger loads, Set<String> tags) {
+        return () -> {
+            loads.incrementAndGet();
+            return new ResponseBodySource(Map.of("name", "Curl"), "\"1\"", tags);
+        };
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.returdev.gym_exercises_api.service.data.catalog;
+
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+import com.returdev.gym_exercises_api.model.search.ExerciseSearchCriteria;
+import com.returdev.gym_exercises_api.service.data.equipment.EquipmentService;
+import com.returdev.gym_exercises_api.service.data.exercise.ExerciseService;
+import com.returdev.gym_exercises_api.service.data.muscleengagement.MuscleEngagementRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.catalog-snapshot.enabled=true")
+@ActiveProfiles("test")
+class CatalogSnapshotServiceImplTest {
+
+    @Autowired
+    private ExerciseService exerciseService;
+
+    @Autowired
+    private EquipmentService equipmentService;
+
+    @Autowired
+    private MuscleEngagementRegistry muscleEngagementRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long equipmentId;
+    private Long exerciseId;
+
+    @BeforeEach
+    void setUp() {
+        equipmentId = equipmentService.saveEquipment(new EquipmentEntity(null, "Snapshot Bar")).getId();
+        exerciseId = exerciseService.saveExercise(new ExerciseEntity(
+                null,
+                "Snapshot Curl",
+                "Description",
+                new EquipmentEntity(equipmentId, null),
+                new ArrayList<>(List.of(muscleEngagementRegistry.get(Muscle.BICEPS, MuscleActivationLevel.HIGH)))
+        )).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (exerciseId != null) {
+            exerciseService.deleteExercise(exerciseId);
+        }
+        equipmentService.deleteEquipment(equipmentId);
+    }
+
+    @Test
+    void reads_shouldBeServedWithoutAccessingTheDatabase() {
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        ExerciseEntity exercise = exerciseService.getExerciseById(exerciseId);
+        long equipmentVersion = equipmentService.getEquipmentVersionById(equipmentId);
+        List<ExerciseEntity> searched = exerciseService.searchExercises(
+                new ExerciseSearchCriteria(List.of(Muscle.BICEPS), MuscleActivationLevel.HIGH, MuscleMatch.ANY, equipmentId),
+                PageRequest.of(0, 10, Sort.by("name"))
+        ).getContent();
+        long total = exerciseService.getAllExercises(PageRequest.of(0, 10)).getTotalElements();
+        int windowSize = equipmentService.getAllEquipments(ScrollPosition.keyset(), Sort.by("name"), 10).size();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals("Snapshot Bar", exercise.getEquipment().getName());
+        assertEquals(equipmentVersion, exerciseService.getExerciseVersionById(exerciseId).getEquipmentVersion());
+        assertEquals(List.of(exerciseId), searched.stream().map(ExerciseEntity::getId).toList());
+        assertTrue(total >= 1);
+        assertTrue(windowSize >= 1);
+
+    }
+
+    @Test
+    void writes_shouldBeVisibleOnceCommitted() {
+
+        EquipmentEntity updatedEquipment = equipmentService.updateEquipment(new EquipmentEntity(equipmentId, "Snapshot Barbell"), null);
+
+        ExerciseEntity exercise = exerciseService.getExerciseById(exerciseId);
+        assertEquals("Snapshot Barbell", exercise.getEquipment().getName());
+        assertEquals(updatedEquipment.getVersion(), exerciseService.getExerciseVersionById(exerciseId).getEquipmentVersion());
+
+        exerciseService.deleteExercise(exerciseId);
+        Long deletedId = exerciseId;
+        exerciseId = null;
+
+        assertThrows(EntityNotFoundException.class, () -> exerciseService.getExerciseById(deletedId));
+
+    }
+
+}
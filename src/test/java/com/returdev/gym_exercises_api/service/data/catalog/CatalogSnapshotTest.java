@@ -0,0 +1,167 @@
+package com.returdev.gym_exercises_api.service.data.catalog;
+
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+import com.returdev.gym_exercises_api.model.search.MuscleSignatureFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    private static final EquipmentEntity BAR = new EquipmentEntity(1L, "Bar", 0);
+    private static final EquipmentEntity DUMBBELL = new EquipmentEntity(2L, "Dumbbell", 0);
+
+    private final CatalogSnapshot snapshot = CatalogSnapshot.of(
+            List.of(DUMBBELL, BAR),
+            List.of(
+                    exercise(3L, "Curl", BAR, 0, engagement(1L, Muscle.BICEPS, MuscleActivationLevel.HIGH)),
+                    exercise(1L, "Row", BAR, 0,
+                            engagement(2L, Muscle.DORSALS, MuscleActivationLevel.HIGH),
+                            engagement(3L, Muscle.BICEPS, MuscleActivationLevel.LOW)),
+                    exercise(2L, "Curl", DUMBBELL, 0, engagement(1L, Muscle.BICEPS, MuscleActivationLevel.HIGH)),
+                    exercise(4L, "Squat", BAR, 0, engagement(4L, Muscle.QUADRICEPS, MuscleActivationLevel.HIGH))
+            ),
+            List.of()
+    );
+
+    @Test
+    void getExercises_shouldOrderByIdOrNameThenId() {
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(snapshot.getExercises(PageRequest.of(0, 10))));
+        assertEquals(List.of(4L, 3L), ids(snapshot.getExercises(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")))));
+        assertEquals(List.of(2L, 3L, 1L, 4L), ids(snapshot.getExercises(PageRequest.of(0, 10, Sort.by("name")))));
+        assertEquals(List.of(4L, 1L, 3L, 2L), ids(snapshot.getExercises(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name")))));
+
+    }
+
+    @Test
+    void getExercises_shouldReportTheTotalOnPagesOnly() {
+
+        Page<ExerciseEntity> page = snapshot.getExercises(PageRequest.of(1, 3));
+        Slice<ExerciseEntity> slice = snapshot.getExercisesSlice(PageRequest.of(0, 3));
+
+        assertEquals(List.of(4L), ids(page));
+        assertEquals(4, page.getTotalElements());
+        assertFalse(slice instanceof Page<?>);
+        assertTrue(slice.hasNext());
+        assertFalse(snapshot.getExercisesSlice(PageRequest.of(1, 3)).hasNext());
+
+    }
+
+    @Test
+    void getExercises_withUnknownProperty_shouldThrowIllegalArgument() {
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> snapshot.getExercises(PageRequest.of(0, 10, Sort.by("equipment_name")))
+        );
+
+    }
+
+    @Test
+    void getExercises_withKeysetPosition_shouldScrollForwardAndBackward() {
+
+        Sort sort = Sort.by("name");
+
+        Window<ExerciseEntity> first = snapshot.getExercises(ScrollPosition.keyset(), sort, 2);
+        KeysetScrollPosition last = (KeysetScrollPosition) first.positionAt(first.size() - 1);
+        Window<ExerciseEntity> second = snapshot.getExercises(ScrollPosition.forward(last.getKeys()), sort, 2);
+        KeysetScrollPosition firstOfSecond = (KeysetScrollPosition) second.positionAt(0);
+        Window<ExerciseEntity> previous = snapshot.getExercises(ScrollPosition.backward(firstOfSecond.getKeys()), sort, 2);
+
+        assertEquals(List.of(2L, 3L), first.map(ExerciseEntity::getId).getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(1L, 4L), second.map(ExerciseEntity::getId).getContent());
+        assertFalse(second.hasNext());
+        assertEquals(List.of(2L, 3L), previous.map(ExerciseEntity::getId).getContent());
+        assertFalse(previous.hasNext());
+
+    }
+
+    @Test
+    void searchExercises_shouldMatchAnyOrAllMusclesAndEquipment() {
+
+        assertEquals(List.of(1L, 2L, 3L), ids(search(List.of(Muscle.BICEPS), null, MuscleMatch.ANY, null)));
+        assertEquals(List.of(2L, 3L), ids(search(List.of(Muscle.BICEPS), MuscleActivationLevel.HIGH, MuscleMatch.ANY, null)));
+        assertEquals(List.of(1L), ids(search(List.of(Muscle.BICEPS, Muscle.DORSALS), null, MuscleMatch.ALL, null)));
+        assertEquals(List.of(1L, 3L, 4L), ids(search(List.of(Muscle.BICEPS, Muscle.QUADRICEPS), null, MuscleMatch.ANY, BAR.getId())));
+        assertEquals(List.of(3L, 2L, 1L), ids(snapshot.searchExercises(
+                MuscleSignatureFilter.of(List.of(Muscle.BICEPS), null, MuscleMatch.ANY),
+                null,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"))
+        )));
+
+    }
+
+    @Test
+    void withExercises_shouldReplaceNewerVersionsOnlyAndKeepThePreviousSnapshot() {
+
+        CatalogSnapshot updated = snapshot
+                .withExercises(List.of(exercise(4L, "Front Squat", BAR, 1, engagement(4L, Muscle.QUADRICEPS, MuscleActivationLevel.HIGH))))
+                .withExercises(List.of(exercise(4L, "Back Squat", BAR, 0, engagement(4L, Muscle.QUADRICEPS, MuscleActivationLevel.HIGH))))
+                .withExercises(List.of(exercise(5L, "Calf Raise", DUMBBELL, 0, engagement(5L, Muscle.CALVES, MuscleActivationLevel.HIGH))));
+
+        assertEquals("Front Squat", updated.findExerciseById(4L).orElseThrow().getName());
+        assertEquals(List.of(5L), ids(updated.searchExercises(
+                MuscleSignatureFilter.of(List.of(Muscle.CALVES), null, MuscleMatch.ANY), DUMBBELL.getId(), PageRequest.of(0, 10)
+        )));
+        assertEquals("Squat", snapshot.findExerciseById(4L).orElseThrow().getName());
+        assertTrue(snapshot.findExerciseById(5L).isEmpty());
+
+    }
+
+    @Test
+    void withEquipment_shouldLinkItsExercisesToTheNewVersion() {
+
+        CatalogSnapshot updated = snapshot.withEquipment(new EquipmentEntity(BAR.getId(), "Weighted Bar", 1));
+
+        assertEquals("Weighted Bar", updated.findExerciseById(3L).orElseThrow().getEquipment().getName());
+        assertEquals(1, updated.findExerciseVersionById(3L).orElseThrow().getEquipmentVersion());
+        assertEquals(List.of(2L, 1L), updated.getEquipments(PageRequest.of(0, 10, Sort.by("name"))).map(EquipmentEntity::getId).getContent());
+        assertEquals("Dumbbell", updated.findExerciseById(2L).orElseThrow().getEquipment().getName());
+        assertSame(updated, updated.withEquipment(new EquipmentEntity(BAR.getId(), "Old Bar", 0)));
+
+    }
+
+    @Test
+    void withoutEquipment_shouldRemoveItsExercises() {
+
+        CatalogSnapshot updated = snapshot.withoutEquipment(DUMBBELL.getId()).withoutExercise(4L);
+
+        assertTrue(updated.findEquipmentById(DUMBBELL.getId()).isEmpty());
+        assertEquals(List.of(1L, 3L), ids(updated.getExercises(PageRequest.of(0, 10))));
+        assertEquals(4, snapshot.getExerciseCount());
+
+    }
+
+    private Page<ExerciseEntity> search(List<Muscle> muscles, MuscleActivationLevel activationLevel, MuscleMatch match, Long equipmentId) {
+        return snapshot.searchExercises(MuscleSignatureFilter.of(muscles, activationLevel, match), equipmentId, PageRequest.of(0, 10));
+    }
+
+    private static List<Long> ids(Slice<ExerciseEntity> exercises) {
+        return exercises.map(ExerciseEntity::getId).getContent();
+    }
+
+    private static MuscleEngagementEntity engagement(Long id, Muscle muscle, MuscleActivationLevel activationLevel) {
+        return new MuscleEngagementEntity(id, muscle, activationLevel);
+    }
+
+    private static ExerciseEntity exercise(Long id, String name, EquipmentEntity equipment, long version, MuscleEngagementEntity... engagements) {
+        return new ExerciseEntity(id, name, "Description", equipment, List.of(engagements), version);
+    }
+
+}
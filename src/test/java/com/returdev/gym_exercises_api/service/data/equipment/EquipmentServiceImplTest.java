@@ -0,0 +1,88 @@
+package com.returdev.gym_exercises_api.service.data.equipment;
+
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.repositories.data.EquipmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EquipmentServiceImplTest {
+
+    @Autowired
+    private EquipmentService equipmentService;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    private Long equipmentId;
+
+    @BeforeEach
+    void setUp() {
+        equipmentId = equipmentRepository.save(new EquipmentEntity(null, "Versioned Bar")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        equipmentRepository.deleteById(equipmentId);
+    }
+
+    @Test
+    void updateEquipment_withoutExpectedVersion_shouldIncrementVersion() {
+
+        long version = equipmentService.getEquipmentVersionById(equipmentId);
+
+        EquipmentEntity updated = equipmentService.updateEquipment(new EquipmentEntity(equipmentId, "Versioned Bar 2"), null);
+
+        assertEquals(version + 1, updated.getVersion());
+        // The cached version lookup must not return the version before the update
+        assertEquals(version + 1, equipmentService.getEquipmentVersionById(equipmentId));
+
+    }
+
+    @Test
+    void updateEquipment_withCurrentExpectedVersion_shouldUpdate() {
+
+        long version = equipmentService.getEquipmentVersionById(equipmentId);
+
+        EquipmentEntity updated = equipmentService.updateEquipment(new EquipmentEntity(equipmentId, "Versioned Bar 2"), version);
+
+        assertEquals("Versioned Bar 2", updated.getName());
+        assertEquals(version + 1, updated.getVersion());
+
+    }
+
+    @Test
+    void updateEquipment_withStaleExpectedVersion_shouldThrowOptimisticLockingFailure() {
+
+        long version = equipmentService.getEquipmentVersionById(equipmentId);
+        equipmentService.updateEquipment(new EquipmentEntity(equipmentId, "Versioned Bar 2"), version);
+
+        assertThrows(
+                OptimisticLockingFailureException.class,
+                () -> equipmentService.updateEquipment(new EquipmentEntity(equipmentId, "Versioned Bar 3"), version)
+        );
+        assertEquals("Versioned Bar 2", equipmentService.getEquipmentById(equipmentId).getName());
+
+    }
+
+    @Test
+    void getEquipmentsByIds_shouldSkipMissingAndRepeatedIds() {
+
+        List<EquipmentEntity> equipments = equipmentService.getEquipmentsByIds(List.of(equipmentId, -1L, equipmentId));
+
+        assertEquals(List.of(equipmentId), equipments.stream().map(EquipmentEntity::getId).toList());
+        assertTrue(equipmentService.getEquipmentsByIds(List.of(-1L)).isEmpty());
+
+    }
+
+}
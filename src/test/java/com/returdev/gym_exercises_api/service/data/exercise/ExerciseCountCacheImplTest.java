@@ -0,0 +1,63 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExerciseCountCacheImplTest {
+
+    private final ExerciseCountCacheImpl exerciseCountCache = new ExerciseCountCacheImpl();
+
+    @Test
+    void getTotal_whenTotalIsCached_shouldNotCountAgain() {
+
+        AtomicInteger counts = new AtomicInteger();
+
+        assertEquals(10, exerciseCountCache.getTotal("all", () -> counts.incrementAndGet() * 10L));
+        assertEquals(10, exerciseCountCache.getTotal("all", () -> counts.incrementAndGet() * 10L));
+        assertEquals(1, counts.get());
+
+    }
+
+    @Test
+    void getTotal_whenFiltersDiffer_shouldCacheEachFilter() {
+
+        exerciseCountCache.getTotal("all", () -> 10L);
+        exerciseCountCache.getTotal("muscle=BICEPS", () -> 3L);
+
+        assertEquals(10, exerciseCountCache.getTotal("all", failingCounter()));
+        assertEquals(3, exerciseCountCache.getTotal("muscle=BICEPS", failingCounter()));
+
+    }
+
+    @Test
+    void getTotal_afterInvalidate_shouldCountAgain() {
+
+        exerciseCountCache.getTotal("all", () -> 10L);
+        exerciseCountCache.invalidate();
+
+        assertEquals(11, exerciseCountCache.getTotal("all", () -> 11L));
+
+    }
+
+    @Test
+    void getTotal_whenInvalidatedWhileCounting_shouldNotCacheStaleTotal() {
+
+        long staleTotal = exerciseCountCache.getTotal("all", () -> {
+            exerciseCountCache.invalidate();
+            return 10L;
+        });
+
+        assertEquals(10, staleTotal);
+        assertEquals(11, exerciseCountCache.getTotal("all", () -> 11L));
+
+    }
+
+    private static LongSupplier failingCounter() {
+        return () -> fail("The total should have been served from the cache");
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.returdev.gym_exercises_api.dto.response.ExerciseResponseDTO;
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.repositories.data.EquipmentRepository;
+import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
+import com.returdev.gym_exercises_api.service.data.muscleengagement.MuscleEngagementRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ExerciseExportServiceImplTest {
+
+    private static final int EXERCISES = 30;
+
+    @Autowired
+    private ExerciseExportService exerciseExportService;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private MuscleEngagementRegistry muscleEngagementRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long equipmentId;
+
+    @BeforeEach
+    void setUp() {
+        equipmentId = equipmentRepository.save(new EquipmentEntity(null, "Export Bar")).getId();
+
+        List<MuscleEngagementEntity> muscleEngagements = List.of(
+                muscleEngagementRegistry.get(Muscle.BICEPS, MuscleActivationLevel.HIGH),
+                muscleEngagementRegistry.get(Muscle.FOREARMS, MuscleActivationLevel.MEDIUM),
+                muscleEngagementRegistry.get(Muscle.DORSALS, MuscleActivationLevel.LOW)
+        );
+
+        // Exercise i engages the first (i % 3) + 1 muscle engagements
+        List<ExerciseEntity> exercises = new ArrayList<>();
+        for (int i = 0; i < EXERCISES; i++) {
+            exercises.add(new ExerciseEntity(
+                    null,
+                    "Export Exercise " + i,
+                    "Description " + i,
+                    new EquipmentEntity(equipmentId, null),
+                    new ArrayList<>(muscleEngagements.subList(0, i % 3 + 1))
+            ));
+        }
+        exerciseRepository.saveAll(exercises);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void exportExercises_shouldWriteEveryExerciseWithAllItsEngagementsOrderedById() throws IOException {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = exerciseExportService.exportExercises(output);
+
+        List<ExerciseResponseDTO> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readValue(line, ExerciseResponseDTO.class));
+        }
+
+        assertEquals(exported, lines.size());
+        assertTrue(output.toString(StandardCharsets.UTF_8).endsWith("\n"));
+
+        for (int i = 1; i < lines.size(); i++) {
+            assertTrue(lines.get(i - 1).id() < lines.get(i).id());
+        }
+
+        List<ExerciseResponseDTO> exportedExercises = lines.stream()
+                .filter(exercise -> exercise.equipment().id().equals(equipmentId))
+                .toList();
+
+        assertEquals(EXERCISES, exportedExercises.size());
+        for (int i = 0; i < EXERCISES; i++) {
+            assertEquals("Export Exercise " + i, exportedExercises.get(i).name());
+            assertEquals(i % 3 + 1, exportedExercises.get(i).muscleEngagements().size());
+        }
+
+    }
+
+    @Test
+    void exportExercises_shouldDetachTheExportedExercises() throws IOException {
+
+        exerciseExportService.exportExercises(new ByteArrayOutputStream());
+
+        assertTrue(
+                entityManager.unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                        .map(EntityKey.class::cast)
+                        .noneMatch(key -> key.getEntityName().equals(ExerciseEntity.class.getName()))
+        );
+
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.mappers.ExerciseImportMapper;
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportFormat;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportLine;
+import com.returdev.gym_exercises_api.model.imports.ExerciseImportReport;
+import com.returdev.gym_exercises_api.repositories.data.EquipmentRepository;
+import com.returdev.gym_exercises_api.repositories.data.ExerciseRepository;
+import com.returdev.gym_exercises_api.service.data.equipment.EquipmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ExerciseImportServiceImplTest {
+
+    @Autowired
+    private ExerciseImportService exerciseImportService;
+
+    @Autowired
+    private ExerciseImportMapper exerciseImportMapper;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private ExerciseService exerciseService;
+
+    @Autowired
+    private EquipmentService equipmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long equipmentId;
+
+    @BeforeEach
+    void setUp() {
+        equipmentId = equipmentRepository.save(new EquipmentEntity(null, "Import Bar")).getId();
+    }
+
+    @Test
+    void importExercises_withNdjson_shouldSaveValidLinesAndReportInvalidOnes() {
+
+        String ndjson = String.join("\n",
+                "{\"name\":\"Import Curl\",\"description\":\"Curl\",\"equipment_id\":" + equipmentId + ",\"muscle_engagements\":[{\"muscle\":\"biceps\",\"muscle_activation_level\":\"high\"}]}",
+                "",
+                "{\"name\":\"Import Row\",\"equipment_id\":" + equipmentId + ",\"muscle_engagements\":[{\"muscle\":\"DORSALS\",\"muscle_activation_level\":\"HIGH\"},{\"muscle\":\"BICEPS\",\"muscle_activation_level\":\"LOW\"}]}",
+                "{\"name\":\"Import Curl\",\"equipment_id\":" + equipmentId + ",\"muscle_engagements\":[{\"muscle\":\"BICEPS\",\"muscle_activation_level\":\"HIGH\"}]}",
+                "{\"name\":\"Import Press\",\"equipment_id\":999999,\"muscle_engagements\":[{\"muscle\":\"TRICEPS\",\"muscle_activation_level\":\"HIGH\"}]}",
+                "{\"name\":\"Import Fly\",\"equipment_id\":" + equipmentId + ",\"muscle_engagements\":[{\"muscle\":\"WINGS\",\"muscle_activation_level\":\"HIGH\"}]}",
+                "{\"name\":\"Sq\",\"equipment_id\":" + equipmentId + ",\"muscle_engagements\":[]}",
+                "{not json"
+        );
+
+        ExerciseImportReport report = importExercises(ndjson, ExerciseImportFormat.NDJSON);
+
+        assertEquals(7, report.processedLines());
+        assertEquals(2, report.importedExercises());
+        assertEquals(5, report.failedLines());
+        assertEquals(List.of(4L, 5L, 6L, 7L, 8L), report.errors().stream().map(ExerciseImportReport.LineError::lineNumber).toList());
+        assertFalse(report.errorsTruncated());
+        assertTrue(report.errors().get(0).message().contains("Import Curl"));
+        assertTrue(report.errors().get(1).message().startsWith("No equipment found with the given ID"));
+        assertTrue(report.errors().get(2).message().contains("WINGS"));
+        assertTrue(report.errors().get(3).message().startsWith("muscleEngagements: "));
+
+        List<ExerciseEntity> importedExercises = exerciseRepository.findAllWithRelations(PageRequest.of(0, 25)).getContent().stream()
+                .filter(exercise -> exercise.getEquipment().getId().equals(equipmentId))
+                .toList();
+
+        assertEquals(2, importedExercises.size());
+        assertTrue(importedExercises.stream().allMatch(exercise -> exercise.getMusclesEngagement().stream().allMatch(me -> me.getId() != null)));
+
+    }
+
+    @Test
+    void importExercises_withCsv_shouldSkipHeaderAndParseQuotedColumns() {
+
+        String csv = String.join("\n",
+                "name,description,equipment_id,muscle_engagements",
+                "Import Squat,\"Squat, with \"\"bar\"\"\"," + equipmentId + ",quadriceps:high|buttocks:medium",
+                "Import Lunge,Lunge,not-a-number,QUADRICEPS:HIGH",
+                "Import Dip,Dip," + equipmentId + ",TRICEPS:EXTREME"
+        );
+
+        ExerciseImportReport report = importExercises(csv, ExerciseImportFormat.CSV);
+
+        assertEquals(3, report.processedLines());
+        assertEquals(1, report.importedExercises());
+        assertEquals(List.of(3L, 4L), report.errors().stream().map(ExerciseImportReport.LineError::lineNumber).toList());
+        assertTrue(exerciseRepository.existsByNameAndEquipmentId("Import Squat", equipmentId));
+
+    }
+
+    @Test
+    void importExercises_withMoreLinesThanChunkSize_shouldImportEveryChunk() {
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 120; i++) {
+            ndjson.append("{\"name\":\"Import Exercise ").append(i)
+                    .append("\",\"equipment_id\":").append(equipmentId)
+                    .append(",\"muscle_engagements\":[{\"muscle\":\"ABS\",\"muscle_activation_level\":\"HIGH\"}]}\n");
+        }
+
+        ExerciseImportReport report = importExercises(ndjson.toString(), ExerciseImportFormat.NDJSON);
+
+        assertEquals(120, report.importedExercises());
+        assertEquals(0, report.failedLines());
+        assertTrue(exerciseRepository.existsByNameAndEquipmentId("Import Exercise 119", equipmentId));
+
+    }
+
+    @Test
+    void importExercises_withNameDifferingOnlyInCaseAndAccents_shouldReportDuplicate() {
+
+        String ndjson = String.join("\n",
+                "{\"name\":\"Import Curl\",\"equipment_id\":" + equipmentId + ",\"muscle_engagements\":[{\"muscle\":\"BICEPS\",\"muscle_activation_level\":\"HIGH\"}]}",
+                "{\"name\":\"import cúrl\",\"equipment_id\":" + equipmentId + ",\"muscle_engagements\":[{\"muscle\":\"BICEPS\",\"muscle_activation_level\":\"HIGH\"}]}"
+        );
+
+        ExerciseImportReport report = importExercises(ndjson, ExerciseImportFormat.NDJSON);
+
+        assertEquals(1, report.importedExercises());
+        assertEquals(List.of(2L), report.errors().stream().map(ExerciseImportReport.LineError::lineNumber).toList());
+
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void importExercises_withLineRejectedByDatabase_shouldRetryChunkLineByLine() {
+
+        jdbcTemplate.execute("ALTER TABLE exercises ADD CONSTRAINT chk_import_clash CHECK (name <> 'Import Clash')");
+
+        try {
+            String ndjson = String.join("\n",
+                    "{\"name\":\"Import Row\",\"equipment_id\":" + equipmentId + ",\"muscle_engagements\":[{\"muscle\":\"DORSALS\",\"muscle_activation_level\":\"HIGH\"}]}",
+                    "{\"name\":\"Import Clash\",\"equipment_id\":" + equipmentId + ",\"muscle_engagements\":[{\"muscle\":\"DORSALS\",\"muscle_activation_level\":\"HIGH\"}]}",
+                    "{\"name\":\"Import Press\",\"equipment_id\":" + equipmentId + ",\"muscle_engagements\":[{\"muscle\":\"TRICEPS\",\"muscle_activation_level\":\"HIGH\"}]}"
+            );
+
+            ExerciseImportReport report = importExercises(ndjson, ExerciseImportFormat.NDJSON);
+
+            assertEquals(3, report.processedLines());
+            assertEquals(2, report.importedExercises());
+            assertEquals(List.of(2L), report.errors().stream().map(ExerciseImportReport.LineError::lineNumber).toList());
+            assertTrue(report.errors().get(0).message().contains("Import Clash"));
+            assertTrue(exerciseRepository.existsByNameAndEquipmentId("Import Row", equipmentId));
+            assertTrue(exerciseRepository.existsByNameAndEquipmentId("Import Press", equipmentId));
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE exercises DROP CONSTRAINT chk_import_clash");
+            jdbcTemplate.queryForList("SELECT exercise_id FROM exercises WHERE equipment_id = ?", Long.class, equipmentId)
+                    .forEach(exerciseService::deleteExercise);
+            equipmentService.deleteEquipment(equipmentId);
+        }
+
+    }
+
+    private ExerciseImportReport importExercises(String content, ExerciseImportFormat format) {
+        try (Stream<ExerciseImportLine> lines = exerciseImportMapper.readExercises(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format)) {
+            return exerciseImportService.importExercises(lines);
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.model.enums.MuscleMatch;
+import com.returdev.gym_exercises_api.model.search.ExerciseMuscleSearchResult;
+import com.returdev.gym_exercises_api.model.search.MuscleSignatureFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExerciseMuscleIndexImplTest {
+
+    private final ExerciseMuscleIndexImpl exerciseMuscleIndex = new ExerciseMuscleIndexImpl(null, null);
+
+    @Test
+    void search_withAnyMatch_shouldReturnExercisesEngagingAnyMuscle() {
+
+        exerciseMuscleIndex.index(exercise(1L, 1L, 0, engagement(Muscle.BICEPS, MuscleActivationLevel.HIGH)));
+        exerciseMuscleIndex.index(exercise(2L, 1L, 0, engagement(Muscle.TRICEPS, MuscleActivationLevel.LOW)));
+        exerciseMuscleIndex.index(exercise(3L, 1L, 0, engagement(Muscle.ABS, MuscleActivationLevel.MEDIUM)));
+
+        ExerciseMuscleSearchResult result = search(List.of(Muscle.BICEPS, Muscle.TRICEPS), null, MuscleMatch.ANY, null);
+
+        assertEquals(List.of(1L, 2L), result.ids());
+        assertEquals(2, result.total());
+
+    }
+
+    @Test
+    void search_withAllMatch_shouldReturnExercisesEngagingEveryMuscle() {
+
+        exerciseMuscleIndex.index(exercise(1L, 1L, 0,
+                engagement(Muscle.BICEPS, MuscleActivationLevel.HIGH),
+                engagement(Muscle.FOREARMS, MuscleActivationLevel.LOW)));
+        exerciseMuscleIndex.index(exercise(2L, 1L, 0,
+                engagement(Muscle.BICEPS, MuscleActivationLevel.HIGH)));
+        exerciseMuscleIndex.index(exercise(3L, 1L, 0,
+                engagement(Muscle.BICEPS, MuscleActivationLevel.MEDIUM),
+                engagement(Muscle.FOREARMS, MuscleActivationLevel.HIGH),
+                engagement(Muscle.TRICEPS, MuscleActivationLevel.HIGH)));
+
+        assertEquals(List.of(1L, 3L), search(List.of(Muscle.BICEPS, Muscle.FOREARMS), null, MuscleMatch.ALL, null).ids());
+        assertEquals(List.of(), search(List.of(Muscle.BICEPS, Muscle.FOREARMS), MuscleActivationLevel.HIGH, MuscleMatch.ALL, null).ids());
+        assertEquals(List.of(3L), search(List.of(Muscle.FOREARMS, Muscle.TRICEPS), MuscleActivationLevel.HIGH, MuscleMatch.ALL, null).ids());
+
+    }
+
+    @Test
+    void search_withActivationLevel_shouldIgnoreEngagementsWithOtherLevels() {
+
+        // Adjacent muscles and levels, to catch bits leaking between muscles when folding
+        exerciseMuscleIndex.index(exercise(1L, 1L, 0, engagement(Muscle.UPPER_CHEST, MuscleActivationLevel.LOW)));
+        exerciseMuscleIndex.index(exercise(2L, 1L, 0, engagement(Muscle.LOWER_CHEST, MuscleActivationLevel.HIGH)));
+        exerciseMuscleIndex.index(exercise(3L, 1L, 0, engagement(Muscle.OBLIQUES, MuscleActivationLevel.LOW)));
+
+        assertEquals(List.of(1L), search(List.of(Muscle.UPPER_CHEST), null, MuscleMatch.ANY, null).ids());
+        assertEquals(List.of(2L), search(List.of(Muscle.LOWER_CHEST), null, MuscleMatch.ANY, null).ids());
+        assertEquals(List.of(), search(List.of(Muscle.UPPER_CHEST), MuscleActivationLevel.HIGH, MuscleMatch.ANY, null).ids());
+        assertEquals(List.of(1L, 3L), search(List.of(Muscle.UPPER_CHEST, Muscle.OBLIQUES), MuscleActivationLevel.LOW, MuscleMatch.ANY, null).ids());
+
+    }
+
+    @Test
+    void search_withEquipment_shouldOnlyReturnExercisesOfTheEquipment() {
+
+        exerciseMuscleIndex.index(exercise(1L, 1L, 0, engagement(Muscle.ABS, MuscleActivationLevel.HIGH)));
+        exerciseMuscleIndex.index(exercise(2L, 2L, 0, engagement(Muscle.ABS, MuscleActivationLevel.HIGH)));
+
+        assertEquals(List.of(2L), search(List.of(Muscle.ABS), null, MuscleMatch.ANY, 2L).ids());
+
+    }
+
+    @Test
+    void search_withOffsetAndLimit_shouldReturnTheRequestedRangeInIdOrder() {
+
+        for (long id = 10; id >= 1; id--) {
+            exerciseMuscleIndex.index(exercise(id, 1L, 0, engagement(Muscle.CALVES, MuscleActivationLevel.HIGH)));
+        }
+
+        MuscleSignatureFilter filter = MuscleSignatureFilter.of(List.of(Muscle.CALVES), null, MuscleMatch.ANY);
+        ExerciseMuscleSearchResult ascending = exerciseMuscleIndex.search(filter, null, false, 3, 4);
+        ExerciseMuscleSearchResult descending = exerciseMuscleIndex.search(filter, null, true, 3, 4);
+
+        assertEquals(List.of(4L, 5L, 6L, 7L), ascending.ids());
+        assertEquals(List.of(7L, 6L, 5L, 4L), descending.ids());
+        assertEquals(10, ascending.total());
+        assertEquals(List.of(), exerciseMuscleIndex.search(filter, null, false, 10, 4).ids());
+
+    }
+
+    @Test
+    void index_whenExerciseIsUpdated_shouldReplaceItsSignatureAndEquipment() {
+
+        exerciseMuscleIndex.index(exercise(1L, 1L, 0, engagement(Muscle.QUADRICEPS, MuscleActivationLevel.HIGH)));
+        exerciseMuscleIndex.index(exercise(1L, 2L, 1, engagement(Muscle.HAMSTRINGS, MuscleActivationLevel.HIGH)));
+
+        assertEquals(0, search(List.of(Muscle.QUADRICEPS), null, MuscleMatch.ANY, null).total());
+        assertEquals(List.of(1L), search(List.of(Muscle.HAMSTRINGS), null, MuscleMatch.ANY, 2L).ids());
+
+    }
+
+    @Test
+    void index_whenVersionIsOlderThanIndexed_shouldKeepTheIndexedSignature() {
+
+        exerciseMuscleIndex.index(exercise(1L, 1L, 2, engagement(Muscle.HAMSTRINGS, MuscleActivationLevel.HIGH)));
+        exerciseMuscleIndex.index(exercise(1L, 1L, 1, engagement(Muscle.QUADRICEPS, MuscleActivationLevel.HIGH)));
+
+        assertEquals(List.of(1L), search(List.of(Muscle.HAMSTRINGS), null, MuscleMatch.ANY, null).ids());
+        assertEquals(0, search(List.of(Muscle.QUADRICEPS), null, MuscleMatch.ANY, null).total());
+
+    }
+
+    @Test
+    void remove_shouldExcludeTheExerciseFromSearches() {
+
+        for (long id = 1; id <= 3_000; id++) {
+            exerciseMuscleIndex.index(exercise(id, 1L, 0, engagement(Muscle.LUMBAR, MuscleActivationLevel.HIGH)));
+        }
+        for (long id = 1; id <= 3_000; id += 2) {
+            exerciseMuscleIndex.remove(id);
+        }
+        exerciseMuscleIndex.remove(99_999L);
+
+        ExerciseMuscleSearchResult result = search(List.of(Muscle.LUMBAR), null, MuscleMatch.ANY, null);
+
+        assertEquals(1_500, result.total());
+        assertEquals(List.of(2L, 4L, 6L), exerciseMuscleIndex.search(
+                MuscleSignatureFilter.of(List.of(Muscle.LUMBAR), null, MuscleMatch.ANY), null, false, 0, 3).ids());
+
+    }
+
+    /**
+     * Measures the scan time over 100k exercises with one to four random engagements each. It is
+     * skipped by default; run it with
+     * {@code mvn test -Dtest=ExerciseMuscleIndexImplTest -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void search_with100kExercises_shouldTakeLessThanOneMillisecond() {
+
+        Random random = new Random(42);
+        Muscle[] muscles = Muscle.values();
+        MuscleActivationLevel[] activationLevels = MuscleActivationLevel.values();
+
+        for (long id = 1; id <= 100_000; id++) {
+            MuscleEngagementEntity[] engagements = new MuscleEngagementEntity[1 + random.nextInt(4)];
+            for (int i = 0; i < engagements.length; i++) {
+                engagements[i] = engagement(muscles[random.nextInt(muscles.length)], activationLevels[random.nextInt(activationLevels.length)]);
+            }
+            exerciseMuscleIndex.index(exercise(id, 1L + random.nextInt(20), 0, engagements));
+        }
+
+        List<MuscleSignatureFilter> filters = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            filters.add(MuscleSignatureFilter.of(
+                    List.of(muscles[random.nextInt(muscles.length)], muscles[random.nextInt(muscles.length)]),
+                    random.nextBoolean() ? null : activationLevels[random.nextInt(activationLevels.length)],
+                    random.nextBoolean() ? MuscleMatch.ANY : MuscleMatch.ALL
+            ));
+        }
+
+        measure(filters);
+        double averageMillis = measure(filters);
+
+        System.out.printf("Muscle search over 100k exercises: %.3f ms%n", averageMillis);
+        assertTrue(averageMillis < 1);
+
+    }
+
+    private double measure(List<MuscleSignatureFilter> filters) {
+        int iterations = 2_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            exerciseMuscleIndex.search(filters.get(i % filters.size()), null, i % 2 == 0, 0, 25);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / iterations;
+    }
+
+    private ExerciseMuscleSearchResult search(List<Muscle> muscles, MuscleActivationLevel activationLevel, MuscleMatch match, Long equipmentId) {
+        return exerciseMuscleIndex.search(MuscleSignatureFilter.of(muscles, activationLevel, match), equipmentId, false, 0, 10);
+    }
+
+    private static MuscleEngagementEntity engagement(Muscle muscle, MuscleActivationLevel activationLevel) {
+        return new MuscleEngagementEntity(null, muscle, activationLevel);
+    }
+
+    private static ExerciseEntity exercise(Long id, Long equipmentId, long version, MuscleEngagementEntity... engagements) {
+        return new ExerciseEntity(id, "Exercise " + id, "Description", new EquipmentEntity(equipmentId, null), List.of(engagements), version);
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.model.entities.EquipmentEntity;
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.service.data.equipment.EquipmentService;
+import com.returdev.gym_exercises_api.service.data.muscleengagement.MuscleEngagementRegistry;
+import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ExerciseServiceImplTest {
+
+    @Autowired
+    private ExerciseService exerciseService;
+
+    @Autowired
+    private EquipmentService equipmentService;
+
+    @Autowired
+    private MuscleEngagementRegistry muscleEngagementRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long equipmentId;
+    private final List<Long> exerciseIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        equipmentId = equipmentService.saveEquipment(new EquipmentEntity(null, "Batch Bar")).getId();
+        for (String name : List.of("Batch Curl", "Batch Row")) {
+            exerciseIds.add(exerciseService.saveExercise(exercise(name, equipmentId)).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        exerciseIds.forEach(exerciseService::deleteExercise);
+        equipmentService.deleteEquipment(equipmentId);
+    }
+
+    @Test
+    void getExercisesByIds_shouldLoadTheExercisesWithASingleStatement() {
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<ExerciseEntity> exercises = exerciseService.getExercisesByIds(List.of(exerciseIds.get(1), -1L, exerciseIds.get(0), exerciseIds.get(1)));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(List.of(exerciseIds.get(1), exerciseIds.get(0)), exercises.stream().map(ExerciseEntity::getId).toList());
+        assertEquals("Batch Bar", exercises.get(0).getEquipment().getName());
+        assertEquals(2, exercises.get(0).getMusclesEngagement().size());
+
+    }
+
+    @Test
+    void saveExercise_shouldInsertWithoutLookupsAndTranslateTheConstraintViolations() {
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        ExerciseEntity savedExercise = exerciseService.saveExercise(exercise("Batch Press", equipmentId));
+        exerciseIds.add(savedExercise.getId());
+
+        assertTrue(statistics.getPrepareStatementCount() <= 2);
+        assertEquals("Batch Bar", savedExercise.getEquipment().getName());
+
+        EntityExistsException existsException = assertThrows(
+                EntityExistsException.class,
+                () -> exerciseService.saveExercise(exercise("Batch Curl", equipmentId))
+        );
+        assertTrue(existsException.getMessage().contains("Batch Curl"));
+        assertThrows(EntityNotFoundException.class, () -> exerciseService.saveExercise(exercise("Batch Press", -1L)));
+
+    }
+
+    @Test
+    void updateExercise_shouldUpdateWithoutLookupsAndCheckTheVersion() {
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        ExerciseEntity update = exercise("Batch Pull", equipmentId);
+        update.setId(exerciseIds.get(0));
+        ExerciseEntity updatedExercise = exerciseService.updateExercise(update, 0L);
+
+        assertTrue(statistics.getPrepareStatementCount() <= 2);
+        assertEquals("Batch Pull", updatedExercise.getName());
+        assertEquals(1, updatedExercise.getVersion());
+
+        update.setName("Batch Row");
+        assertThrows(EntityExistsException.class, () -> exerciseService.updateExercise(update, null));
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> exerciseService.updateExercise(update, 0L));
+
+    }
+
+    private ExerciseEntity exercise(String name, Long equipmentId) {
+        return new ExerciseEntity(
+                null,
+                name,
+                "Description",
+                new EquipmentEntity(equipmentId, null),
+                new ArrayList<>(List.of(
+                        muscleEngagementRegistry.get(Muscle.BICEPS, MuscleActivationLevel.HIGH),
+                        muscleEngagementRegistry.get(Muscle.DORSALS, MuscleActivationLevel.LOW)
+                ))
+        );
+    }
+
+}
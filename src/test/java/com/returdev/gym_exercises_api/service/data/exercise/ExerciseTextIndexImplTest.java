@@ -0,0 +1,186 @@
+package com.returdev.gym_exercises_api.service.data.exercise;
+
+import com.returdev.gym_exercises_api.model.entities.ExerciseEntity;
+import com.returdev.gym_exercises_api.model.search.ExerciseTextSearchResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExerciseTextIndexImplTest {
+
+    private final ExerciseTextIndexImpl exerciseTextIndex = new ExerciseTextIndexImpl(null, null);
+
+    @Test
+    void search_shouldRankNameMatchesAboveDescriptionMatches() {
+
+        exerciseTextIndex.index(exercise(1L, "Barbell Row", "Pull the bar to the chest", 0));
+        exerciseTextIndex.index(exercise(2L, "Pull Up", "Hang from a bar and pull up", 0));
+        exerciseTextIndex.index(exercise(3L, "Bench Press", "Press the barbell from the chest", 0));
+
+        ExerciseTextSearchResult result = exerciseTextIndex.search("pull", 0, 10);
+
+        assertEquals(List.of(2L, 1L), result.ids());
+        assertEquals(2, result.total());
+
+    }
+
+    @Test
+    void search_shouldOnlyMatchExercisesWithEveryTerm() {
+
+        exerciseTextIndex.index(exercise(1L, "Incline Dumbbell Press", "Press on an incline bench", 0));
+        exerciseTextIndex.index(exercise(2L, "Dumbbell Press", "Press on a flat bench", 0));
+        exerciseTextIndex.index(exercise(3L, "Incline Walk", "Walk on a treadmill", 0));
+
+        assertEquals(List.of(1L), exerciseTextIndex.search("incline dumbbell", 0, 10).ids());
+        assertEquals(List.of(2L, 1L), exerciseTextIndex.search("dumbbell press bench", 0, 10).ids());
+        assertEquals(0, exerciseTextIndex.search("incline kettlebell", 0, 10).total());
+
+    }
+
+    @Test
+    void search_shouldIgnoreCaseAccentsAndPunctuation() {
+
+        exerciseTextIndex.index(exercise(1L, "Press Francés", "Tríceps con barra Z", 0));
+
+        assertEquals(List.of(1L), exerciseTextIndex.search("FRANCES, triceps!", 0, 10).ids());
+        assertEquals(0, exerciseTextIndex.search("z", 0, 10).total());
+
+    }
+
+    @Test
+    void search_withOffsetAndLimit_shouldReturnTheRequestedRangeOrderedByScoreThenId() {
+
+        for (long id = 1; id <= 10; id++) {
+            exerciseTextIndex.index(exercise(id, "Curl " + id, "Curl", 0));
+        }
+
+        ExerciseTextSearchResult result = exerciseTextIndex.search("curl", 3, 4);
+
+        assertEquals(List.of(4L, 5L, 6L, 7L), result.ids());
+        assertEquals(10, result.total());
+        assertEquals(List.of(), exerciseTextIndex.search("curl", 10, 4).ids());
+
+    }
+
+    @Test
+    void index_whenExerciseIsUpdated_shouldReplaceItsTerms() {
+
+        exerciseTextIndex.index(exercise(1L, "Squat", "Legs", 0));
+        exerciseTextIndex.index(exercise(1L, "Lunge", "Legs", 1));
+
+        assertEquals(0, exerciseTextIndex.search("squat", 0, 10).total());
+        assertEquals(List.of(1L), exerciseTextIndex.search("lunge", 0, 10).ids());
+        assertEquals(List.of(1L), exerciseTextIndex.search("legs", 0, 10).ids());
+
+    }
+
+    @Test
+    void index_whenVersionIsOlderThanIndexed_shouldKeepTheIndexedTerms() {
+
+        exerciseTextIndex.index(exercise(1L, "Lunge", "Legs", 2));
+        exerciseTextIndex.index(exercise(1L, "Squat", "Legs", 1));
+
+        assertEquals(List.of(1L), exerciseTextIndex.search("lunge", 0, 10).ids());
+        assertEquals(0, exerciseTextIndex.search("squat", 0, 10).total());
+
+    }
+
+    @Test
+    void remove_shouldExcludeTheExerciseFromSearches() {
+
+        exerciseTextIndex.index(exercise(1L, "Deadlift", "Hinge", 0));
+        exerciseTextIndex.index(exercise(2L, "Romanian Deadlift", "Hinge", 0));
+
+        exerciseTextIndex.remove(1L);
+        exerciseTextIndex.remove(99L);
+
+        ExerciseTextSearchResult result = exerciseTextIndex.search("deadlift hinge", 0, 10);
+
+        assertEquals(List.of(2L), result.ids());
+        assertEquals(1, result.total());
+
+    }
+
+    @Test
+    void remove_afterManyRemovals_shouldCompactAndKeepTheRemainingExercises() {
+
+        for (long id = 1; id <= 3_000; id++) {
+            exerciseTextIndex.index(exercise(id, "Exercise " + id, id % 2 == 0 ? "Even" : "Odd", 0));
+        }
+        for (long id = 1; id <= 3_000; id += 2) {
+            exerciseTextIndex.remove(id);
+        }
+        exerciseTextIndex.index(exercise(3_001L, "Exercise 3001", "Even", 0));
+
+        assertEquals(0, exerciseTextIndex.search("odd", 0, 10).total());
+        assertEquals(1_501, exerciseTextIndex.search("even", 0, 10).total());
+        assertEquals(List.of(2L, 4L, 6L), exerciseTextIndex.search("even", 0, 3).ids());
+        assertEquals(List.of(3_001L), exerciseTextIndex.search("3001", 0, 10).ids());
+
+    }
+
+    /**
+     * Measures the search time over 100k exercises whose words follow a Zipf distribution over a
+     * vocabulary of 5k words, as in natural text. It is skipped by default; run it with
+     * {@code mvn test -Dtest=ExerciseTextIndexImplTest -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void search_with100kExercises_shouldTakeLessThanOneMillisecond() {
+
+        Random random = new Random(42);
+        double[] cumulativeFrequencies = new double[5_000];
+        double total = 0;
+        for (int rank = 0; rank < cumulativeFrequencies.length; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulativeFrequencies[rank] = total;
+        }
+
+        for (long id = 1; id <= 100_000; id++) {
+            exerciseTextIndex.index(exercise(id, randomText(random, cumulativeFrequencies, 3), randomText(random, cumulativeFrequencies, 30), 0));
+        }
+
+        String[] queries = new String[1_000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = randomText(random, cumulativeFrequencies, 3);
+        }
+
+        measure(queries);
+        double averageMillis = measure(queries);
+        double mostFrequentWordsMillis = measure(new String[]{"w0 w1"});
+
+        System.out.printf("Text search over 100k exercises: %.3f ms (most frequent words: %.3f ms)%n", averageMillis, mostFrequentWordsMillis);
+        assertTrue(averageMillis < 1);
+
+    }
+
+    private double measure(String[] queries) {
+        int iterations = 2_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            exerciseTextIndex.search(queries[i % queries.length], 0, 25);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / iterations;
+    }
+
+    private static String randomText(Random random, double[] cumulativeFrequencies, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            int rank = Arrays.binarySearch(cumulativeFrequencies, random.nextDouble() * cumulativeFrequencies[cumulativeFrequencies.length - 1]);
+            text.append('w').append(rank >= 0 ? rank : -rank - 1).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static ExerciseEntity exercise(Long id, String name, String description, long version) {
+        ExerciseEntity exercise = new ExerciseEntity(id, name, description, null, List.of());
+        exercise.setVersion(version);
+        return exercise;
+    }
+
+}
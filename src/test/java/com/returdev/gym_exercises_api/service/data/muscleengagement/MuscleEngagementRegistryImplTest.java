@@ -0,0 +1,74 @@
+package com.returdev.gym_exercises_api.service.data.muscleengagement;
+
+import com.returdev.gym_exercises_api.model.entities.MuscleEngagementEntity;
+import com.returdev.gym_exercises_api.model.enums.Muscle;
+import com.returdev.gym_exercises_api.model.enums.MuscleActivationLevel;
+import com.returdev.gym_exercises_api.repositories.data.MuscleEngagementRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MuscleEngagementRegistryImplTest {
+
+    @Autowired
+    private MuscleEngagementRegistry muscleEngagementRegistry;
+
+    @Autowired
+    private MuscleEngagementRepository muscleEngagementRepository;
+
+    @Autowired
+    private MuscleEngagementService muscleEngagementService;
+
+    @Test
+    void get_whenRegistryIsLoaded_shouldResolveEveryCombination() {
+
+        for (Muscle muscle : Muscle.values()) {
+            for (MuscleActivationLevel activationLevel : MuscleActivationLevel.values()) {
+                MuscleEngagementEntity engagement = muscleEngagementRegistry.get(muscle, activationLevel);
+
+                assertNotNull(engagement.getId());
+                assertEquals(muscle, engagement.getMuscle());
+                assertEquals(activationLevel, engagement.getMuscleActivationLevel());
+            }
+        }
+
+    }
+
+    @Test
+    void getAll_whenRegistryIsLoaded_shouldMatchPersistedEngagements() {
+
+        int combinations = Muscle.values().length * MuscleActivationLevel.values().length;
+
+        assertEquals(combinations, muscleEngagementRegistry.getAll().size());
+        assertEquals(combinations, muscleEngagementRepository.count());
+
+    }
+
+    @Test
+    void get_whenMuscleIsNull_shouldThrowNullPointerException() {
+        assertThrows(NullPointerException.class,
+                () -> muscleEngagementRegistry.get(null, MuscleActivationLevel.HIGH)
+        );
+    }
+
+    @Test
+    void getMuscleEngagementsWithId_shouldReturnRegisteredInstances() {
+
+        List<MuscleEngagementEntity> result = muscleEngagementService.getMuscleEngagementsWithId(List.of(
+                new MuscleEngagementEntity(null, Muscle.BICEPS, MuscleActivationLevel.HIGH),
+                new MuscleEngagementEntity(null, Muscle.ABS, MuscleActivationLevel.LOW)
+        ));
+
+        assertSame(muscleEngagementRegistry.get(Muscle.BICEPS, MuscleActivationLevel.HIGH), result.get(0));
+        assertSame(muscleEngagementRegistry.get(Muscle.ABS, MuscleActivationLevel.LOW), result.get(1));
+
+    }
+
+}
@@ -8,12 +8,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
@@ -292,4 +296,56 @@ class ServiceValidatorImplTest {
     public void validateDeleteExercise_whenExistsById_shouldNotThrowException() {
         assertDoesNotThrow(() -> serviceValidator.validateDeleteExercise(1L, id -> true));
     }
+
+    // ----------------------------------------
+    //         TESTS FOR WRITE EXERCISE
+    // ----------------------------------------
+
+    @Test
+    public void validateExerciseWrite_whenMySqlDuplicateKey_shouldThrowEntityExistsException() {
+        assertThrows(EntityExistsException.class,
+                () -> serviceValidator.validateExerciseWrite(exerciseToWrite(), failingWrite("23000", 1062), (name, equipmentId) -> false, id -> true)
+        );
+    }
+
+    @Test
+    public void validateExerciseWrite_whenMySqlMissingEquipment_shouldThrowEntityNotFoundException() {
+        assertThrows(EntityNotFoundException.class,
+                () -> serviceValidator.validateExerciseWrite(exerciseToWrite(), failingWrite("23000", 1452), (name, equipmentId) -> false, id -> true)
+        );
+    }
+
+    @Test
+    public void validateExerciseWrite_whenViolationIsNotRecognized_shouldCheckWithTheLookups() {
+        UnaryOperator<ExerciseEntity> write = failingWrite("23000", 0);
+
+        assertThrows(EntityExistsException.class,
+                () -> serviceValidator.validateExerciseWrite(exerciseToWrite(), write, (name, equipmentId) -> true, id -> true)
+        );
+        assertThrows(EntityNotFoundException.class,
+                () -> serviceValidator.validateExerciseWrite(exerciseToWrite(), write, (name, equipmentId) -> false, id -> false)
+        );
+        assertThrows(DataIntegrityViolationException.class,
+                () -> serviceValidator.validateExerciseWrite(exerciseToWrite(), write, (name, equipmentId) -> false, id -> true)
+        );
+    }
+
+    @Test
+    public void validateExerciseWrite_whenWriteSucceeds_shouldReturnWrittenExercise() {
+        ExerciseEntity exercise = exerciseToWrite();
+        assertSame(exercise, serviceValidator.validateExerciseWrite(exercise, UnaryOperator.identity(), null, null));
+    }
+
+    private static ExerciseEntity exerciseToWrite() {
+        return new ExerciseEntity(null, "name", "description", new EquipmentEntity(1L, null), List.of());
+    }
+
+    private static UnaryOperator<ExerciseEntity> failingWrite(String sqlState, int vendorCode) {
+        return exercise -> {
+            throw new DataIntegrityViolationException(
+                    "could not execute statement",
+                    new SQLIntegrityConstraintViolationException("constraint violated", sqlState, vendorCode)
+            );
+        };
+    }
 }
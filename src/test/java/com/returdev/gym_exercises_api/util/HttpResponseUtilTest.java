@@ -0,0 +1,37 @@
+package com.returdev.gym_exercises_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpResponseUtilTest {
+
+    @Test
+    void acceptsCachedJson_withJsonOrWildcard_shouldAccept() {
+
+        assertTrue(HttpResponseUtil.acceptsCachedJson(null));
+        assertTrue(HttpResponseUtil.acceptsCachedJson("application/json"));
+        assertTrue(HttpResponseUtil.acceptsCachedJson("*/*"));
+        assertTrue(HttpResponseUtil.acceptsCachedJson("application/xml, application/*;q=0.5"));
+
+    }
+
+    @Test
+    void acceptsCachedJson_withoutJson_shouldReject() {
+
+        assertFalse(HttpResponseUtil.acceptsCachedJson("application/xml"));
+        assertFalse(HttpResponseUtil.acceptsCachedJson("text/html"));
+        assertFalse(HttpResponseUtil.acceptsCachedJson("application/json;q=0, */*"));
+        assertFalse(HttpResponseUtil.acceptsCachedJson("not a media type"));
+
+    }
+
+    @Test
+    void acceptsCachedJson_withBinaryMediaType_shouldReject() {
+
+        assertFalse(HttpResponseUtil.acceptsCachedJson("application/cbor, application/json;q=0.5"));
+        assertFalse(HttpResponseUtil.acceptsCachedJson("application/x-protobuf"));
+
+    }
+
+}